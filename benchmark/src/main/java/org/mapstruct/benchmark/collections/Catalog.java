@@ -0,0 +1,81 @@
+/**
+ *  Copyright 2012-2017 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.benchmark.collections;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class Catalog {
+
+    private List<Integer> quantities;
+    private List<Integer> ratings;
+    private Set<Long> itemIds;
+    private Set<Long> tagIds;
+    private Map<String, Integer> prices;
+    private Map<String, Integer> stock;
+
+    public List<Integer> getQuantities() {
+        return quantities;
+    }
+
+    public void setQuantities(List<Integer> quantities) {
+        this.quantities = quantities;
+    }
+
+    public List<Integer> getRatings() {
+        return ratings;
+    }
+
+    public void setRatings(List<Integer> ratings) {
+        this.ratings = ratings;
+    }
+
+    public Set<Long> getItemIds() {
+        return itemIds;
+    }
+
+    public void setItemIds(Set<Long> itemIds) {
+        this.itemIds = itemIds;
+    }
+
+    public Set<Long> getTagIds() {
+        return tagIds;
+    }
+
+    public void setTagIds(Set<Long> tagIds) {
+        this.tagIds = tagIds;
+    }
+
+    public Map<String, Integer> getPrices() {
+        return prices;
+    }
+
+    public void setPrices(Map<String, Integer> prices) {
+        this.prices = prices;
+    }
+
+    public Map<String, Integer> getStock() {
+        return stock;
+    }
+
+    public void setStock(Map<String, Integer> stock) {
+        this.stock = stock;
+    }
+}
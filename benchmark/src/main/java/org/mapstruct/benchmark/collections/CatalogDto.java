@@ -0,0 +1,81 @@
+/**
+ *  Copyright 2012-2017 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.benchmark.collections;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+
+public class CatalogDto {
+
+    private ArrayList<String> quantities;
+    private ArrayList<String> ratings;
+    private LinkedHashSet<String> itemIds;
+    private LinkedHashSet<String> tagIds;
+    private LinkedHashMap<String, String> prices;
+    private LinkedHashMap<String, String> stock;
+
+    public ArrayList<String> getQuantities() {
+        return quantities;
+    }
+
+    public void setQuantities(ArrayList<String> quantities) {
+        this.quantities = quantities;
+    }
+
+    public ArrayList<String> getRatings() {
+        return ratings;
+    }
+
+    public void setRatings(ArrayList<String> ratings) {
+        this.ratings = ratings;
+    }
+
+    public LinkedHashSet<String> getItemIds() {
+        return itemIds;
+    }
+
+    public void setItemIds(LinkedHashSet<String> itemIds) {
+        this.itemIds = itemIds;
+    }
+
+    public LinkedHashSet<String> getTagIds() {
+        return tagIds;
+    }
+
+    public void setTagIds(LinkedHashSet<String> tagIds) {
+        this.tagIds = tagIds;
+    }
+
+    public LinkedHashMap<String, String> getPrices() {
+        return prices;
+    }
+
+    public void setPrices(LinkedHashMap<String, String> prices) {
+        this.prices = prices;
+    }
+
+    public LinkedHashMap<String, String> getStock() {
+        return stock;
+    }
+
+    public void setStock(LinkedHashMap<String, String> stock) {
+        this.stock = stock;
+    }
+}
@@ -0,0 +1,93 @@
+/**
+ *  Copyright 2012-2017 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.benchmark.collections;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Hand-written equivalent of {@link CatalogMapper}, creating the concrete target collections with their default
+ * capacity as MapStruct 1.1 did.
+ */
+public class DefaultCapacityCatalogMapper implements CatalogMapper {
+
+    @Override
+    public CatalogDto toDto(Catalog catalog) {
+        if ( catalog == null ) {
+            return null;
+        }
+
+        CatalogDto catalogDto = new CatalogDto();
+
+        catalogDto.setQuantities( integerListToStringArrayList( catalog.getQuantities() ) );
+        catalogDto.setRatings( integerListToStringArrayList( catalog.getRatings() ) );
+        catalogDto.setItemIds( longSetToStringLinkedHashSet( catalog.getItemIds() ) );
+        catalogDto.setTagIds( longSetToStringLinkedHashSet( catalog.getTagIds() ) );
+        catalogDto.setPrices( stringIntegerMapToStringStringLinkedHashMap( catalog.getPrices() ) );
+        catalogDto.setStock( stringIntegerMapToStringStringLinkedHashMap( catalog.getStock() ) );
+
+        return catalogDto;
+    }
+
+    private ArrayList<String> integerListToStringArrayList(List<Integer> list) {
+        if ( list == null ) {
+            return null;
+        }
+
+        ArrayList<String> arrayList = new ArrayList<String>();
+        for ( Integer integer : list ) {
+            arrayList.add( String.valueOf( integer ) );
+        }
+
+        return arrayList;
+    }
+
+    private LinkedHashSet<String> longSetToStringLinkedHashSet(Set<Long> set) {
+        if ( set == null ) {
+            return null;
+        }
+
+        LinkedHashSet<String> linkedHashSet = new LinkedHashSet<String>();
+        for ( Long long1 : set ) {
+            linkedHashSet.add( String.valueOf( long1 ) );
+        }
+
+        return linkedHashSet;
+    }
+
+    private LinkedHashMap<String, String> stringIntegerMapToStringStringLinkedHashMap(Map<String, Integer> map) {
+        if ( map == null ) {
+            return null;
+        }
+
+        LinkedHashMap<String, String> linkedHashMap = new LinkedHashMap<String, String>();
+
+        for ( Map.Entry<String, Integer> entry : map.entrySet() ) {
+            String key = entry.getKey();
+            String value = String.valueOf( entry.getValue() );
+            linkedHashMap.put( key, value );
+        }
+
+        return linkedHashMap;
+    }
+}
@@ -0,0 +1,106 @@
+/**
+ *  Copyright 2012-2017 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.benchmark.collections;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of mapping a DTO with six collection and map properties of concrete types, once with the
+ * generated mapper, which creates the target collections with an initial capacity derived from the source, and once
+ * with a mapper creating them with their default capacity.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PresizedCollectionBenchmark {
+
+    private final CatalogMapper generatedMapper = CatalogMapper.INSTANCE;
+    private final CatalogMapper defaultCapacityMapper = new DefaultCapacityCatalogMapper();
+
+    @Param({ "10", "1000" })
+    private int elementCount;
+
+    private Catalog catalog;
+
+    @Setup
+    public void createCatalog() {
+        catalog = new Catalog();
+        catalog.setQuantities( integers( 0 ) );
+        catalog.setRatings( integers( elementCount ) );
+        catalog.setItemIds( longs( 0 ) );
+        catalog.setTagIds( longs( elementCount ) );
+        catalog.setPrices( prices( 0 ) );
+        catalog.setStock( prices( elementCount ) );
+    }
+
+    @Benchmark
+    public CatalogDto presizedCollections() {
+        return generatedMapper.toDto( catalog );
+    }
+
+    @Benchmark
+    public CatalogDto defaultCapacityCollections() {
+        return defaultCapacityMapper.toDto( catalog );
+    }
+
+    private List<Integer> integers(int offset) {
+        List<Integer> integers = new ArrayList<Integer>( elementCount );
+        for ( int i = 0; i < elementCount; i++ ) {
+            integers.add( offset + i );
+        }
+        return integers;
+    }
+
+    private Set<Long> longs(int offset) {
+        Set<Long> longs = new LinkedHashSet<Long>();
+        for ( int i = 0; i < elementCount; i++ ) {
+            longs.add( (long) ( offset + i ) );
+        }
+        return longs;
+    }
+
+    private Map<String, Integer> prices(int offset) {
+        Map<String, Integer> prices = new LinkedHashMap<String, Integer>();
+        for ( int i = 0; i < elementCount; i++ ) {
+            prices.put( "item" + ( offset + i ), i );
+        }
+        return prices;
+    }
+}
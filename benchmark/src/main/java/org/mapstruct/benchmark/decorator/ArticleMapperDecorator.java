@@ -0,0 +1,59 @@
+/**
+ *  Copyright 2012-2017 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.benchmark.decorator;
+
+/**
+ * Delegates to the generated mapper and adds the word count of the article.
+ */
+public abstract class ArticleMapperDecorator implements ArticleMapper {
+
+    private final ArticleMapper delegate;
+
+    public ArticleMapperDecorator(ArticleMapper delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public ArticleDto toDto(Article article) {
+        ArticleDto articleDto = delegate.toDto( article );
+
+        if ( articleDto != null && article.getText() != null ) {
+            articleDto.setWordCount( countWords( article.getText() ) );
+        }
+
+        return articleDto;
+    }
+
+    static int countWords(String text) {
+        int count = 0;
+        boolean inWord = false;
+
+        for ( int i = 0; i < text.length(); i++ ) {
+            if ( Character.isWhitespace( text.charAt( i ) ) ) {
+                inWord = false;
+            }
+            else if ( !inWord ) {
+                inWord = true;
+                count++;
+            }
+        }
+
+        return count;
+    }
+}
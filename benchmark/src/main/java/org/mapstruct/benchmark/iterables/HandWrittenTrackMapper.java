@@ -0,0 +1,83 @@
+/**
+ *  Copyright 2012-2017 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.benchmark.iterables;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Hand-written equivalent of {@link TrackMapper}.
+ */
+public class HandWrittenTrackMapper implements TrackMapper {
+
+    @Override
+    public TrackDto toDto(Track track) {
+        if ( track == null ) {
+            return null;
+        }
+
+        TrackDto trackDto = new TrackDto();
+        trackDto.setTitle( track.getTitle() );
+        trackDto.setArtist( track.getArtist() );
+        trackDto.setDurationSeconds( track.getDurationSeconds() );
+
+        return trackDto;
+    }
+
+    @Override
+    public List<TrackDto> toDtoList(List<Track> tracks) {
+        if ( tracks == null ) {
+            return null;
+        }
+
+        List<TrackDto> trackDtos = new ArrayList<TrackDto>( tracks.size() );
+        for ( Track track : tracks ) {
+            trackDtos.add( toDto( track ) );
+        }
+
+        return trackDtos;
+    }
+
+    @Override
+    public Map<String, TrackDto> toDtoMap(Map<String, Track> tracks) {
+        if ( tracks == null ) {
+            return null;
+        }
+
+        Map<String, TrackDto> trackDtos = new HashMap<String, TrackDto>( (int) ( tracks.size() / .75f ) + 1 );
+        for ( Map.Entry<String, Track> entry : tracks.entrySet() ) {
+            trackDtos.put( entry.getKey(), toDto( entry.getValue() ) );
+        }
+
+        return trackDtos;
+    }
+
+    @Override
+    public List<TrackDto> streamToDtoList(Stream<Track> tracks) {
+        if ( tracks == null ) {
+            return null;
+        }
+
+        return tracks.map( this::toDto ).collect( Collectors.toList() );
+    }
+}
@@ -0,0 +1,105 @@
+/**
+ *  Copyright 2012-2017 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.benchmark.iterables;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of mapping lists, maps and streams of beans, comparing the generated mapper with a hand-written
+ * one.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IterableBenchmark {
+
+    private final TrackMapper generatedMapper = TrackMapper.INSTANCE;
+    private final TrackMapper handWrittenMapper = new HandWrittenTrackMapper();
+
+    @Param({ "10", "1000" })
+    private int elementCount;
+
+    private List<Track> tracks;
+    private Map<String, Track> tracksByTitle;
+
+    @Setup
+    public void createTracks() {
+        tracks = new ArrayList<Track>( elementCount );
+        tracksByTitle = new LinkedHashMap<String, Track>();
+
+        for ( int i = 0; i < elementCount; i++ ) {
+            Track track = new Track();
+            track.setTitle( "Track " + i );
+            track.setArtist( "Artist " + ( i % 10 ) );
+            track.setDurationSeconds( 180 + i );
+
+            tracks.add( track );
+            tracksByTitle.put( track.getTitle(), track );
+        }
+    }
+
+    @Benchmark
+    public List<TrackDto> generatedList() {
+        return generatedMapper.toDtoList( tracks );
+    }
+
+    @Benchmark
+    public List<TrackDto> handWrittenList() {
+        return handWrittenMapper.toDtoList( tracks );
+    }
+
+    @Benchmark
+    public Map<String, TrackDto> generatedMap() {
+        return generatedMapper.toDtoMap( tracksByTitle );
+    }
+
+    @Benchmark
+    public Map<String, TrackDto> handWrittenMap() {
+        return handWrittenMapper.toDtoMap( tracksByTitle );
+    }
+
+    @Benchmark
+    public List<TrackDto> generatedStream() {
+        return generatedMapper.streamToDtoList( tracks.stream() );
+    }
+
+    @Benchmark
+    public List<TrackDto> handWrittenStream() {
+        return handWrittenMapper.streamToDtoList( tracks.stream() );
+    }
+}
@@ -0,0 +1,91 @@
+/**
+ *  Copyright 2012-2017 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.benchmark.nested;
+
+/**
+ * Hand-written equivalent of {@link OrderMapper}.
+ */
+public class HandWrittenOrderMapper implements OrderMapper {
+
+    @Override
+    public OrderDto toDto(Order order) {
+        if ( order == null ) {
+            return null;
+        }
+
+        OrderDto orderDto = new OrderDto();
+        orderDto.setNumber( order.getNumber() );
+
+        Customer customer = order.getCustomer();
+        if ( customer != null ) {
+            CustomerDto customerDto = new CustomerDto();
+            customerDto.setName( customer.getName() );
+
+            Address address = customer.getAddress();
+            if ( address != null ) {
+                AddressDto addressDto = new AddressDto();
+                addressDto.setStreet( address.getStreet() );
+                addressDto.setCity( address.getCity() );
+                addressDto.setZip( address.getZip() );
+
+                Country country = address.getCountry();
+                if ( country != null ) {
+                    CountryDto countryDto = new CountryDto();
+                    countryDto.setCode( country.getCode() );
+                    countryDto.setName( country.getName() );
+                    addressDto.setCountry( countryDto );
+                }
+
+                customerDto.setAddress( addressDto );
+            }
+
+            orderDto.setCustomer( customerDto );
+        }
+
+        return orderDto;
+    }
+
+    @Override
+    public OrderSummary toSummary(Order order) {
+        if ( order == null ) {
+            return null;
+        }
+
+        OrderSummary orderSummary = new OrderSummary();
+        orderSummary.setNumber( order.getNumber() );
+
+        Customer customer = order.getCustomer();
+        if ( customer != null ) {
+            orderSummary.setCustomerName( customer.getName() );
+
+            Address address = customer.getAddress();
+            if ( address != null ) {
+                orderSummary.setStreet( address.getStreet() );
+                orderSummary.setCity( address.getCity() );
+                orderSummary.setZip( address.getZip() );
+
+                if ( address.getCountry() != null ) {
+                    orderSummary.setCountryCode( address.getCountry().getCode() );
+                }
+            }
+        }
+
+        return orderSummary;
+    }
+}
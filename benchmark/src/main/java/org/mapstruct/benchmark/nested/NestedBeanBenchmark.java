@@ -0,0 +1,91 @@
+/**
+ *  Copyright 2012-2017 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.benchmark.nested;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of mapping a graph of four nested beans into a graph of nested DTOs and of flattening it into a
+ * single DTO via nested source properties, comparing the generated mapper with a hand-written one.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NestedBeanBenchmark {
+
+    private final OrderMapper generatedMapper = OrderMapper.INSTANCE;
+    private final OrderMapper handWrittenMapper = new HandWrittenOrderMapper();
+
+    private Order order;
+
+    @Setup
+    public void createOrder() {
+        Country country = new Country();
+        country.setCode( "DE" );
+        country.setName( "Germany" );
+
+        Address address = new Address();
+        address.setStreet( "Jungfernstieg 1" );
+        address.setCity( "Hamburg" );
+        address.setZip( "20095" );
+        address.setCountry( country );
+
+        Customer customer = new Customer();
+        customer.setName( "Bob" );
+        customer.setAddress( address );
+
+        order = new Order();
+        order.setNumber( "42" );
+        order.setCustomer( customer );
+    }
+
+    @Benchmark
+    public OrderDto generatedNestedBeans() {
+        return generatedMapper.toDto( order );
+    }
+
+    @Benchmark
+    public OrderDto handWrittenNestedBeans() {
+        return handWrittenMapper.toDto( order );
+    }
+
+    @Benchmark
+    public OrderSummary generatedFlattening() {
+        return generatedMapper.toSummary( order );
+    }
+
+    @Benchmark
+    public OrderSummary handWrittenFlattening() {
+        return handWrittenMapper.toSummary( order );
+    }
+}
@@ -0,0 +1,38 @@
+/**
+ *  Copyright 2012-2017 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+/**
+ * <p>
+ * JMH benchmarks measuring the runtime performance of mappers generated by MapStruct. Each sub-package contains the
+ * beans, the mapper(s) and the benchmark for one aspect of the generated code. Where useful, a hand-written mapper
+ * reproducing another code shape serves as baseline. The benchmarks in {@code org.mapstruct.benchmark.processor}
+ * measure the annotation processor itself instead.
+ * </p>
+ * <p>
+ * The runtime benchmarks cover wide beans ({@code wide}), nested beans and flattening ({@code nested}), collections,
+ * maps and streams ({@code iterables}, {@code collections}), date and time conversions ({@code time},
+ * {@code xmlgregoriancalendar}), update methods ({@code update}) and decorators ({@code decorator}).
+ * </p>
+ * <p>
+ * Run all benchmarks via {@code java -jar target/benchmarks.jar} after building this module, or a subset by passing a
+ * regular expression such as {@code java -jar target/benchmarks.jar update}. The benchmarks report the average time
+ * per operation; add {@code -bm thrpt} to report the throughput instead and {@code -prof gc} to measure the
+ * allocation rate.
+ * </p>
+ */
+package org.mapstruct.benchmark;
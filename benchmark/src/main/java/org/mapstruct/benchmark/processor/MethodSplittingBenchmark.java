@@ -0,0 +1,99 @@
+/**
+ *  Copyright 2012-2017 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.benchmark.processor;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of mapping a wide bean with a mapper generated with a single bean mapping method
+ * ({@code maxMappingMethodSize = 0}) or with the bean mapping method split into several methods as per the default
+ * of the {@code mapstruct.maxMappingMethodSize} option.
+ * <p>
+ * The mapper is generated and compiled in-process during the set-up. With 800 properties, the single method exceeds
+ * the 8000 bytes of bytecode above which HotSpot doesn't JIT-compile methods, so it is run by the interpreter.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MethodSplittingBenchmark {
+
+    @Param({ "0", "4000" })
+    private int maxMappingMethodSize;
+
+    @Param({ "400", "800" })
+    private int propertyCount;
+
+    private SyntheticMapperProcessing processing;
+    private URLClassLoader classLoader;
+    private UnaryOperator<Object> mapping;
+    private Object source;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void compileMapper() throws Exception {
+        File outputDirectory = Files.createTempDirectory( "mapstruct-benchmark" ).toFile();
+        processing = new SyntheticMapperProcessing(
+            SyntheticMapperSources.createWide( propertyCount ),
+            outputDirectory
+        );
+        processing.compile( "-Amapstruct.maxMappingMethodSize=" + maxMappingMethodSize );
+
+        classLoader = new URLClassLoader(
+            new URL[] { outputDirectory.toURI().toURL() },
+            MethodSplittingBenchmark.class.getClassLoader()
+        );
+        Class<?> mappingClass = classLoader.loadClass( SyntheticMapperSources.getQualifiedName( "WideMapping" ) );
+
+        mapping = (UnaryOperator<Object>) mappingClass.newInstance();
+        source = mappingClass.getMethod( "createSource" ).invoke( null );
+    }
+
+    @TearDown
+    public void deleteOutputDirectory() throws IOException {
+        classLoader.close();
+        processing.deleteOutputDirectory();
+    }
+
+    @Benchmark
+    public Object map() {
+        return mapping.apply( source );
+    }
+}
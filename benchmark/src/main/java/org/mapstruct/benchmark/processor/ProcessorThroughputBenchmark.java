@@ -0,0 +1,136 @@
+/**
+ *  Copyright 2012-2017 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.benchmark.processor;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the wall-clock time and the peak heap usage of running the annotation processor on corpora of mappers of
+ * different sizes, bean widths, nesting depths and {@code uses} graphs. Processor-side optimizations can be measured
+ * with this benchmark, e.g. via {@code java -jar target/benchmarks.jar ProcessorThroughput -p mapperCount=1000}.
+ * <p>
+ * The average time mode is used, as secondary results are not reported in single shot mode; as a single invocation
+ * takes longer than an iteration, each iteration still measures a single invocation.
+ * <p>
+ * The peak heap usage is reported as secondary result {@code peakHeapMegabytes}. It is the sum of the peak usages of
+ * all heap memory pools, which are reset after a full GC before each invocation; as the pools may peak at different
+ * times, this is an upper bound of the actual peak.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProcessorThroughputBenchmark {
+
+    @Param({ "100", "1000", "5000" })
+    private int mapperCount;
+
+    @Param({ "20" })
+    private int propertyCount;
+
+    @Param({ "3" })
+    private int nestingDepth;
+
+    /**
+     * The number of preceding mappers referenced by each mapper via {@code Mapper#uses()}.
+     */
+    @Param({ "2" })
+    private int usedMapperCount;
+
+    private SyntheticMapperProcessing processing;
+
+    /**
+     * Reports the peak heap usage of an invocation.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class HeapUsage {
+
+        private double peakHeapMegabytes;
+
+        @Setup(Level.Invocation)
+        public void resetPeakUsage() {
+            System.gc();
+
+            for ( MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans() ) {
+                if ( pool.getType() == MemoryType.HEAP ) {
+                    pool.resetPeakUsage();
+                }
+            }
+        }
+
+        void recordPeakUsage() {
+            long peakUsage = 0;
+
+            for ( MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans() ) {
+                if ( pool.getType() == MemoryType.HEAP ) {
+                    peakUsage += pool.getPeakUsage().getUsed();
+                }
+            }
+
+            peakHeapMegabytes = peakUsage / ( 1024.0 * 1024.0 );
+        }
+
+        public double peakHeapMegabytes() {
+            return peakHeapMegabytes;
+        }
+    }
+
+    @Setup
+    public void createSources() throws IOException {
+        processing = new SyntheticMapperProcessing(
+            SyntheticMapperSources.create( mapperCount, propertyCount, nestingDepth, usedMapperCount ),
+            Files.createTempDirectory( "mapstruct-benchmark" ).toFile()
+        );
+    }
+
+    @TearDown
+    public void deleteOutputDirectory() {
+        processing.deleteOutputDirectory();
+    }
+
+    @Benchmark
+    public boolean processMappers(HeapUsage heapUsage) throws IOException {
+        processing.process();
+        heapUsage.recordPeakUsage();
+        return true;
+    }
+}
@@ -0,0 +1,112 @@
+/**
+ *  Copyright 2012-2017 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.benchmark.processor;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaCompiler.CompilationTask;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import org.mapstruct.ap.MappingProcessor;
+
+/**
+ * Runs the annotation processor in-process on a corpus of sources created by {@link SyntheticMapperSources}.
+ * <p>
+ * When processing, the compiler is run with {@code -proc:only}, so the measured time is dominated by the processor
+ * rather than by the compilation of the generated sources.
+ */
+final class SyntheticMapperProcessing {
+
+    private final JavaCompiler compiler;
+    private final List<JavaFileObject> sources;
+    private final File outputDirectory;
+
+    SyntheticMapperProcessing(List<JavaFileObject> sources, File outputDirectory) {
+        this.compiler = ToolProvider.getSystemJavaCompiler();
+        if ( compiler == null ) {
+            throw new IllegalStateException( "This benchmark requires a JDK" );
+        }
+
+        this.sources = sources;
+        this.outputDirectory = outputDirectory;
+    }
+
+    /**
+     * Processes the sources, passing the given options (e.g. {@code -Amapstruct.maxMappingMethodSize=50}) to the compiler.
+     */
+    void process(String... processorOptions) throws IOException {
+        run( true, processorOptions );
+    }
+
+    /**
+     * Processes the sources like {@link #process(String...)} and also compiles them and the generated sources into
+     * the output directory.
+     */
+    void compile(String... processorOptions) throws IOException {
+        run( false, processorOptions );
+    }
+
+    File getOutputDirectory() {
+        return outputDirectory;
+    }
+
+    private void run(boolean processOnly, String... processorOptions) throws IOException {
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+
+        try ( StandardJavaFileManager fileManager = compiler.getStandardFileManager( null, null, null ) ) {
+            List<String> options = new ArrayList<>( Arrays.asList(
+                processOnly ? "-proc:only" : "-proc:default",
+                "-classpath", System.getProperty( "java.class.path" ),
+                "-s", outputDirectory.getPath(),
+                "-d", outputDirectory.getPath(),
+                "-Amapstruct.suppressGeneratorTimestamp=true"
+            ) );
+            options.addAll( Arrays.asList( processorOptions ) );
+
+            CompilationTask task = compiler.getTask( null, fileManager, diagnostics, options, null, sources );
+            task.setProcessors( Collections.singletonList( new MappingProcessor() ) );
+
+            if ( !task.call() ) {
+                throw new IllegalStateException( "Compilation failed: " + diagnostics.getDiagnostics() );
+            }
+        }
+    }
+
+    void deleteOutputDirectory() {
+        delete( outputDirectory );
+    }
+
+    private static void delete(File file) {
+        File[] children = file.listFiles();
+        if ( children != null ) {
+            for ( File child : children ) {
+                delete( child );
+            }
+        }
+        file.delete();
+    }
+}
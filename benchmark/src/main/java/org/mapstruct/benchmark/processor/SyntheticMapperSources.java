@@ -0,0 +1,233 @@
+/**
+ *  Copyright 2012-2017 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.benchmark.processor;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+
+/**
+ * Creates the sources of a number of mappers. Each mapper maps a bean with the given number of properties to a target
+ * bean and back, including a chain of nested beans of the given depth, a list of the first-level nested beans and the
+ * first-level nested beans of the given number of preceding mappers, which are referenced via {@code Mapper#uses()}.
+ */
+final class SyntheticMapperSources {
+
+    private static final String PACKAGE_NAME = "org.mapstruct.benchmark.processor.generated";
+
+    private SyntheticMapperSources() {
+    }
+
+    static List<JavaFileObject> create(int mapperCount, int propertyCount, int nestingDepth, int usedMapperCount) {
+        List<JavaFileObject> sources = new ArrayList<>();
+
+        for ( int i = 0; i < mapperCount; i++ ) {
+            List<Integer> usedMappers = new ArrayList<>();
+            for ( int used = i - 1; used >= 0 && usedMappers.size() < usedMapperCount; used-- ) {
+                usedMappers.add( used );
+            }
+
+            sources.add( bean( "Source" + i, item( i, 1 ), usedMappers, "Item", propertyCount ) );
+            sources.add( bean( "Target" + i, itemDto( i, 1 ), usedMappers, "ItemDto", propertyCount ) );
+
+            for ( int level = 1; level <= nestingDepth; level++ ) {
+                boolean hasNestedItem = level < nestingDepth;
+                sources.add( bean( item( i, level ), hasNestedItem ? item( i, level + 1 ) : null, propertyCount ) );
+                sources.add(
+                    bean( itemDto( i, level ), hasNestedItem ? itemDto( i, level + 1 ) : null, propertyCount )
+                );
+            }
+
+            sources.add( mapper( i, nestingDepth, usedMappers ) );
+        }
+
+        return sources;
+    }
+
+    /**
+     * Creates the sources of a mapper {@code WideMapper} mapping a bean {@code WideSource} with the given number of
+     * properties to a bean {@code WideTarget}, converting every other property, and of a class {@code WideMapping}
+     * which exposes the mapper as {@code UnaryOperator<Object>} and creates a populated source bean via its static
+     * method {@code createSource()}.
+     */
+    static List<JavaFileObject> createWide(int propertyCount) {
+        List<JavaFileObject> sources = new ArrayList<>();
+
+        StringBuilder source = new StringBuilder();
+        StringBuilder target = new StringBuilder();
+        StringBuilder mapping = new StringBuilder();
+        source.append( "package " ).append( PACKAGE_NAME ).append( ";\n\n" );
+        source.append( "public class WideSource {\n" );
+        target.append( "package " ).append( PACKAGE_NAME ).append( ";\n\n" );
+        target.append( "public class WideTarget {\n" );
+        mapping.append( "package " ).append( PACKAGE_NAME ).append( ";\n\n" );
+        mapping.append( "public class WideMapping implements java.util.function.UnaryOperator<Object> {\n" );
+        mapping.append( "    public Object apply(Object source) {\n" );
+        mapping.append( "        return WideMapper.INSTANCE.toTarget( (WideSource) source );\n    }\n" );
+        mapping.append( "    public static Object createSource() {\n" );
+        mapping.append( "        WideSource source = new WideSource();\n" );
+
+        for ( int i = 0; i < propertyCount; i++ ) {
+            String name = "property" + i;
+            String setter = "set" + Character.toUpperCase( name.charAt( 0 ) ) + name.substring( 1 );
+
+            // alternate direct assignments, conversions into strings and boxing conversions
+            switch ( i % 3 ) {
+                case 0:
+                    property( source, "String", name );
+                    property( target, "String", name );
+                    mapping.append( "        source." ).append( setter ).append( "( \"" ).append( i );
+                    mapping.append( "\" );\n" );
+                    break;
+                case 1:
+                    property( source, "Integer", name );
+                    property( target, "String", name );
+                    mapping.append( "        source." ).append( setter ).append( "( " ).append( i ).append( " );\n" );
+                    break;
+                default:
+                    property( source, "long", name );
+                    property( target, "Long", name );
+                    mapping.append( "        source." ).append( setter ).append( "( " ).append( i ).append( "L );\n" );
+                    break;
+            }
+        }
+
+        source.append( "}\n" );
+        target.append( "}\n" );
+        mapping.append( "        return source;\n    }\n}\n" );
+
+        sources.add( new StringSource( "WideSource", source.toString() ) );
+        sources.add( new StringSource( "WideTarget", target.toString() ) );
+        sources.add( new StringSource( "WideMapping", mapping.toString() ) );
+        sources.add( new StringSource(
+            "WideMapper",
+            "package " + PACKAGE_NAME + ";\n\n"
+                + "@org.mapstruct.Mapper\n"
+                + "public interface WideMapper {\n"
+                + "    WideMapper INSTANCE = org.mapstruct.factory.Mappers.getMapper( WideMapper.class );\n"
+                + "    WideTarget toTarget(WideSource source);\n"
+                + "}\n"
+        ) );
+
+        return sources;
+    }
+
+    static String getQualifiedName(String simpleName) {
+        return PACKAGE_NAME + "." + simpleName;
+    }
+
+    private static String item(int index, int level) {
+        return "Item" + index + "L" + level;
+    }
+
+    private static String itemDto(int index, int level) {
+        return "ItemDto" + index + "L" + level;
+    }
+
+    private static JavaFileObject bean(String name, String nestedType, int propertyCount) {
+        return bean( name, nestedType, Collections.<Integer>emptyList(), null, propertyCount );
+    }
+
+    private static JavaFileObject bean(String name, String itemType, List<Integer> usedMappers, String usedTypePrefix,
+                                       int propertyCount) {
+        StringBuilder source = new StringBuilder();
+        source.append( "package " ).append( PACKAGE_NAME ).append( ";\n\n" );
+        source.append( "public class " ).append( name ).append( " {\n" );
+
+        for ( int i = 0; i < propertyCount; i++ ) {
+            // alternate the types, so that the mappers contain conversions as well as direct assignments
+            property( source, i % 2 == 0 ? "String" : "Integer", "property" + i );
+        }
+        if ( itemType != null ) {
+            property( source, itemType, "item" );
+        }
+        if ( usedTypePrefix != null ) {
+            property( source, "java.util.List<" + itemType + ">", "items" );
+
+            for ( Integer used : usedMappers ) {
+                property( source, usedTypePrefix + used + "L1", "related" + used );
+            }
+        }
+
+        source.append( "}\n" );
+        return new StringSource( name, source.toString() );
+    }
+
+    private static void property(StringBuilder source, String type, String name) {
+        String capitalized = Character.toUpperCase( name.charAt( 0 ) ) + name.substring( 1 );
+        source.append( "    private " ).append( type ).append( ' ' ).append( name ).append( ";\n" );
+        source.append( "    public " ).append( type ).append( " get" ).append( capitalized ).append( "() {\n" );
+        source.append( "        return " ).append( name ).append( ";\n    }\n" );
+        source.append( "    public void set" ).append( capitalized ).append( '(' ).append( type ).append( ' ' );
+        source.append( name ).append( ") {\n        this." ).append( name ).append( " = " ).append( name );
+        source.append( ";\n    }\n" );
+    }
+
+    private static JavaFileObject mapper(int index, int nestingDepth, List<Integer> usedMappers) {
+        String name = "SyntheticMapper" + index;
+        StringBuilder source = new StringBuilder();
+        source.append( "package " ).append( PACKAGE_NAME ).append( ";\n\n" );
+        source.append( "@org.mapstruct.Mapper" );
+        if ( !usedMappers.isEmpty() ) {
+            source.append( "(uses = {" );
+            for ( int i = 0; i < usedMappers.size(); i++ ) {
+                source.append( i > 0 ? ", " : " " ).append( "SyntheticMapper" ).append( usedMappers.get( i ) );
+                source.append( ".class" );
+            }
+            source.append( " })" );
+        }
+        source.append( "\npublic interface " ).append( name ).append( " {\n" );
+        source.append( "    Target" ).append( index ).append( " toTarget(Source" ).append( index );
+        source.append( " source);\n" );
+        source.append( "    Source" ).append( index ).append( " toSource(Target" ).append( index );
+        source.append( " target);\n" );
+
+        for ( int level = 1; level <= nestingDepth; level++ ) {
+            source.append( "    " ).append( itemDto( index, level ) ).append( " toItemDto" ).append( level );
+            source.append( '(' ).append( item( index, level ) ).append( " item);\n" );
+            source.append( "    " ).append( item( index, level ) ).append( " toItem" ).append( level );
+            source.append( '(' ).append( itemDto( index, level ) ).append( " item);\n" );
+        }
+
+        source.append( "}\n" );
+        return new StringSource( name, source.toString() );
+    }
+
+    private static class StringSource extends SimpleJavaFileObject {
+
+        private final String source;
+
+        StringSource(String simpleName, String source) {
+            super( uri( simpleName ), Kind.SOURCE );
+            this.source = source;
+        }
+
+        private static URI uri(String simpleName) {
+            return URI.create( "string:///" + PACKAGE_NAME.replace( '.', '/' ) + "/" + simpleName + ".java" );
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return source;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+/**
+ *  Copyright 2012-2017 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+/**
+ * <p>
+ * Benchmarks the annotation processor itself, by running it in-process on synthetic corpora of mapper sources:
+ * {@code ProcessorThroughputBenchmark} reports processing time and peak heap usage for corpora of different sizes and
+ * shapes.
+ * </p>
+ * <p>
+ * {@code MethodSplittingBenchmark} measures the generated code instead, comparing a mapper for a wide bean generated
+ * with and without splitting its bean mapping method as per the {@code mapstruct.maxMappingMethodSize} option.
+ * </p>
+ */
+package org.mapstruct.benchmark.processor;
@@ -0,0 +1,60 @@
+/**
+ *  Copyright 2012-2017 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.benchmark.time;
+
+import java.text.SimpleDateFormat;
+import java.time.format.DateTimeFormatter;
+import java.util.Date;
+
+/**
+ * Hand-written equivalent of {@link EventMapper}, using formatter constants for the thread-safe java.time formatters
+ * and a new {@link SimpleDateFormat} per invocation, as it is not thread-safe.
+ */
+public class HandWrittenEventMapper implements EventMapper {
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern( "yyyy-MM-dd" );
+    private static final DateTimeFormatter START_FORMATTER = DateTimeFormatter.ofPattern( "yyyy-MM-dd HH:mm" );
+
+    @Override
+    public EventDto toDto(Event event) {
+        if ( event == null ) {
+            return null;
+        }
+
+        EventDto eventDto = new EventDto();
+
+        if ( event.getDate() != null ) {
+            eventDto.setDate( DATE_FORMATTER.format( event.getDate() ) );
+        }
+        if ( event.getStart() != null ) {
+            eventDto.setStart( START_FORMATTER.format( event.getStart() ) );
+        }
+        if ( event.getCreated() != null ) {
+            eventDto.setCreated( Date.from( event.getCreated().toInstant() ) );
+        }
+        if ( event.getModified() != null ) {
+            eventDto.setModified( event.getModified().toDate() );
+        }
+        if ( event.getPublished() != null ) {
+            eventDto.setPublished( new SimpleDateFormat( "dd.MM.yyyy" ).format( event.getPublished() ) );
+        }
+
+        return eventDto;
+    }
+}
@@ -0,0 +1,76 @@
+/**
+ *  Copyright 2012-2017 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.benchmark.time;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.joda.time.DateTime;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of converting java.time, Joda-Time and {@link Date} values into formatted strings and into
+ * {@link Date}, comparing the generated mapper with a hand-written one.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TimeConversionBenchmark {
+
+    private final EventMapper generatedMapper = EventMapper.INSTANCE;
+    private final EventMapper handWrittenMapper = new HandWrittenEventMapper();
+
+    private Event event;
+
+    @Setup
+    public void createEvent() {
+        event = new Event();
+        event.setDate( LocalDate.of( 2017, 4, 9 ) );
+        event.setStart( LocalDateTime.of( 2017, 4, 9, 20, 15 ) );
+        event.setCreated( ZonedDateTime.of( 2017, 4, 1, 10, 0, 0, 0, ZoneId.of( "Europe/Berlin" ) ) );
+        event.setModified( new DateTime( 2017, 4, 2, 11, 30 ) );
+        event.setPublished( new Date() );
+    }
+
+    @Benchmark
+    public EventDto generated() {
+        return generatedMapper.toDto( event );
+    }
+
+    @Benchmark
+    public EventDto handWritten() {
+        return handWrittenMapper.toDto( event );
+    }
+}
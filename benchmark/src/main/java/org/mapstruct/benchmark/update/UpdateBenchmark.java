@@ -0,0 +1,76 @@
+/**
+ *  Copyright 2012-2017 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.benchmark.update;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures updating an existing instance via a {@code @MappingTarget} method, comparing the generated mapper with a
+ * hand-written one.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UpdateBenchmark {
+
+    private final CustomerMapper generatedMapper = CustomerMapper.INSTANCE;
+    private final CustomerMapper handWrittenMapper = new HandWrittenCustomerMapper();
+
+    private CustomerDto customerDto;
+    private Customer customer;
+
+    @Setup
+    public void createCustomers() {
+        customerDto = new CustomerDto();
+        customerDto.setName( "Bob" );
+        customerDto.setEmail( "bob@example.com" );
+        customerDto.setPhone( "555-1234" );
+        customerDto.setLoyaltyPoints( 1200 );
+        customerDto.setNewsletter( Boolean.TRUE );
+
+        customer = new Customer();
+        customer.setId( 1L );
+    }
+
+    @Benchmark
+    public Customer generated() {
+        generatedMapper.update( customerDto, customer );
+        return customer;
+    }
+
+    @Benchmark
+    public Customer handWritten() {
+        handWrittenMapper.update( customerDto, customer );
+        return customer;
+    }
+}
@@ -0,0 +1,67 @@
+/**
+ *  Copyright 2012-2017 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.benchmark.wide;
+
+/**
+ * Hand-written equivalent of {@link WideMapper}.
+ */
+public class HandWrittenWideMapper implements WideMapper {
+
+    @Override
+    public WideTarget toTarget(WideSource source) {
+        if ( source == null ) {
+            return null;
+        }
+
+        WideTarget wideTarget = new WideTarget();
+
+        wideTarget.setText1( source.getText1() );
+        wideTarget.setText2( source.getText2() );
+        wideTarget.setText3( source.getText3() );
+        wideTarget.setText4( source.getText4() );
+        wideTarget.setText5( source.getText5() );
+        wideTarget.setText6( source.getText6() );
+        wideTarget.setText7( source.getText7() );
+        wideTarget.setText8( source.getText8() );
+        wideTarget.setText9( source.getText9() );
+        wideTarget.setText10( source.getText10() );
+        wideTarget.setCount1( source.getCount1() );
+        wideTarget.setCount2( source.getCount2() );
+        wideTarget.setCount3( source.getCount3() );
+        wideTarget.setCount4( source.getCount4() );
+        wideTarget.setCount5( source.getCount5() );
+        wideTarget.setCount6( source.getCount6() );
+        wideTarget.setCount7( source.getCount7() );
+        wideTarget.setCount8( source.getCount8() );
+        wideTarget.setCount9( source.getCount9() );
+        wideTarget.setCount10( source.getCount10() );
+        wideTarget.setAmount1( source.getAmount1() );
+        wideTarget.setAmount2( source.getAmount2() );
+        wideTarget.setAmount3( source.getAmount3() );
+        wideTarget.setAmount4( source.getAmount4() );
+        wideTarget.setAmount5( source.getAmount5() );
+        wideTarget.setRatio1( String.valueOf( source.getRatio1() ) );
+        wideTarget.setRatio2( String.valueOf( source.getRatio2() ) );
+        wideTarget.setRatio3( String.valueOf( source.getRatio3() ) );
+        wideTarget.setRatio4( String.valueOf( source.getRatio4() ) );
+        wideTarget.setRatio5( String.valueOf( source.getRatio5() ) );
+
+        return wideTarget;
+    }
+}
@@ -0,0 +1,95 @@
+/**
+ *  Copyright 2012-2017 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.benchmark.wide;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of mapping a bean with 30 properties, most of them copied as is, some of them boxed or converted
+ * into strings, comparing the generated mapper with a hand-written one.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WideBeanBenchmark {
+
+    private final WideMapper generatedMapper = WideMapper.INSTANCE;
+    private final WideMapper handWrittenMapper = new HandWrittenWideMapper();
+
+    private WideSource source;
+
+    @Setup
+    public void createSource() {
+        source = new WideSource();
+        source.setText1( "text1" );
+        source.setText2( "text2" );
+        source.setText3( "text3" );
+        source.setText4( "text4" );
+        source.setText5( "text5" );
+        source.setText6( "text6" );
+        source.setText7( "text7" );
+        source.setText8( "text8" );
+        source.setText9( "text9" );
+        source.setText10( "text10" );
+        source.setCount1( 1 );
+        source.setCount2( 2 );
+        source.setCount3( 3 );
+        source.setCount4( 4 );
+        source.setCount5( 5 );
+        source.setCount6( 6 );
+        source.setCount7( 7 );
+        source.setCount8( 8 );
+        source.setCount9( 9 );
+        source.setCount10( 10 );
+        source.setAmount1( 1000L );
+        source.setAmount2( 2000L );
+        source.setAmount3( 3000L );
+        source.setAmount4( 4000L );
+        source.setAmount5( 5000L );
+        source.setRatio1( 1.25 );
+        source.setRatio2( 2.25 );
+        source.setRatio3( 3.25 );
+        source.setRatio4( 4.25 );
+        source.setRatio5( 5.25 );
+    }
+
+    @Benchmark
+    public WideTarget generated() {
+        return generatedMapper.toTarget( source );
+    }
+
+    @Benchmark
+    public WideTarget handWritten() {
+        return handWrittenMapper.toTarget( source );
+    }
+}
@@ -0,0 +1,293 @@
+/**
+ *  Copyright 2012-2017 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.benchmark.wide;
+
+public class WideTarget {
+
+    private String text1;
+    private String text2;
+    private String text3;
+    private String text4;
+    private String text5;
+    private String text6;
+    private String text7;
+    private String text8;
+    private String text9;
+    private String text10;
+    private int count1;
+    private int count2;
+    private int count3;
+    private int count4;
+    private int count5;
+    private int count6;
+    private int count7;
+    private int count8;
+    private int count9;
+    private int count10;
+    private Long amount1;
+    private Long amount2;
+    private Long amount3;
+    private Long amount4;
+    private Long amount5;
+    private String ratio1;
+    private String ratio2;
+    private String ratio3;
+    private String ratio4;
+    private String ratio5;
+
+    public String getText1() {
+        return text1;
+    }
+
+    public void setText1(String text1) {
+        this.text1 = text1;
+    }
+
+    public String getText2() {
+        return text2;
+    }
+
+    public void setText2(String text2) {
+        this.text2 = text2;
+    }
+
+    public String getText3() {
+        return text3;
+    }
+
+    public void setText3(String text3) {
+        this.text3 = text3;
+    }
+
+    public String getText4() {
+        return text4;
+    }
+
+    public void setText4(String text4) {
+        this.text4 = text4;
+    }
+
+    public String getText5() {
+        return text5;
+    }
+
+    public void setText5(String text5) {
+        this.text5 = text5;
+    }
+
+    public String getText6() {
+        return text6;
+    }
+
+    public void setText6(String text6) {
+        this.text6 = text6;
+    }
+
+    public String getText7() {
+        return text7;
+    }
+
+    public void setText7(String text7) {
+        this.text7 = text7;
+    }
+
+    public String getText8() {
+        return text8;
+    }
+
+    public void setText8(String text8) {
+        this.text8 = text8;
+    }
+
+    public String getText9() {
+        return text9;
+    }
+
+    public void setText9(String text9) {
+        this.text9 = text9;
+    }
+
+    public String getText10() {
+        return text10;
+    }
+
+    public void setText10(String text10) {
+        this.text10 = text10;
+    }
+
+    public int getCount1() {
+        return count1;
+    }
+
+    public void setCount1(int count1) {
+        this.count1 = count1;
+    }
+
+    public int getCount2() {
+        return count2;
+    }
+
+    public void setCount2(int count2) {
+        this.count2 = count2;
+    }
+
+    public int getCount3() {
+        return count3;
+    }
+
+    public void setCount3(int count3) {
+        this.count3 = count3;
+    }
+
+    public int getCount4() {
+        return count4;
+    }
+
+    public void setCount4(int count4) {
+        this.count4 = count4;
+    }
+
+    public int getCount5() {
+        return count5;
+    }
+
+    public void setCount5(int count5) {
+        this.count5 = count5;
+    }
+
+    public int getCount6() {
+        return count6;
+    }
+
+    public void setCount6(int count6) {
+        this.count6 = count6;
+    }
+
+    public int getCount7() {
+        return count7;
+    }
+
+    public void setCount7(int count7) {
+        this.count7 = count7;
+    }
+
+    public int getCount8() {
+        return count8;
+    }
+
+    public void setCount8(int count8) {
+        this.count8 = count8;
+    }
+
+    public int getCount9() {
+        return count9;
+    }
+
+    public void setCount9(int count9) {
+        this.count9 = count9;
+    }
+
+    public int getCount10() {
+        return count10;
+    }
+
+    public void setCount10(int count10) {
+        this.count10 = count10;
+    }
+
+    public Long getAmount1() {
+        return amount1;
+    }
+
+    public void setAmount1(Long amount1) {
+        this.amount1 = amount1;
+    }
+
+    public Long getAmount2() {
+        return amount2;
+    }
+
+    public void setAmount2(Long amount2) {
+        this.amount2 = amount2;
+    }
+
+    public Long getAmount3() {
+        return amount3;
+    }
+
+    public void setAmount3(Long amount3) {
+        this.amount3 = amount3;
+    }
+
+    public Long getAmount4() {
+        return amount4;
+    }
+
+    public void setAmount4(Long amount4) {
+        this.amount4 = amount4;
+    }
+
+    public Long getAmount5() {
+        return amount5;
+    }
+
+    public void setAmount5(Long amount5) {
+        this.amount5 = amount5;
+    }
+
+    public String getRatio1() {
+        return ratio1;
+    }
+
+    public void setRatio1(String ratio1) {
+        this.ratio1 = ratio1;
+    }
+
+    public String getRatio2() {
+        return ratio2;
+    }
+
+    public void setRatio2(String ratio2) {
+        this.ratio2 = ratio2;
+    }
+
+    public String getRatio3() {
+        return ratio3;
+    }
+
+    public void setRatio3(String ratio3) {
+        this.ratio3 = ratio3;
+    }
+
+    public String getRatio4() {
+        return ratio4;
+    }
+
+    public void setRatio4(String ratio4) {
+        this.ratio4 = ratio4;
+    }
+
+    public String getRatio5() {
+        return ratio5;
+    }
+
+    public void setRatio5(String ratio5) {
+        this.ratio5 = ratio5;
+    }
+}
@@ -0,0 +1,99 @@
+/**
+ *  Copyright 2012-2017 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.benchmark.xmlgregoriancalendar;
+
+import java.time.LocalDate;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.GregorianCalendar;
+
+import javax.xml.datatype.DatatypeConfigurationException;
+import javax.xml.datatype.DatatypeConstants;
+import javax.xml.datatype.DatatypeFactory;
+import javax.xml.datatype.XMLGregorianCalendar;
+
+/**
+ * Hand-written equivalent of {@link ShipmentMapper}, obtaining a new {@link DatatypeFactory} for each conversion as
+ * the built-in methods of MapStruct 1.1 did.
+ */
+public class PerCallDatatypeFactoryShipmentMapper implements ShipmentMapper {
+
+    @Override
+    public ShipmentDto toDto(Shipment shipment) {
+        if ( shipment == null ) {
+            return null;
+        }
+
+        ShipmentDto shipmentDto = new ShipmentDto();
+
+        shipmentDto.setCreated( dateToXmlGregorianCalendar( shipment.getCreated() ) );
+        shipmentDto.setDispatched( calendarToXmlGregorianCalendar( shipment.getDispatched() ) );
+        shipmentDto.setDeliveryDate( localDateToXmlGregorianCalendar( shipment.getDeliveryDate() ) );
+
+        return shipmentDto;
+    }
+
+    private XMLGregorianCalendar dateToXmlGregorianCalendar(Date date) {
+        if ( date == null ) {
+            return null;
+        }
+
+        try {
+            GregorianCalendar c = new GregorianCalendar();
+            c.setTime( date );
+            return DatatypeFactory.newInstance().newXMLGregorianCalendar( c );
+        }
+        catch ( DatatypeConfigurationException ex ) {
+            throw new RuntimeException( ex );
+        }
+    }
+
+    private XMLGregorianCalendar calendarToXmlGregorianCalendar(Calendar cal) {
+        if ( cal == null ) {
+            return null;
+        }
+
+        try {
+            GregorianCalendar gcal = new GregorianCalendar( cal.getTimeZone() );
+            gcal.setTimeInMillis( cal.getTimeInMillis() );
+            return DatatypeFactory.newInstance().newXMLGregorianCalendar( gcal );
+        }
+        catch ( DatatypeConfigurationException ex ) {
+            throw new RuntimeException( ex );
+        }
+    }
+
+    private XMLGregorianCalendar localDateToXmlGregorianCalendar(LocalDate localDate) {
+        if ( localDate == null ) {
+            return null;
+        }
+
+        try {
+            return DatatypeFactory.newInstance().newXMLGregorianCalendarDate(
+                localDate.getYear(),
+                localDate.getMonthValue(),
+                localDate.getDayOfMonth(),
+                DatatypeConstants.FIELD_UNDEFINED
+            );
+        }
+        catch ( DatatypeConfigurationException ex ) {
+            throw new RuntimeException( ex );
+        }
+    }
+}
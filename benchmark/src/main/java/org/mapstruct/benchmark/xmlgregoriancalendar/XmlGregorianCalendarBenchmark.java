@@ -0,0 +1,73 @@
+/**
+ *  Copyright 2012-2017 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.benchmark.xmlgregoriancalendar;
+
+import java.time.LocalDate;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of mapping three date properties into {@code XMLGregorianCalendar}s per call, once with the
+ * generated mapper and once with a mapper looking up the {@code DatatypeFactory} for each property.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class XmlGregorianCalendarBenchmark {
+
+    private final ShipmentMapper generatedMapper = ShipmentMapper.INSTANCE;
+    private final ShipmentMapper perCallFactoryMapper = new PerCallDatatypeFactoryShipmentMapper();
+
+    private Shipment shipment;
+
+    @Setup
+    public void createShipment() {
+        shipment = new Shipment();
+        shipment.setCreated( new Date( 1483228800000L ) );
+        Calendar dispatched = Calendar.getInstance();
+        dispatched.setTimeInMillis( 1483315200000L );
+        shipment.setDispatched( dispatched );
+        shipment.setDeliveryDate( LocalDate.of( 2017, 1, 5 ) );
+    }
+
+    @Benchmark
+    public ShipmentDto sharedDatatypeFactory() {
+        return generatedMapper.toDto( shipment );
+    }
+
+    @Benchmark
+    public ShipmentDto perCallDatatypeFactory() {
+        return perCallFactoryMapper.toDto( shipment );
+    }
+}
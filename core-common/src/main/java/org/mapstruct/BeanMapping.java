@@ -27,7 +27,8 @@
 /**
  * Configures the mapping between two bean types.
  * <p>
- * Either {@link #resultType()}, {@link #qualifiedBy()} or {@link #nullValueMappingStrategy()} must be specified.
+ * Either {@link #resultType()}, {@link #qualifiedBy()}, {@link #nullValueMappingStrategy()} or {@link #cycleStrategy()}
+ * must be specified.
  * </p>
  *
  * @author Sjaak Derksen
@@ -73,4 +74,19 @@
      * @return The strategy to be applied when {@code null} is passed as source value to the methods of this mapping.
      */
     NullValueMappingStrategy nullValueMappingStrategy() default NullValueMappingStrategy.RETURN_NULL;
+
+    /**
+     * The strategy to be applied for source objects referenced several times within the mapped object graph, e.g.
+     * when mapping graphs of ORM entities with shared or cyclic references. The strategy applies to the annotated
+     * method only, so it should be given for the methods mapping all the bean types which may be referenced several
+     * times.
+     * <p>
+     * {@link CycleStrategy#TRACK_IDENTITY} is only applicable to methods with exactly one source parameter, a
+     * non-generic return type and no {@code @}{@link MappingTarget} parameter.
+     *
+     * @return The strategy to be applied for source objects referenced several times.
+     *
+     * @since 1.2
+     */
+    CycleStrategy cycleStrategy() default CycleStrategy.NONE;
 }
@@ -0,0 +1,44 @@
+/**
+ *  Copyright 2012-2017 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct;
+
+/**
+ * Strategy for dealing with object graphs containing shared or cyclic references when mapping beans.
+ *
+ * @since 1.2
+ */
+public enum CycleStrategy {
+
+    /**
+     * Each reference to a source object is mapped into a new target object. Object graphs with cyclic references
+     * can't be mapped with this strategy.
+     */
+    NONE,
+
+    /**
+     * Source objects are tracked by identity during each invocation of a mapping method called from outside the
+     * mapper. A source object referenced several times within the mapped object graph will be mapped once and all
+     * references will point to the same target object. The target object is registered right after its
+     * instantiation, so cyclic references can be mapped, too.
+     * <p>
+     * If the target type is constructed via a builder, the target object can only be registered after it has been
+     * built, i.e. shared references will be mapped once, but cyclic references can't be mapped.
+     */
+    TRACK_IDENTITY;
+}
@@ -0,0 +1,78 @@
+/**
+ *  Copyright 2012-2017 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a {@code static final} formatter field of a class referenced via {@link Mapper#uses()} or
+ * {@link MapperConfig#uses()} as the formatter to be used by generated conversions with the given date format.
+ * <p>
+ * Generated mappers declare a constant for each distinct date format used in conversions between {@code String} and
+ * Java 8 or Joda-Time date types. By declaring such constants once in a holder class and referencing that class from a
+ * shared {@link MapperConfig}, several mappers use the same formatter instance instead.
+ * <p>
+ * The annotated field must be {@code public static final} and be of type {@code java.time.format.DateTimeFormatter}
+ * or {@code org.joda.time.format.DateTimeFormatter}. It must have been created for the pattern given via
+ * {@link #value()}, e.g. using {@code DateTimeFormatter.ofPattern( "dd.MM.yyyy" )}.
+ * <p>
+ * Example:
+ *
+ * <pre>
+ * <code>
+ * public final class SharedFormatters {
+ *
+ *     &#64;DateFormatConstant("dd.MM.yyyy")
+ *     public static final DateTimeFormatter DAY = DateTimeFormatter.ofPattern( "dd.MM.yyyy" );
+ * }
+ *
+ * &#64;MapperConfig( uses = SharedFormatters.class )
+ * public interface CentralConfig {
+ * }
+ *
+ * &#64;Mapper( config = CentralConfig.class )
+ * public interface OrderMapper {
+ *
+ *     &#64;Mapping( target = "orderDate", dateFormat = "dd.MM.yyyy" )
+ *     OrderDto orderToOrderDto(Order order);
+ * }
+ *
+ * // generates:
+ *
+ * orderDto.setOrderDate( SharedFormatters.DAY.format( order.getOrderDate() ) );
+ * </code>
+ * </pre>
+ *
+ * @since 1.2
+ * @see Mapping#dateFormat()
+ */
+@Target(ElementType.FIELD)
+@Retention(RetentionPolicy.CLASS)
+public @interface DateFormatConstant {
+
+    /**
+     * The date format the annotated formatter has been created for, as given via {@link Mapping#dateFormat()}.
+     *
+     * @return the date format of the annotated formatter
+     */
+    String value();
+}
@@ -31,8 +31,8 @@
  * Configures the mapping between two iterable like types, e.g. {@code List<String>} and {@code List<Date>}.
  *
  *
- * <p>Note: either  @IterableMapping#dateFormat, @IterableMapping#resultType or @IterableMapping#qualifiedBy
- * must be specified</p>
+ * <p>Note: either  @IterableMapping#dateFormat, @IterableMapping#resultType, @IterableMapping#qualifiedBy,
+ * {@code @IterableMapping#iterationStrategy} or @IterableMapping#parallelThreshold must be specified</p>
  *
  * Supported mappings are:
  * <ul>
@@ -109,4 +109,33 @@
      * @return The strategy to be applied when {@code null} is passed as source value to the methods of this mapping.
      */
     NullValueMappingStrategy nullValueMappingStrategy() default NullValueMappingStrategy.RETURN_NULL;
+
+    /**
+     * The strategy for iterating over the source of this iterable mapping. Use {@link IterationStrategy#INDEXED} for
+     * iterating over {@link java.util.RandomAccess} lists without allocating an {@link java.util.Iterator}.
+     *
+     * @return The strategy for iterating over the source of this mapping.
+     * @since 1.2
+     */
+    IterationStrategy iterationStrategy() default IterationStrategy.ITERATOR;
+
+    /**
+     * The minimum number of source elements for which the elements are to be mapped in parallel, using a parallel
+     * {@code java.util.stream.Stream}. Sources with fewer elements are mapped sequentially as usual. A negative value
+     * (the default) disables the parallel mapping.
+     * <p>
+     * Only applicable to methods with a source parameter of type {@link java.util.Collection} (or a sub-type thereof),
+     * mapping into a collection, and only if the Java 8 stream API is available. Methods returning a
+     * {@code java.util.stream.Stream} always return a sequential stream, as the elements are mapped by the caller
+     * consuming it. The element mappings must not throw checked exceptions. The order of the elements is retained.
+     * <p>
+     * Note that when mapping in parallel, the element mappings (including any callback methods invoked by them) are
+     * executed concurrently on the threads of the common fork-join pool, sharing any {@link Context} parameters of the
+     * mapping method, which thus must be thread-safe. The callback methods of the iterable mapping method itself are
+     * invoked on the calling thread before and after all the elements have been mapped, as usual.
+     *
+     * @return The minimum number of source elements for mapping them in parallel
+     * @since 1.2
+     */
+    int parallelThreshold() default -1;
 }
@@ -0,0 +1,57 @@
+/**
+ *  Copyright 2012-2017 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct;
+
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Strategy for iterating over the source of an iterable mapping method.
+ *
+ * @since 1.2
+ * @see IterableMapping#iterationStrategy()
+ */
+public enum IterationStrategy {
+
+    /**
+     * The source is iterated using an enhanced for loop, i.e. by means of an {@link java.util.Iterator} in case of an
+     * {@link Iterable} source.
+     */
+    ITERATOR,
+
+    /**
+     * If the source is a {@link List} implementing {@link RandomAccess} (e.g. {@link java.util.ArrayList}), its
+     * elements are retrieved by index, avoiding the allocation of an {@link java.util.Iterator}. Other lists are
+     * iterated as per {@link #ITERATOR}.
+     * <p>
+     * Together with a caller-supplied target array or collection passed via {@link MappingTarget}, this allows for
+     * mapping methods that don't allocate any objects themselves, e.g.:
+     *
+     * <pre>
+     * <code>
+     * &#64;IterableMapping(iterationStrategy = IterationStrategy.INDEXED)
+     * void mapInto(List&lt;Row&gt; rows, &#64;MappingTarget RowDto[] target);
+     * </code>
+     * </pre>
+     *
+     * This strategy only applies to methods with a source parameter of type {@link List} (or a sub-type thereof);
+     * arrays are always iterated by index.
+     */
+    INDEXED;
+}
@@ -165,6 +165,32 @@ MappingInheritanceStrategy mappingInheritanceStrategy()
      */
     boolean disableSubMappingMethodsGeneration() default false;
 
+    /**
+     * Determines the result of converting a {@code String} into an enum type if the {@code String} doesn't match the
+     * name of any constant of the enum. The conversion is implemented by means of a {@code switch} statement, so no
+     * exception is involved unless {@link UnknownEnumStringStrategy#THROW_EXCEPTION} is given.
+     * <p>
+     * Can be overridden by {@link Mapper#unknownEnumStringStrategy()}
+     *
+     * @return strategy for dealing with unknown enum constant names
+     *
+     * @since 1.2
+     */
+    UnknownEnumStringStrategy unknownEnumStringStrategy() default UnknownEnumStringStrategy.THROW_EXCEPTION;
+
+    /**
+     * The name of the enum constant to be returned when converting a {@code String} not matching any constant of the
+     * target enum type, if {@link UnknownEnumStringStrategy#RETURN_DEFAULT_CONSTANT} is given as
+     * {@link #unknownEnumStringStrategy()}, e.g. {@code "UNKNOWN"}.
+     * <p>
+     * Can be overridden by {@link Mapper#defaultEnumConstant()}
+     *
+     * @return the name of the enum constant to be returned for unknown enum constant names
+     *
+     * @since 1.2
+     */
+    String defaultEnumConstant() default "";
+
     /**
      * Determines which builder providers should be used for this mapping.  A value of {@link BuilderProvider#DEFAULT}
      * will load the Service Provider Interface, which can be used to provide a custom implementation.
@@ -0,0 +1,48 @@
+/**
+ *  Copyright 2012-2017 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct;
+
+/**
+ * Strategy for dealing with {@code String} values which don't match the name of any constant of the target enum type
+ * when converting a {@code String} into an enum.
+ * <p>
+ * <b>Note:</b> Except for {@link #THROW_EXCEPTION}, the strategies require Java 7 or later; the conversion is
+ * implemented via {@link Enum#valueOf(Class, String)} on earlier Java versions.
+ *
+ * @since 1.2
+ */
+public enum UnknownEnumStringStrategy {
+
+    /**
+     * An {@link IllegalArgumentException} will be thrown, just as by {@link Enum#valueOf(Class, String)}.
+     */
+    THROW_EXCEPTION,
+
+    /**
+     * {@code null} will be returned.
+     */
+    RETURN_NULL,
+
+    /**
+     * The constant named by {@link Mapper#defaultEnumConstant()} will be returned. An
+     * {@link IllegalArgumentException} will be thrown for target enum types which don't declare a constant with that
+     * name.
+     */
+    RETURN_DEFAULT_CONSTANT;
+}
@@ -0,0 +1,40 @@
+/**
+ *  Copyright 2012-2017 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.factory;
+
+/**
+ * An index of mapper implementations, used by {@link Mappers} to instantiate mappers without reflection.
+ * <p>
+ * Implementations of this interface are generated by the annotation processor if the processor option
+ * {@code mapstruct.mapperIndex} is given. They are registered in {@code META-INF/services}, so {@link Mappers} will
+ * find them via the {@link java.util.ServiceLoader} mechanism, once per class loader.
+ */
+public interface MapperIndex {
+
+    /**
+     * Returns a new instance of the implementation of the given mapper type.
+     *
+     * @param mapperType The type of the mapper to return.
+     * @param <T> The type of the mapper to create.
+     *
+     * @return A new instance of the given mapper type or {@code null} if the given mapper type is not contained in
+     * this index.
+     */
+    <T> T getMapper(Class<T> mapperType);
+}
@@ -18,9 +18,13 @@
  */
 package org.mapstruct.factory;
 
+import java.lang.ref.Reference;
+import java.lang.ref.SoftReference;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.ServiceLoader;
+import java.util.WeakHashMap;
 
 import org.mapstruct.Mapper;
 
@@ -44,6 +48,13 @@
  *     // mapping methods...
  * }
  * </pre>
+ * <p>
+ * Mapper instances are cached per mapper type and context class loader, i.e. repeated invocations for the same type
+ * from the same context class loader return the same instance. Mapper implementations obtained from this factory thus
+ * must be safe for use by several callers.
+ * <p>
+ * If the annotation processor generated a {@link MapperIndex} (see the processor option {@code mapstruct.mapperIndex}),
+ * mapper implementations contained in it are instantiated via the index rather than via reflection.
  *
  * @author Gunnar Morling
  */
@@ -51,11 +62,26 @@ public class Mappers {
 
     private static final String IMPLEMENTATION_SUFFIX = "Impl";
 
+    /**
+     * The mapper instances retrieved so far, per mapper type and context class loader the implementation was looked
+     * up with. The mapper types and class loaders are weakly referenced only.
+     */
+    private static final Map<Class<?>, Map<ClassLoader, Object>> MAPPERS =
+        new WeakHashMap<Class<?>, Map<ClassLoader, Object>>();
+
+    /**
+     * The mapper indexes registered per class loader. The indexes are softly referenced only, as they strongly
+     * reference their class loader.
+     */
+    private static final Map<ClassLoader, Reference<List<MapperIndex>>> INDEXES =
+        new WeakHashMap<ClassLoader, Reference<List<MapperIndex>>>();
+
     private Mappers() {
     }
 
     /**
-     * Returns an instance of the given mapper type.
+     * Returns an instance of the given mapper type. The implementation is only looked up if there is no cached
+     * instance of the given mapper type for the current context class loader yet.
      *
      * @param clazz The type of the mapper to return.
      * @param <T> The type of the mapper to create.
@@ -63,12 +89,46 @@ private Mappers() {
      * @return An instance of the given mapper type.
      */
     public static <T> T getMapper(Class<T> clazz) {
+        ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+
+        T mapper = getCachedMapper( clazz, contextClassLoader );
+        if ( mapper != null ) {
+            return mapper;
+        }
+
+        // the lock is not held while instantiating, as the mapper may retrieve the mappers it uses from this factory
+        mapper = createMapper( clazz, contextClassLoader );
+
+        synchronized ( MAPPERS ) {
+            Map<ClassLoader, Object> mappers = MAPPERS.get( clazz );
+            if ( mappers == null ) {
+                mappers = new WeakHashMap<ClassLoader, Object>();
+                MAPPERS.put( clazz, mappers );
+            }
+
+            Object cached = mappers.get( contextClassLoader );
+            if ( cached != null ) {
+                return clazz.cast( cached );
+            }
+            mappers.put( contextClassLoader, mapper );
+            return mapper;
+        }
+    }
+
+    private static <T> T getCachedMapper(Class<T> clazz, ClassLoader contextClassLoader) {
+        synchronized ( MAPPERS ) {
+            Map<ClassLoader, Object> mappers = MAPPERS.get( clazz );
+            return mappers != null ? clazz.cast( mappers.get( contextClassLoader ) ) : null;
+        }
+    }
+
+    private static <T> T createMapper(Class<T> clazz, ClassLoader contextClassLoader) {
         try {
             List<ClassLoader> classLoaders = new ArrayList<ClassLoader>( 3 );
             classLoaders.add( clazz.getClassLoader() );
 
-            if ( Thread.currentThread().getContextClassLoader() != null ) {
-                classLoaders.add( Thread.currentThread().getContextClassLoader() );
+            if ( contextClassLoader != null ) {
+                classLoaders.add( contextClassLoader );
             }
 
             classLoaders.add( Mappers.class.getClassLoader() );
@@ -83,6 +143,15 @@ public static <T> T getMapper(Class<T> clazz) {
     private static <T> T getMapper(
             Class<T> mapperType, Iterable<ClassLoader> classLoaders) throws ClassNotFoundException {
 
+        for ( ClassLoader classLoader : classLoaders ) {
+            for ( MapperIndex index : getIndexes( classLoader ) ) {
+                T mapper = index.getMapper( mapperType );
+                if ( mapper != null ) {
+                    return mapper;
+                }
+            }
+        }
+
         for ( ClassLoader classLoader : classLoaders ) {
             T mapper = doGetMapper( mapperType, classLoader );
             if ( mapper != null ) {
@@ -93,6 +162,23 @@ private static <T> T getMapper(
         throw new ClassNotFoundException("Cannot find implementation for " + mapperType.getName() );
     }
 
+    private static List<MapperIndex> getIndexes(ClassLoader classLoader) {
+        synchronized ( INDEXES ) {
+            Reference<List<MapperIndex>> reference = INDEXES.get( classLoader );
+            List<MapperIndex> indexes = reference != null ? reference.get() : null;
+
+            if ( indexes == null ) {
+                indexes = new ArrayList<MapperIndex>();
+                for ( MapperIndex index : ServiceLoader.load( MapperIndex.class, classLoader ) ) {
+                    indexes.add( index );
+                }
+                INDEXES.put( classLoader, new SoftReference<List<MapperIndex>>( indexes ) );
+            }
+
+            return indexes;
+        }
+    }
+
     private static <T> T doGetMapper(Class<T> clazz, ClassLoader classLoader) {
         try {
             @SuppressWarnings("unchecked")
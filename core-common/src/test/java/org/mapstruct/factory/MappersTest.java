@@ -20,6 +20,9 @@
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.net.URL;
+import java.net.URLClassLoader;
+
 import org.junit.Test;
 import org.mapstruct.test.model.Foo;
 import org.mapstruct.test.model.SomeClass;
@@ -47,4 +50,37 @@ public void findsNestedMapperImpl() throws Exception {
         assertThat( Mappers.getMapper( SomeClass.Foo.class ) ).isNotNull();
         assertThat( Mappers.getMapper( SomeClass.NestedClass.Foo.class ) ).isNotNull();
     }
+
+    @Test
+    public void shouldReturnCachedInstance() {
+        Foo mapper = Mappers.getMapper( Foo.class );
+
+        assertThat( Mappers.getMapper( Foo.class ) ).isSameAs( mapper );
+    }
+
+    @Test
+    public void shouldReturnCachedInstancePerContextClassLoader() {
+        Foo mapper = Mappers.getMapper( Foo.class );
+
+        Thread thread = Thread.currentThread();
+        ClassLoader original = thread.getContextClassLoader();
+        thread.setContextClassLoader( new URLClassLoader( new URL[0], original ) );
+
+        try {
+            Foo otherMapper = Mappers.getMapper( Foo.class );
+
+            assertThat( otherMapper ).isNotSameAs( mapper );
+            assertThat( Mappers.getMapper( Foo.class ) ).isSameAs( otherMapper );
+        }
+        finally {
+            thread.setContextClassLoader( original );
+        }
+
+        assertThat( Mappers.getMapper( Foo.class ) ).isSameAs( mapper );
+    }
+
+    @Test
+    public void shouldReturnInstanceFromMapperIndex() {
+        assertThat( Mappers.getMapper( Bar.class ) ).isInstanceOf( TestMapperIndex.BarImpl.class );
+    }
 }
@@ -18,6 +18,8 @@
  */
 package org.mapstruct.ap;
 
+import java.io.File;
+import java.io.IOException;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.util.ArrayList;
@@ -41,18 +43,26 @@
 import javax.lang.model.element.TypeElement;
 import javax.lang.model.util.ElementKindVisitor6;
 import javax.tools.Diagnostic.Kind;
+import javax.tools.StandardLocation;
 
 import org.mapstruct.ap.internal.model.Mapper;
+import org.mapstruct.ap.internal.model.MapperIndex;
+import org.mapstruct.ap.internal.model.ServicesEntry;
+import org.mapstruct.ap.internal.model.SharedSubMappingMethods;
+import org.mapstruct.ap.internal.model.SubMappingSupport;
 import org.mapstruct.ap.internal.option.Options;
 import org.mapstruct.ap.internal.prism.BuilderStrategyPrism;
 import org.mapstruct.ap.internal.prism.MapperPrism;
 import org.mapstruct.ap.internal.prism.ReportingPolicyPrism;
 import org.mapstruct.ap.internal.processor.DefaultModelElementProcessorContext;
+import org.mapstruct.ap.internal.processor.DefaultVersionInformation;
 import org.mapstruct.ap.internal.processor.ModelElementProcessor;
 import org.mapstruct.ap.internal.processor.ModelElementProcessor.ProcessorContext;
+import org.mapstruct.ap.internal.processor.Profiler;
 import org.mapstruct.ap.internal.util.AnnotationProcessingException;
 import org.mapstruct.ap.internal.util.AnnotationProcessorContext;
 import org.mapstruct.ap.internal.util.RoundContext;
+import org.mapstruct.ap.internal.writer.ModelWriter;
 import org.mapstruct.ap.shared.TypeHierarchyErroneousException;
 
 /**
@@ -92,7 +102,12 @@
     MappingProcessor.SUPPRESS_GENERATOR_TIMESTAMP,
     MappingProcessor.SUPPRESS_GENERATOR_VERSION_INFO_COMMENT,
     MappingProcessor.UNMAPPED_TARGET_POLICY,
-    MappingProcessor.DEFAULT_COMPONENT_MODEL
+    MappingProcessor.DEFAULT_COMPONENT_MODEL,
+    MappingProcessor.MAPPER_INDEX,
+    MappingProcessor.PROFILE,
+    MappingProcessor.MAX_MAPPING_METHOD_SIZE,
+    MappingProcessor.SHARED_SUB_MAPPING_METHODS,
+    MappingProcessor.USE_ENUM_SET_AND_ENUM_MAP
 })
 public class MappingProcessor extends AbstractProcessor {
 
@@ -108,11 +123,42 @@ public class MappingProcessor extends AbstractProcessor {
     protected static final String DEFAULT_COMPONENT_MODEL = "mapstruct.defaultComponentModel";
     protected static final String ALWAYS_GENERATE_SERVICE_FILE = "mapstruct.alwaysGenerateServicesFile";
     protected static final String BUILDER_STRATEGIES = "mapstruct.builderStrategies";
+    protected static final String MAPPER_INDEX = "mapstruct.mapperIndex";
+    protected static final String PROFILE = "mapstruct.profile";
+    protected static final String MAX_MAPPING_METHOD_SIZE = "mapstruct.maxMappingMethodSize";
+    protected static final String SHARED_SUB_MAPPING_METHODS = "mapstruct.sharedSubMappingMethods";
+    protected static final String USE_ENUM_SET_AND_ENUM_MAP = "mapstruct.useEnumSetAndEnumMap";
+
+    /**
+     * Options by which the processor tells Gradle whether it processes mappers incrementally one by one or, if the
+     * mapper index is generated or sub-mapping methods are shared, aggregates all mappers. See
+     * {@code META-INF/gradle/incremental.annotation.processors}.
+     */
+    private static final String GRADLE_ISOLATING = "org.gradle.annotation.processing.isolating";
+    private static final String GRADLE_AGGREGATING = "org.gradle.annotation.processing.aggregating";
 
     private Options options;
 
     private AnnotationProcessorContext annotationProcessorContext;
 
+    /**
+     * Collects the mappers to be instantiated via the generated mapper index, if enabled via {@link #MAPPER_INDEX};
+     * {@code null} otherwise.
+     */
+    private MapperIndex mapperIndex;
+
+    /**
+     * Collects the sub-mapping methods shared by the mappers of each package, if enabled via
+     * {@link #SHARED_SUB_MAPPING_METHODS}; {@code null} otherwise.
+     */
+    private SharedSubMappingMethods sharedSubMappingMethods;
+
+    /**
+     * Records the time and memory spent in the processing phases, if enabled via {@link #PROFILE}; {@code null}
+     * otherwise.
+     */
+    private Profiler profiler;
+
     /**
      * Any mappers for which an implementation cannot be generated in the current round because they have source/target
      * types with incomplete hierarchies (as super-types are to be generated by other processors). They will be
@@ -130,12 +176,30 @@ public synchronized void init(ProcessingEnvironment processingEnv) {
 
         options = createOptions();
         annotationProcessorContext = new AnnotationProcessorContext();
+
+        if ( options.getProfile() != null ) {
+            profiler = new Profiler( new File( options.getProfile() ) );
+        }
+
+        if ( options.getMapperIndex() != null ) {
+            mapperIndex = new MapperIndex(
+                options.getMapperIndex(),
+                processingEnv.getElementUtils().getTypeElement( "javax.annotation.Generated" ) != null
+            );
+        }
+
+        if ( options.isSharedSubMappingMethods() ) {
+            sharedSubMappingMethods = new SharedSubMappingMethods(
+                options,
+                DefaultVersionInformation.fromProcessingEnvironment( processingEnv )
+            );
+        }
     }
 
     private Options createOptions() {
         String unmappedTargetPolicy = processingEnv.getOptions().get( UNMAPPED_TARGET_POLICY );
 
-        return new Options(
+        Options options = new Options(
             Boolean.valueOf( processingEnv.getOptions().get( SUPPRESS_GENERATOR_TIMESTAMP ) ),
             Boolean.valueOf( processingEnv.getOptions().get( SUPPRESS_GENERATOR_VERSION_INFO_COMMENT ) ),
             unmappedTargetPolicy != null ? ReportingPolicyPrism.valueOf( unmappedTargetPolicy.toUpperCase() ) : null,
@@ -143,6 +207,53 @@ private Options createOptions() {
             Boolean.valueOf( processingEnv.getOptions().get( ALWAYS_GENERATE_SERVICE_FILE ) ),
             getBuilderStrategies(processingEnv.getOptions().get( BUILDER_STRATEGIES ) )
         );
+        options.setMapperIndex( getMapperIndex( processingEnv.getOptions().get( MAPPER_INDEX ) ) );
+        options.setProfile( getProfile( processingEnv.getOptions().get( PROFILE ) ) );
+        options.setMaxMappingMethodSize(
+            getMaxMappingMethodSize( processingEnv.getOptions().get( MAX_MAPPING_METHOD_SIZE ) )
+        );
+        options.setSharedSubMappingMethods(
+            Boolean.valueOf( processingEnv.getOptions().get( SHARED_SUB_MAPPING_METHODS ) )
+        );
+        options.setUseEnumSetAndEnumMap(
+            Boolean.valueOf( processingEnv.getOptions().get( USE_ENUM_SET_AND_ENUM_MAP ) )
+        );
+
+        return options;
+    }
+
+    private int getMaxMappingMethodSize(String maxMappingMethodSize) {
+        if ( maxMappingMethodSize == null ) {
+            return Options.DEFAULT_MAX_MAPPING_METHOD_SIZE;
+        }
+
+        try {
+            return Math.max( 0, Integer.parseInt( maxMappingMethodSize.trim() ) );
+        }
+        catch ( NumberFormatException e ) {
+            processingEnv.getMessager().printMessage(
+                Kind.WARNING,
+                "Invalid value \"" + maxMappingMethodSize + "\" for option " + MAX_MAPPING_METHOD_SIZE + ", using "
+                    + Options.DEFAULT_MAX_MAPPING_METHOD_SIZE + " instead."
+            );
+            return Options.DEFAULT_MAX_MAPPING_METHOD_SIZE;
+        }
+    }
+
+    private String getMapperIndex(String mapperIndex) {
+        return getNonEmptyOption( mapperIndex );
+    }
+
+    private String getProfile(String profile) {
+        return getNonEmptyOption( profile );
+    }
+
+    private String getNonEmptyOption(String option) {
+        if ( option == null || option.trim().isEmpty() ) {
+            return null;
+        }
+
+        return option.trim();
     }
 
     private List<BuilderStrategyPrism> getBuilderStrategies(String commaSeparatedOptions) {
@@ -159,6 +270,17 @@ private List<BuilderStrategyPrism> getBuilderStrategies(String commaSeparatedOpt
         return builderStrategies;
     }
 
+    @Override
+    public Set<String> getSupportedOptions() {
+        Set<String> supportedOptions = new HashSet<String>( super.getSupportedOptions() );
+        boolean aggregating = options != null &&
+            ( options.getMapperIndex() != null || options.isSharedSubMappingMethods() );
+        supportedOptions.add( aggregating ?
+            GRADLE_AGGREGATING :
+            GRADLE_ISOLATING );
+        return supportedOptions;
+    }
+
     @Override
     public SourceVersion getSupportedSourceVersion() {
         return SourceVersion.latestSupported();
@@ -170,13 +292,33 @@ public boolean process(final Set<? extends TypeElement> annotations, final Round
         if ( !roundEnvironment.processingOver() ) {
             RoundContext roundContext = new RoundContext( annotationProcessorContext );
 
-            // process any mappers left over from previous rounds
             Set<TypeElement> deferredMappers = getAndResetDeferredMappers();
+            Set<TypeElement> mappers = getMappers( annotations, roundEnvironment );
+
+            // the names of the classes declaring shared sub-mapping methods are derived from the mappers of the round
+            if ( sharedSubMappingMethods != null ) {
+                Set<TypeElement> roundMappers = new HashSet<TypeElement>( deferredMappers );
+                roundMappers.addAll( mappers );
+                sharedSubMappingMethods.startRound( roundMappers );
+            }
+
+            // process any mappers left over from previous rounds
             processMapperElements( deferredMappers, roundContext );
 
-            // get and process any mappers from this round
-            Set<TypeElement> mappers = getMappers( annotations, roundEnvironment );
+            // process any mappers from this round
             processMapperElements( mappers, roundContext );
+
+            writeSharedSubMappingMethods();
+
+            // the index is written in the first round without any mappers, as source files created in the last round
+            // would not be subject to annotation processing
+            if ( deferredMappers.isEmpty() && mappers.isEmpty() && this.deferredMappers.isEmpty() ) {
+                writeMapperIndex();
+            }
+        }
+        else {
+            reportMappersMissingInIndex();
+            writeProfile();
         }
 
         return ANNOTATIONS_CLAIMED_EXCLUSIVELY;
@@ -237,7 +379,12 @@ private void processMapperElements(Set<TypeElement> mapperElements, RoundContext
                 // necessarily be the case, e.g. in case of several mapper interfaces declared as inner types
                 // of one outer interface
                 ProcessorContext context = new DefaultModelElementProcessorContext(
-                        processingEnv, options, roundContext
+                        processingEnv,
+                        options,
+                        roundContext,
+                        mapperIndex,
+                        sharedSubMappingMethods,
+                        profiler
                 );
 
                 processMapperTypeElement( context, mapperElement );
@@ -252,6 +399,110 @@ private void processMapperElements(Set<TypeElement> mapperElements, RoundContext
         }
     }
 
+    /**
+     * Writes the classes declaring the sub-mapping methods shared by the mappers processed in this round. Each class
+     * can be written only once, so mappers of later rounds whose class has the same name can only share the methods
+     * contained in it.
+     */
+    private void writeSharedSubMappingMethods() {
+        if ( sharedSubMappingMethods == null ) {
+            return;
+        }
+
+        ModelWriter modelWriter = new ModelWriter();
+        for ( SubMappingSupport support : sharedSubMappingMethods.getUnwrittenSupports() ) {
+            support.markWritten();
+
+            try {
+                modelWriter.writeModel(
+                    processingEnv.getFiler().createSourceFile(
+                        support.getQualifiedName(),
+                        support.getMapperElements()
+                    ),
+                    support
+                );
+            }
+            catch ( IOException e ) {
+                throw new RuntimeException( e );
+            }
+        }
+    }
+
+    /**
+     * Writes the mapper index and its services file once all mappers have been processed. The index can be written only
+     * once, so mappers processed in later rounds are not contained in it.
+     */
+    private void writeMapperIndex() {
+        if ( mapperIndex == null || mapperIndex.isEmpty() || mapperIndex.isWritten() ) {
+            return;
+        }
+
+        mapperIndex.markWritten();
+
+        ModelWriter modelWriter = new ModelWriter();
+        try {
+            modelWriter.writeModel(
+                processingEnv.getFiler().createSourceFile(
+                    mapperIndex.getQualifiedName(),
+                    mapperIndex.getMapperElements()
+                ),
+                mapperIndex
+            );
+            modelWriter.writeModel(
+                processingEnv.getFiler().createResource(
+                    StandardLocation.CLASS_OUTPUT,
+                    "",
+                    MapperIndex.SERVICES_FILE,
+                    mapperIndex.getMapperElements()
+                ),
+                new ServicesEntry(
+                    null,
+                    null,
+                    mapperIndex.getPackageName(),
+                    mapperIndex.getName()
+                )
+            );
+        }
+        catch ( IOException e ) {
+            throw new RuntimeException( e );
+        }
+    }
+
+    private void writeProfile() {
+        if ( profiler == null ) {
+            return;
+        }
+
+        try {
+            profiler.write();
+            processingEnv.getMessager().printMessage(
+                Kind.NOTE,
+                "MapStruct processing profile written to " + profiler.getFile().getAbsolutePath() + "."
+            );
+        }
+        catch ( IOException e ) {
+            processingEnv.getMessager().printMessage(
+                Kind.WARNING,
+                "Could not write MapStruct processing profile to " + profiler.getFile().getAbsolutePath() + ": "
+                    + e.getMessage()
+            );
+        }
+    }
+
+    private void reportMappersMissingInIndex() {
+        if ( mapperIndex == null ) {
+            return;
+        }
+
+        for ( MapperIndex.Entry entry : mapperIndex.getUnwrittenEntries() ) {
+            processingEnv.getMessager().printMessage(
+                Kind.WARNING,
+                "Mapper " + entry.getMapperName() + " has been processed after the mapper index "
+                    + mapperIndex.getQualifiedName() + " was written and thus is not contained in it."
+            );
+        }
+    }
+
     private void handleUncaughtError(Element element, Throwable thrown) {
         StringWriter sw = new StringWriter();
         thrown.printStackTrace( new PrintWriter( sw ) );
@@ -274,7 +525,9 @@ private void processMapperTypeElement(ProcessorContext context, TypeElement mapp
 
         for ( ModelElementProcessor<?, ?> processor : getProcessors() ) {
             try {
-                model = process( context, processor, mapperTypeElement, model );
+                model = profiler != null ?
+                    processProfiled( context, processor, mapperTypeElement, model ) :
+                    process( context, processor, mapperTypeElement, model );
             }
             catch ( AnnotationProcessingException e ) {
                 processingEnv.getMessager()
@@ -290,6 +543,22 @@ private void processMapperTypeElement(ProcessorContext context, TypeElement mapp
         }
     }
 
+    private Object processProfiled(ProcessorContext context, ModelElementProcessor<?, ?> processor,
+                                   TypeElement mapperTypeElement, Object modelElement) {
+        Profiler.Measurement measurement = profiler.start();
+        try {
+            return process( context, processor, mapperTypeElement, modelElement );
+        }
+        finally {
+            profiler.record(
+                mapperTypeElement.getQualifiedName().toString(),
+                processor.getClass().getSimpleName(),
+                null,
+                measurement
+            );
+        }
+    }
+
     private <P, R> R process(ProcessorContext context, ModelElementProcessor<P, R> processor,
                              TypeElement mapperTypeElement, Object modelElement) {
         @SuppressWarnings("unchecked")
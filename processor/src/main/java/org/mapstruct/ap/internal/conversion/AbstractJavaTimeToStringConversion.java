@@ -32,7 +32,8 @@
  * </p>
  * <p>
  * In general each type comes with a "parse" method to convert a string to this particular type.
- * For formatting a dedicated instance of {@link java.time.format.DateTimeFormatter} is used.
+ * For formatting a dedicated instance of {@link java.time.format.DateTimeFormatter} is used, which is declared as
+ * constant of the generated mapper (see {@link DateTimeFormatterConstants}).
  * </p>
  * <p>
  * If no date format for mapping is specified predefined ISO* formatters from
@@ -52,7 +53,7 @@ protected String getToExpression(ConversionContext conversionContext) {
 
     private String dateTimeFormatter(ConversionContext conversionContext) {
         if ( !Strings.isEmpty( conversionContext.getDateFormat() ) ) {
-            return "DateTimeFormatter.ofPattern( \"" + conversionContext.getDateFormat() + "\" )";
+            return DateTimeFormatterConstants.javaTimeFormatter( conversionContext );
         }
         else {
             return "DateTimeFormatter." + defaultFormatterSuffix();
@@ -74,9 +75,8 @@ private String parametersListForParsing(ConversionContext conversionContext) {
         // See http://docs.oracle.com/javase/tutorial/datetime/iso/format.html for how to format Dates
         StringBuilder parameterBuilder = new StringBuilder( "<SOURCE>" );
         if ( !Strings.isEmpty( conversionContext.getDateFormat() ) ) {
-            parameterBuilder.append( ", DateTimeFormatter.ofPattern( \"" )
-                            .append( conversionContext.getDateFormat() )
-                            .append( "\" )" );
+            parameterBuilder.append( ", " )
+                            .append( DateTimeFormatterConstants.javaTimeFormatter( conversionContext ) );
         }
         return parameterBuilder.toString();
     }
@@ -78,30 +78,18 @@ protected Set<Type> getFromConversionImportTypes(ConversionContext conversionCon
     }
 
     private String conversionString(ConversionContext conversionContext, String method) {
-        StringBuilder conversionString = new StringBuilder( "DateTimeFormat" );
-        conversionString.append( dateFormatPattern( conversionContext ) );
-        conversionString.append( "." );
-        conversionString.append( method );
-        conversionString.append( "( <SOURCE> )" );
-        return conversionString.toString();
-    }
-
-    private String dateFormatPattern(ConversionContext conversionContext) {
         StringBuilder conversionString = new StringBuilder();
-        conversionString.append( ".forPattern(" );
-
-        String dateFormat = conversionContext.getDateFormat();
-        if ( dateFormat == null ) {
+        if ( conversionContext.getDateFormat() == null ) {
+            conversionString.append( "DateTimeFormat.forPattern(" );
             conversionString.append( defaultDateFormatPattern() );
-
+            conversionString.append( " )" );
         }
         else {
-            conversionString.append( " \"" );
-            conversionString.append( dateFormat );
-            conversionString.append( "\"" );
-
+            conversionString.append( DateTimeFormatterConstants.jodaTimeFormatter( conversionContext ) );
         }
-        conversionString.append( " )" );
+        conversionString.append( "." );
+        conversionString.append( method );
+        conversionString.append( "( <SOURCE> )" );
         return conversionString.toString();
     }
 
@@ -21,11 +21,8 @@
 import static org.mapstruct.ap.internal.util.Collections.asSet;
 
 import java.math.BigDecimal;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Set;
 
-import org.mapstruct.ap.internal.model.HelperMethod;
 import org.mapstruct.ap.internal.model.common.ConversionContext;
 import org.mapstruct.ap.internal.model.common.Type;
 
@@ -72,24 +69,8 @@ protected Set<Type> getFromConversionImportTypes(ConversionContext conversionCon
         return asSet( conversionContext.getTypeFactory().getType( BigDecimal.class ) );
     }
 
-    @Override
-    public List<HelperMethod> getRequiredHelperMethods(ConversionContext conversionContext) {
-        List<HelperMethod> helpers = new ArrayList<HelperMethod>();
-        if ( conversionContext.getNumberFormat() != null ) {
-            helpers.add( new CreateDecimalFormat( conversionContext.getTypeFactory() ) );
-        }
-        return helpers;
-    }
-
     private void appendDecimalFormatter(StringBuilder sb, ConversionContext conversionContext) {
-        sb.append( "createDecimalFormat( " );
-        if ( conversionContext.getNumberFormat() != null ) {
-            sb.append( "\"" );
-            sb.append( conversionContext.getNumberFormat() );
-            sb.append( "\"" );
-        }
-
-        sb.append( " )" );
+        sb.append( ThreadLocalFormats.decimalFormat( conversionContext, true ) );
     }
 
 }
@@ -0,0 +1,131 @@
+/**
+ *  Copyright 2012-2017 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.ap.internal.conversion;
+
+import static org.mapstruct.ap.internal.util.Collections.asSet;
+
+import org.mapstruct.ap.internal.model.common.ConversionContext;
+import org.mapstruct.ap.internal.model.common.SupportingConstants;
+import org.mapstruct.ap.internal.model.common.Type;
+import org.mapstruct.ap.internal.model.common.TypeFactory;
+import org.mapstruct.ap.internal.util.JavaTimeConstants;
+import org.mapstruct.ap.internal.util.JodaTimeConstants;
+
+/**
+ * Declares {@code static final} constants holding the (immutable and thread-safe) Java 8 and Joda-Time formatters
+ * used by conversions with a given date format, so each pattern is parsed once per mapper rather than upon each
+ * invocation of a conversion.
+ */
+public final class DateTimeFormatterConstants {
+
+    private static final String CONSTANT_NAME = "DATE_TIME_FORMATTER";
+
+    private DateTimeFormatterConstants() {
+    }
+
+    /**
+     * Returns a reference to a {@code java.time.format.DateTimeFormatter} with the date format of the given context.
+     *
+     * @param conversionContext the conversion context
+     *
+     * @return a reference to the formatter, e.g. {@code DATE_TIME_FORMATTER}
+     */
+    static String javaTimeFormatter(ConversionContext conversionContext) {
+        TypeFactory typeFactory = conversionContext.getTypeFactory();
+        Type formatterType = typeFactory.getType( JavaTimeConstants.DATE_TIME_FORMATTER_FQN );
+
+        return conversionContext.getSupportingConstants().getConstant(
+            formatterType,
+            CONSTANT_NAME,
+            javaTimeInitializer( formatterType, conversionContext.getDateFormat() ),
+            asSet( formatterType )
+        );
+    }
+
+    /**
+     * Returns a reference to a {@code org.joda.time.format.DateTimeFormatter} with the date format of the given
+     * context.
+     *
+     * @param conversionContext the conversion context
+     *
+     * @return a reference to the formatter, e.g. {@code DATE_TIME_FORMATTER}
+     */
+    static String jodaTimeFormatter(ConversionContext conversionContext) {
+        TypeFactory typeFactory = conversionContext.getTypeFactory();
+        Type formatterType = typeFactory.getType( JodaTimeConstants.DATE_TIME_FORMATTER_FQN );
+        Type formatType = typeFactory.getType( JodaTimeConstants.DATE_TIME_FORMAT_FQN );
+
+        return conversionContext.getSupportingConstants().getConstant(
+            formatterType,
+            CONSTANT_NAME,
+            jodaTimeInitializer( formatType, conversionContext.getDateFormat() ),
+            asSet( formatterType, formatType )
+        );
+    }
+
+    /**
+     * @param type the type to check
+     *
+     * @return {@code true} if the given type is a formatter type for which constants can be declared, {@code false}
+     * otherwise
+     */
+    public static boolean isFormatterType(Type type) {
+        return JavaTimeConstants.DATE_TIME_FORMATTER_FQN.equals( type.getFullyQualifiedName() )
+            || JodaTimeConstants.DATE_TIME_FORMATTER_FQN.equals( type.getFullyQualifiedName() );
+    }
+
+    /**
+     * Registers a formatter constant declared by another type, which will be used by all conversions with the given
+     * date format instead of declaring an equivalent constant in the generated mapper.
+     *
+     * @param typeFactory the type factory
+     * @param supportingConstants the constants of the generated mapper
+     * @param declaringType the type declaring the formatter
+     * @param variableName the name of the formatter field
+     * @param formatterType the type of the formatter field, must be a {@link #isFormatterType(Type) formatter type}
+     * @param dateFormat the date format the formatter has been created for
+     *
+     * @return {@code false} if another formatter of the same type has been registered for the date format before,
+     * {@code true} otherwise
+     */
+    public static boolean addSharedFormatter(TypeFactory typeFactory, SupportingConstants supportingConstants,
+                                             Type declaringType, String variableName, Type formatterType,
+                                             String dateFormat) {
+        String initializer;
+        if ( JavaTimeConstants.DATE_TIME_FORMATTER_FQN.equals( formatterType.getFullyQualifiedName() ) ) {
+            initializer = javaTimeInitializer( formatterType, dateFormat );
+        }
+        else {
+            initializer = jodaTimeInitializer(
+                typeFactory.getType( JodaTimeConstants.DATE_TIME_FORMAT_FQN ),
+                dateFormat
+            );
+        }
+
+        return supportingConstants.addSharedConstant( declaringType, variableName, initializer );
+    }
+
+    private static String javaTimeInitializer(Type dateTimeFormatterType, String dateFormat) {
+        return dateTimeFormatterType.getReferenceName() + ".ofPattern( \"" + dateFormat + "\" )";
+    }
+
+    private static String jodaTimeInitializer(Type dateTimeFormatType, String dateFormat) {
+        return dateTimeFormatType.getReferenceName() + ".forPattern( \"" + dateFormat + "\" )";
+    }
+}
@@ -62,18 +62,6 @@ public List<HelperMethod> getRequiredHelperMethods(ConversionContext conversionC
     }
 
     private String getConversionExpression(ConversionContext conversionContext, String method) {
-        StringBuilder conversionString = new StringBuilder( "new SimpleDateFormat(" );
-
-        if ( conversionContext.getDateFormat() != null ) {
-            conversionString.append( " \"" );
-            conversionString.append( conversionContext.getDateFormat() );
-            conversionString.append( "\" " );
-        }
-
-        conversionString.append( ")." );
-        conversionString.append( method );
-        conversionString.append( "( <SOURCE> )" );
-
-        return conversionString.toString();
+        return ThreadLocalFormats.simpleDateFormat( conversionContext ) + "." + method + "( <SOURCE> )";
     }
 }
@@ -20,13 +20,22 @@
 
 import static org.mapstruct.ap.internal.util.Collections.asSet;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Set;
 
+import javax.lang.model.SourceVersion;
+
+import org.mapstruct.ap.internal.model.HelperMethod;
 import org.mapstruct.ap.internal.model.common.ConversionContext;
 import org.mapstruct.ap.internal.model.common.Type;
 
 /**
  * Conversion between {@link String} and {@link Enum} types.
+ * <p>
+ * If the sources are compiled with source version 7 or later, {@code String}s are converted into enum constants by
+ * means of a generated helper method switching over the constant names, see {@link StringToEnum};
+ * {@link Enum#valueOf(Class, String)} is used otherwise.
  *
  * @author Gunnar Morling
  */
@@ -39,6 +48,9 @@ public String getToExpression(ConversionContext conversionContext) {
 
     @Override
     public String getFromExpression(ConversionContext conversionContext) {
+        if ( isSwitchApplicable( conversionContext ) ) {
+            return getStringToEnumMethod( conversionContext ).getName() + "( <SOURCE> )";
+        }
         return "Enum.valueOf( " + conversionContext.getTargetType().getName() + ".class, <SOURCE> )";
     }
 
@@ -46,4 +58,27 @@ public String getFromExpression(ConversionContext conversionContext) {
     protected Set<Type> getFromConversionImportTypes(ConversionContext conversionContext) {
         return asSet( conversionContext.getTargetType() );
     }
+
+    @Override
+    public List<HelperMethod> getRequiredHelperMethods(ConversionContext conversionContext) {
+        if ( isSwitchApplicable( conversionContext ) ) {
+            return Collections.<HelperMethod>singletonList( getStringToEnumMethod( conversionContext ) );
+        }
+        return Collections.emptyList();
+    }
+
+    private boolean isSwitchApplicable(ConversionContext conversionContext) {
+        return conversionContext.getTargetType().isEnumType()
+            // switch statements over strings are supported as of Java 7; RELEASE_7 is not part of the Java 6 API
+            && conversionContext.getSourceVersion().compareTo( SourceVersion.RELEASE_6 ) > 0;
+    }
+
+    private StringToEnum getStringToEnumMethod(ConversionContext conversionContext) {
+        return new StringToEnum(
+            conversionContext.getTypeFactory(),
+            conversionContext.getTargetType(),
+            conversionContext.getUnknownEnumStringStrategy(),
+            conversionContext.getDefaultEnumConstant()
+        );
+    }
 }
@@ -0,0 +1,106 @@
+/**
+ *  Copyright 2012-2017 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.ap.internal.conversion;
+
+import static org.mapstruct.ap.internal.util.Collections.asSet;
+
+import java.util.Set;
+
+import org.mapstruct.ap.internal.model.HelperMethod;
+import org.mapstruct.ap.internal.model.common.Parameter;
+import org.mapstruct.ap.internal.model.common.Type;
+import org.mapstruct.ap.internal.model.common.TypeFactory;
+import org.mapstruct.ap.internal.model.source.MappingOptions;
+import org.mapstruct.ap.internal.prism.UnknownEnumStringStrategyPrism;
+import org.mapstruct.ap.internal.util.Strings;
+
+/**
+ * HelperMethod that converts a {@link String} into a constant of a given enum type by means of a {@code switch}
+ * statement over the constant names, avoiding the exception based lookup of {@link Enum#valueOf(Class, String)} for
+ * unknown names if requested via {@link UnknownEnumStringStrategyPrism}.
+ */
+public class StringToEnum extends HelperMethod {
+
+    private final Parameter parameter;
+    private final Type returnType;
+    private final Set<Type> importTypes;
+    private final boolean returnNullForUnknownConstant;
+    private final String defaultConstant;
+
+    public StringToEnum(TypeFactory typeFactory, Type enumType, UnknownEnumStringStrategyPrism strategy,
+                        String defaultConstant) {
+        this.parameter = new Parameter( "string", typeFactory.getType( String.class ) );
+        this.returnType = enumType;
+        this.importTypes = asSet( parameter.getType(), returnType );
+        this.returnNullForUnknownConstant = strategy == UnknownEnumStringStrategyPrism.RETURN_NULL;
+        this.defaultConstant = strategy == UnknownEnumStringStrategyPrism.RETURN_DEFAULT_CONSTANT
+            && enumType.getEnumConstants().contains( defaultConstant ) ? defaultConstant : null;
+    }
+
+    /**
+     * Returns the name of this method, derived from the simple name of the enum if it is imported. Otherwise, another
+     * enum with the same simple name is imported, so the name is derived from the qualified name, keeping the methods
+     * for both enums apart.
+     */
+    @Override
+    public String getName() {
+        String typeName = returnType.isImported() ? returnType.getName() : returnType.getFullyQualifiedName();
+
+        StringBuilder name = new StringBuilder( "stringTo" );
+        for ( String part : typeName.split( "\\." ) ) {
+            name.append( Strings.capitalize( part ) );
+        }
+        return name.toString();
+    }
+
+    @Override
+    public Set<Type> getImportTypes() {
+        return importTypes;
+    }
+
+    @Override
+    public Parameter getParameter() {
+        return parameter;
+    }
+
+    @Override
+    public Type getReturnType() {
+        return returnType;
+    }
+
+    @Override
+    public MappingOptions getMappingOptions() {
+        return MappingOptions.empty();
+    }
+
+    /**
+     * @return {@code true} if {@code null} is to be returned for names not matching any constant of the enum
+     */
+    public boolean isReturnNullForUnknownConstant() {
+        return returnNullForUnknownConstant;
+    }
+
+    /**
+     * @return the name of the constant to be returned for names not matching any constant of the enum, or {@code null}
+     * if no default constant applies to the enum
+     */
+    public String getDefaultConstant() {
+        return defaultConstant;
+    }
+}
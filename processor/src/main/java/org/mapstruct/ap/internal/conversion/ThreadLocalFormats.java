@@ -0,0 +1,114 @@
+/**
+ *  Copyright 2012-2017 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.ap.internal.conversion;
+
+import static org.mapstruct.ap.internal.util.Collections.asSet;
+
+import java.text.DecimalFormat;
+import java.text.SimpleDateFormat;
+
+import org.mapstruct.ap.internal.model.common.ConversionContext;
+import org.mapstruct.ap.internal.model.common.Type;
+import org.mapstruct.ap.internal.model.common.TypeFactory;
+
+/**
+ * Declares {@code ThreadLocal} constants holding the (non thread-safe) {@link DecimalFormat}s and
+ * {@link SimpleDateFormat}s used by conversions, so a format with a given pattern is created once per thread rather
+ * than upon each invocation of a conversion.
+ * <p>
+ * A format captures the default locale (and, for dates, the default time zone) when it is created, i.e. when a thread
+ * first invokes a conversion using it. This applies to formats with an explicit pattern and to those with the default
+ * pattern of the locale alike.
+ */
+final class ThreadLocalFormats {
+
+    private ThreadLocalFormats() {
+    }
+
+    /**
+     * Returns an expression retrieving a {@link DecimalFormat} with the number format of the given context, if any.
+     *
+     * @param conversionContext the conversion context
+     * @param parseBigDecimal whether the format should parse into {@code BigDecimal}s
+     *
+     * @return an expression retrieving the format, e.g. {@code DECIMAL_FORMAT.get()}
+     */
+    static String decimalFormat(ConversionContext conversionContext, boolean parseBigDecimal) {
+        return getFormat(
+            conversionContext,
+            DecimalFormat.class,
+            parseBigDecimal ? "BIG_DECIMAL_FORMAT" : "DECIMAL_FORMAT",
+            newFormat( "DecimalFormat", conversionContext.getNumberFormat() ),
+            parseBigDecimal ? "format.setParseBigDecimal( true );\n" : ""
+        );
+    }
+
+    /**
+     * Returns an expression retrieving a {@link SimpleDateFormat} with the date format of the given context, if
+     * any.
+     *
+     * @param conversionContext the conversion context
+     *
+     * @return an expression retrieving the format, e.g. {@code DATE_FORMAT.get()}
+     */
+    static String simpleDateFormat(ConversionContext conversionContext) {
+        return getFormat(
+            conversionContext,
+            SimpleDateFormat.class,
+            "DATE_FORMAT",
+            newFormat( "SimpleDateFormat", conversionContext.getDateFormat() ),
+            ""
+        );
+    }
+
+    private static String newFormat(String formatName, String pattern) {
+        return pattern != null ? "new " + formatName + "( \"" + pattern + "\" )" : "new " + formatName + "()";
+    }
+
+    private static String getFormat(ConversionContext conversionContext, Class<?> formatClass, String name,
+                                    String initialValue, String configuration) {
+        TypeFactory typeFactory = conversionContext.getTypeFactory();
+        Type formatType = typeFactory.getType( formatClass );
+        Type threadLocalType = typeFactory.getType( ThreadLocal.class, formatType );
+        String formatName = formatType.getName();
+
+        StringBuilder initializer = new StringBuilder( "new ThreadLocal<" ).append( formatName ).append( ">() {\n" );
+        initializer.append( "@Override\n" );
+        initializer.append( "protected " ).append( formatName ).append( " initialValue() {\n" );
+        if ( configuration.isEmpty() ) {
+            initializer.append( "return " ).append( initialValue ).append( ";\n" );
+        }
+        else {
+            initializer.append( formatName ).append( " format = " ).append( initialValue ).append( ";\n" );
+            initializer.append( configuration );
+            initializer.append( "return format;\n" );
+        }
+        initializer.append( "}\n" );
+        initializer.append( "}" );
+
+        String constant = conversionContext.getSupportingConstants().getConstant(
+            threadLocalType,
+            name,
+            initializer.toString(),
+            asSet( threadLocalType, formatType )
+        );
+
+        return constant + ".get()";
+    }
+}
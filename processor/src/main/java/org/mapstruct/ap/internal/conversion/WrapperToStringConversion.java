@@ -72,13 +72,6 @@ public String getFromExpression(ConversionContext conversionContext) {
     }
 
     private void appendDecimalFormatter(StringBuilder sb, ConversionContext conversionContext) {
-        sb.append( "new DecimalFormat( " );
-        if ( conversionContext.getNumberFormat() != null ) {
-            sb.append( "\"" );
-            sb.append( conversionContext.getNumberFormat() );
-            sb.append( "\"" );
-        }
-
-        sb.append( " )" );
+        sb.append( ThreadLocalFormats.decimalFormat( conversionContext, false ) );
     }
 }
@@ -94,6 +94,7 @@ Assignment createForgedAssignment(SourceRHS sourceRHS, ForgedMethod forgedMethod
             ctx.getForgedMethodsUnderCreation().put( forgedMethod, forgedMethod );
         }
 
+        int mapperMemberRequestCount = ctx.getMapperMemberRequestCount();
         MappingMethod forgedMappingMethod;
         if ( MappingMethodUtils.isEnumMapping( forgedMethod ) ) {
             forgedMappingMethod = new ValueMappingMethod.Builder()
@@ -109,7 +110,18 @@ Assignment createForgedAssignment(SourceRHS sourceRHS, ForgedMethod forgedMethod
                 .build();
         }
 
-        Assignment forgedAssignment = createForgedAssignment( sourceRHS, forgedMethod, forgedMappingMethod );
+        Assignment forgedAssignment = null;
+        if ( ctx.getSharedSubMappingMethods() != null && forgedMappingMethod instanceof BeanMappingMethod &&
+            ctx.getMapperMemberRequestCount() == mapperMemberRequestCount ) {
+            forgedAssignment = createSharedAssignment(
+                sourceRHS,
+                forgedMethod,
+                (BeanMappingMethod) forgedMappingMethod
+            );
+        }
+        if ( forgedAssignment == null ) {
+            forgedAssignment = createForgedAssignment( sourceRHS, forgedMethod, forgedMappingMethod );
+        }
         ctx.getForgedMethodsUnderCreation().remove( forgedMethod );
         return forgedAssignment;
     }
@@ -132,6 +144,36 @@ Assignment createForgedAssignment(SourceRHS source, ForgedMethod methodRef, Mapp
         return createAssignment( source, methodRef );
     }
 
+    /**
+     * Creates an assignment invoking a method shared by the mappers of the package, if the given forged mapping method
+     * can be shared. See {@link SharedSubMappingMethods}.
+     *
+     * @return the assignment, or {@code null} if the mapping method is to be generated within the mapper
+     */
+    private Assignment createSharedAssignment(SourceRHS source, ForgedMethod methodRef,
+                                              BeanMappingMethod mappingMethod) {
+        if ( methodRef.getMappingOptions().isRestrictToDefinedMappings() ) {
+            return null;
+        }
+
+        String sharedName = ctx.getSharedSubMappingMethods().share( ctx, mappingMethod );
+        if ( sharedName == null ) {
+            return null;
+        }
+
+        ForgedMethod sharedMethod = new ForgedMethod( sharedName, methodRef );
+        sharedMethod.addThrownTypes( methodRef.getThrownTypes() );
+
+        Assignment assignment = MethodReference.forSharedMethod(
+            sharedMethod,
+            ctx.getSharedSubMappingMethods().getClassName( ctx ),
+            ParameterBinding.fromParameters( sharedMethod.getParameters() )
+        );
+        assignment.setAssignment( source );
+
+        return assignment;
+    }
+
     private Assignment createAssignment(SourceRHS source, ForgedMethod methodRef) {
         Assignment assignment = MethodReference.forForgedMethod(
             methodRef,
@@ -19,6 +19,7 @@
 package org.mapstruct.ap.internal.model;
 
 import static org.mapstruct.ap.internal.util.Collections.first;
+import static org.mapstruct.ap.internal.util.Collections.last;
 
 import java.text.MessageFormat;
 import java.util.ArrayList;
@@ -27,6 +28,7 @@
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -40,6 +42,8 @@
 import org.mapstruct.ap.internal.model.PropertyMapping.ConstantMappingBuilder;
 import org.mapstruct.ap.internal.model.PropertyMapping.JavaExpressionMappingBuilder;
 import org.mapstruct.ap.internal.model.PropertyMapping.PropertyMappingBuilder;
+import org.mapstruct.ap.internal.model.common.Accessibility;
+import org.mapstruct.ap.internal.model.common.ModelElement;
 import org.mapstruct.ap.internal.model.common.Parameter;
 import org.mapstruct.ap.internal.model.common.ParameterBinding;
 import org.mapstruct.ap.internal.model.common.Type;
@@ -47,6 +51,7 @@
 import org.mapstruct.ap.internal.model.common.TypeFinalizer;
 import org.mapstruct.ap.internal.model.dependency.GraphAnalyzer;
 import org.mapstruct.ap.internal.model.dependency.GraphAnalyzer.GraphAnalyzerBuilder;
+import org.mapstruct.ap.internal.model.source.BeanMapping;
 import org.mapstruct.ap.internal.model.source.ForgedMethod;
 import org.mapstruct.ap.internal.model.source.ForgedMethodHistory;
 import org.mapstruct.ap.internal.model.source.Mapping;
@@ -59,6 +64,7 @@
 import org.mapstruct.ap.internal.model.source.TargetReference;
 import org.mapstruct.ap.internal.prism.BeanMappingPrism;
 import org.mapstruct.ap.internal.prism.CollectionMappingStrategyPrism;
+import org.mapstruct.ap.internal.prism.CycleStrategyPrism;
 import org.mapstruct.ap.internal.prism.NullValueMappingStrategyPrism;
 import org.mapstruct.ap.internal.prism.ReportingPolicyPrism;
 import org.mapstruct.ap.internal.util.MapperConfiguration;
@@ -77,10 +83,21 @@ public class BeanMappingMethod extends NormalTypeMappingMethod {
 
     private final List<PropertyMapping> propertyMappings;
     private final Map<String, List<PropertyMapping>> mappingsByParameter;
+    private final Map<String, List<ModelElement>> mappingElementsByParameter;
     private final List<PropertyMapping> constantMappings;
     private final Type resultType;
+    private final IdentityTracking identityTracking;
+    private final List<NestedPropertyMappingGroup> nestedPropertyMappingGroups;
+    private final Map<String, List<BeanMappingMethodPart>> partsByParameter;
+    private final List<BeanMappingMethodPart> constantMappingParts;
     private MethodReference buildMethod;
 
+    /**
+     * The name of this method within the class shared by the mappers of a package, if this method is generated there
+     * instead of within the mapper; {@code null} otherwise.
+     */
+    private String sharedName;
+
     public static class Builder {
 
         private MappingBuilderContext ctx;
@@ -95,6 +112,9 @@ public static class Builder {
         private Map<String, List<Mapping>> methodMappings;
         private SingleMappingByTargetPropertyNameFunction singleMapping;
         private final Map<String, List<Mapping>> unprocessedDefinedTargets = new HashMap<String, List<Mapping>>();
+        private final Set<String> groupableParentPaths = new HashSet<String>();
+        private final Map<String, NestedPropertyMappingGroup> nestedPropertyMappingGroups =
+            new LinkedHashMap<String, NestedPropertyMappingGroup>();
 
         public Builder mappingContext(MappingBuilderContext mappingContext) {
             this.ctx = mappingContext;
@@ -137,6 +157,12 @@ public Builder nullValueMappingStrategy(NullValueMappingStrategyPrism nullValueM
         }
 
         public BeanMappingMethod build() {
+            // reserve the names of the variables required for tracking source objects before any other variable
+            IdentityTracking identityTracking = getIdentityTracking();
+
+            // nested source properties sharing the same parent are mapped via a local variable holding the parent
+            initGroupableParentPaths();
+
             // map properties with mapping
             boolean mappingErrorOccured = handleDefinedMappings();
             if ( mappingErrorOccured ) {
@@ -270,11 +296,105 @@ else if ( !method.getReturnType().hasBuilder() && !method.isUpdateMethod() &&
                 mapNullToDefault,
                 resultType,
                 buildMethod,
+                identityTracking,
+                new ArrayList<NestedPropertyMappingGroup>( nestedPropertyMappingGroups.values() ),
                 beforeMappingMethods,
-                afterMappingMethods
+                afterMappingMethods,
+                ctx.getOptions().getMaxMappingMethodSize()
             );
         }
 
+        /**
+         * Determines the paths to the parents of nested source properties which are shared by several defined
+         * mappings. Mappings which need to be applied also if the parent is {@code null}, i.e. within update methods
+         * or with a default value, are not grouped; neither are mappings of methods ordering mappings via
+         * {@code dependsOn()}.
+         */
+        private void initGroupableParentPaths() {
+            if ( method.isUpdateMethod() ) {
+                return;
+            }
+
+            Set<String> parentPaths = new HashSet<String>();
+            for ( List<Mapping> mappings : methodMappings.values() ) {
+                for ( Mapping mapping : mappings ) {
+                    if ( !mapping.getDependsOn().isEmpty() ) {
+                        groupableParentPaths.clear();
+                        return;
+                    }
+                    String parentPath = getGroupableParentPath( mapping );
+                    if ( parentPath != null && !parentPaths.add( parentPath ) ) {
+                        groupableParentPaths.add( parentPath );
+                    }
+                }
+            }
+        }
+
+        private String getGroupableParentPath(Mapping mapping) {
+            if ( mapping.isIgnored() || mapping.getSourceName() == null || mapping.getDefaultValue() != null ) {
+                return null;
+            }
+
+            SourceReference sourceRef = mapping.getSourceReference();
+            TargetReference targetRef = mapping.getTargetReference();
+            if ( sourceRef == null || !sourceRef.isValid() || sourceRef.getPropertyEntries().size() < 2
+                || targetRef == null || !targetRef.isValid() || targetRef.getPropertyEntries().size() != 1 ) {
+                return null;
+            }
+
+            StringBuilder parentPath = new StringBuilder( sourceRef.getParameter().getName() );
+            List<PropertyEntry> propertyEntries = sourceRef.getPropertyEntries();
+            for ( PropertyEntry propertyEntry : propertyEntries ) {
+                if ( propertyEntry.getPresenceChecker() != null ) {
+                    return null;
+                }
+            }
+            if ( last( propertyEntries ).getType().isPrimitive() ) {
+                // a primitive property is set to its default value if any of its parents is null, a group would skip it
+                return null;
+            }
+            for ( PropertyEntry propertyEntry : propertyEntries.subList( 0, propertyEntries.size() - 1 ) ) {
+                parentPath.append( '.' ).append( propertyEntry.getName() );
+            }
+            return parentPath.toString();
+        }
+
+        private NestedPropertyMappingGroup getNestedPropertyMappingGroup(SourceReference sourceRef,
+                                                                         String parentPath) {
+            NestedPropertyMappingGroup group = nestedPropertyMappingGroups.get( parentPath );
+            if ( group == null ) {
+                List<PropertyEntry> propertyEntries = sourceRef.getPropertyEntries();
+                group = new NestedPropertyMappingGroup.Builder()
+                    .mappingContext( ctx )
+                    .method( method )
+                    .sourceParameter( sourceRef.getParameter() )
+                    .propertyEntries( propertyEntries.subList( 0, propertyEntries.size() - 1 ) )
+                    .existingVariableNames( existingVariableNames )
+                    .build();
+                nestedPropertyMappingGroups.put( parentPath, group );
+            }
+            return group;
+        }
+
+        private IdentityTracking getIdentityTracking() {
+            BeanMapping beanMapping = method.getMappingOptions().getBeanMapping();
+            if ( beanMapping == null || beanMapping.getCycleStrategy() != CycleStrategyPrism.TRACK_IDENTITY ) {
+                return null;
+            }
+
+            if ( method.isUpdateMethod() || method.getSourceParameters().size() != 1
+                || !method.getReturnType().getTypeParameters().isEmpty() ) {
+                ctx.getMessager().printMessage(
+                    method.getExecutable(),
+                    BeanMappingPrism.getInstanceOn( method.getExecutable() ).mirror,
+                    Message.BEANMAPPING_CYCLE_STRATEGY_NOT_APPLICABLE
+                );
+                return null;
+            }
+
+            return new IdentityTracking( ctx.getTypeFactory(), existingVariableNames );
+        }
+
         /**
          * If there were nested defined targets that have not been handled. Then we need to process them at the end.
          */
@@ -462,6 +582,21 @@ else if ( mapping.getSourceName() != null ) {
                 SourceReference sourceRef = mapping.getSourceReference();
                 if ( sourceRef.isValid() ) {
 
+                    // map nested properties relative to the shared parent, if any
+                    String parentPath = getGroupableParentPath( mapping );
+                    NestedPropertyMappingGroup group = null;
+                    SourceReference relativeSourceRef = sourceRef;
+                    if ( parentPath != null && groupableParentPaths.contains( parentPath ) ) {
+                        group = getNestedPropertyMappingGroup( sourceRef, parentPath );
+                        PropertyEntry sourceProperty = last( sourceRef.getPropertyEntries() );
+                        relativeSourceRef = new SourceReference.BuilderFromProperty()
+                            .sourceParameter( group.getLocalVariable() )
+                            .name( sourceProperty.getName() )
+                            .readAccessor( sourceProperty.getReadAccessor() )
+                            .type( sourceProperty.getType() )
+                            .build();
+                    }
+
                     // targetProperty == null can occur: we arrived here because we want as many errors
                     // as possible before we stop analysing
                     propertyMapping = new PropertyMappingBuilder()
@@ -469,13 +604,17 @@ else if ( mapping.getSourceName() != null ) {
                         .sourceMethod( method )
                         .targetProperty( targetProperty )
                         .targetPropertyName( mapping.getTargetName() )
-                        .sourceReference( sourceRef )
+                        .sourceReference( relativeSourceRef )
+                        .groupedNestedSource( group != null )
                         .selectionParameters( mapping.getSelectionParameters() )
                         .formattingParameters( mapping.getFormattingParameters() )
                         .existingVariableNames( existingVariableNames )
                         .dependsOn( mapping.getDependsOn() )
                         .defaultValue( mapping.getDefaultValue() )
                         .build();
+                    if ( group != null && propertyMapping != null ) {
+                        group.addPropertyMapping( propertyMapping );
+                    }
                     handledTargets.add( propertyName );
                     unprocessedSourceParameters.remove( sourceRef.getParameter() );
                 }
@@ -768,6 +907,7 @@ else if ( !unprocessedTargetProperties.isEmpty() && unmappedTargetPolicy.require
         }
     }
 
+    @SuppressWarnings( "checkstyle:parameternumber" )
     private BeanMappingMethod(Method method,
                               Collection<String> existingVariableNames,
                               List<PropertyMapping> propertyMappings,
@@ -775,8 +915,11 @@ private BeanMappingMethod(Method method,
                               boolean mapNullToDefault,
                               Type resultType,
                               MethodReference finalizeMethod,
+                              IdentityTracking identityTracking,
+                              List<NestedPropertyMappingGroup> nestedPropertyMappingGroups,
                               List<LifecycleCallbackMethodReference> beforeMappingReferences,
-                              List<LifecycleCallbackMethodReference> afterMappingReferences) {
+                              List<LifecycleCallbackMethodReference> afterMappingReferences,
+                              int maxMethodSize) {
         super(
             method,
             existingVariableNames,
@@ -792,20 +935,90 @@ private BeanMappingMethod(Method method,
         // intialize constant mappings as all mappings, but take out the ones that can be contributed to a
         // parameter mapping.
         this.mappingsByParameter = new HashMap<String, List<PropertyMapping>>();
+        this.mappingElementsByParameter = new HashMap<String, List<ModelElement>>();
         this.constantMappings = new ArrayList<PropertyMapping>( propertyMappings );
+        this.nestedPropertyMappingGroups = nestedPropertyMappingGroups;
+        for ( NestedPropertyMappingGroup group : nestedPropertyMappingGroups ) {
+            constantMappings.removeAll( group.getPropertyMappings() );
+        }
         for ( Parameter sourceParameter : getSourceParameters() ) {
             ArrayList<PropertyMapping> mappingsOfParameter = new ArrayList<PropertyMapping>();
+            ArrayList<ModelElement> elementsOfParameter = new ArrayList<ModelElement>();
             mappingsByParameter.put( sourceParameter.getName(), mappingsOfParameter );
+            mappingElementsByParameter.put( sourceParameter.getName(), elementsOfParameter );
             for ( PropertyMapping mapping : propertyMappings ) {
                 if ( sourceParameter.getName().equals( mapping.getSourceBeanName() ) ) {
                     mappingsOfParameter.add( mapping );
+                    elementsOfParameter.add( mapping );
                     constantMappings.remove( mapping );
                 }
+                else {
+                    // a group is applied at the position of its first property mapping
+                    NestedPropertyMappingGroup group = getGroupStartingWith( mapping );
+                    if ( group != null && sourceParameter.getName().equals( group.getSourceParameter().getName() ) ) {
+                        elementsOfParameter.add( group );
+                    }
+                }
             }
         }
 
         this.buildMethod = finalizeMethod;
+        this.identityTracking = identityTracking;
+
+        this.partsByParameter = new HashMap<String, List<BeanMappingMethodPart>>();
+        this.constantMappingParts = new ArrayList<BeanMappingMethodPart>();
+        if ( maxMethodSize > 0 && estimateSize() > maxMethodSize ) {
+            splitIntoParts( maxMethodSize );
+        }
+    }
+
+    private NestedPropertyMappingGroup getGroupStartingWith(PropertyMapping propertyMapping) {
+        for ( NestedPropertyMappingGroup group : nestedPropertyMappingGroups ) {
+            if ( !group.getPropertyMappings().isEmpty() && first( group.getPropertyMappings() ) == propertyMapping ) {
+                return group;
+            }
+        }
+        return null;
+    }
 
+    private int estimateSize() {
+        int size = BeanMappingMethodPart.METHOD_SIZE;
+        for ( List<ModelElement> mappingElements : mappingElementsByParameter.values() ) {
+            for ( ModelElement mappingElement : mappingElements ) {
+                size += BeanMappingMethodPart.estimateSize( mappingElement );
+            }
+        }
+        for ( PropertyMapping constantMapping : constantMappings ) {
+            size += BeanMappingMethodPart.estimateSize( constantMapping );
+        }
+        return size;
+    }
+
+    /**
+     * Moves the property mappings into parts, i.e. separate methods, with an estimated size of at most the given
+     * size each, keeping the order of the property mappings.
+     */
+    private void splitIntoParts(int maxMethodSize) {
+        List<Parameter> partParameters = new ArrayList<Parameter>( getParameters() );
+        if ( !isExistingInstanceMapping() ) {
+            partParameters.add( new Parameter( getResultName(), getResultType().getMapToType() ) );
+        }
+
+        PartSplitter splitter = new PartSplitter(
+            getName() + ( isExistingInstanceMapping() ? "UpdateProperties" : "Properties" ),
+            partParameters,
+            maxMethodSize
+        );
+
+        for ( Parameter sourceParameter : getSourceParameters() ) {
+            partsByParameter.put(
+                sourceParameter.getName(),
+                splitter.split( mappingElementsByParameter( sourceParameter ) )
+            );
+        }
+        constantMappingParts.addAll(
+            splitter.split( new ArrayList<ModelElement>( constantMappings ) )
+        );
     }
 
     public List<PropertyMapping> getPropertyMappings() {
@@ -821,10 +1034,101 @@ public List<PropertyMapping> propertyMappingsByParameter(Parameter parameter) {
         return mappingsByParameter.get( parameter.getName() );
     }
 
+    /**
+     * @param parameter the source parameter
+     * @return the property mappings and groups of nested property mappings of the given source parameter, in the
+     * order in which they are applied
+     */
+    public List<ModelElement> mappingElementsByParameter(Parameter parameter) {
+        return mappingElementsByParameter.get( parameter.getName() );
+    }
+
+    public List<NestedPropertyMappingGroup> nestedPropertyMappingGroupsByParameter(Parameter parameter) {
+        List<NestedPropertyMappingGroup> groups = new ArrayList<NestedPropertyMappingGroup>();
+        for ( NestedPropertyMappingGroup group : nestedPropertyMappingGroups ) {
+            if ( group.getSourceParameter().getName().equals( parameter.getName() ) ) {
+                groups.add( group );
+            }
+        }
+        return groups;
+    }
+
+    /**
+     * @param parameter the source parameter
+     * @return the parts invoked for mapping the properties of the given source parameter; empty if the properties are
+     * mapped within this method
+     */
+    public List<BeanMappingMethodPart> partsByParameter(Parameter parameter) {
+        List<BeanMappingMethodPart> parts = partsByParameter.get( parameter.getName() );
+        return parts != null ? parts : Collections.<BeanMappingMethodPart>emptyList();
+    }
+
+    /**
+     * @return the parts invoked for applying the constant mappings; empty if these are applied within this method
+     */
+    public List<BeanMappingMethodPart> getConstantMappingParts() {
+        return constantMappingParts;
+    }
+
+    /**
+     * @return all parts of this method, to be generated as separate methods after this method
+     */
+    public List<BeanMappingMethodPart> getParts() {
+        List<BeanMappingMethodPart> parts = new ArrayList<BeanMappingMethodPart>();
+        for ( Parameter sourceParameter : getSourceParameters() ) {
+            parts.addAll( partsByParameter( sourceParameter ) );
+        }
+        parts.addAll( constantMappingParts );
+        return parts;
+    }
+
+    /**
+     * Turns this (forged) method into a static method of the class shared by the mappers of a package, or back into a
+     * method of the mapper.
+     *
+     * @param sharedName the name of this method within the shared class; {@code null} if the method is to be
+     * generated within the mapper
+     */
+    void setSharedName(String sharedName) {
+        this.sharedName = sharedName;
+    }
+
+    @Override
+    public String getName() {
+        return sharedName != null ? sharedName : super.getName();
+    }
+
+    @Override
+    public boolean isStatic() {
+        return sharedName != null || super.isStatic();
+    }
+
+    @Override
+    public Accessibility getAccessibility() {
+        return sharedName != null ? Accessibility.DEFAULT : super.getAccessibility();
+    }
+
     public MethodReference getBuildMethod() {
         return buildMethod;
     }
 
+    /**
+     * @return the state required for tracking source objects by identity, {@code null} if no tracking is required
+     */
+    public IdentityTracking getIdentityTracking() {
+        return identityTracking;
+    }
+
+    /**
+     * @return the fields which need to be added to the generated mapper in order to support this method
+     */
+    public List<SupportingField> getSupportingFields() {
+        if ( identityTracking == null ) {
+            return Collections.emptyList();
+        }
+        return Collections.singletonList( identityTracking.getMappedTargetsField() );
+    }
+
     @Override
     public Type getResultType() {
         if ( resultType == null ) {
@@ -843,6 +1147,18 @@ public Set<Type> getImportTypes() {
             types.addAll( propertyMapping.getImportTypes() );
         }
 
+        if ( identityTracking != null ) {
+            types.addAll( identityTracking.getImportTypes() );
+        }
+
+        for ( NestedPropertyMappingGroup group : nestedPropertyMappingGroups ) {
+            types.addAll( group.getImportTypes() );
+        }
+
+        for ( BeanMappingMethodPart part : getParts() ) {
+            types.addAll( part.getImportTypes() );
+        }
+
         return types;
     }
 
@@ -892,6 +1208,142 @@ public boolean equals(Object obj) {
             that.propertyMappings == null;
     }
 
+    /**
+     * Distributes property mappings to parts with a bounded estimated size, numbering the parts consecutively.
+     */
+    private class PartSplitter {
+
+        private final String namePrefix;
+        private final List<Parameter> parameters;
+        private final int maxMethodSize;
+        private int partCount;
+
+        private PartSplitter(String namePrefix, List<Parameter> parameters, int maxMethodSize) {
+            this.namePrefix = namePrefix;
+            this.parameters = parameters;
+            this.maxMethodSize = maxMethodSize;
+        }
+
+        private List<BeanMappingMethodPart> split(List<ModelElement> mappingElements) {
+            List<BeanMappingMethodPart> parts = new ArrayList<BeanMappingMethodPart>();
+
+            for ( ModelElement mappingElement : mappingElements ) {
+                int size = BeanMappingMethodPart.estimateSize( mappingElement );
+                getPart( parts, size ).addMappingElement( mappingElement, size );
+            }
+
+            return parts;
+        }
+
+        /**
+         * Returns the last of the given parts if the given size still fits in, otherwise a new part.
+         */
+        private BeanMappingMethodPart getPart(List<BeanMappingMethodPart> parts, int size) {
+            BeanMappingMethodPart part = parts.isEmpty() ? null : parts.get( parts.size() - 1 );
+
+            if ( part == null || part.getEstimatedSize() + size > maxMethodSize ) {
+                partCount++;
+                part = new BeanMappingMethodPart(
+                    namePrefix + partCount,
+                    parameters,
+                    getThrownTypes(),
+                    getResultName(),
+                    isExistingInstanceMapping()
+                );
+                parts.add( part );
+            }
+
+            return part;
+        }
+    }
+
+    /**
+     * Tracks the source objects of a method with {@code CycleStrategy.TRACK_IDENTITY}. The mapped targets are kept in
+     * a thread local mapper field during the outermost invocation of any tracking method of the mapper, separately for
+     * each target type, so nested invocations return the same target object for the same source object.
+     */
+    public static class IdentityTracking {
+
+        private static final String MAPPED_TARGETS_FIELD_NAME = "mappedTargets";
+
+        private final SupportingField mappedTargetsField;
+        private final Type targetsByTypeType;
+        private final Type targetsByTypeImplementationType;
+        private final Type targetsType;
+        private final Type targetsImplementationType;
+        private final String targetsByTypeName;
+        private final String outermostMappingName;
+        private final String targetsName;
+        private final String mappedTargetName;
+
+        private IdentityTracking(TypeFactory typeFactory, Set<String> existingVariableNames) {
+            Type object = typeFactory.getType( Object.class );
+            this.targetsType = typeFactory.getType( Map.class, object, object );
+            this.targetsImplementationType = typeFactory.getType( IdentityHashMap.class, object, object );
+            this.targetsByTypeType = typeFactory.getType( Map.class, object, targetsType );
+            this.targetsByTypeImplementationType = typeFactory.getType( HashMap.class, object, targetsType );
+            this.mappedTargetsField = SupportingField.finalField(
+                typeFactory.getType( ThreadLocal.class, targetsByTypeType ),
+                MAPPED_TARGETS_FIELD_NAME,
+                "new ThreadLocal<Map<Object, Map<Object, Object>>>()"
+            );
+
+            this.targetsByTypeName = reserveVariableName( "targetsByType", existingVariableNames );
+            this.outermostMappingName = reserveVariableName( "outermostMapping", existingVariableNames );
+            this.targetsName = reserveVariableName( "targets", existingVariableNames );
+            this.mappedTargetName = reserveVariableName( "mappedTarget", existingVariableNames );
+        }
+
+        private static String reserveVariableName(String name, Set<String> existingVariableNames) {
+            String safeName = Strings.getSaveVariableName( name, existingVariableNames );
+            existingVariableNames.add( safeName );
+            return safeName;
+        }
+
+        public SupportingField getMappedTargetsField() {
+            return mappedTargetsField;
+        }
+
+        public Type getTargetsByTypeType() {
+            return targetsByTypeType;
+        }
+
+        public Type getTargetsByTypeImplementationType() {
+            return targetsByTypeImplementationType;
+        }
+
+        public Type getTargetsType() {
+            return targetsType;
+        }
+
+        public Type getTargetsImplementationType() {
+            return targetsImplementationType;
+        }
+
+        public String getTargetsByTypeName() {
+            return targetsByTypeName;
+        }
+
+        public String getOutermostMappingName() {
+            return outermostMappingName;
+        }
+
+        public String getTargetsName() {
+            return targetsName;
+        }
+
+        public String getMappedTargetName() {
+            return mappedTargetName;
+        }
+
+        public Set<Type> getImportTypes() {
+            Set<Type> types = new HashSet<Type>();
+            types.addAll( targetsByTypeImplementationType.getImportTypes() );
+            types.addAll( targetsImplementationType.getImportTypes() );
+            return types;
+        }
+    }
+
     private interface SingleMappingByTargetPropertyNameFunction {
 
         Mapping getSingleMappingByTargetPropertyName(String targetPropertyName);
@@ -0,0 +1,219 @@
+/**
+ *  Copyright 2012-2017 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.ap.internal.model;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.mapstruct.ap.internal.model.assignment.AdderWrapper;
+import org.mapstruct.ap.internal.model.assignment.AssignmentWrapper;
+import org.mapstruct.ap.internal.model.assignment.UpdateWrapper;
+import org.mapstruct.ap.internal.model.assignment.WrapperForCollectionsAndMaps;
+import org.mapstruct.ap.internal.model.common.Assignment;
+import org.mapstruct.ap.internal.model.common.ModelElement;
+import org.mapstruct.ap.internal.model.common.Parameter;
+import org.mapstruct.ap.internal.model.common.Type;
+
+/**
+ * A part of the property mappings of a {@link BeanMappingMethod}, generated as private method of its own which is
+ * invoked by the bean mapping method.
+ * <p>
+ * Bean mapping methods of very wide beans are split into such parts, as HotSpot does not JIT-compile methods with more
+ * than 8000 bytes of bytecode ({@code -XX:+DontCompileHugeMethods}). Each part is passed all parameters of the bean
+ * mapping method and the target bean, if the bean mapping method creates it.
+ */
+public class BeanMappingMethodPart extends ModelElement {
+
+    /**
+     * The estimated size of the bytecode of a method, besides the property mappings.
+     */
+    static final int METHOD_SIZE = 16;
+
+    /**
+     * The estimated size of the bytecode for invoking a part, loading all its arguments.
+     */
+    static final int INVOCATION_SIZE = 16;
+
+    private static final int PROPERTY_MAPPING_SIZE = 16;
+    private static final int CONVERSION_SIZE = 24;
+    private static final int METHOD_INVOCATION_SIZE = 12;
+    private static final int PRESENCE_CHECK_SIZE = 16;
+    private static final int THROWN_TYPE_SIZE = 32;
+    private static final int DEFAULT_VALUE_SIZE = 24;
+    private static final int COLLECTION_WRAPPER_SIZE = 48;
+    private static final int NESTED_PROPERTY_MAPPING_GROUP_SIZE = 24;
+
+    private final String name;
+    private final List<Parameter> parameters;
+    private final List<Type> thrownTypes;
+    private final String targetBeanName;
+    private final boolean existingInstanceMapping;
+    private final List<ModelElement> mappingElements = new ArrayList<ModelElement>();
+    private int estimatedSize = METHOD_SIZE;
+
+    BeanMappingMethodPart(String name, List<Parameter> parameters, List<Type> thrownTypes, String targetBeanName,
+                          boolean existingInstanceMapping) {
+        this.name = name;
+        this.parameters = parameters;
+        this.thrownTypes = thrownTypes;
+        this.targetBeanName = targetBeanName;
+        this.existingInstanceMapping = existingInstanceMapping;
+    }
+
+    /**
+     * Estimates the size of the bytecode generated for the given property mapping or group of nested property
+     * mappings.
+     *
+     * @param mappingElement the property mapping or group of nested property mappings
+     * @return the estimated size in bytes
+     */
+    static int estimateSize(ModelElement mappingElement) {
+        if ( mappingElement instanceof NestedPropertyMappingGroup ) {
+            return estimateSize( (NestedPropertyMappingGroup) mappingElement );
+        }
+        return estimateSize( (PropertyMapping) mappingElement );
+    }
+
+    /**
+     * Estimates the size of the bytecode generated for the given property mapping. The estimate is rather on the high
+     * side, so that a method consisting of property mappings with a given estimated size doesn't exceed that size.
+     *
+     * @param propertyMapping the property mapping
+     * @return the estimated size in bytes
+     */
+    private static int estimateSize(PropertyMapping propertyMapping) {
+        int size = PROPERTY_MAPPING_SIZE;
+
+        Assignment assignment = propertyMapping.getAssignment();
+        if ( assignment == null ) {
+            // the property can't be mapped, an error has been reported already
+            return size;
+        }
+
+        size += THROWN_TYPE_SIZE * assignment.getThrownTypes().size();
+        if ( assignment.getSourcePresenceCheckerReference() != null ) {
+            size += PRESENCE_CHECK_SIZE;
+        }
+
+        while ( assignment instanceof AssignmentWrapper ) {
+            if ( assignment instanceof WrapperForCollectionsAndMaps || assignment instanceof AdderWrapper
+                || assignment instanceof UpdateWrapper ) {
+                size += COLLECTION_WRAPPER_SIZE;
+            }
+            assignment = ( (AssignmentWrapper) assignment ).getAssignment();
+        }
+
+        switch ( assignment.getType() ) {
+            case TYPE_CONVERTED:
+                size += CONVERSION_SIZE;
+                break;
+            case MAPPED:
+                size += METHOD_INVOCATION_SIZE;
+                break;
+            case MAPPED_TWICE:
+                size += 2 * METHOD_INVOCATION_SIZE;
+                break;
+            case MAPPED_TYPE_CONVERTED:
+            case TYPE_CONVERTED_MAPPED:
+                size += CONVERSION_SIZE + METHOD_INVOCATION_SIZE;
+                break;
+            default:
+                break;
+        }
+
+        if ( propertyMapping.getDefaultValueAssignment() != null ) {
+            size += DEFAULT_VALUE_SIZE + estimateSize( propertyMapping.getDefaultValueAssignment() );
+        }
+
+        return size;
+    }
+
+    private static int estimateSize(Assignment assignment) {
+        return assignment.getType().isDirect() ? 0 : CONVERSION_SIZE;
+    }
+
+    /**
+     * Estimates the size of the bytecode generated for the given group of nested property mappings.
+     *
+     * @param group the group of nested property mappings
+     * @return the estimated size in bytes
+     */
+    private static int estimateSize(NestedPropertyMappingGroup group) {
+        int size = NESTED_PROPERTY_MAPPING_GROUP_SIZE;
+        for ( PropertyMapping propertyMapping : group.getPropertyMappings() ) {
+            size += estimateSize( propertyMapping );
+        }
+        return size;
+    }
+
+    void addMappingElement(ModelElement mappingElement, int size) {
+        mappingElements.add( mappingElement );
+        estimatedSize += size;
+    }
+
+    int getEstimatedSize() {
+        return estimatedSize;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return the parameters of this part, i.e. the parameters of the bean mapping method, followed by the target bean
+     * if created by the bean mapping method
+     */
+    public List<Parameter> getParameters() {
+        return parameters;
+    }
+
+    public List<Type> getThrownTypes() {
+        return thrownTypes;
+    }
+
+    public String getTargetBeanName() {
+        return targetBeanName;
+    }
+
+    public boolean isExistingInstanceMapping() {
+        return existingInstanceMapping;
+    }
+
+    /**
+     * @return the property mappings and groups of nested property mappings of this part, in the order in which they
+     * are applied
+     */
+    public List<ModelElement> getMappingElements() {
+        return mappingElements;
+    }
+
+    @Override
+    public Set<Type> getImportTypes() {
+        Set<Type> types = new HashSet<Type>();
+        for ( Parameter parameter : parameters ) {
+            types.addAll( parameter.getType().getImportTypes() );
+        }
+        for ( Type thrownType : thrownTypes ) {
+            types.addAll( thrownType.getImportTypes() );
+        }
+        return types;
+    }
+}
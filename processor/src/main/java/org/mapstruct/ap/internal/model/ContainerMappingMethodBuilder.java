@@ -33,6 +33,8 @@
 import org.mapstruct.ap.internal.model.source.Method;
 import org.mapstruct.ap.internal.model.source.SelectionParameters;
 import org.mapstruct.ap.internal.prism.NullValueMappingStrategyPrism;
+import org.mapstruct.ap.internal.util.JavaStreamConstants;
+import org.mapstruct.ap.internal.util.Message;
 import org.mapstruct.ap.internal.util.Strings;
 
 /**
@@ -51,6 +53,7 @@
     private NullValueMappingStrategyPrism nullValueMappingStrategy;
     private String errorMessagePart;
     private String callingContextTargetPropertyName;
+    private Integer parallelThreshold;
 
     ContainerMappingMethodBuilder(Class<B> selfType, String errorMessagePart) {
         super( selfType );
@@ -72,6 +75,11 @@ public B nullValueMappingStrategy(NullValueMappingStrategyPrism nullValueMapping
         return myself;
     }
 
+    public B parallelThreshold(Integer parallelThreshold) {
+        this.parallelThreshold = parallelThreshold;
+        return myself;
+    }
+
     public B callingContextTargetPropertyName(String callingContextTargetPropertyName) {
         this.callingContextTargetPropertyName = callingContextTargetPropertyName;
         return myself;
@@ -180,6 +188,54 @@ protected abstract M instantiateMappingMethod(Method method, Collection<String>
 
     protected abstract Type getElementType(Type parameterType);
 
+    /**
+     * Returns the minimum number of source elements for mapping the elements in parallel, if configured and
+     * applicable to the given method. A warning is reported if the configured threshold is not applicable.
+     *
+     * @param method the method to build
+     * @param elementAssignment the assignment for mapping the elements, checked for thrown checked exceptions; may be
+     * {@code null} if these are of no concern
+     * @param applicableToTypes whether parallel mapping is applicable to the source and result types of the method
+     *
+     * @return the threshold, or {@code null} if the elements are always to be mapped sequentially
+     */
+    protected Integer getParallelThreshold(Method method, Assignment elementAssignment, boolean applicableToTypes) {
+        if ( parallelThreshold == null ) {
+            return null;
+        }
+
+        if ( !applicableToTypes || !ctx.getTypeFactory().isTypeAvailable( JavaStreamConstants.STREAM_FQN ) ) {
+            ctx.getMessager().printMessage(
+                method.getExecutable(),
+                Message.ITERABLEMAPPING_PARALLEL_THRESHOLD_NOT_APPLICABLE
+            );
+            return null;
+        }
+
+        if ( elementAssignment != null && throwsCheckedExceptions( elementAssignment ) ) {
+            ctx.getMessager().printMessage(
+                method.getExecutable(),
+                Message.ITERABLEMAPPING_PARALLEL_THRESHOLD_CHECKED_EXCEPTIONS
+            );
+            return null;
+        }
+
+        return parallelThreshold;
+    }
+
+    private boolean throwsCheckedExceptions(Assignment assignment) {
+        Type runtimeException = ctx.getTypeFactory().getType( RuntimeException.class );
+        Type error = ctx.getTypeFactory().getType( Error.class );
+
+        for ( Type thrownType : assignment.getThrownTypes() ) {
+            if ( !thrownType.isAssignableTo( runtimeException ) && !thrownType.isAssignableTo( error ) ) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
     protected abstract Assignment getWrapper(Assignment assignment, Method method);
 
     @Override
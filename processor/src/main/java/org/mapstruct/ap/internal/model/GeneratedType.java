@@ -180,7 +180,7 @@ public SortedSet<Type> getImportTypes() {
             }
         }
 
-        for ( Field field : fields ) {
+        for ( Field field : getFields() ) {
             if ( field.isTypeRequiresImport() ) {
                 for ( Type type : field.getImportTypes() ) {
                     addIfImportRequired( importedTypes, type );
@@ -242,7 +242,12 @@ private boolean needsImportDeclaration(Type typeToAdd) {
             }
 
             if ( typeToAdd.getPackageName().equals( packageName ) ) {
-                if ( !typeToAdd.getTypeElement().getNestingKind().isNested() ) {
+                Type elementType = typeToAdd;
+                while ( elementType.isArrayType() ) {
+                    elementType = elementType.getComponentType();
+                }
+
+                if ( !elementType.getTypeElement().getNestingKind().isNested() ) {
                     return false;
                 }
             }
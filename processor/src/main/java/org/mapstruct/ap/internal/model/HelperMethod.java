@@ -38,11 +38,8 @@
 /**
  * A non mapping method to be generated.
  *
- * Can be called from for instance conversions or built-in methods as shared helper method.
- *
- * One example of such method is the creation of a decimal formatter
- * {@link org.mapstruct.ap.internal.conversion.CreateDecimalFormat}, which is used in 2 conversions
- * (BigInteger to String and BigDecimal to String)
+ * Can be called from for instance conversions or built-in methods as shared helper method, see
+ * {@link org.mapstruct.ap.internal.conversion.ConversionProvider#getRequiredHelperMethods}.
  *
  * @author Sjaak Derksen
  */
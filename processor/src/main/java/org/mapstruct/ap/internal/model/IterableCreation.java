@@ -21,15 +21,18 @@
 import java.util.HashSet;
 import java.util.Set;
 
+import org.mapstruct.ap.internal.model.common.ImplementationType;
 import org.mapstruct.ap.internal.model.common.ModelElement;
 import org.mapstruct.ap.internal.model.common.Parameter;
 import org.mapstruct.ap.internal.model.common.Type;
 
 /**
- * Model element that can be used to create a type of {@link Iterable} or {@link java.util.Map}. If an implementation
- * type is used and the target type has a constructor with {@code int} as parameter and the source parameter is of
- * {@link java.util.Collection}, {@link java.util.Map} or {@code Array} type then MapStruct will use that constructor
- * with the {@code size} / {@code length} from the source parameter.
+ * Model element that can be used to create a type of {@link Iterable} or {@link java.util.Map}. If the implementation
+ * type (or the target type itself, if it is a concrete type such as {@link java.util.ArrayList}) has a constructor
+ * with {@code int} as parameter and the source parameter is of {@link java.util.Collection}, {@link java.util.Map} or
+ * {@code Array} type then MapStruct will use that constructor with the {@code size} / {@code length} from the source
+ * parameter. A {@code Set} of enums or a {@code Map} with enum keys is created as {@link java.util.EnumSet} or
+ * {@link java.util.EnumMap} respectively.
  *
  * @author Filip Hrisafov
  */
@@ -40,15 +43,18 @@ public class IterableCreation extends ModelElement {
     private final MethodReference factoryMethod;
     private final boolean canUseSize;
     private final boolean loadFactorAdjustment;
+    private final Type enumImplementationType;
 
     private IterableCreation(Type resultType, Parameter sourceParameter, MethodReference factoryMethod) {
         this.resultType = resultType;
         this.sourceParameter = sourceParameter;
         this.factoryMethod = factoryMethod;
+        ImplementationType initialCapacityImplementation = resultType.getInitialCapacityImplementation();
         this.canUseSize = ( sourceParameter.getType().isCollectionOrMapType() ||
             sourceParameter.getType().isArrayType() )
-            && resultType.getImplementation() != null && resultType.getImplementation().hasInitialCapacityConstructor();
-        this.loadFactorAdjustment = this.canUseSize && resultType.getImplementation().isLoadFactorAdjustment();
+            && initialCapacityImplementation != null && initialCapacityImplementation.hasInitialCapacityConstructor();
+        this.loadFactorAdjustment = this.canUseSize && initialCapacityImplementation.isLoadFactorAdjustment();
+        this.enumImplementationType = factoryMethod == null ? resultType.getEnumImplementationType() : null;
 
     }
 
@@ -76,10 +82,21 @@ public boolean isLoadFactorAdjustment() {
         return loadFactorAdjustment;
     }
 
+    /**
+     * @return the {@code EnumSet} or {@code EnumMap} type to be instantiated in case of a {@code Set} of enums or a
+     * {@code Map} with enum keys, {@code null} otherwise
+     */
+    public Type getEnumImplementationType() {
+        return enumImplementationType;
+    }
+
     @Override
     public Set<Type> getImportTypes() {
         Set<Type> types = new HashSet<Type>();
-        if ( factoryMethod == null && resultType.getImplementationType() != null ) {
+        if ( enumImplementationType != null ) {
+            types.addAll( enumImplementationType.getImportTypes() );
+        }
+        else if ( factoryMethod == null && resultType.getImplementationType() != null ) {
             types.addAll( resultType.getImplementationType().getImportTypes() );
         }
         return types;
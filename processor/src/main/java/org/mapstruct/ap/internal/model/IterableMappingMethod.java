@@ -22,13 +22,19 @@
 
 import java.util.Collection;
 import java.util.List;
+import java.util.RandomAccess;
+import java.util.Set;
 
+import org.mapstruct.ap.internal.model.assignment.Java8FunctionWrapper;
 import org.mapstruct.ap.internal.model.assignment.LocalVarWrapper;
 import org.mapstruct.ap.internal.model.assignment.SetterWrapper;
 import org.mapstruct.ap.internal.model.common.Assignment;
 import org.mapstruct.ap.internal.model.common.Type;
 import org.mapstruct.ap.internal.model.source.Method;
 import org.mapstruct.ap.internal.model.source.SelectionParameters;
+import org.mapstruct.ap.internal.prism.IterationStrategyPrism;
+import org.mapstruct.ap.internal.util.JavaStreamConstants;
+import org.mapstruct.ap.internal.util.Message;
 
 /**
  * A {@link MappingMethod} implemented by a {@link Mapper} class which maps one iterable type to another. The collection
@@ -38,12 +44,25 @@
  */
 public class IterableMappingMethod extends ContainerMappingMethod {
 
+    private final Type randomAccessType;
+    private final Assignment elementFunction;
+    private final Integer parallelThreshold;
+    private final Type collectorsType;
+
     public static class Builder extends ContainerMappingMethodBuilder<Builder, IterableMappingMethod> {
 
+        private IterationStrategyPrism iterationStrategy;
+        private Assignment elementFunction;
+
         public Builder() {
             super( Builder.class, "collection element" );
         }
 
+        public Builder iterationStrategy(IterationStrategyPrism iterationStrategy) {
+            this.iterationStrategy = iterationStrategy;
+            return this;
+        }
+
         @Override
         protected Type getElementType(Type parameterType) {
             return parameterType.isArrayType() ? parameterType.getComponentType() : first(
@@ -52,6 +71,9 @@ protected Type getElementType(Type parameterType) {
 
         @Override
         protected Assignment getWrapper(Assignment assignment, Method method) {
+            // the element mapping as function, to be used when mapping the elements in parallel
+            elementFunction = assignment != null ? new Java8FunctionWrapper( assignment ) : null;
+
             Type resultType = method.getResultType();
             // target accessor is setter, so decorate assignment as setter
             if ( resultType.isArrayType() ) {
@@ -67,6 +89,13 @@ protected IterableMappingMethod instantiateMappingMethod(Method method, Collecti
             Assignment assignment, MethodReference factoryMethod, boolean mapNullToDefault, String loopVariableName,
             List<LifecycleCallbackMethodReference> beforeMappingMethods,
             List<LifecycleCallbackMethodReference> afterMappingMethods, SelectionParameters selectionParameters) {
+            Type sourceParameterType = first( method.getSourceParameters() ).getType();
+            Integer parallelThreshold = getParallelThreshold(
+                method,
+                elementFunction,
+                sourceParameterType.isCollectionType() && !method.getResultType().isArrayType()
+            );
+
             return new IterableMappingMethod(
                 method,
                 existingVariables,
@@ -76,16 +105,50 @@ protected IterableMappingMethod instantiateMappingMethod(Method method, Collecti
                 loopVariableName,
                 beforeMappingMethods,
                 afterMappingMethods,
-                selectionParameters
+                selectionParameters,
+                getRandomAccessType( method ),
+                parallelThreshold != null ? elementFunction : null,
+                parallelThreshold,
+                parallelThreshold != null ? ctx.getTypeFactory().getType( JavaStreamConstants.COLLECTORS_FQN ) : null
             );
         }
+
+        /**
+         * Returns the {@link RandomAccess} type to check the source list against if it is to be iterated by index,
+         * {@code null} otherwise.
+         */
+        private Type getRandomAccessType(Method method) {
+            if ( iterationStrategy != IterationStrategyPrism.INDEXED ) {
+                return null;
+            }
+
+            Type sourceParameterType = first( method.getSourceParameters() ).getType();
+            if ( sourceParameterType.isArrayType() ) {
+                // arrays are iterated by index anyways
+                return null;
+            }
+
+            Type listType = ctx.getTypeFactory().getType( List.class ).erasure();
+            if ( !sourceParameterType.erasure().isAssignableTo( listType ) ) {
+                ctx.getMessager().printMessage(
+                    method.getExecutable(),
+                    Message.ITERABLEMAPPING_INDEXED_ITERATION_NOT_APPLICABLE,
+                    sourceParameterType
+                );
+                return null;
+            }
+
+            return ctx.getTypeFactory().getType( RandomAccess.class );
+        }
     }
 
+    @SuppressWarnings( "checkstyle:parameternumber" )
     private IterableMappingMethod(Method method, Collection<String> existingVariables, Assignment parameterAssignment,
                                   MethodReference factoryMethod, boolean mapNullToDefault, String loopVariableName,
                                   List<LifecycleCallbackMethodReference> beforeMappingReferences,
                                   List<LifecycleCallbackMethodReference> afterMappingReferences,
-        SelectionParameters selectionParameters) {
+        SelectionParameters selectionParameters, Type randomAccessType, Assignment elementFunction,
+        Integer parallelThreshold, Type collectorsType) {
         super(
             method,
             existingVariables,
@@ -97,6 +160,46 @@ private IterableMappingMethod(Method method, Collection<String> existingVariable
             afterMappingReferences,
             selectionParameters
         );
+        this.randomAccessType = randomAccessType;
+        this.elementFunction = elementFunction;
+        this.parallelThreshold = parallelThreshold;
+        this.collectorsType = collectorsType;
+    }
+
+    @Override
+    public Set<Type> getImportTypes() {
+        Set<Type> types = super.getImportTypes();
+        if ( randomAccessType != null ) {
+            types.add( randomAccessType );
+        }
+        if ( elementFunction != null ) {
+            types.addAll( elementFunction.getImportTypes() );
+            types.add( collectorsType );
+        }
+        return types;
+    }
+
+    /**
+     * @return the element mapping as a function to be passed to {@code Stream#map()} if the elements are to be mapped
+     * in parallel above the {@link #getParallelThreshold() threshold}, {@code null} otherwise
+     */
+    public Assignment getElementFunction() {
+        return elementFunction;
+    }
+
+    /**
+     * @return the minimum number of source elements for mapping them in parallel, or {@code null} if the elements are
+     * always to be mapped sequentially
+     */
+    public Integer getParallelThreshold() {
+        return parallelThreshold;
+    }
+
+    /**
+     * @return the {@link RandomAccess} type if the source list is to be iterated by index, {@code null} otherwise
+     */
+    public Type getRandomAccessType() {
+        return randomAccessType;
     }
 
     public Type getSourceElementType() {
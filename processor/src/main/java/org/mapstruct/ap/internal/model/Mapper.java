@@ -18,6 +18,8 @@
  */
 package org.mapstruct.ap.internal.model;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.SortedSet;
 
@@ -48,14 +50,15 @@ public class Mapper extends GeneratedType {
     private final boolean customPackage;
     private final boolean customImplName;
     private final List<MapperReference> referencedMappers;
+    private final List<SupportingField> supportingFields;
     private Decorator decorator;
 
     @SuppressWarnings( "checkstyle:parameternumber" )
     private Mapper(TypeFactory typeFactory, String packageName, String name, String superClassName,
                    String interfacePackage, String interfaceName, boolean customPackage, boolean customImplName,
                    List<MappingMethod> methods, Options options, VersionInformation versionInformation,
-                   Accessibility accessibility, List<MapperReference> referencedMappers, Decorator decorator,
-                   SortedSet<Type> extraImportedTypes) {
+                   Accessibility accessibility, List<MapperReference> referencedMappers,
+                   List<SupportingField> supportingFields, Decorator decorator, SortedSet<Type> extraImportedTypes) {
 
         super(
             typeFactory,
@@ -76,6 +79,7 @@ private Mapper(TypeFactory typeFactory, String packageName, String name, String
         this.customImplName = customImplName;
 
         this.referencedMappers = referencedMappers;
+        this.supportingFields = supportingFields;
         this.decorator = decorator;
     }
 
@@ -85,6 +89,7 @@ public static class Builder {
         private TypeElement element;
         private List<MappingMethod> mappingMethods;
         private List<MapperReference> mapperReferences;
+        private List<SupportingField> supportingFields = Collections.emptyList();
         private SortedSet<Type> extraImportedTypes;
 
         private Elements elementUtils;
@@ -111,6 +116,11 @@ public Builder mapperReferences(List<MapperReference> mapperReferences) {
             return this;
         }
 
+        public Builder supportingFields(List<SupportingField> supportingFields) {
+            this.supportingFields = supportingFields;
+            return this;
+        }
+
         public Builder options(Options options) {
             this.options = options;
             return this;
@@ -158,7 +168,7 @@ public Mapper build() {
                     ( decorator == null ? "" : "_" );
 
             String elementPackage = elementUtils.getPackageOf( element ).getQualifiedName().toString();
-            String packageName = implPackage.replace( PACKAGE_NAME_PLACEHOLDER, elementPackage );
+            String packageName = getImplementationPackage( element, implPackage, elementUtils );
 
             return new Mapper(
                 typeFactory,
@@ -174,6 +184,7 @@ public Mapper build() {
                 versionInformation,
                 Accessibility.fromModifiers( element.getModifiers() ),
                 mapperReferences,
+                supportingFields,
                 decorator,
                 extraImportedTypes
             );
@@ -184,6 +195,27 @@ public List<MapperReference> getReferencedMappers() {
         return referencedMappers;
     }
 
+    public List<SupportingField> getSupportingFields() {
+        return supportingFields;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The fields of a mapper are its (possibly replaced) references to other mappers, followed by the fields required
+     * by its supporting methods.
+     */
+    @Override
+    public List<? extends Field> getFields() {
+        if ( supportingFields.isEmpty() ) {
+            return referencedMappers;
+        }
+
+        List<Field> fields = new ArrayList<Field>( referencedMappers );
+        fields.addAll( supportingFields );
+        return fields;
+    }
+
     public Decorator getDecorator() {
         return decorator;
     }
@@ -201,6 +233,18 @@ protected String getTemplateName() {
         return getTemplateNameForClass( GeneratedType.class );
     }
 
+    /**
+     * @param element the mapper type
+     * @param implPackage the implementation package as configured for the mapper, possibly containing the package name
+     * placeholder
+     * @param elementUtils the element utilities
+     * @return the package of the implementation generated for the given mapper type
+     */
+    public static String getImplementationPackage(TypeElement element, String implPackage, Elements elementUtils) {
+        String elementPackage = elementUtils.getPackageOf( element ).getQualifiedName().toString();
+        return implPackage.replace( PACKAGE_NAME_PLACEHOLDER, elementPackage );
+    }
+
     /**
      * @param element The type element
      * @return Returns the same as {@link Class#getName()} but without the package declaration.
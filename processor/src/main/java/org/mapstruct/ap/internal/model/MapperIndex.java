@@ -0,0 +1,143 @@
+/**
+ *  Copyright 2012-2017 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.ap.internal.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import javax.lang.model.element.TypeElement;
+
+import org.mapstruct.ap.internal.model.common.ModelElement;
+import org.mapstruct.ap.internal.model.common.Type;
+
+/**
+ * Represents the implementation of {@code org.mapstruct.factory.MapperIndex} generated for all mappers with the
+ * default component model, which are processed by one compilation. All types are referenced by their fully qualified
+ * names, so no imports are needed.
+ */
+public class MapperIndex extends ModelElement {
+
+    /**
+     * The name of the services file under which the generated index is registered.
+     */
+    public static final String SERVICES_FILE = "META-INF/services/org.mapstruct.factory.MapperIndex";
+
+    private final String packageName;
+    private final String name;
+    private final boolean generatedTypeAvailable;
+    private final List<Entry> entries = new ArrayList<Entry>();
+    private final List<TypeElement> mapperElements = new ArrayList<TypeElement>();
+    private int writtenEntries = -1;
+
+    public MapperIndex(String qualifiedName, boolean generatedTypeAvailable) {
+        int lastDot = qualifiedName.lastIndexOf( '.' );
+        this.packageName = lastDot > 0 ? qualifiedName.substring( 0, lastDot ) : "";
+        this.name = qualifiedName.substring( lastDot + 1 );
+        this.generatedTypeAvailable = generatedTypeAvailable;
+    }
+
+    /**
+     * Adds the given mapper to this index. As mappers are processed by one thread only, no synchronization is needed.
+     *
+     * @param mapperElement the mapper type
+     * @param implementationName the fully qualified name of the implementation to be instantiated for the mapper type
+     */
+    public void addEntry(TypeElement mapperElement, String implementationName) {
+        entries.add( new Entry( mapperElement.getQualifiedName().toString(), implementationName ) );
+        mapperElements.add( mapperElement );
+    }
+
+    @Override
+    public Set<Type> getImportTypes() {
+        return Collections.emptySet();
+    }
+
+    public String getPackageName() {
+        return packageName;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getQualifiedName() {
+        return packageName.isEmpty() ? name : packageName + "." + name;
+    }
+
+    public boolean isGeneratedTypeAvailable() {
+        return generatedTypeAvailable;
+    }
+
+    public List<Entry> getEntries() {
+        return entries;
+    }
+
+    /**
+     * @return the types of all mappers contained in this index, i.e. the originating elements of the index
+     */
+    public TypeElement[] getMapperElements() {
+        return mapperElements.toArray( new TypeElement[mapperElements.size()] );
+    }
+
+    public boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    public boolean isWritten() {
+        return writtenEntries >= 0;
+    }
+
+    /**
+     * Marks this index as written; entries added afterwards are not contained in the generated source file.
+     */
+    public void markWritten() {
+        writtenEntries = entries.size();
+    }
+
+    /**
+     * @return the entries added after this index has been written
+     */
+    public List<Entry> getUnwrittenEntries() {
+        return isWritten() ? entries.subList( writtenEntries, entries.size() ) : entries;
+    }
+
+    /**
+     * A mapper type and its implementation type.
+     */
+    public static class Entry {
+
+        private final String mapperName;
+        private final String implementationName;
+
+        public Entry(String mapperName, String implementationName) {
+            this.mapperName = mapperName;
+            this.implementationName = implementationName;
+        }
+
+        public String getMapperName() {
+            return mapperName;
+        }
+
+        public String getImplementationName() {
+            return implementationName;
+        }
+    }
+}
@@ -31,6 +31,7 @@
 import org.mapstruct.ap.internal.model.common.Assignment;
 import org.mapstruct.ap.internal.model.common.FormattingParameters;
 import org.mapstruct.ap.internal.model.common.SourceRHS;
+import org.mapstruct.ap.internal.model.common.SupportingConstants;
 import org.mapstruct.ap.internal.model.common.Type;
 import org.mapstruct.ap.internal.model.common.TypeFactory;
 import org.mapstruct.ap.internal.model.source.ForgedMethod;
@@ -119,6 +120,18 @@ Assignment getTargetAssignment(Method mappingMethod, Type targetType, String tar
         MethodReference getFactoryMethod(Method mappingMethod, Type target, SelectionParameters selectionParameters);
 
         Set<VirtualMappingMethod> getUsedVirtualMappings();
+
+        /**
+         * @return the constants declared by the conversions used in the mapper, e.g. formatters with a fixed pattern
+         */
+        SupportingConstants getSupportingConstants();
+
+        /**
+         * @return the number of supporting constants and helper methods requested by the conversions created so far;
+         * if this number doesn't change while creating a method, the conversions used by that method don't depend on
+         * any members of the generated mapper
+         */
+        int getMapperMemberRequestCount();
     }
 
     private final TypeFactory typeFactory;
@@ -130,6 +143,7 @@ Assignment getTargetAssignment(Method mappingMethod, Type targetType, String tar
     private final List<SourceMethod> sourceModel;
     private final List<MapperReference> mapperReferences;
     private final MappingResolver mappingResolver;
+    private final SharedSubMappingMethods sharedSubMappingMethods;
     private final List<MappingMethod> mappingsToGenerate = new ArrayList<MappingMethod>();
     private final Map<ForgedMethod, ForgedMethod> forgedMethodsUnderCreation =
         new HashMap<ForgedMethod, ForgedMethod>(  );
@@ -142,7 +156,8 @@ public MappingBuilderContext(TypeFactory typeFactory,
                           MappingResolver mappingResolver,
                           TypeElement mapper,
                           List<SourceMethod> sourceModel,
-                          List<MapperReference> mapperReferences) {
+                          List<MapperReference> mapperReferences,
+                          SharedSubMappingMethods sharedSubMappingMethods) {
         this.typeFactory = typeFactory;
         this.elementUtils = elementUtils;
         this.typeUtils = typeUtils;
@@ -152,6 +167,7 @@ public MappingBuilderContext(TypeFactory typeFactory,
         this.mapperTypeElement = mapper;
         this.sourceModel = sourceModel;
         this.mapperReferences = mapperReferences;
+        this.sharedSubMappingMethods = sharedSubMappingMethods;
     }
 
     /**
@@ -230,6 +246,22 @@ public Set<VirtualMappingMethod> getUsedVirtualMappings() {
         return mappingResolver.getUsedVirtualMappings();
     }
 
+    public SupportingConstants getSupportingConstants() {
+        return mappingResolver.getSupportingConstants();
+    }
+
+    public int getMapperMemberRequestCount() {
+        return mappingResolver.getMapperMemberRequestCount();
+    }
+
+    /**
+     * @return the methods shared by the mappers of a package, if enabled via the
+     * {@code mapstruct.sharedSubMappingMethods} option; {@code null} otherwise
+     */
+    public SharedSubMappingMethods getSharedSubMappingMethods() {
+        return sharedSubMappingMethods;
+    }
+
     /**
      * @param sourceType from which an automatic sub-mapping needs to be generated
      * @param targetType to which an automatic sub-mapping needs to be generated
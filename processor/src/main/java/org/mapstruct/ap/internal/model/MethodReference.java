@@ -63,6 +63,12 @@ public class MethodReference extends MappingMethod implements Assignment {
     private final List<ParameterBinding> parameterBindings;
     private final Parameter providingParameter;
 
+    /**
+     * The simple name of the generated class declaring the referenced method, in case the method is shared by several
+     * mappers; {@code null} otherwise.
+     */
+    private final String sharedTypeName;
+
     /**
      * Creates a new reference to the given method.
      *
@@ -74,9 +80,15 @@ public class MethodReference extends MappingMethod implements Assignment {
      */
     protected MethodReference(Method method, MapperReference declaringMapper, Parameter providingParameter,
                               List<ParameterBinding> parameterBindings) {
+        this( method, declaringMapper, providingParameter, null, parameterBindings );
+    }
+
+    private MethodReference(Method method, MapperReference declaringMapper, Parameter providingParameter,
+                            String sharedTypeName, List<ParameterBinding> parameterBindings) {
         super( method );
         this.declaringMapper = declaringMapper;
         this.providingParameter = providingParameter;
+        this.sharedTypeName = sharedTypeName;
         this.parameterBindings = parameterBindings;
         this.contextParam = null;
         Set<Type> imported = new HashSet<Type>();
@@ -99,6 +111,7 @@ private MethodReference(BuiltInMethod method, ConversionContext contextParam) {
         super( method );
         this.declaringMapper = null;
         this.providingParameter = null;
+        this.sharedTypeName = null;
         this.contextParam = method.getContextParameter( contextParam );
         this.importTypes = Collections.emptySet();
         this.thrownTypes = Collections.emptyList();
@@ -115,6 +128,10 @@ public Parameter getProvidingParameter() {
         return providingParameter;
     }
 
+    public String getSharedTypeName() {
+        return sharedTypeName;
+    }
+
     public String getMapperVariableName() {
         return declaringMapper.getVariableName();
     }
@@ -282,6 +299,21 @@ public static MethodReference forForgedMethod(Method method, List<ParameterBindi
         return new MethodReference( method, null, null, parameterBindings );
     }
 
+    /**
+     * Creates a reference to a forged method which is shared by several mappers, being declared as static method by
+     * the given class generated in the package of these mappers.
+     *
+     * @param method the forged method
+     * @param sharedTypeName the simple name of the class declaring the method
+     * @param parameterBindings the parameter bindings of the method reference
+     *
+     * @return the method reference
+     */
+    public static MethodReference forSharedMethod(Method method, String sharedTypeName,
+            List<ParameterBinding> parameterBindings) {
+        return new MethodReference( method, null, null, sharedTypeName, parameterBindings );
+    }
+
     public static MethodReference forParameterProvidedMethod(Method method, Parameter providingParameter,
             List<ParameterBinding> parameterBindings) {
         return new MethodReference( method, null, providingParameter, parameterBindings );
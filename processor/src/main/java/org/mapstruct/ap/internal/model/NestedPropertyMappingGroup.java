@@ -0,0 +1,181 @@
+/**
+ *  Copyright 2012-2017 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.ap.internal.model;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.mapstruct.ap.internal.model.common.ModelElement;
+import org.mapstruct.ap.internal.model.common.Parameter;
+import org.mapstruct.ap.internal.model.common.Type;
+import org.mapstruct.ap.internal.model.source.ForgedMethod;
+import org.mapstruct.ap.internal.model.source.Method;
+import org.mapstruct.ap.internal.model.source.ParameterProvidedMethods;
+import org.mapstruct.ap.internal.model.source.PropertyEntry;
+import org.mapstruct.ap.internal.util.Strings;
+
+/**
+ * A group of property mappings of a {@link BeanMappingMethod} whose nested source references share the same path to
+ * the parent of the mapped source properties, e.g. {@code customer.address.city} and {@code customer.address.zip}.
+ * <p>
+ * The shared path is traversed once by means of a {@link NestedPropertyMappingMethod}, whose result is held in a
+ * local variable. The property mappings of the group are given as simple properties of that local variable and are
+ * only applied if it is not {@code null}.
+ */
+public class NestedPropertyMappingGroup extends ModelElement {
+
+    private final Parameter sourceParameter;
+    private final Parameter localVariable;
+    private final String nestedMethodName;
+    private final List<PropertyMapping> propertyMappings = new ArrayList<PropertyMapping>();
+
+    public static class Builder {
+
+        private MappingBuilderContext ctx;
+        private Method method;
+        private Parameter sourceParameter;
+        private List<PropertyEntry> propertyEntries;
+        private Collection<String> existingVariableNames;
+
+        public Builder mappingContext(MappingBuilderContext mappingContext) {
+            this.ctx = mappingContext;
+            return this;
+        }
+
+        public Builder method(Method method) {
+            this.method = method;
+            return this;
+        }
+
+        public Builder sourceParameter(Parameter sourceParameter) {
+            this.sourceParameter = sourceParameter;
+            return this;
+        }
+
+        /**
+         * @param propertyEntries the path from the source parameter to the parent of the mapped source properties
+         *
+         * @return the builder for chaining
+         */
+        public Builder propertyEntries(List<PropertyEntry> propertyEntries) {
+            this.propertyEntries = propertyEntries;
+            return this;
+        }
+
+        public Builder existingVariableNames(Collection<String> existingVariableNames) {
+            this.existingVariableNames = existingVariableNames;
+            return this;
+        }
+
+        public NestedPropertyMappingGroup build() {
+            Type parentType = propertyEntries.get( propertyEntries.size() - 1 ).getType();
+
+            List<String> propertyNames = new ArrayList<String>();
+            for ( PropertyEntry propertyEntry : propertyEntries ) {
+                propertyNames.add( propertyEntry.getName() );
+            }
+
+            List<String> elementNames = new ArrayList<String>();
+            elementNames.add( sourceParameter.getName() );
+            elementNames.addAll( propertyNames );
+            String forgedName = Strings.joinAndCamelize( elementNames );
+            forgedName = Strings.getSaveVariableName( forgedName, ctx.getNamesOfMappingsToGenerate() );
+            ForgedMethod methodRef = new ForgedMethod(
+                forgedName,
+                sourceParameter.getType(),
+                parentType,
+                method.getMapperConfiguration(),
+                method.getExecutable(),
+                Collections.<Parameter>emptyList(),
+                ParameterProvidedMethods.empty()
+            );
+
+            NestedPropertyMappingMethod nestedMethod = new NestedPropertyMappingMethod.Builder()
+                .method( methodRef )
+                .propertyEntries( propertyEntries )
+                .build();
+
+            // add if not yet existing
+            if ( !ctx.getMappingsToGenerate().contains( nestedMethod ) ) {
+                ctx.getMappingsToGenerate().add( nestedMethod );
+            }
+            else {
+                forgedName = ctx.getExistingMappingMethod( nestedMethod ).getName();
+            }
+
+            String localVariableName = Strings.getSaveVariableName(
+                Strings.joinAndCamelize( propertyNames ),
+                existingVariableNames
+            );
+            existingVariableNames.add( localVariableName );
+
+            return new NestedPropertyMappingGroup(
+                sourceParameter,
+                new Parameter( localVariableName, parentType ),
+                forgedName
+            );
+        }
+    }
+
+    private NestedPropertyMappingGroup(Parameter sourceParameter, Parameter localVariable, String nestedMethodName) {
+        this.sourceParameter = sourceParameter;
+        this.localVariable = localVariable;
+        this.nestedMethodName = nestedMethodName;
+    }
+
+    /**
+     * @return the source parameter the shared path starts at
+     */
+    public Parameter getSourceParameter() {
+        return sourceParameter;
+    }
+
+    /**
+     * @return the local variable holding the parent of the mapped source properties, to be used as source parameter
+     * of the source references of the property mappings of this group
+     */
+    public Parameter getLocalVariable() {
+        return localVariable;
+    }
+
+    public String getNestedMethodName() {
+        return nestedMethodName;
+    }
+
+    public List<PropertyMapping> getPropertyMappings() {
+        return propertyMappings;
+    }
+
+    void addPropertyMapping(PropertyMapping propertyMapping) {
+        propertyMappings.add( propertyMapping );
+    }
+
+    @Override
+    public Set<Type> getImportTypes() {
+        Set<Type> types = new HashSet<Type>( localVariable.getType().getImportTypes() );
+        for ( PropertyMapping propertyMapping : propertyMappings ) {
+            types.addAll( propertyMapping.getImportTypes() );
+        }
+        return types;
+    }
+}
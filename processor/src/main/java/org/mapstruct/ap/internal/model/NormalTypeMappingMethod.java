@@ -51,7 +51,10 @@ public abstract class NormalTypeMappingMethod extends MappingMethod {
     public Set<Type> getImportTypes() {
         Set<Type> types = super.getImportTypes();
         if ( ( factoryMethod == null ) && ( !isExistingInstanceMapping() ) ) {
-            if ( getReturnType().getImplementationType() != null ) {
+            if ( getReturnType().getEnumImplementationType() != null ) {
+                types.addAll( getReturnType().getEnumImplementationType().getImportTypes() );
+            }
+            else if ( getReturnType().getImplementationType() != null ) {
                 types.addAll( getReturnType().getImplementationType().getImportTypes() );
             }
         }
@@ -194,6 +194,7 @@ public static class PropertyMappingBuilder extends MappingBuilderBase<PropertyMa
         private MappingOptions forgeMethodWithMappingOptions;
         private boolean forceUpdateMethod;
         private boolean forgedNamedBased = true;
+        private boolean groupedNestedSource;
 
         PropertyMappingBuilder() {
             super( PropertyMappingBuilder.class );
@@ -245,6 +246,18 @@ public PropertyMappingBuilder forgedNamedBased(boolean forgedNamedBased) {
             return this;
         }
 
+        /**
+         * @param groupedNestedSource whether the source reference is relative to the local variable of a
+         * {@link NestedPropertyMappingGroup}; the source value will then be assigned to a local variable and null
+         * checked, just as the value of a nested source property
+         *
+         * @return the builder for chaining
+         */
+        public PropertyMappingBuilder groupedNestedSource(boolean groupedNestedSource) {
+            this.groupedNestedSource = groupedNestedSource;
+            return this;
+        }
+
         public PropertyMapping build() {
             // handle source
             this.rightHandSide = getSourceRHS( sourceReference );
@@ -462,13 +475,17 @@ private SourceRHS getSourceRHS( SourceReference sourceReference ) {
             else if ( propertyEntries.size() == 1 ) {
                 PropertyEntry propertyEntry = propertyEntries.get( 0 );
                 String sourceRef = sourceParam.getName() + "." + ValueProvider.of( propertyEntry.getReadAccessor() );
-                return new SourceRHS( sourceParam.getName(),
-                                      sourceRef,
-                                      getSourcePresenceCheckerRef( sourceReference ),
-                                      propertyEntry.getType(),
-                                      existingVariableNames,
-                                      sourceReference.toString()
+                SourceRHS sourceRhs = new SourceRHS( sourceParam.getName(),
+                                                     sourceRef,
+                                                     getSourcePresenceCheckerRef( sourceReference ),
+                                                     propertyEntry.getType(),
+                                                     existingVariableNames,
+                                                     sourceReference.toString()
                 );
+                if ( groupedNestedSource && !propertyEntry.getType().isPrimitive() ) {
+                    sourceRhs.setSourceLocalVarName( sourceRhs.createLocalVarName( propertyEntry.getName() ) );
+                }
+                return sourceRhs;
             }
             // nested property given as dot path
             else {
@@ -0,0 +1,258 @@
+/**
+ *  Copyright 2012-2017 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.ap.internal.model;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.Elements;
+
+import org.mapstruct.ap.internal.model.assignment.AssignmentWrapper;
+import org.mapstruct.ap.internal.model.assignment.UpdateWrapper;
+import org.mapstruct.ap.internal.model.common.Accessibility;
+import org.mapstruct.ap.internal.model.common.Assignment;
+import org.mapstruct.ap.internal.model.common.Parameter;
+import org.mapstruct.ap.internal.model.common.SourceRHS;
+import org.mapstruct.ap.internal.option.Options;
+import org.mapstruct.ap.internal.util.MapperConfiguration;
+import org.mapstruct.ap.internal.util.Strings;
+import org.mapstruct.ap.internal.version.VersionInformation;
+
+/**
+ * Collects the forged sub-mapping methods which are shared by the mappers of a package, if enabled via the
+ * {@code mapstruct.sharedSubMappingMethods} option. Instead of generating the same sub-mapping method within each
+ * mapper, such methods are generated once as static methods of a class in the package of the mapper implementations,
+ * see {@link SubMappingSupport}.
+ * <p>
+ * Only bean mapping methods not depending on the mapper they are forged for can be shared, i.e. methods without
+ * context parameters, lifecycle callbacks or identity tracking, which map properties directly, via conversions not
+ * requiring any constants or helper methods of the mapper, or via other shared methods. As mappers are processed by
+ * one thread only, no synchronization is needed.
+ * <p>
+ * The name of a class is derived from the mappers of its package processed in one round, e.g.
+ * {@code MapStructSubMappings_1a2b3c4d}. If only some of these mappers are recompiled later on, a class with another
+ * name is generated for them, so the classes of the mappers not recompiled keep referring to the class generated
+ * along with them instead of a class lacking the methods they use.
+ */
+public class SharedSubMappingMethods {
+
+    /**
+     * The prefix of the simple name of the classes generated in each package.
+     */
+    public static final String CLASS_NAME_PREFIX = "MapStructSubMappings_";
+
+    private final Options options;
+    private final VersionInformation versionInformation;
+
+    /**
+     * The classes by qualified name; {@code null} for names of types existing already.
+     */
+    private final Map<String, SubMappingSupport> supportsByName = new LinkedHashMap<String, SubMappingSupport>();
+
+    /**
+     * The names of the classes of the current round by package.
+     */
+    private final Map<String, String> classNamesByPackage = new HashMap<String, String>();
+    private Collection<TypeElement> roundMappers = Collections.emptyList();
+
+    public SharedSubMappingMethods(Options options, VersionInformation versionInformation) {
+        this.options = options;
+        this.versionInformation = versionInformation;
+    }
+
+    /**
+     * Sets the mappers processed in the current round, which determine the names of the classes the methods are
+     * shared by.
+     *
+     * @param mappers the mappers processed in the current round
+     */
+    public void startRound(Collection<TypeElement> mappers) {
+        roundMappers = mappers;
+        classNamesByPackage.clear();
+    }
+
+    /**
+     * Returns the name of a shared method equivalent to the given forged method, sharing the given method if there is
+     * no such method yet.
+     *
+     * @param ctx the context of the mapper the method has been forged for
+     * @param method the forged method
+     *
+     * @return the name of the equivalent method of the class named {@link #getClassName(MappingBuilderContext)}, or
+     * {@code null} if the given method is to be generated within the mapper
+     */
+    public String share(MappingBuilderContext ctx, BeanMappingMethod method) {
+        if ( !isMapperIndependent( method ) ) {
+            return null;
+        }
+
+        SubMappingSupport support = getSupport( ctx );
+        if ( support == null ||
+            !ctx.getTypeFactory().reserveSimpleName( support.getName(), support.getQualifiedName() ) ) {
+            return null;
+        }
+
+        return support.share( method, ctx.getMapperTypeElement() );
+    }
+
+    /**
+     * @param ctx the context of a mapper
+     *
+     * @return the simple name of the class sharing methods with the given mapper
+     */
+    public String getClassName(MappingBuilderContext ctx) {
+        Elements elementUtils = ctx.getElementUtils();
+        return getClassName( elementUtils, getImplementationPackage( ctx.getMapperTypeElement(), elementUtils ) );
+    }
+
+    private SubMappingSupport getSupport(MappingBuilderContext ctx) {
+        String packageName = getImplementationPackage( ctx.getMapperTypeElement(), ctx.getElementUtils() );
+        String name = getClassName( ctx.getElementUtils(), packageName );
+        String qualifiedName = packageName.isEmpty() ? name : packageName + "." + name;
+
+        if ( supportsByName.containsKey( qualifiedName ) ) {
+            return supportsByName.get( qualifiedName );
+        }
+
+        SubMappingSupport support = null;
+        if ( ctx.getElementUtils().getTypeElement( qualifiedName ) == null ) {
+            support = new SubMappingSupport(
+                ctx.getTypeFactory(),
+                packageName,
+                name,
+                options,
+                versionInformation
+            );
+        }
+
+        supportsByName.put( qualifiedName, support );
+        return support;
+    }
+
+    /**
+     * Returns the name of the class of the given package, made up of {@link #CLASS_NAME_PREFIX} and the hash code of
+     * the names of the mappers of that package processed in the current round.
+     */
+    private String getClassName(Elements elementUtils, String packageName) {
+        String name = classNamesByPackage.get( packageName );
+        if ( name == null ) {
+            Set<String> mapperNames = new TreeSet<String>();
+            for ( TypeElement mapperElement : roundMappers ) {
+                if ( getImplementationPackage( mapperElement, elementUtils ).equals( packageName ) ) {
+                    mapperNames.add( mapperElement.getQualifiedName().toString() );
+                }
+            }
+
+            name = CLASS_NAME_PREFIX + Integer.toHexString( Strings.join( mapperNames, "," ).hashCode() );
+            classNamesByPackage.put( packageName, name );
+        }
+        return name;
+    }
+
+    private static String getImplementationPackage(TypeElement mapperElement, Elements elementUtils) {
+        return Mapper.getImplementationPackage(
+            mapperElement,
+            MapperConfiguration.getInstanceOn( mapperElement ).implementationPackage(),
+            elementUtils
+        );
+    }
+
+    /**
+     * @return the classes with methods added since they have been written the last time, i.e. those to be written
+     */
+    public List<SubMappingSupport> getUnwrittenSupports() {
+        List<SubMappingSupport> unwritten = new ArrayList<SubMappingSupport>();
+        for ( SubMappingSupport support : supportsByName.values() ) {
+            if ( support != null && !support.isEmpty() && !support.isWritten() ) {
+                unwritten.add( support );
+            }
+        }
+        return unwritten;
+    }
+
+    private boolean isMapperIndependent(BeanMappingMethod method) {
+        for ( Parameter parameter : method.getParameters() ) {
+            if ( parameter.isMappingContext() || parameter.isTargetType() ) {
+                return false;
+            }
+        }
+
+        if ( method.getIdentityTracking() != null || !method.getParts().isEmpty() ||
+            !method.getBeforeMappingReferencesWithoutMappingTarget().isEmpty() ||
+            !method.getBeforeMappingReferencesWithMappingTarget().isEmpty() ||
+            !method.getAfterMappingReferences().isEmpty() ||
+            !isMapperIndependent( method.getFactoryMethod() ) ) {
+            return false;
+        }
+
+        for ( Parameter sourceParameter : method.getSourceParameters() ) {
+            if ( !method.nestedPropertyMappingGroupsByParameter( sourceParameter ).isEmpty() ) {
+                return false;
+            }
+        }
+
+        for ( PropertyMapping propertyMapping : method.getPropertyMappings() ) {
+            if ( !isMapperIndependent( propertyMapping.getAssignment() ) ||
+                !isMapperIndependent( propertyMapping.getDefaultValueAssignment() ) ) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Whether the given assignment references no members of the mapper, i.e. whether it only references its source,
+     * shared methods and public static methods.
+     */
+    private boolean isMapperIndependent(Assignment assignment) {
+        if ( assignment == null || assignment instanceof SourceRHS ) {
+            return true;
+        }
+        else if ( assignment instanceof AssignmentWrapper ) {
+            if ( assignment instanceof UpdateWrapper &&
+                !isMapperIndependent( ( (UpdateWrapper) assignment ).getFactoryMethod() ) ) {
+                return false;
+            }
+            return isMapperIndependent( ( (AssignmentWrapper) assignment ).getAssignment() );
+        }
+        else if ( assignment instanceof TypeConversion ) {
+            return isMapperIndependent( ( (TypeConversion) assignment ).getAssignment() );
+        }
+        else if ( assignment instanceof MethodReference ) {
+            MethodReference methodReference = (MethodReference) assignment;
+            boolean publicStatic = methodReference.isStatic() && methodReference.getProvidingParameter() == null &&
+                methodReference.getDefiningType() != null &&
+                methodReference.getAccessibility() == Accessibility.PUBLIC;
+
+            return ( methodReference.getSharedTypeName() != null || publicStatic ) &&
+                isMapperIndependent( methodReference.getAssignment() );
+        }
+
+        return false;
+    }
+}
@@ -69,9 +69,18 @@ protected StreamMappingMethod instantiateMappingMethod(Method method, Collection
             Set<Type> helperImports = new HashSet<Type>();
             if ( method.getResultType().isIterableType() ) {
                 helperImports.add( ctx.getTypeFactory().getType( Collectors.class ) );
+                // the stream is collected into the regular implementation type, also for sets of enums
+                if ( method.getResultType().getImplementationType() != null ) {
+                    helperImports.addAll( method.getResultType().getImplementationType().getImportTypes() );
+                }
             }
 
+            // the elements of a returned stream are mapped when the caller consumes it, and a source stream has no
+            // size to compare with the threshold, so the elements are never mapped in parallel here
+            getParallelThreshold( method, null, false );
+
             Type sourceParameterType = first( method.getSourceParameters() ).getType();
+
             if ( !sourceParameterType.isCollectionType() && !sourceParameterType.isArrayType() &&
                 sourceParameterType.isIterableType() ) {
                 helperImports.add( ctx.getTypeFactory().getType( StreamSupport.class ) );
@@ -0,0 +1,208 @@
+/**
+ *  Copyright 2012-2017 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.ap.internal.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeKind;
+
+import org.mapstruct.ap.internal.model.common.Accessibility;
+import org.mapstruct.ap.internal.model.common.Parameter;
+import org.mapstruct.ap.internal.model.common.Type;
+import org.mapstruct.ap.internal.model.common.TypeFactory;
+import org.mapstruct.ap.internal.option.Options;
+import org.mapstruct.ap.internal.util.Strings;
+import org.mapstruct.ap.internal.version.VersionInformation;
+import org.mapstruct.ap.internal.writer.ModelWriter;
+
+/**
+ * Represents the class generated for one package, declaring the forged sub-mapping methods which are shared by the
+ * mappers of that package as static methods, see {@link SharedSubMappingMethods}.
+ * <p>
+ * A method is only shared by mappers for which the very same source code would be generated. As the types referenced
+ * by the methods are created by the type factories of different mappers, a method is not added if it would import a
+ * type with the same simple name as a type imported by another method.
+ */
+public class SubMappingSupport extends GeneratedType {
+
+    private static final String GENERATED_TYPE = "javax.annotation.Generated";
+
+    private final Map<String, List<SharedMethod>> methodsBySignature = new HashMap<String, List<SharedMethod>>();
+    private final Set<String> methodNames = new HashSet<String>();
+    private final Map<String, String> importedTypesBySimpleName = new HashMap<String, String>();
+    private final List<TypeElement> mapperElements = new ArrayList<TypeElement>();
+    private final ModelWriter modelWriter = new ModelWriter();
+    private boolean written;
+
+    SubMappingSupport(TypeFactory typeFactory, String packageName, String name, Options options,
+                      VersionInformation versionInformation) {
+        super(
+            typeFactory,
+            packageName,
+            name,
+            null,
+            null,
+            null,
+            new ArrayList<MappingMethod>(),
+            Collections.<Field>emptyList(),
+            options,
+            versionInformation,
+            Accessibility.DEFAULT,
+            new TreeSet<Type>(),
+            null
+        );
+
+        importedTypesBySimpleName.put( name, getQualifiedName() );
+        importedTypesBySimpleName.put( "Generated", GENERATED_TYPE );
+    }
+
+    /**
+     * Returns the name of a method of this class equivalent to the given method, adding the given method if there is
+     * no such method yet. If a name is returned, the given method is turned into a method of this class, otherwise it
+     * is left unchanged.
+     *
+     * @param method the forged method of a mapper, not depending on any members of that mapper
+     * @param mapperElement the mapper the method has been forged for
+     *
+     * @return the name of the equivalent method of this class, or {@code null} if the given method can't be shared
+     */
+    String share(BeanMappingMethod method, TypeElement mapperElement) {
+        String signature = getSignature( method );
+        List<SharedMethod> variants = methodsBySignature.get( signature );
+        if ( variants == null ) {
+            variants = new ArrayList<SharedMethod>( 1 );
+            methodsBySignature.put( signature, variants );
+        }
+
+        for ( SharedMethod variant : variants ) {
+            method.setSharedName( variant.name );
+            if ( variant.source.equals( modelWriter.renderModel( method ) ) ) {
+                addMapperElement( mapperElement );
+                return variant.name;
+            }
+        }
+
+        method.setSharedName( null );
+        if ( written || !addImports( method ) ) {
+            return null;
+        }
+
+        String name = Strings.getSaveVariableName( method.getName(), methodNames );
+        methodNames.add( name );
+        method.setSharedName( name );
+        variants.add( new SharedMethod( name, modelWriter.renderModel( method ) ) );
+
+        getMethods().add( method );
+        addMapperElement( mapperElement );
+
+        return name;
+    }
+
+    private void addMapperElement(TypeElement mapperElement) {
+        if ( !mapperElements.contains( mapperElement ) ) {
+            mapperElements.add( mapperElement );
+        }
+    }
+
+    private static String getSignature(MappingMethod method) {
+        StringBuilder signature = new StringBuilder( method.getReturnType().getTypeMirror().toString() );
+        for ( Parameter parameter : method.getParameters() ) {
+            signature.append( ',' ).append( parameter.getType().getTypeMirror() );
+        }
+        return signature.toString();
+    }
+
+    /**
+     * Registers the simple names of the types imported by the given method, unless one of them is taken by another
+     * type already.
+     */
+    private boolean addImports(MappingMethod method) {
+        Map<String, String> imports = new HashMap<String, String>();
+        for ( Type type : method.getImportTypes() ) {
+            if ( !type.isImported() ||
+                ( type.getTypeMirror().getKind() != TypeKind.DECLARED && !type.isArrayType() ) ) {
+                continue;
+            }
+
+            String qualifiedName = type.getImportName();
+            String simpleName = qualifiedName.substring( qualifiedName.lastIndexOf( '.' ) + 1 );
+            String importedType = importedTypesBySimpleName.get( simpleName );
+            if ( importedType != null && !importedType.equals( qualifiedName ) ) {
+                return false;
+            }
+            imports.put( simpleName, qualifiedName );
+        }
+
+        importedTypesBySimpleName.putAll( imports );
+        return true;
+    }
+
+    public String getQualifiedName() {
+        return hasPackageName() ? getPackageName() + "." + getName() : getName();
+    }
+
+    /**
+     * @return the mappers using the methods of this class, i.e. the originating elements of this class
+     */
+    public TypeElement[] getMapperElements() {
+        return mapperElements.toArray( new TypeElement[mapperElements.size()] );
+    }
+
+    public boolean isEmpty() {
+        return getMethods().isEmpty();
+    }
+
+    public boolean isWritten() {
+        return written;
+    }
+
+    /**
+     * Marks this class as written; afterwards, only methods equivalent to the contained ones can be shared.
+     */
+    public void markWritten() {
+        written = true;
+    }
+
+    @Override
+    protected String getTemplateName() {
+        return getTemplateNameForClass( GeneratedType.class );
+    }
+
+    /**
+     * A method of this class, together with its source code for comparing it with the methods of other mappers.
+     */
+    private static class SharedMethod {
+
+        private final String name;
+        private final String source;
+
+        private SharedMethod(String name, String source) {
+            this.name = name;
+            this.source = source;
+        }
+    }
+}
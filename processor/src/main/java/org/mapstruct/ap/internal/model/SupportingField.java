@@ -0,0 +1,120 @@
+/**
+ *  Copyright 2012-2017 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.ap.internal.model;
+
+import java.util.Set;
+
+import org.mapstruct.ap.internal.model.common.SupportingConstants;
+import org.mapstruct.ap.internal.model.common.Type;
+import org.mapstruct.ap.internal.util.Collections;
+
+/**
+ * A private field of a generated mapper which is not a reference to another mapper, but holds state shared by the
+ * supporting code of the mapper, e.g. a lazily created {@code DatatypeFactory} used by several built-in methods.
+ * Supporting fields are contributed by {@link VirtualMappingMethod}s and {@link BeanMappingMethod}s and are considered
+ * equal if they have the same name.
+ */
+public class SupportingField extends Field {
+
+    private final boolean isStatic;
+    private final boolean isFinal;
+    private final boolean isVolatile;
+    private final String initializer;
+    private final Set<Type> importTypes;
+
+    private SupportingField(Type type, String variableName, boolean isStatic, boolean isFinal, boolean isVolatile,
+                            String initializer, Set<Type> importTypes) {
+        super( type, variableName, true );
+        this.isStatic = isStatic;
+        this.isFinal = isFinal;
+        this.isVolatile = isVolatile;
+        this.initializer = initializer;
+        this.importTypes = importTypes;
+    }
+
+    /**
+     * Creates a non-final, {@code volatile} instance field without initializer, suitable for holding a lazily
+     * initialized value which is safely published to all threads using the mapper.
+     *
+     * @param type the type of the field
+     * @param variableName the name of the field
+     *
+     * @return the field
+     */
+    public static SupportingField lazyField(Type type, String variableName) {
+        return new SupportingField( type, variableName, false, false, true, null, Collections.asSet( type ) );
+    }
+
+    /**
+     * Creates a {@code final} instance field with the given initializer.
+     *
+     * @param type the type of the field
+     * @param variableName the name of the field
+     * @param initializer the expression the field is initialized with
+     *
+     * @return the field
+     */
+    public static SupportingField finalField(Type type, String variableName, String initializer) {
+        return new SupportingField( type, variableName, false, true, false, initializer, type.getImportTypes() );
+    }
+
+    /**
+     * Creates a {@code static final} field representing the given constant.
+     *
+     * @param constant the constant
+     *
+     * @return the field
+     */
+    public static SupportingField constant(SupportingConstants.Constant constant) {
+        return new SupportingField(
+            constant.getType(),
+            constant.getVariableName(),
+            true,
+            true,
+            false,
+            constant.getInitializer(),
+            constant.getImportTypes()
+        );
+    }
+
+    public boolean isStatic() {
+        return isStatic;
+    }
+
+    public boolean isFinal() {
+        return isFinal;
+    }
+
+    public boolean isVolatile() {
+        return isVolatile;
+    }
+
+    /**
+     * @return the expression the field is initialized with, {@code null} if the field is not initialized upon
+     * declaration
+     */
+    public String getInitializer() {
+        return initializer;
+    }
+
+    @Override
+    public Set<Type> getImportTypes() {
+        return importTypes;
+    }
+}
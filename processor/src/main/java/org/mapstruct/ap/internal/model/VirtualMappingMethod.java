@@ -18,14 +18,18 @@
  */
 package org.mapstruct.ap.internal.model;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Set;
 
+import org.mapstruct.ap.internal.model.common.FieldReference;
 import org.mapstruct.ap.internal.model.common.Type;
 import org.mapstruct.ap.internal.model.source.builtin.BuiltInMethod;
 
 /**
  * A mapping method which is not based on an actual method declared in the original mapper interface but is added as
- * private method to map a certain source/target type combination. Based on a {@link BuiltInMethod}.
+ * private method to map a certain source/target type combination. Based on a {@link BuiltInMethod} or a
+ * {@link HelperMethod}.
  *
  * @author Gunnar Morling
  */
@@ -33,17 +37,31 @@ public class VirtualMappingMethod extends MappingMethod {
 
     private final String templateName;
     private final Set<Type> importTypes;
+    private final List<SupportingField> supportingFields;
+    private final HelperMethod helperMethod;
 
     public VirtualMappingMethod(BuiltInMethod method) {
         super( method );
         this.importTypes = method.getImportTypes();
         this.templateName = getTemplateNameForClass( method.getClass() );
+        FieldReference fieldReference = method.getFieldReference();
+        if ( fieldReference != null ) {
+            this.supportingFields = Collections.singletonList(
+                SupportingField.lazyField( fieldReference.getType(), fieldReference.getVariableName() )
+            );
+        }
+        else {
+            this.supportingFields = Collections.emptyList();
+        }
+        this.helperMethod = null;
     }
 
     public VirtualMappingMethod(HelperMethod method) {
         super( method );
         this.importTypes = method.getImportTypes();
         this.templateName = getTemplateNameForClass( method.getClass() );
+        this.supportingFields = Collections.emptyList();
+        this.helperMethod = method;
     }
 
     @Override
@@ -56,11 +74,26 @@ public Set<Type> getImportTypes() {
         return importTypes;
     }
 
+    /**
+     * @return the fields which need to be added to the generated mapper in order to support this method
+     */
+    public List<SupportingField> getSupportingFields() {
+        return supportingFields;
+    }
+
+    /**
+     * @return the helper method this method is based on, or {@code null} if it is based on a built-in method
+     */
+    public HelperMethod getHelperMethod() {
+        return helperMethod;
+    }
+
     @Override
     public int hashCode() {
         final int prime = 31;
         int result = 1;
         result = prime * result + ( ( templateName == null ) ? 0 : templateName.hashCode() );
+        result = prime * result + getName().hashCode();
         return result;
     }
 
@@ -84,6 +117,9 @@ public boolean equals(Object obj) {
         else if ( !templateName.equals( other.templateName ) ) {
             return false;
         }
+        if ( !getName().equals( other.getName() ) ) {
+            return false;
+        }
         return true;
     }
 }
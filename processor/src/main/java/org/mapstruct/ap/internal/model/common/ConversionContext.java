@@ -20,6 +20,10 @@
 
 import java.util.Date;
 
+import javax.lang.model.SourceVersion;
+
+import org.mapstruct.ap.internal.prism.UnknownEnumStringStrategyPrism;
+
 /**
  * Context object passed to conversion providers and built-in methods.
  *
@@ -47,4 +51,34 @@ public interface ConversionContext {
 
     TypeFactory getTypeFactory();
 
+    /**
+     * Returns the constants of the mapper the conversion is created for. Conversions may declare constants there
+     * instead of instantiating e.g. formatters upon each invocation.
+     *
+     * @return The constants of the mapper the conversion is created for.
+     */
+    SupportingConstants getSupportingConstants();
+
+    /**
+     * Returns the strategy for dealing with unknown constant names if this conversion is from String to an enum type.
+     *
+     * @return The strategy for dealing with unknown enum constant names.
+     */
+    UnknownEnumStringStrategyPrism getUnknownEnumStringStrategy();
+
+    /**
+     * Returns the name of the constant to be returned for unknown constant names if this conversion is from String to
+     * an enum type and {@link UnknownEnumStringStrategyPrism#RETURN_DEFAULT_CONSTANT} is configured.
+     *
+     * @return The name of the default enum constant, or {@code null} if not given.
+     */
+    String getDefaultEnumConstant();
+
+    /**
+     * Returns the source version of the compilation, i.e. the language level the generated code must comply with.
+     *
+     * @return The source version of the compilation.
+     */
+    SourceVersion getSourceVersion();
+
 }
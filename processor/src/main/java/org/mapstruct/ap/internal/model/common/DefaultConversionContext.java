@@ -18,6 +18,9 @@
  */
 package org.mapstruct.ap.internal.model.common;
 
+import javax.lang.model.SourceVersion;
+
+import org.mapstruct.ap.internal.prism.UnknownEnumStringStrategyPrism;
 import org.mapstruct.ap.internal.util.FormattingMessager;
 import org.mapstruct.ap.internal.util.Strings;
 
@@ -35,10 +38,35 @@ public class DefaultConversionContext implements ConversionContext {
     private final String dateFormat;
     private final String numberFormat;
     private final TypeFactory typeFactory;
+    private final SupportingConstants supportingConstants;
+    private final UnknownEnumStringStrategyPrism unknownEnumStringStrategy;
+    private final String defaultEnumConstant;
+    private final SourceVersion sourceVersion;
 
     public DefaultConversionContext(TypeFactory typeFactory, FormattingMessager messager, Type sourceType,
         Type targetType, FormattingParameters formattingParameters) {
+        this(
+            typeFactory,
+            messager,
+            sourceType,
+            targetType,
+            formattingParameters,
+            new SupportingConstants(),
+            UnknownEnumStringStrategyPrism.THROW_EXCEPTION,
+            null,
+            SourceVersion.latest()
+        );
+    }
+
+    public DefaultConversionContext(TypeFactory typeFactory, FormattingMessager messager, Type sourceType,
+        Type targetType, FormattingParameters formattingParameters, SupportingConstants supportingConstants,
+        UnknownEnumStringStrategyPrism unknownEnumStringStrategy, String defaultEnumConstant,
+        SourceVersion sourceVersion) {
         this.typeFactory = typeFactory;
+        this.supportingConstants = supportingConstants;
+        this.unknownEnumStringStrategy = unknownEnumStringStrategy;
+        this.defaultEnumConstant = defaultEnumConstant;
+        this.sourceVersion = sourceVersion;
         this.messager = messager;
         this.sourceType = sourceType;
         this.targetType = targetType;
@@ -87,6 +115,26 @@ public TypeFactory getTypeFactory() {
         return typeFactory;
     }
 
+    @Override
+    public SupportingConstants getSupportingConstants() {
+        return supportingConstants;
+    }
+
+    @Override
+    public UnknownEnumStringStrategyPrism getUnknownEnumStringStrategy() {
+        return unknownEnumStringStrategy;
+    }
+
+    @Override
+    public String getDefaultEnumConstant() {
+        return defaultEnumConstant;
+    }
+
+    @Override
+    public SourceVersion getSourceVersion() {
+        return sourceVersion;
+    }
+
     protected FormattingMessager getMessager() {
         return messager;
     }
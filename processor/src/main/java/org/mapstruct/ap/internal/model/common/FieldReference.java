@@ -0,0 +1,47 @@
+/**
+ *  Copyright 2012-2017 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.ap.internal.model.common;
+
+/**
+ * Describes a field of the generated mapper which is referenced from generated code, e.g. from a built-in method.
+ */
+public class FieldReference {
+
+    private final Type type;
+    private final String variableName;
+
+    public FieldReference(Type type, String variableName) {
+        this.type = type;
+        this.variableName = variableName;
+    }
+
+    /**
+     * @return the type of the referenced field
+     */
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * @return the name of the referenced field
+     */
+    public String getVariableName() {
+        return variableName;
+    }
+}
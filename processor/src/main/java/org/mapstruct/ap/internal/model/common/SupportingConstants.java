@@ -0,0 +1,168 @@
+/**
+ *  Copyright 2012-2017 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.ap.internal.model.common;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Collects the constants (i.e. {@code private static final} fields) of a generated mapper which are requested while
+ * creating conversions, e.g. formatters with a fixed pattern which would otherwise be instantiated upon each
+ * invocation. Constants with the same initializer are only declared once.
+ * <p>
+ * Constants may also be provided by other types, e.g. holder classes shared between several mappers; such constants
+ * are referenced instead of declaring an equivalent constant in the generated mapper.
+ */
+public class SupportingConstants {
+
+    private final Map<String, Constant> constantsByInitializer = new LinkedHashMap<String, Constant>();
+    private final Set<String> usedNames = new HashSet<String>();
+    private final Map<String, SharedConstant> sharedConstantsByInitializer =
+        new LinkedHashMap<String, SharedConstant>();
+    private final Set<Type> usedSharedConstantTypes = new LinkedHashSet<Type>();
+    private int requestCount;
+
+    /**
+     * Registers a constant declared by another type, which will be referenced instead of declaring a constant with
+     * the same initializer in the generated mapper.
+     *
+     * @param declaringType the type declaring the constant
+     * @param variableName the name of the constant
+     * @param initializer the expression the constant is equivalent to
+     *
+     * @return {@code false} if another shared constant with the same initializer has been registered before,
+     * {@code true} otherwise
+     */
+    public boolean addSharedConstant(Type declaringType, String variableName, String initializer) {
+        if ( sharedConstantsByInitializer.containsKey( initializer ) ) {
+            return false;
+        }
+
+        sharedConstantsByInitializer.put( initializer, new SharedConstant( declaringType, variableName ) );
+        return true;
+    }
+
+    /**
+     * Returns the name of a constant with the given initializer, declaring that constant if it doesn't exist yet.
+     *
+     * @param type the type of the constant
+     * @param name the desired name of the constant, e.g. {@code DECIMAL_FORMAT}; a numeric suffix will be appended if
+     * a constant with another initializer already has that name
+     * @param initializer the expression the constant is initialized with
+     * @param importTypes the types referenced by the initializer
+     *
+     * @return the name under which the constant can be referenced from generated code
+     */
+    public String getConstant(Type type, String name, String initializer, Set<Type> importTypes) {
+        requestCount++;
+
+        SharedConstant sharedConstant = sharedConstantsByInitializer.get( initializer );
+        if ( sharedConstant != null ) {
+            usedSharedConstantTypes.add( sharedConstant.declaringType );
+            return sharedConstant.getReference();
+        }
+
+        Constant constant = constantsByInitializer.get( initializer );
+
+        if ( constant == null ) {
+            String variableName = name;
+            int i = 1;
+            while ( !usedNames.add( variableName ) ) {
+                variableName = name + "_" + i++;
+            }
+
+            constant = new Constant( type, variableName, initializer, importTypes );
+            constantsByInitializer.put( initializer, constant );
+        }
+
+        return constant.getVariableName();
+    }
+
+    /**
+     * @return the number of times a constant has been requested so far, including repeated requests of the same
+     * constant; allows to tell whether the code created in between references any constants
+     */
+    public int getRequestCount() {
+        return requestCount;
+    }
+
+    /**
+     * @return all constants requested so far, in the order of their declaration
+     */
+    public List<Constant> getConstants() {
+        return Collections.unmodifiableList( new ArrayList<Constant>( constantsByInitializer.values() ) );
+    }
+
+    /**
+     * @return the types declaring shared constants which are referenced by the generated mapper
+     */
+    public Set<Type> getUsedSharedConstantTypes() {
+        return Collections.unmodifiableSet( usedSharedConstantTypes );
+    }
+
+    /**
+     * A constant of the generated mapper.
+     */
+    public static class Constant extends FieldReference {
+
+        private final String initializer;
+        private final Set<Type> importTypes;
+
+        private Constant(Type type, String variableName, String initializer, Set<Type> importTypes) {
+            super( type, variableName );
+            this.initializer = initializer;
+            this.importTypes = importTypes;
+        }
+
+        /**
+         * @return the expression the constant is initialized with
+         */
+        public String getInitializer() {
+            return initializer;
+        }
+
+        /**
+         * @return the types referenced by the type and the initializer of the constant
+         */
+        public Set<Type> getImportTypes() {
+            return importTypes;
+        }
+    }
+
+    private static class SharedConstant {
+
+        private final Type declaringType;
+        private final String variableName;
+
+        private SharedConstant(Type declaringType, String variableName) {
+            this.declaringType = declaringType;
+            this.variableName = variableName;
+        }
+
+        private String getReference() {
+            return declaringType.getReferenceName() + "." + variableName;
+        }
+    }
+}
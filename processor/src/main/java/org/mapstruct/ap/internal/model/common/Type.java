@@ -308,6 +308,24 @@ public ImplementationType getImplementation() {
         return implementationType;
     }
 
+    /**
+     * @return the {@link ImplementationType} describing how instances of this type can be created with an initial
+     * capacity, i.e. the implementation of an interface type or this type itself in case of concrete types such as
+     * {@code ArrayList}; {@code null} if no initial capacity constructor is known for this type
+     */
+    public ImplementationType getInitialCapacityImplementation() {
+        return typeFactory.getInitialCapacityImplementation( this );
+    }
+
+    /**
+     * @return the {@code EnumSet} or {@code EnumMap} type to be instantiated instead of the regular implementation type
+     * in case this type is a {@code Set} with an enum element type or a {@code Map} with an enum key type, {@code null}
+     * otherwise
+     */
+    public Type getEnumImplementationType() {
+        return typeFactory.getEnumImplementationType( this );
+    }
+
     /**
      * Whether this type is a sub-type of {@link Iterable} or an array type.
      *
@@ -424,6 +442,15 @@ public boolean isImported() {
         return isImported;
     }
 
+    /**
+     * @return the simple name of this type if it is imported, the fully-qualified name otherwise
+     *
+     * @see #isImported()
+     */
+    public String getReferenceName() {
+        return isImported ? name : qualifiedName;
+    }
+
     /**
      * @param annotationTypeName the fully qualified name of the annotation type
      *
@@ -645,10 +672,10 @@ else if ( Executables.isGetterMethod( candidate ) || Executables.isFieldAccessor
 
     private List<Accessor> getAllAccessors() {
         if ( allAccessors == null ) {
-            allAccessors = Executables.getAllEnclosedAccessors( elementUtils, typeElement, isBuilder );
+            allAccessors = typeFactory.getAllEnclosedAccessors( typeElement, isBuilder );
             if ( hasBuilder ) {
                 final TypeElement builderElement = initializer.getInitializedType().getTypeElement();
-                allAccessors.addAll( Executables.getAllEnclosedAccessors( elementUtils, builderElement, true ) );
+                allAccessors.addAll( typeFactory.getAllEnclosedAccessors( builderElement, true ) );
             }
         }
 
@@ -40,9 +40,13 @@
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.NavigableMap;
@@ -78,6 +82,7 @@ public class TypeFactory {
     private final Types typeUtils;
     private final BuilderProvider builderProvider;
     private final RoundContext roundContext;
+    private final boolean enumImplementationTypes;
 
     private final TypeMirror iterableType;
     private final TypeMirror collectionType;
@@ -85,14 +90,28 @@ public class TypeFactory {
     private final TypeMirror streamType;
 
     private final Map<String, ImplementationType> implementationTypes = new HashMap<String, ImplementationType>();
+
+    /**
+     * Concrete iterable and map types which can be instantiated with an initial capacity, keyed by their qualified
+     * name.
+     */
+    private final Map<String, ImplementationType> initialCapacityTypes = new HashMap<String, ImplementationType>();
     private final Map<String, String> importedQualifiedTypesBySimpleName = new HashMap<String, String>();
 
+    /**
+     * The types created by {@link #getType(TypeMirror)}, keyed by the string representation of their mirror. Several
+     * mirrors of one type may exist, hence each entry holds all types with that representation, to be matched via
+     * {@link Types#isSameType(TypeMirror, TypeMirror)}.
+     */
+    private final Map<String, List<Type>> typesByMirrorName = new HashMap<String, List<Type>>();
+
     public TypeFactory(Elements elementUtils, Types typeUtils, BuilderProvider builderProvider,
-                       RoundContext roundContext) {
+                       RoundContext roundContext, boolean enumImplementationTypes) {
         this.elementUtils = elementUtils;
         this.typeUtils = typeUtils;
         this.builderProvider = builderProvider;
         this.roundContext = roundContext;
+        this.enumImplementationTypes = enumImplementationTypes;
 
         iterableType = typeUtils.erasure( elementUtils.getTypeElement( Iterable.class.getCanonicalName() ).asType() );
         collectionType =
@@ -120,12 +139,102 @@ public TypeFactory(Elements elementUtils, Types typeUtils, BuilderProvider build
             ConcurrentNavigableMap.class.getName(),
             withDefaultConstructor( getType( ConcurrentSkipListMap.class ) )
         );
+
+        for ( ImplementationType implementationType : implementationTypes.values() ) {
+            if ( implementationType.hasInitialCapacityConstructor() ) {
+                initialCapacityTypes.put(
+                    implementationType.getType().getFullyQualifiedName(),
+                    implementationType
+                );
+            }
+        }
+        initialCapacityTypes.put(
+            LinkedHashSet.class.getName(),
+            withLoadFactorAdjustment( getType( LinkedHashSet.class ) )
+        );
+        initialCapacityTypes.put(
+            LinkedHashMap.class.getName(),
+            withLoadFactorAdjustment( getType( LinkedHashMap.class ) )
+        );
+    }
+
+    /**
+     * Returns how instances of the given iterable or map type can be created with an initial capacity: either via the
+     * implementation type of an interface type, or via the given type itself, if it is a concrete type such as
+     * {@link ArrayList} or {@link HashMap}.
+     *
+     * @param type the type to be instantiated
+     *
+     * @return the {@link ImplementationType} describing the constructor used for instantiating the given type, or
+     * {@code null} if no initial capacity constructor is known for it
+     */
+    ImplementationType getInitialCapacityImplementation(Type type) {
+        if ( type.getImplementation() != null ) {
+            return type.getImplementation();
+        }
+        return initialCapacityTypes.get( type.getFullyQualifiedName() );
+    }
+
+    /**
+     * Returns the {@link EnumSet} or {@link EnumMap} type to be instantiated for the given type, if it is a
+     * {@link Set} with an enum element type or a {@link Map} with an enum key type and these implementations are
+     * enabled via the {@code mapstruct.useEnumSetAndEnumMap} option. These are more compact and faster than the
+     * default implementations {@link HashSet} and {@link HashMap}, but reject {@code null} elements and keys.
+     *
+     * @param type the type to be instantiated
+     *
+     * @return the {@code EnumSet} or {@code EnumMap} type with the type arguments of the given type, or {@code null}
+     * if the given type is no {@code Set} of enums or {@code Map} with enum keys or these implementations are disabled
+     */
+    Type getEnumImplementationType(Type type) {
+        if ( !enumImplementationTypes || type.getTypeParameters().isEmpty() ||
+            !type.getTypeParameters().get( 0 ).isEnumType() ) {
+            return null;
+        }
+
+        Class<?> implementationClass;
+        if ( Set.class.getName().equals( type.getFullyQualifiedName() ) ) {
+            implementationClass = EnumSet.class;
+        }
+        else if ( Map.class.getName().equals( type.getFullyQualifiedName() ) ) {
+            implementationClass = EnumMap.class;
+        }
+        else {
+            return null;
+        }
+
+        DeclaredType declaredType = (DeclaredType) type.getTypeMirror();
+        return getType(
+            typeUtils.getDeclaredType(
+                elementUtils.getTypeElement( implementationClass.getCanonicalName() ),
+                declaredType.getTypeArguments().toArray( new TypeMirror[] { } )
+            )
+        );
     }
 
     public Type getType(Class<?> type) {
         return type.isPrimitive() ? getType( getPrimitiveType( type ) ) : getType( type.getCanonicalName() );
     }
 
+    /**
+     * Returns the parameterized type with the given raw type and type arguments, e.g. {@code ThreadLocal<DateFormat>}.
+     *
+     * @param type the raw type
+     * @param typeArguments the type arguments
+     *
+     * @return the parameterized type
+     */
+    public Type getType(Class<?> type, Type... typeArguments) {
+        TypeMirror[] typeArgumentMirrors = new TypeMirror[typeArguments.length];
+        for ( int i = 0; i < typeArguments.length; i++ ) {
+            typeArgumentMirrors[i] = typeArguments[i].getTypeMirror();
+        }
+
+        return getType( typeUtils.getDeclaredType(
+            elementUtils.getTypeElement( type.getCanonicalName() ),
+            typeArgumentMirrors ) );
+    }
+
     public Type getType(String canonicalName) {
         TypeElement typeElement = elementUtils.getTypeElement( canonicalName );
 
@@ -148,6 +257,20 @@ public boolean isTypeAvailable(String canonicalName) {
         return null != elementUtils.getTypeElement( canonicalName );
     }
 
+    /**
+     * Reserves the simple name of a type which is generated by MapStruct and thus can't be obtained via
+     * {@link #getType(String)}, so that no other type with that simple name gets imported into the generated mapper.
+     *
+     * @param simpleName the simple name of the generated type
+     * @param qualifiedName the fully qualified name of the generated type
+     *
+     * @return {@code true} if the generated type can be referenced by its simple name, {@code false} if another type
+     * with that simple name is imported already
+     */
+    public boolean reserveSimpleName(String simpleName, String qualifiedName) {
+        return isImported( simpleName, qualifiedName );
+    }
+
     public Type getWrappedType(Type type ) {
         Type result = type;
         if ( type.isPrimitive() ) {
@@ -161,7 +284,42 @@ public Type getType(TypeElement typeElement) {
         return getType( typeElement.asType() );
     }
 
+    /**
+     * Returns the type for the given mirror. Types (and hence their accessors and builder information) are only
+     * created once per mirror and mapper.
+     *
+     * @param mirror the type mirror
+     *
+     * @return the type for the given mirror
+     */
     public Type getType(TypeMirror mirror) {
+        if ( mirror.getKind() == TypeKind.WILDCARD ) {
+            // wildcards are never the same type as any other type, not even themselves
+            return createType( mirror );
+        }
+
+        String mirrorName = mirror.toString();
+        List<Type> candidates = typesByMirrorName.get( mirrorName );
+        if ( candidates == null ) {
+            candidates = new ArrayList<Type>( 1 );
+            typesByMirrorName.put( mirrorName, candidates );
+        }
+        else {
+            for ( Type candidate : candidates ) {
+                TypeMirror candidateMirror = candidate.getTypeMirror();
+                if ( candidateMirror == mirror || typeUtils.isSameType( candidateMirror, mirror ) ) {
+                    return candidate;
+                }
+            }
+        }
+
+        Type type = createType( mirror );
+        candidates.add( type );
+
+        return type;
+    }
+
+    private Type createType(TypeMirror mirror) {
         final Type type = internalCreateType( mirror );
         if ( type.getTypeElement() != null ) {
 
@@ -645,6 +803,19 @@ static String trimSimpleClassName(String className) {
         return trimmedClassName;
     }
 
+    /**
+     * Returns the accessors of the given type, see {@link RoundContext#getAllEnclosedAccessors(Elements, TypeElement,
+     * boolean)}.
+     *
+     * @param element the element to inspect
+     * @param builder Whether the retrieved accessors are for a builder type
+     *
+     * @return a new, modifiable list with the accessors of the given type
+     */
+    List<Accessor> getAllEnclosedAccessors(TypeElement element, boolean builder) {
+        return roundContext.getAllEnclosedAccessors( elementUtils, element, builder );
+    }
+
     /**
      * Whether the given type is ready to be processed or not. It can be processed if it is not of kind
      * {@link TypeKind#ERROR} and all {@link AstModifyingAnnotationProcessor}s (if any) indicated that they've fully
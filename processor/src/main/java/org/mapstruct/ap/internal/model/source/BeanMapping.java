@@ -23,6 +23,7 @@
 import javax.lang.model.util.Types;
 
 import org.mapstruct.ap.internal.prism.BeanMappingPrism;
+import org.mapstruct.ap.internal.prism.CycleStrategyPrism;
 import org.mapstruct.ap.internal.prism.NullValueMappingStrategyPrism;
 import org.mapstruct.ap.internal.prism.ReportingPolicyPrism;
 import org.mapstruct.ap.internal.util.FormattingMessager;
@@ -38,6 +39,7 @@ public class BeanMapping {
     private final SelectionParameters selectionParameters;
     private final NullValueMappingStrategyPrism nullValueMappingStrategy;
     private final ReportingPolicyPrism reportingPolicy;
+    private final CycleStrategyPrism cycleStrategy;
 
     public static BeanMapping fromPrism(BeanMappingPrism beanMapping, ExecutableElement method,
         FormattingMessager messager, Types typeUtils) {
@@ -53,8 +55,12 @@ public static BeanMapping fromPrism(BeanMappingPrism beanMapping, ExecutableElem
                             ? null
                             : NullValueMappingStrategyPrism.valueOf( beanMapping.nullValueMappingStrategy() );
 
+        CycleStrategyPrism cycleStrategy = null == beanMapping.values.cycleStrategy()
+                            ? null
+                            : CycleStrategyPrism.valueOf( beanMapping.cycleStrategy() );
+
         if ( !resultTypeIsDefined && beanMapping.qualifiedBy().isEmpty() && beanMapping.qualifiedByName().isEmpty()
-            && ( nullValueMappingStrategy == null ) ) {
+            && ( nullValueMappingStrategy == null ) && ( cycleStrategy == null ) ) {
 
             messager.printMessage( method, Message.BEANMAPPING_NO_ELEMENTS );
         }
@@ -67,7 +73,7 @@ public static BeanMapping fromPrism(BeanMappingPrism beanMapping, ExecutableElem
         );
 
         //TODO Do we want to add the reporting policy to the BeanMapping as well? To give more granular support?
-        return new BeanMapping( cmp, nullValueMappingStrategy, null );
+        return new BeanMapping( cmp, nullValueMappingStrategy, null, cycleStrategy );
     }
 
     /**
@@ -77,14 +83,15 @@ public static BeanMapping fromPrism(BeanMappingPrism beanMapping, ExecutableElem
      * @return bean mapping that needs to be used for Mappings
      */
     public static BeanMapping forForgedMethods() {
-        return new BeanMapping( null, null, ReportingPolicyPrism.IGNORE );
+        return new BeanMapping( null, null, ReportingPolicyPrism.IGNORE, null );
     }
 
     private BeanMapping(SelectionParameters selectionParameters, NullValueMappingStrategyPrism nvms,
-        ReportingPolicyPrism reportingPolicy) {
+        ReportingPolicyPrism reportingPolicy, CycleStrategyPrism cycleStrategy) {
         this.selectionParameters = selectionParameters;
         this.nullValueMappingStrategy = nvms;
         this.reportingPolicy = reportingPolicy;
+        this.cycleStrategy = cycleStrategy;
     }
 
     public SelectionParameters getSelectionParameters() {
@@ -98,4 +105,11 @@ public NullValueMappingStrategyPrism getNullValueMappingStrategy() {
     public ReportingPolicyPrism getReportingPolicy() {
         return reportingPolicy;
     }
+
+    /**
+     * @return the cycle strategy given via {@code @BeanMapping}, {@code null} if not given
+     */
+    public CycleStrategyPrism getCycleStrategy() {
+        return cycleStrategy;
+    }
 }
@@ -25,6 +25,7 @@
 
 import org.mapstruct.ap.internal.model.common.FormattingParameters;
 import org.mapstruct.ap.internal.prism.IterableMappingPrism;
+import org.mapstruct.ap.internal.prism.IterationStrategyPrism;
 import org.mapstruct.ap.internal.prism.NullValueMappingStrategyPrism;
 import org.mapstruct.ap.internal.util.FormattingMessager;
 import org.mapstruct.ap.internal.util.Message;
@@ -40,6 +41,8 @@ public class IterableMapping {
     private final FormattingParameters formattingParameters;
     private final AnnotationMirror mirror;
     private final NullValueMappingStrategyPrism nullValueMappingStrategy;
+    private final IterationStrategyPrism iterationStrategy;
+    private final Integer parallelThreshold;
 
     public static IterableMapping fromPrism(IterableMappingPrism iterableMapping, ExecutableElement method,
         FormattingMessager messager, Types typeUtils) {
@@ -54,12 +57,24 @@ public static IterableMapping fromPrism(IterableMappingPrism iterableMapping, Ex
                             ? null
                             : NullValueMappingStrategyPrism.valueOf( iterableMapping.nullValueMappingStrategy() );
 
+        IterationStrategyPrism iterationStrategy =
+            iterableMapping.values.iterationStrategy() == null
+                            ? null
+                            : IterationStrategyPrism.valueOf( iterableMapping.iterationStrategy() );
+
+        Integer parallelThreshold =
+            iterableMapping.values.parallelThreshold() == null || iterableMapping.parallelThreshold() < 0
+                            ? null
+                            : iterableMapping.parallelThreshold();
+
         if ( !elementTargetTypeIsDefined
             && iterableMapping.dateFormat().isEmpty()
             && iterableMapping.numberFormat().isEmpty()
             && iterableMapping.qualifiedBy().isEmpty()
             && iterableMapping.qualifiedByName().isEmpty()
-            && ( nullValueMappingStrategy == null ) ) {
+            && ( nullValueMappingStrategy == null )
+            && ( iterationStrategy == null )
+            && ( parallelThreshold == null ) ) {
 
             messager.printMessage( method, Message.ITERABLEMAPPING_NO_ELEMENTS );
         }
@@ -82,17 +97,22 @@ public static IterableMapping fromPrism(IterableMappingPrism iterableMapping, Ex
         return new IterableMapping( formatting,
             selection,
             iterableMapping.mirror,
-            nullValueMappingStrategy
+            nullValueMappingStrategy,
+            iterationStrategy,
+            parallelThreshold
         );
     }
 
     private IterableMapping(FormattingParameters formattingParameters, SelectionParameters selectionParameters,
-        AnnotationMirror mirror, NullValueMappingStrategyPrism nvms) {
+        AnnotationMirror mirror, NullValueMappingStrategyPrism nvms, IterationStrategyPrism iterationStrategy,
+        Integer parallelThreshold) {
 
         this.formattingParameters = formattingParameters;
         this.selectionParameters = selectionParameters;
         this.mirror = mirror;
         this.nullValueMappingStrategy = nvms;
+        this.iterationStrategy = iterationStrategy;
+        this.parallelThreshold = parallelThreshold;
     }
 
     public SelectionParameters getSelectionParameters() {
@@ -110,4 +130,16 @@ public AnnotationMirror getMirror() {
     public NullValueMappingStrategyPrism getNullValueMappingStrategy() {
         return nullValueMappingStrategy;
     }
+
+    public IterationStrategyPrism getIterationStrategy() {
+        return iterationStrategy;
+    }
+
+    /**
+     * @return the minimum number of source elements for mapping them in parallel, or {@code null} if the elements are
+     * always to be mapped sequentially
+     */
+    public Integer getParallelThreshold() {
+        return parallelThreshold;
+    }
 }
@@ -0,0 +1,43 @@
+/**
+ *  Copyright 2012-2017 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.ap.internal.model.source.builtin;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.mapstruct.ap.internal.model.common.TypeFactory;
+
+/**
+ * Base class for built-in methods creating an {@code XMLGregorianCalendar}. The generated code of these methods
+ * obtains the required {@code DatatypeFactory} via the {@link GetDatatypeFactory} built-in method, so that it is only
+ * created once per mapper.
+ */
+public abstract class AbstractToXmlGregorianCalendar extends BuiltInMethod {
+
+    private final List<BuiltInMethod> requiredBuiltInMethods;
+
+    protected AbstractToXmlGregorianCalendar(TypeFactory typeFactory) {
+        this.requiredBuiltInMethods = Collections.<BuiltInMethod>singletonList( new GetDatatypeFactory( typeFactory ) );
+    }
+
+    @Override
+    public List<BuiltInMethod> getRequiredBuiltInMethods() {
+        return requiredBuiltInMethods;
+    }
+}
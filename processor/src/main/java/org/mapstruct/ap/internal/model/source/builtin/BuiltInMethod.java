@@ -31,6 +31,7 @@
 import org.mapstruct.ap.internal.conversion.SimpleConversion;
 import org.mapstruct.ap.internal.model.common.Accessibility;
 import org.mapstruct.ap.internal.model.common.ConversionContext;
+import org.mapstruct.ap.internal.model.common.FieldReference;
 import org.mapstruct.ap.internal.model.common.Parameter;
 import org.mapstruct.ap.internal.model.common.Type;
 import org.mapstruct.ap.internal.model.source.MappingOptions;
@@ -69,6 +70,27 @@ public Set<Type> getImportTypes() {
         return Collections.<Type>emptySet();
     }
 
+    /**
+     * Returns other built-in methods invoked by the generated code of this method. These will be added to the
+     * generated mapper as well, once per mapper. Defaults to the empty list.
+     *
+     * @return the built-in methods required by this method
+     */
+    public List<BuiltInMethod> getRequiredBuiltInMethods() {
+        return Collections.emptyList();
+    }
+
+    /**
+     * Returns the field of the generated mapper which is used by this method for keeping state across invocations.
+     * Such a field is declared {@code volatile} and is not initialized upon declaration, i.e. the method is
+     * responsible for lazily initializing it.
+     *
+     * @return the field used by this method, {@code null} if none is required
+     */
+    public FieldReference getFieldReference() {
+        return null;
+    }
+
     /**
      * {@inheritDoc}
      * <p>
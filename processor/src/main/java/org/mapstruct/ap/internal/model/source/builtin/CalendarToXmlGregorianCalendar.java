@@ -25,7 +25,6 @@
 import java.util.Set;
 
 import javax.xml.datatype.DatatypeConfigurationException;
-import javax.xml.datatype.DatatypeFactory;
 import javax.xml.datatype.XMLGregorianCalendar;
 
 import org.mapstruct.ap.internal.model.common.Parameter;
@@ -35,20 +34,20 @@
 /**
  * @author Sjaak Derksen
  */
-public class CalendarToXmlGregorianCalendar extends BuiltInMethod {
+public class CalendarToXmlGregorianCalendar extends AbstractToXmlGregorianCalendar {
 
     private final Parameter parameter;
     private final Type returnType;
     private final Set<Type> importTypes;
 
     public CalendarToXmlGregorianCalendar(TypeFactory typeFactory) {
+        super( typeFactory );
         this.parameter = new Parameter( "cal ", typeFactory.getType( Calendar.class ) );
         this.returnType = typeFactory.getType( XMLGregorianCalendar.class );
 
         this.importTypes = asSet(
             returnType,
             parameter.getType(),
-            typeFactory.getType( DatatypeFactory.class ),
             typeFactory.getType( GregorianCalendar.class ),
             typeFactory.getType( DatatypeConfigurationException.class )
         );
@@ -25,7 +25,6 @@
 import java.util.Set;
 
 import javax.xml.datatype.DatatypeConfigurationException;
-import javax.xml.datatype.DatatypeFactory;
 import javax.xml.datatype.XMLGregorianCalendar;
 
 import org.mapstruct.ap.internal.model.common.Parameter;
@@ -35,13 +34,14 @@
 /**
  * @author Sjaak Derksen
  */
-public class DateToXmlGregorianCalendar extends BuiltInMethod {
+public class DateToXmlGregorianCalendar extends AbstractToXmlGregorianCalendar {
 
     private final Parameter parameter;
     private final Type returnType;
     private final Set<Type> importTypes;
 
     public DateToXmlGregorianCalendar(TypeFactory typeFactory) {
+        super( typeFactory );
         this.parameter = new Parameter( "date", typeFactory.getType( Date.class ) );
         this.returnType = typeFactory.getType( XMLGregorianCalendar.class );
 
@@ -49,7 +49,6 @@ public DateToXmlGregorianCalendar(TypeFactory typeFactory) {
             returnType,
             parameter.getType(),
             typeFactory.getType( GregorianCalendar.class ),
-            typeFactory.getType( DatatypeFactory.class ),
             typeFactory.getType( DatatypeConfigurationException.class )
         );
     }
@@ -0,0 +1,93 @@
+/**
+ *  Copyright 2012-2017 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.ap.internal.model.source.builtin;
+
+import static org.mapstruct.ap.internal.util.Collections.asSet;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import javax.xml.datatype.DatatypeConfigurationException;
+import javax.xml.datatype.DatatypeFactory;
+
+import org.mapstruct.ap.internal.model.common.FieldReference;
+import org.mapstruct.ap.internal.model.common.Parameter;
+import org.mapstruct.ap.internal.model.common.Type;
+import org.mapstruct.ap.internal.model.common.TypeFactory;
+
+/**
+ * Returns the {@link DatatypeFactory} shared by all built-in methods of a generated mapper. Not a mapping method on
+ * its own, it is only added to a mapper when required by another built-in method.
+ * <p>
+ * Obtaining a factory via {@link DatatypeFactory#newInstance()} involves a service lookup, hence the factory is created
+ * lazily upon first usage and kept in a field of the mapper afterwards.
+ */
+public class GetDatatypeFactory extends BuiltInMethod {
+
+    private final Type returnType;
+    private final Set<Type> importTypes;
+    private final FieldReference fieldReference;
+
+    public GetDatatypeFactory(TypeFactory typeFactory) {
+        this.returnType = typeFactory.getType( DatatypeFactory.class );
+        this.importTypes = asSet( returnType, typeFactory.getType( DatatypeConfigurationException.class ) );
+        this.fieldReference = new FieldReference( returnType, "datatypeFactory" );
+    }
+
+    /**
+     * Never used to map a source to a target type.
+     *
+     * @return {@code false}
+     */
+    @Override
+    public boolean matches(List<Type> sourceTypes, Type targetType) {
+        return false;
+    }
+
+    @Override
+    public Set<Type> getImportTypes() {
+        return importTypes;
+    }
+
+    @Override
+    public FieldReference getFieldReference() {
+        return fieldReference;
+    }
+
+    @Override
+    public List<Parameter> getParameters() {
+        return Collections.emptyList();
+    }
+
+    /**
+     * This method has no parameter.
+     *
+     * @return {@code null}
+     */
+    @Override
+    public Parameter getParameter() {
+        return null;
+    }
+
+    @Override
+    public Type getReturnType() {
+        return returnType;
+    }
+}
@@ -23,7 +23,6 @@
 import java.util.Set;
 
 import javax.xml.datatype.DatatypeConfigurationException;
-import javax.xml.datatype.DatatypeFactory;
 import javax.xml.datatype.XMLGregorianCalendar;
 
 import org.mapstruct.ap.internal.model.common.Parameter;
@@ -34,13 +33,14 @@
 /**
  * @author Sjaak Derksen
  */
-public class JodaDateTimeToXmlGregorianCalendar extends BuiltInMethod {
+public class JodaDateTimeToXmlGregorianCalendar extends AbstractToXmlGregorianCalendar {
 
     private final Parameter parameter;
     private final Type returnType;
     private final Set<Type> importTypes;
 
     public JodaDateTimeToXmlGregorianCalendar(TypeFactory typeFactory) {
+        super( typeFactory );
         this.parameter = new Parameter(
             "dt",
             typeFactory.getType( JodaTimeConstants.DATE_TIME_FQN )
@@ -50,7 +50,6 @@ public JodaDateTimeToXmlGregorianCalendar(TypeFactory typeFactory) {
         this.importTypes = asSet(
             returnType,
             parameter.getType(),
-            typeFactory.getType( DatatypeFactory.class ),
             typeFactory.getType( DatatypeConfigurationException.class )
         );
     }
@@ -24,7 +24,6 @@
 
 import javax.xml.datatype.DatatypeConfigurationException;
 import javax.xml.datatype.DatatypeConstants;
-import javax.xml.datatype.DatatypeFactory;
 import javax.xml.datatype.XMLGregorianCalendar;
 
 import org.mapstruct.ap.internal.model.common.Parameter;
@@ -35,13 +34,14 @@
 /**
  * @author Sjaak Derksen
  */
-public class JodaLocalDateToXmlGregorianCalendar extends BuiltInMethod {
+public class JodaLocalDateToXmlGregorianCalendar extends AbstractToXmlGregorianCalendar {
 
     private final Parameter parameter;
     private final Type returnType;
     private final Set<Type> importTypes;
 
     public JodaLocalDateToXmlGregorianCalendar(TypeFactory typeFactory) {
+        super( typeFactory );
         this.parameter = new Parameter(
             "dt",
             typeFactory.getType( JodaTimeConstants.LOCAL_DATE_FQN )
@@ -52,7 +52,6 @@ public JodaLocalDateToXmlGregorianCalendar(TypeFactory typeFactory) {
             returnType,
             parameter.getType(),
             typeFactory.getType( DatatypeConstants.class ),
-            typeFactory.getType( DatatypeFactory.class ),
             typeFactory.getType( DatatypeConfigurationException.class )
         );
     }
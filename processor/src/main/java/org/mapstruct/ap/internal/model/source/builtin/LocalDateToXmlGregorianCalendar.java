@@ -25,7 +25,6 @@
 
 import javax.xml.datatype.DatatypeConfigurationException;
 import javax.xml.datatype.DatatypeConstants;
-import javax.xml.datatype.DatatypeFactory;
 import javax.xml.datatype.XMLGregorianCalendar;
 
 import org.mapstruct.ap.internal.model.common.Parameter;
@@ -35,19 +34,19 @@
 /**
  * @author Gunnar Morling
  */
-public class LocalDateToXmlGregorianCalendar extends BuiltInMethod {
+public class LocalDateToXmlGregorianCalendar extends AbstractToXmlGregorianCalendar {
 
     private final Parameter parameter;
     private final Type returnType;
     private final Set<Type> importTypes;
 
     public LocalDateToXmlGregorianCalendar(TypeFactory typeFactory) {
+        super( typeFactory );
         this.parameter = new Parameter( "localDate", typeFactory.getType( LocalDate.class ) );
         this.returnType = typeFactory.getType( XMLGregorianCalendar.class );
         this.importTypes = asSet(
                 returnType,
                 parameter.getType(),
-                typeFactory.getType( DatatypeFactory.class ),
                 typeFactory.getType( DatatypeConfigurationException.class ),
                 typeFactory.getType( DatatypeConstants.class )
         );
@@ -0,0 +1,201 @@
+/**
+ *  Copyright 2012-2017 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.ap.internal.model.source.selector;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Types;
+
+import org.mapstruct.ap.internal.model.common.Type;
+import org.mapstruct.ap.internal.model.source.Method;
+import org.mapstruct.ap.internal.model.source.SourceMethod;
+
+/**
+ * An index of candidate methods by the (erased) target types they can map to. It is built once for a list of methods,
+ * so that a selection for a given target type only needs to look at the methods which can possibly match, instead of
+ * passing all methods to the {@link MethodSelectors}.
+ * <p>
+ * A {@link SourceMethod} with a non-void result type (other than {@code Object}) can only match a target type if the
+ * raw result type is assignable to the raw target type, possibly after boxing. Such methods are therefore indexed under
+ * the names of all raw super-types of their result type (and the primitive type in case of a wrapper type). All other
+ * methods (e.g. void update methods or methods returning a type variable) are considered for each target type.
+ * <p>
+ * The candidates for a target type retain the order of the original list.
+ *
+ * @param <T> the type of the indexed methods
+ */
+public class TargetTypeIndex<T extends Method> {
+
+    private final List<T> methods;
+
+    /**
+     * The candidates by the name of the target type, comprising the methods indexed under that name as well as the
+     * methods which are not indexed.
+     */
+    private final Map<String, List<T>> candidatesByTargetType = new HashMap<String, List<T>>();
+
+    /**
+     * The methods which are not indexed; these are the only candidates for target types not present in
+     * {@link #candidatesByTargetType}.
+     */
+    private final List<T> unindexedMethods = new ArrayList<T>();
+
+    public TargetTypeIndex(Types typeUtils, List<T> methods) {
+        this.methods = methods;
+
+        Map<String, Set<String>> superTypeNames = new HashMap<String, Set<String>>();
+        List<Set<String>> keysByMethod = new ArrayList<Set<String>>( methods.size() );
+
+        for ( T method : methods ) {
+            Set<String> keys = getKeys( typeUtils, method, superTypeNames );
+            keysByMethod.add( keys );
+
+            if ( keys != null ) {
+                for ( String key : keys ) {
+                    if ( !candidatesByTargetType.containsKey( key ) ) {
+                        candidatesByTargetType.put( key, new ArrayList<T>() );
+                    }
+                }
+            }
+        }
+
+        for ( int i = 0; i < methods.size(); i++ ) {
+            T method = methods.get( i );
+            Set<String> keys = keysByMethod.get( i );
+
+            if ( keys == null ) {
+                unindexedMethods.add( method );
+                for ( List<T> candidates : candidatesByTargetType.values() ) {
+                    candidates.add( method );
+                }
+            }
+            else {
+                for ( String key : keys ) {
+                    candidatesByTargetType.get( key ).add( method );
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the methods which possibly map to the given target type.
+     *
+     * @param targetType the target type
+     *
+     * @return the candidate methods, in the order of the indexed list
+     */
+    public List<T> getCandidates(Type targetType) {
+        String key = getKey( targetType.getTypeMirror() );
+
+        if ( key == null ) {
+            return methods;
+        }
+
+        List<T> candidates = candidatesByTargetType.get( key );
+        return candidates != null ? candidates : unindexedMethods;
+    }
+
+    private static String getKey(TypeMirror type) {
+        if ( type.getKind() == TypeKind.DECLARED ) {
+            return ( (TypeElement) ( (DeclaredType) type ).asElement() ).getQualifiedName().toString();
+        }
+        else if ( type.getKind().isPrimitive() ) {
+            return type.toString();
+        }
+        else {
+            return null;
+        }
+    }
+
+    /**
+     * Returns the names of all target types the given method can possibly map to, or {@code null} if the method
+     * shouldn't be indexed.
+     */
+    private static Set<String> getKeys(Types typeUtils, Method method, Map<String, Set<String>> superTypeNames) {
+        if ( !( method instanceof SourceMethod ) || method.getReturnType().isVoid() ) {
+            return null;
+        }
+
+        TypeMirror resultType = method.getResultType().getFinalType().getTypeMirror();
+        TypeMirror declaredResultType;
+        Set<String> keys = new HashSet<String>();
+
+        if ( resultType.getKind().isPrimitive() ) {
+            keys.add( getKey( resultType ) );
+            declaredResultType = typeUtils.boxedClass( (PrimitiveType) resultType ).asType();
+        }
+        else if ( resultType.getKind() == TypeKind.DECLARED ) {
+            declaredResultType = resultType;
+            try {
+                keys.add( getKey( typeUtils.unboxedType( resultType ) ) );
+            }
+            catch ( IllegalArgumentException e ) {
+                // not a wrapper type
+            }
+        }
+        else {
+            return null;
+        }
+
+        String name = getKey( declaredResultType );
+        if ( Object.class.getName().equals( name ) ) {
+            return null;
+        }
+
+        keys.addAll( getSuperTypeNames( typeUtils, declaredResultType, superTypeNames ) );
+        return keys;
+    }
+
+    /**
+     * Returns the names of the given type and all its super-types.
+     */
+    private static Set<String> getSuperTypeNames(Types typeUtils, TypeMirror type,
+                                                 Map<String, Set<String>> superTypeNames) {
+        String name = getKey( type );
+        Set<String> names = superTypeNames.get( name );
+
+        if ( names == null ) {
+            names = new LinkedHashSet<String>();
+            names.add( name );
+
+            for ( TypeMirror superType : typeUtils.directSupertypes( type ) ) {
+                if ( superType.getKind() == TypeKind.DECLARED ) {
+                    names.addAll( getSuperTypeNames( typeUtils, superType, superTypeNames ) );
+                }
+            }
+
+            names = Collections.unmodifiableSet( names );
+            superTypeNames.put( name, names );
+        }
+
+        return names;
+    }
+}
@@ -30,12 +30,24 @@
  * @author Gunnar Morling
  */
 public class Options {
+
+    /**
+     * The default of {@link #getMaxMappingMethodSize()}; well below HotSpot's limit of 8000 bytes of bytecode for
+     * methods to be JIT-compiled, as the size of the generated methods can only be estimated.
+     */
+    public static final int DEFAULT_MAX_MAPPING_METHOD_SIZE = 4000;
+
     private final boolean suppressGeneratorTimestamp;
     private final boolean suppressGeneratorVersionComment;
     private final ReportingPolicyPrism unmappedTargetPolicy;
     private final boolean alwaysGenerateSpi;
     private final String defaultComponentModel;
     private final List<BuilderStrategyPrism> builderStrategies;
+    private String mapperIndex;
+    private String profile;
+    private int maxMappingMethodSize = DEFAULT_MAX_MAPPING_METHOD_SIZE;
+    private boolean sharedSubMappingMethods;
+    private boolean useEnumSetAndEnumMap;
 
     public Options(boolean suppressGeneratorTimestamp, boolean suppressGeneratorVersionComment,
                    ReportingPolicyPrism unmappedTargetPolicy,
@@ -73,4 +85,62 @@ public boolean isAlwaysGenerateSpi() {
     public List<BuilderStrategyPrism> BuilderStrategies() {
         return builderStrategies;
     }
+
+    /**
+     * @return the fully qualified name of the mapper index to generate; {@code null} if no index is to be generated
+     */
+    public String getMapperIndex() {
+        return mapperIndex;
+    }
+
+    public void setMapperIndex(String mapperIndex) {
+        this.mapperIndex = mapperIndex;
+    }
+
+    /**
+     * @return the path of the file to write the profiling report to; {@code null} if processing is not to be profiled
+     */
+    public String getProfile() {
+        return profile;
+    }
+
+    public void setProfile(String profile) {
+        this.profile = profile;
+    }
+
+    /**
+     * @return the estimated size in bytes of bytecode above which the property mappings of generated bean mapping
+     * methods are split into several methods; {@code 0} if bean mapping methods are not to be split
+     */
+    public int getMaxMappingMethodSize() {
+        return maxMappingMethodSize;
+    }
+
+    public void setMaxMappingMethodSize(int maxMappingMethodSize) {
+        this.maxMappingMethodSize = maxMappingMethodSize;
+    }
+
+    /**
+     * @return whether automatically generated sub-mapping methods not depending on the mapper they are generated for
+     * are to be shared by all the mappers of a package, rather than being generated within each mapper
+     */
+    public boolean isSharedSubMappingMethods() {
+        return sharedSubMappingMethods;
+    }
+
+    public void setSharedSubMappingMethods(boolean sharedSubMappingMethods) {
+        this.sharedSubMappingMethods = sharedSubMappingMethods;
+    }
+
+    /**
+     * @return whether sets of enums and maps with enum keys are to be created as {@code EnumSet} and {@code EnumMap}
+     * rather than {@code HashSet} and {@code HashMap}
+     */
+    public boolean isUseEnumSetAndEnumMap() {
+        return useEnumSetAndEnumMap;
+    }
+
+    public void setUseEnumSetAndEnumMap(boolean useEnumSetAndEnumMap) {
+        this.useEnumSetAndEnumMap = useEnumSetAndEnumMap;
+    }
 }
@@ -21,6 +21,7 @@
 import javax.annotation.processing.Filer;
 import javax.annotation.processing.Messager;
 import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.SourceVersion;
 import javax.lang.model.element.AnnotationMirror;
 import javax.lang.model.element.AnnotationValue;
 import javax.lang.model.element.Element;
@@ -28,6 +29,8 @@
 import javax.lang.model.util.Types;
 import javax.tools.Diagnostic.Kind;
 
+import org.mapstruct.ap.internal.model.MapperIndex;
+import org.mapstruct.ap.internal.model.SharedSubMappingMethods;
 import org.mapstruct.ap.internal.model.common.TypeFactory;
 import org.mapstruct.ap.internal.option.Options;
 import org.mapstruct.ap.internal.processor.ModelElementProcessor.ProcessorContext;
@@ -54,13 +57,23 @@ public class DefaultModelElementProcessorContext implements ProcessorContext {
     private final VersionInformation versionInformation;
     private final Types delegatingTypes;
     private final BuilderProvider builderProvider;
+    private final MapperIndex mapperIndex;
+    private final SharedSubMappingMethods sharedSubMappingMethods;
+    private final Profiler profiler;
+    private final RoundContext roundContext;
 
     public DefaultModelElementProcessorContext(ProcessingEnvironment processingEnvironment, Options options,
-            RoundContext roundContext) {
+            RoundContext roundContext, MapperIndex mapperIndex,
+            SharedSubMappingMethods sharedSubMappingMethods, Profiler profiler) {
 
         this.processingEnvironment = processingEnvironment;
         this.messager = new DelegatingMessager( processingEnvironment.getMessager() );
         this.versionInformation = DefaultVersionInformation.fromProcessingEnvironment( processingEnvironment );
+        this.mapperIndex = mapperIndex;
+        this.sharedSubMappingMethods = sharedSubMappingMethods;
+        this.profiler = profiler;
+        this.roundContext = roundContext;
+
         this.delegatingTypes = new TypesDecorator( processingEnvironment, versionInformation );
 
         this.builderProvider = Services.get( BuilderProvider.class, new LombokBuilderProvider() );
@@ -69,7 +82,8 @@ public DefaultModelElementProcessorContext(ProcessingEnvironment processingEnvir
             processingEnvironment.getElementUtils(),
             delegatingTypes,
             builderProvider,
-            roundContext
+            roundContext,
+            options.isUseEnumSetAndEnumMap()
         );
         this.options = options;
     }
@@ -109,6 +123,31 @@ public VersionInformation getVersionInformation() {
         return versionInformation;
     }
 
+    @Override
+    public SourceVersion getSourceVersion() {
+        return processingEnvironment.getSourceVersion();
+    }
+
+    @Override
+    public MapperIndex getMapperIndex() {
+        return mapperIndex;
+    }
+
+    @Override
+    public SharedSubMappingMethods getSharedSubMappingMethods() {
+        return sharedSubMappingMethods;
+    }
+
+    @Override
+    public Profiler getProfiler() {
+        return profiler;
+    }
+
+    @Override
+    public RoundContext getRoundContext() {
+        return roundContext;
+    }
+
     @Override
     public boolean isErroneous() {
         return messager.isErroneous();
@@ -20,18 +20,25 @@
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import javax.lang.model.SourceVersion;
 import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
 import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
 import javax.lang.model.type.TypeKind;
 import javax.lang.model.type.TypeMirror;
 import javax.lang.model.util.ElementFilter;
 import javax.lang.model.util.Elements;
 import javax.lang.model.util.Types;
 
+import org.mapstruct.ap.internal.conversion.DateTimeFormatterConstants;
 import org.mapstruct.ap.internal.model.BeanMappingMethod;
 import org.mapstruct.ap.internal.model.ContainerMappingMethod;
 import org.mapstruct.ap.internal.model.ContainerMappingMethodBuilder;
@@ -44,9 +51,13 @@
 import org.mapstruct.ap.internal.model.Mapper;
 import org.mapstruct.ap.internal.model.MapperReference;
 import org.mapstruct.ap.internal.model.MappingBuilderContext;
+import org.mapstruct.ap.internal.model.MappingBuilderContext.MappingResolver;
 import org.mapstruct.ap.internal.model.MappingMethod;
 import org.mapstruct.ap.internal.model.StreamMappingMethod;
+import org.mapstruct.ap.internal.model.SupportingField;
 import org.mapstruct.ap.internal.model.ValueMappingMethod;
+import org.mapstruct.ap.internal.model.VirtualMappingMethod;
+import org.mapstruct.ap.internal.model.common.SupportingConstants;
 import org.mapstruct.ap.internal.model.common.Type;
 import org.mapstruct.ap.internal.model.common.TypeFactory;
 import org.mapstruct.ap.internal.model.common.FormattingParameters;
@@ -55,12 +66,15 @@
 import org.mapstruct.ap.internal.model.source.SelectionParameters;
 import org.mapstruct.ap.internal.model.source.SourceMethod;
 import org.mapstruct.ap.internal.option.Options;
+import org.mapstruct.ap.internal.prism.DateFormatConstantPrism;
 import org.mapstruct.ap.internal.prism.DecoratedWithPrism;
 import org.mapstruct.ap.internal.prism.InheritConfigurationPrism;
 import org.mapstruct.ap.internal.prism.InheritInverseConfigurationPrism;
+import org.mapstruct.ap.internal.prism.IterationStrategyPrism;
 import org.mapstruct.ap.internal.prism.MapperPrism;
 import org.mapstruct.ap.internal.prism.MappingInheritanceStrategyPrism;
 import org.mapstruct.ap.internal.prism.NullValueMappingStrategyPrism;
+import org.mapstruct.ap.internal.prism.UnknownEnumStringStrategyPrism;
 import org.mapstruct.ap.internal.processor.creation.MappingResolverImpl;
 import org.mapstruct.ap.internal.util.FormattingMessager;
 import org.mapstruct.ap.internal.util.MapperConfiguration;
@@ -84,8 +98,10 @@ public class MapperCreationProcessor implements ModelElementProcessor<List<Sourc
     private FormattingMessager messager;
     private Options options;
     private VersionInformation versionInformation;
+    private SourceVersion sourceVersion;
     private TypeFactory typeFactory;
     private MappingBuilderContext mappingContext;
+    private Profiler profiler;
 
     @Override
     public Mapper process(ProcessorContext context, TypeElement mapperTypeElement, List<SourceMethod> sourceModel) {
@@ -94,7 +110,9 @@ public Mapper process(ProcessorContext context, TypeElement mapperTypeElement, L
         this.messager = context.getMessager();
         this.options = context.getOptions();
         this.versionInformation = context.getVersionInformation();
+        this.sourceVersion = context.getSourceVersion();
         this.typeFactory = context.getTypeFactory();
+        this.profiler = context.getProfiler();
 
         MapperConfiguration mapperConfig = MapperConfiguration.getInstanceOn( mapperTypeElement );
         List<MapperReference> mapperReferences = initReferencedMappers( mapperTypeElement, mapperConfig );
@@ -105,21 +123,17 @@ public Mapper process(ProcessorContext context, TypeElement mapperTypeElement, L
             typeUtils,
             messager,
             options,
-            new MappingResolverImpl(
-                messager,
-                elementUtils,
-                typeUtils,
-                typeFactory,
-                new ArrayList<Method>( sourceModel ),
-                mapperReferences
-            ),
+            getMappingResolver( mapperTypeElement, mapperConfig, sourceModel, mapperReferences ),
             mapperTypeElement,
             //sourceModel is passed only to fetch the after/before mapping methods in lifecycleCallbackFactory;
             //Consider removing those methods directly into MappingBuilderContext.
             Collections.unmodifiableList( sourceModel ),
-            mapperReferences
+            mapperReferences,
+            context.getSharedSubMappingMethods()
         );
         this.mappingContext = ctx;
+        addSharedFormatters( mapperConfig );
+        checkUnknownEnumStringStrategy( mapperTypeElement, mapperConfig );
         return getMapper( mapperTypeElement, mapperConfig, sourceModel );
     }
 
@@ -128,6 +142,39 @@ public int getPriority() {
         return 1000;
     }
 
+    private MappingResolver getMappingResolver(TypeElement mapperTypeElement, MapperConfiguration mapperConfig,
+                                               List<SourceMethod> sourceModel,
+                                               List<MapperReference> mapperReferences) {
+        MappingResolver mappingResolver = new MappingResolverImpl(
+            messager,
+            elementUtils,
+            typeUtils,
+            typeFactory,
+            new ArrayList<Method>( sourceModel ),
+            mapperReferences,
+            mapperConfig.getUnknownEnumStringStrategy(),
+            mapperConfig.getDefaultEnumConstant(),
+            sourceVersion
+        );
+
+        if ( profiler != null ) {
+            mappingResolver = new ProfilingMappingResolver(
+                mappingResolver,
+                profiler,
+                mapperTypeElement.getQualifiedName().toString()
+            );
+        }
+
+        return mappingResolver;
+    }
+
+    private void checkUnknownEnumStringStrategy(TypeElement element, MapperConfiguration mapperConfig) {
+        if ( mapperConfig.getUnknownEnumStringStrategy() == UnknownEnumStringStrategyPrism.RETURN_DEFAULT_CONSTANT
+            && mapperConfig.getDefaultEnumConstant().isEmpty() ) {
+            messager.printMessage( element, Message.ENUMSTRING_NO_DEFAULT_CONSTANT );
+        }
+    }
+
     private List<MapperReference> initReferencedMappers(TypeElement element, MapperConfiguration mapperConfig) {
         List<MapperReference> result = new LinkedList<MapperReference>();
         List<String> variableNames = new LinkedList<String>();
@@ -147,23 +194,75 @@ private List<MapperReference> initReferencedMappers(TypeElement element, MapperC
         return result;
     }
 
+    /**
+     * Registers the formatters declared via {@code @DateFormatConstant} by the types referenced through
+     * {@code Mapper#uses()} and {@code MapperConfig#uses()}, so they are used instead of declaring equivalent
+     * formatter constants in the generated mapper.
+     */
+    private void addSharedFormatters(MapperConfiguration mapperConfig) {
+        for ( TypeMirror usedType : mapperConfig.uses() ) {
+            TypeElement usedTypeElement = (TypeElement) typeUtils.asElement( usedType );
+
+            for ( VariableElement field : ElementFilter.fieldsIn( usedTypeElement.getEnclosedElements() ) ) {
+                DateFormatConstantPrism dateFormatConstant = DateFormatConstantPrism.getInstanceOn( field );
+                if ( dateFormatConstant == null ) {
+                    continue;
+                }
+
+                Type formatterType = typeFactory.getType( field.asType() );
+                boolean isConstant =
+                    field.getModifiers().containsAll( EnumSet.of( Modifier.PUBLIC, Modifier.STATIC, Modifier.FINAL ) );
+                if ( !isConstant || !DateTimeFormatterConstants.isFormatterType( formatterType ) ) {
+                    messager.printMessage( field, Message.DATEFORMATCONSTANT_INVALID_FIELD );
+                }
+                else if ( !DateTimeFormatterConstants.addSharedFormatter(
+                    typeFactory,
+                    mappingContext.getSupportingConstants(),
+                    typeFactory.getType( usedTypeElement ),
+                    field.getSimpleName().toString(),
+                    formatterType,
+                    dateFormatConstant.value() ) ) {
+                    messager.printMessage( field, Message.DATEFORMATCONSTANT_DUPLICATE, dateFormatConstant.value() );
+                }
+            }
+        }
+    }
+
     private Mapper getMapper(TypeElement element, MapperConfiguration mapperConfig, List<SourceMethod> methods) {
         List<MapperReference> mapperReferences = mappingContext.getMapperReferences();
         List<MappingMethod> mappingMethods = getMappingMethods( mapperConfig, methods );
         mappingMethods.addAll( mappingContext.getUsedVirtualMappings() );
         mappingMethods.addAll( mappingContext.getMappingsToGenerate() );
 
+        Set<SupportingField> supportingFields = new LinkedHashSet<SupportingField>();
+        for ( SupportingConstants.Constant constant : mappingContext.getSupportingConstants().getConstants() ) {
+            supportingFields.add( SupportingField.constant( constant ) );
+        }
+        for ( VirtualMappingMethod virtualMappingMethod : mappingContext.getUsedVirtualMappings() ) {
+            supportingFields.addAll( virtualMappingMethod.getSupportingFields() );
+        }
+        for ( MappingMethod mappingMethod : mappingMethods ) {
+            if ( mappingMethod instanceof BeanMappingMethod ) {
+                supportingFields.addAll( ( (BeanMappingMethod) mappingMethod ).getSupportingFields() );
+            }
+        }
+
+        // types declaring shared constants are referenced from the generated code
+        SortedSet<Type> extraImports = getExtraImports( element );
+        extraImports.addAll( mappingContext.getSupportingConstants().getUsedSharedConstantTypes() );
+
         Mapper mapper = new Mapper.Builder()
             .element( element )
             .mappingMethods( mappingMethods )
             .mapperReferences( mapperReferences )
+            .supportingFields( new ArrayList<SupportingField>( supportingFields ) )
             .options( options )
             .versionInformation( versionInformation )
             .decorator( getDecorator( element, methods, mapperConfig.implementationName(),
                 mapperConfig.implementationPackage() ) )
             .typeFactory( typeFactory )
             .elementUtils( elementUtils )
-            .extraImports( getExtraImports( element ) )
+            .extraImports( extraImports )
             .implName( mapperConfig.implementationName() )
             .implPackage( mapperConfig.implementationPackage() )
             .build();
@@ -271,6 +370,8 @@ private List<MappingMethod> getMappingMethods(MapperConfiguration mapperConfig,
                 continue;
             }
 
+            Profiler.Measurement measurement = profiler != null ? profiler.start() : null;
+
             mergeInheritedOptions( method, mapperConfig, methods, new ArrayList<SourceMethod>() );
 
             MappingOptions mappingOptions = method.getMappingOptions();
@@ -278,10 +379,15 @@ private List<MappingMethod> getMappingMethods(MapperConfiguration mapperConfig,
             boolean hasFactoryMethod = false;
 
             if ( method.isIterableMapping() ) {
+                IterationStrategyPrism iterationStrategy = null;
+                if ( mappingOptions.getIterableMapping() != null ) {
+                    iterationStrategy = mappingOptions.getIterableMapping().getIterationStrategy();
+                }
+
                 IterableMappingMethod iterableMappingMethod = createWithElementMappingMethod(
                     method,
                     mappingOptions,
-                    new IterableMappingMethod.Builder()
+                    new IterableMappingMethod.Builder().iterationStrategy( iterationStrategy )
                 );
 
                 hasFactoryMethod = iterableMappingMethod.getFactoryMethod() != null;
@@ -386,6 +492,15 @@ else if ( method.isStreamMapping() ) {
                 // method that could be responsible.
                 reportErrorIfNoImplementationTypeIsRegisteredForInterfaceReturnType( method );
             }
+
+            if ( profiler != null ) {
+                profiler.record(
+                    mappingContext.getMapperTypeElement().getQualifiedName().toString(),
+                    MapperCreationProcessor.class.getSimpleName(),
+                    method.getName(),
+                    measurement
+                );
+            }
         }
         return mappingMethods;
     }
@@ -396,11 +511,13 @@ private <M extends ContainerMappingMethod> M createWithElementMappingMethod(Sour
         FormattingParameters formattingParameters = null;
         SelectionParameters selectionParameters = null;
         NullValueMappingStrategyPrism nullValueMappingStrategy = null;
+        Integer parallelThreshold = null;
 
         if ( mappingOptions.getIterableMapping() != null ) {
             formattingParameters = mappingOptions.getIterableMapping().getFormattingParameters();
             selectionParameters = mappingOptions.getIterableMapping().getSelectionParameters();
             nullValueMappingStrategy = mappingOptions.getIterableMapping().getNullValueMappingStrategy();
+            parallelThreshold = mappingOptions.getIterableMapping().getParallelThreshold();
         }
 
         return builder
@@ -409,6 +526,7 @@ private <M extends ContainerMappingMethod> M createWithElementMappingMethod(Sour
             .formattingParameters( formattingParameters )
             .selectionParameters( selectionParameters )
             .nullValueMappingStrategy( nullValueMappingStrategy )
+            .parallelThreshold( parallelThreshold )
             .build();
     }
 
@@ -39,24 +39,29 @@ public class MapperRenderingProcessor implements ModelElementProcessor<Mapper, M
     @Override
     public Mapper process(ProcessorContext context, TypeElement mapperTypeElement, Mapper mapper) {
         if ( !context.isErroneous() ) {
-            writeToSourceFile( context.getFiler(), mapper );
+            writeToSourceFile( context.getFiler(), mapperTypeElement, mapper );
             return mapper;
         }
 
         return null;
     }
 
-    private void writeToSourceFile(Filer filer, Mapper model) {
+    private void writeToSourceFile(Filer filer, TypeElement mapperTypeElement, Mapper model) {
         ModelWriter modelWriter = new ModelWriter();
 
-        createSourceFile( model, modelWriter, filer );
+        createSourceFile( model, modelWriter, filer, mapperTypeElement );
 
         if ( model.getDecorator() != null ) {
-            createSourceFile( model.getDecorator(), modelWriter, filer );
+            createSourceFile( model.getDecorator(), modelWriter, filer, mapperTypeElement );
         }
     }
 
-    private void createSourceFile(GeneratedType model, ModelWriter modelWriter, Filer filer) {
+    /**
+     * Creates the source file for the given model. The mapper type is passed as originating element, allowing build
+     * tools to regenerate the source file only if the mapper type (or any type it depends on) has changed.
+     */
+    private void createSourceFile(GeneratedType model, ModelWriter modelWriter, Filer filer,
+                                  TypeElement mapperTypeElement) {
         String fileName = "";
         if ( model.hasPackageName() ) {
             fileName += model.getPackageName() + ".";
@@ -65,7 +70,7 @@ private void createSourceFile(GeneratedType model, ModelWriter modelWriter, File
 
         JavaFileObject sourceFile;
         try {
-            sourceFile = filer.createSourceFile( fileName );
+            sourceFile = filer.createSourceFile( fileName, mapperTypeElement );
         }
         catch ( IOException e ) {
             throw new RuntimeException( e );
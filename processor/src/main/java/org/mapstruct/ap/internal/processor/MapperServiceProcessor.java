@@ -21,13 +21,17 @@
 import java.io.IOException;
 
 import javax.annotation.processing.Filer;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.Modifier;
 import javax.lang.model.element.TypeElement;
 import javax.tools.FileObject;
 import javax.tools.StandardLocation;
 
 import org.mapstruct.ap.internal.model.GeneratedType;
 import org.mapstruct.ap.internal.model.Mapper;
+import org.mapstruct.ap.internal.model.MapperIndex;
 import org.mapstruct.ap.internal.model.ServicesEntry;
+import org.mapstruct.ap.internal.model.common.Accessibility;
 import org.mapstruct.ap.internal.util.MapperConfiguration;
 import org.mapstruct.ap.internal.writer.ModelWriter;
 
@@ -37,26 +41,26 @@
  *
  * Service files will only be generated for mappers with the default component model
  * unless force using the {@code mapstruct.alwaysGenerateServicesFile} option.
+ * <p>
+ * If the {@code mapstruct.mapperIndex} option is given, public mappers with the default component model are also
+ * registered with the generated mapper index.
  *
  * @author Christophe Labouisse on 12/07/2015.
  */
 public class MapperServiceProcessor  implements ModelElementProcessor<Mapper, Void> {
     @Override
     public Void process(ProcessorContext context, TypeElement mapperTypeElement, Mapper mapper) {
-        boolean spiGenerationNeeded;
+        String componentModel =
+            MapperConfiguration.getInstanceOn( mapperTypeElement ).componentModel( context.getOptions() );
+        boolean defaultComponentModel = "default".equals( componentModel );
+        boolean spiGenerationNeeded = context.getOptions().isAlwaysGenerateSpi() || defaultComponentModel;
 
-        if ( context.getOptions().isAlwaysGenerateSpi() ) {
-            spiGenerationNeeded = true;
-        }
-        else {
-            String componentModel =
-                MapperConfiguration.getInstanceOn( mapperTypeElement ).componentModel( context.getOptions() );
-
-            spiGenerationNeeded = "default".equals( componentModel );
+        if ( !context.isErroneous() && spiGenerationNeeded && mapper.hasCustomImplementation() ) {
+            writeToSourceFile( context.getFiler(), mapperTypeElement, mapper );
         }
 
-        if ( !context.isErroneous() && spiGenerationNeeded && mapper.hasCustomImplementation() ) {
-            writeToSourceFile( context.getFiler(), mapper );
+        if ( !context.isErroneous() && defaultComponentModel && context.getMapperIndex() != null ) {
+            addToMapperIndex( context.getMapperIndex(), mapperTypeElement, mapper );
         }
         return null;
     }
@@ -66,11 +70,37 @@ public int getPriority() {
         return 10000;
     }
 
-    private void writeToSourceFile(Filer filer, Mapper model) {
+    private void addToMapperIndex(MapperIndex mapperIndex, TypeElement mapperTypeElement, Mapper mapper) {
+        GeneratedType implementation = mapper.getDecorator() == null ? mapper : mapper.getDecorator();
+
+        // the index can only refer to mappers and implementations accessible from any package
+        if ( implementation.getAccessibility() != Accessibility.PUBLIC || !isPublic( mapperTypeElement ) ) {
+            return;
+        }
+
+        mapperIndex.addEntry(
+            mapperTypeElement,
+            implementation.hasPackageName() ?
+                implementation.getPackageName() + "." + implementation.getName() :
+                implementation.getName()
+        );
+    }
+
+    private boolean isPublic(TypeElement mapperTypeElement) {
+        for ( Element element = mapperTypeElement; element instanceof TypeElement;
+              element = element.getEnclosingElement() ) {
+            if ( !element.getModifiers().contains( Modifier.PUBLIC ) ) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void writeToSourceFile(Filer filer, TypeElement mapperTypeElement, Mapper model) {
         ModelWriter modelWriter = new ModelWriter();
         ServicesEntry servicesEntry = getServicesEntry( model.getDecorator() == null ? model : model.getDecorator() );
 
-        createSourceFile( servicesEntry, modelWriter, filer );
+        createSourceFile( servicesEntry, modelWriter, filer, mapperTypeElement );
     }
 
     private ServicesEntry getServicesEntry(GeneratedType model) {
@@ -80,12 +110,18 @@ private ServicesEntry getServicesEntry(GeneratedType model) {
                                  model.getPackageName(), model.getName());
     }
 
-    private void createSourceFile(ServicesEntry model, ModelWriter modelWriter, Filer filer) {
+    private void createSourceFile(ServicesEntry model, ModelWriter modelWriter, Filer filer,
+                                  TypeElement mapperTypeElement) {
         String fileName = model.getPackageName() + "." + model.getName();
 
         FileObject sourceFile;
         try {
-            sourceFile = filer.createResource( StandardLocation.CLASS_OUTPUT, "", "META-INF/services/" + fileName );
+            sourceFile = filer.createResource(
+                StandardLocation.CLASS_OUTPUT,
+                "",
+                "META-INF/services/" + fileName,
+                mapperTypeElement
+            );
         }
         catch ( IOException e ) {
             throw new RuntimeException( e );
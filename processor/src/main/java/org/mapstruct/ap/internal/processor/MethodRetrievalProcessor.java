@@ -60,6 +60,7 @@
 import org.mapstruct.ap.internal.util.FormattingMessager;
 import org.mapstruct.ap.internal.util.MapperConfiguration;
 import org.mapstruct.ap.internal.util.Message;
+import org.mapstruct.ap.internal.util.RoundContext;
 
 /**
  * A {@link ModelElementProcessor} which retrieves a list of {@link SourceMethod}s
@@ -75,6 +76,7 @@ public class MethodRetrievalProcessor implements ModelElementProcessor<Void, Lis
     private TypeFactory typeFactory;
     private Types typeUtils;
     private Elements elementUtils;
+    private RoundContext roundContext;
 
     @Override
     public List<SourceMethod> process(ProcessorContext context, TypeElement mapperTypeElement, Void sourceModel) {
@@ -82,6 +84,7 @@ public List<SourceMethod> process(ProcessorContext context, TypeElement mapperTy
         this.typeFactory = context.getTypeFactory();
         this.typeUtils = context.getTypeUtils();
         this.elementUtils = context.getElementUtils();
+        this.roundContext = context.getRoundContext();
 
         MapperConfiguration mapperConfig = MapperConfiguration.getInstanceOn( mapperTypeElement );
 
@@ -148,6 +151,10 @@ private List<SourceMethod> retrievePrototypeMethods(TypeElement mapperTypeElemen
      */
     private List<SourceMethod> retrieveMethods(TypeElement usedMapper, TypeElement mapperToImplement,
                                                MapperConfiguration mapperConfig, List<SourceMethod> prototypeMethods) {
+        if ( !usedMapper.equals( mapperToImplement ) ) {
+            return retrieveReferencedMethods( usedMapper, mapperToImplement );
+        }
+
         List<SourceMethod> methods = new ArrayList<SourceMethod>();
 
         for ( ExecutableElement executable : getAllEnclosedExecutableElements( elementUtils, usedMapper, false ) ) {
@@ -164,13 +171,56 @@ private List<SourceMethod> retrieveMethods(TypeElement usedMapper, TypeElement m
         }
 
         //Add all methods of used mappers in order to reference them in the aggregated model
-        if ( usedMapper.equals( mapperToImplement ) ) {
-            for ( DeclaredType mapper : mapperConfig.uses() ) {
-                methods.addAll( retrieveMethods(
-                    asTypeElement( mapper ),
-                    mapperToImplement,
-                    mapperConfig,
-                    prototypeMethods ) );
+        for ( DeclaredType mapper : mapperConfig.uses() ) {
+            methods.addAll( retrieveReferencedMethods( asTypeElement( mapper ), mapperToImplement ) );
+        }
+
+        return methods;
+    }
+
+    /**
+     * Retrieves the methods declared by the given used mapper or context parameter type which can be referenced from
+     * the mapper to implement. The referenceable methods of a type are determined once per round and shared by all the
+     * mappers using that type, whereas the {@link SourceMethod}s are built per mapper, as their types are specific to
+     * the mapper's {@link TypeFactory}.
+     *
+     * @param usedMapper the used mapper or context parameter type
+     * @param mapperToImplement the top level type (mapper) that requires implementation
+     * @return All methods of the given type which can be referenced from the mapper to implement
+     */
+    private List<SourceMethod> retrieveReferencedMethods(TypeElement usedMapper, TypeElement mapperToImplement) {
+        List<ExecutableElement> executables = roundContext.getReferenceableMethods( usedMapper );
+
+        if ( executables == null ) {
+            executables = new ArrayList<ExecutableElement>();
+
+            for ( ExecutableElement executable : getAllEnclosedExecutableElements( elementUtils, usedMapper, false ) ) {
+                ExecutableType methodType = typeFactory.getMethodType( (DeclaredType) usedMapper.asType(), executable );
+                List<Parameter> parameters = typeFactory.getParameters( methodType, executable );
+                Type returnType = typeFactory.getReturnType( methodType );
+
+                if ( isReferenceableMethod( executable, parameters, returnType ) ) {
+                    executables.add( executable );
+                }
+            }
+
+            roundContext.addReferenceableMethods( usedMapper, executables );
+        }
+
+        List<SourceMethod> methods = new ArrayList<SourceMethod>( executables.size() );
+
+        for ( ExecutableElement executable : executables ) {
+            ExecutableType methodType = typeFactory.getMethodType( (DeclaredType) usedMapper.asType(), executable );
+            List<Parameter> parameters = typeFactory.getParameters( methodType, executable );
+            SourceMethod method = getReferencedMethod(
+                usedMapper,
+                methodType,
+                executable,
+                mapperToImplement,
+                parameters );
+
+            if ( method != null ) {
+                methods.add( method );
             }
         }
 
@@ -205,8 +255,7 @@ private SourceMethod getMethod(TypeElement usedMapper,
                 mapperToImplement );
         }
         // otherwise add reference to existing mapper method
-        else if ( isValidReferencedMethod( parameters ) || isValidFactoryMethod( method, parameters, returnType )
-            || isValidLifecycleCallbackMethod( method, returnType ) ) {
+        else if ( isReferenceableMethod( method, parameters, returnType ) ) {
             return getReferencedMethod( usedMapper, methodType, method, mapperToImplement, parameters );
         }
         else {
@@ -322,6 +371,11 @@ private SourceMethod getReferencedMethod(TypeElement usedMapper, ExecutableType
             .build();
     }
 
+    private boolean isReferenceableMethod(ExecutableElement method, List<Parameter> parameters, Type returnType) {
+        return isValidReferencedMethod( parameters ) || isValidFactoryMethod( method, parameters, returnType )
+            || isValidLifecycleCallbackMethod( method, returnType );
+    }
+
     private boolean isValidLifecycleCallbackMethod(ExecutableElement method, Type returnType) {
         return Executables.isLifecycleCallbackMethod( method );
     }
@@ -19,14 +19,18 @@
 package org.mapstruct.ap.internal.processor;
 
 import javax.annotation.processing.Filer;
+import javax.lang.model.SourceVersion;
 import javax.lang.model.element.TypeElement;
 import javax.lang.model.util.Elements;
 import javax.lang.model.util.Types;
 import javax.tools.Diagnostic.Kind;
 
+import org.mapstruct.ap.internal.model.MapperIndex;
+import org.mapstruct.ap.internal.model.SharedSubMappingMethods;
 import org.mapstruct.ap.internal.model.common.TypeFactory;
 import org.mapstruct.ap.internal.option.Options;
 import org.mapstruct.ap.internal.util.FormattingMessager;
+import org.mapstruct.ap.internal.util.RoundContext;
 import org.mapstruct.ap.internal.version.VersionInformation;
 
 /**
@@ -65,6 +69,45 @@ public interface ProcessorContext {
 
         VersionInformation getVersionInformation();
 
+        /**
+         * Returns the source version of the compilation, i.e. the language level the generated code must comply with.
+         *
+         * @return the source version of the compilation
+         */
+        SourceVersion getSourceVersion();
+
+        /**
+         * Returns the index to register the generated mappers with, if an index is to be generated as per the
+         * {@code mapstruct.mapperIndex} option.
+         *
+         * @return the mapper index, or {@code null} if no index is to be generated
+         */
+        MapperIndex getMapperIndex();
+
+        /**
+         * Returns the sub-mapping methods shared by the mappers of a package, if sharing is enabled via the
+         * {@code mapstruct.sharedSubMappingMethods} option.
+         *
+         * @return the shared sub-mapping methods, or {@code null} if sub-mapping methods are not to be shared
+         */
+        SharedSubMappingMethods getSharedSubMappingMethods();
+
+        /**
+         * Returns the profiler to record the processing phases with, if enabled via the {@code mapstruct.profile}
+         * option.
+         *
+         * @return the profiler, or {@code null} if profiling is disabled
+         */
+        Profiler getProfiler();
+
+        /**
+         * Returns the context of the current annotation processing round, holding data shared by all the mappers
+         * processed in this round.
+         *
+         * @return the round context
+         */
+        RoundContext getRoundContext();
+
         /**
          * Whether the currently processed mapper type is erroneous which is the
          * case if at least one diagnostic with {@link Kind#ERROR} is reported
@@ -0,0 +1,195 @@
+/**
+ *  Copyright 2012-2017 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.ap.internal.processor;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.Method;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Records the wall time and the allocated memory of the processing phases, if enabled via the
+ * {@code mapstruct.profile} option. Measurements are aggregated per mapper, phase and mapping method and written as
+ * CSV file once processing is done.
+ * <p>
+ * Allocated memory is only reported on JVMs providing {@code com.sun.management.ThreadMXBean}, otherwise it is
+ * reported as {@code -1}.
+ */
+public class Profiler {
+
+    private static final String ALLOCATION_MX_BEAN = "com.sun.management.ThreadMXBean";
+
+    private final File file;
+    private final ThreadMXBean threadMXBean;
+    private final Method getThreadAllocatedBytes;
+    private final Map<String, Entry> entries = new LinkedHashMap<String, Entry>();
+
+    public Profiler(File file) {
+        this.file = file;
+        this.threadMXBean = ManagementFactory.getThreadMXBean();
+        this.getThreadAllocatedBytes = getThreadAllocatedBytesMethod( threadMXBean );
+    }
+
+    private static Method getThreadAllocatedBytesMethod(ThreadMXBean threadMXBean) {
+        try {
+            Class<?> allocationMXBean = Class.forName( ALLOCATION_MX_BEAN );
+            if ( !allocationMXBean.isInstance( threadMXBean ) ) {
+                return null;
+            }
+            return allocationMXBean.getMethod( "getThreadAllocatedBytes", long.class );
+        }
+        catch ( ClassNotFoundException e ) {
+            return null;
+        }
+        catch ( NoSuchMethodException e ) {
+            return null;
+        }
+    }
+
+    /**
+     * Starts a measurement on the current thread.
+     *
+     * @return the measurement to be passed to {@link #record(String, String, String, Measurement)}
+     */
+    public Measurement start() {
+        return new Measurement( System.nanoTime(), getAllocatedBytes() );
+    }
+
+    /**
+     * Records the time and memory spent on the current thread since the given measurement was started.
+     *
+     * @param mapper the fully qualified name of the processed mapper
+     * @param phase the processing phase, e.g. the name of a {@link ModelElementProcessor}
+     * @param method the processed mapping method, or {@code null} if the measurement relates to the entire mapper
+     * @param measurement the measurement started before the phase
+     */
+    public void record(String mapper, String phase, String method, Measurement measurement) {
+        long wallTime = System.nanoTime() - measurement.startTime;
+        long allocatedBytes = measurement.startAllocatedBytes >= 0 ?
+            getAllocatedBytes() - measurement.startAllocatedBytes :
+            -1;
+
+        String key = mapper + '\n' + phase + '\n' + method;
+        Entry entry = entries.get( key );
+        if ( entry == null ) {
+            entry = new Entry( mapper, phase, method );
+            entries.put( key, entry );
+        }
+        entry.add( wallTime, allocatedBytes );
+    }
+
+    private long getAllocatedBytes() {
+        if ( getThreadAllocatedBytes == null ) {
+            return -1;
+        }
+
+        try {
+            return (Long) getThreadAllocatedBytes.invoke( threadMXBean, Thread.currentThread().getId() );
+        }
+        catch ( Exception e ) {
+            return -1;
+        }
+    }
+
+    /**
+     * Writes all measurements to the configured file, one line per mapper, phase and mapping method.
+     *
+     * @throws IOException if the file cannot be written
+     */
+    public void write() throws IOException {
+        File directory = file.getAbsoluteFile().getParentFile();
+        if ( directory != null && !directory.exists() && !directory.mkdirs() ) {
+            throw new IOException( "Could not create directory " + directory );
+        }
+
+        Writer writer = new OutputStreamWriter( new FileOutputStream( file ), "UTF-8" );
+        try {
+            writer.write( "mapper,phase,method,invocations,wallTimeMillis,allocatedBytes\n" );
+            for ( Entry entry : entries.values() ) {
+                writer.write( entry.mapper );
+                writer.write( ',' );
+                writer.write( entry.phase );
+                writer.write( ',' );
+                writer.write( entry.method != null ? entry.method : "" );
+                writer.write( ',' );
+                writer.write( String.valueOf( entry.invocations ) );
+                writer.write( ',' );
+                writer.write( String.format( Locale.ROOT, "%.3f", entry.wallTime / 1000000.0 ) );
+                writer.write( ',' );
+                writer.write( String.valueOf( entry.allocatedBytes ) );
+                writer.write( '\n' );
+            }
+        }
+        finally {
+            writer.close();
+        }
+    }
+
+    public File getFile() {
+        return file;
+    }
+
+    /**
+     * The start of a measurement on one thread.
+     */
+    public static class Measurement {
+
+        private final long startTime;
+        private final long startAllocatedBytes;
+
+        private Measurement(long startTime, long startAllocatedBytes) {
+            this.startTime = startTime;
+            this.startAllocatedBytes = startAllocatedBytes;
+        }
+    }
+
+    private static class Entry {
+
+        private final String mapper;
+        private final String phase;
+        private final String method;
+        private int invocations;
+        private long wallTime;
+        private long allocatedBytes;
+
+        Entry(String mapper, String phase, String method) {
+            this.mapper = mapper;
+            this.phase = phase;
+            this.method = method;
+        }
+
+        void add(long wallTime, long allocatedBytes) {
+            this.invocations++;
+            this.wallTime += wallTime;
+            if ( allocatedBytes < 0 || this.allocatedBytes < 0 ) {
+                this.allocatedBytes = -1;
+            }
+            else {
+                this.allocatedBytes += allocatedBytes;
+            }
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/**
+ *  Copyright 2012-2017 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.ap.internal.processor;
+
+import java.util.Set;
+
+import org.mapstruct.ap.internal.model.MappingBuilderContext.MappingResolver;
+import org.mapstruct.ap.internal.model.MethodReference;
+import org.mapstruct.ap.internal.model.VirtualMappingMethod;
+import org.mapstruct.ap.internal.model.common.Assignment;
+import org.mapstruct.ap.internal.model.common.FormattingParameters;
+import org.mapstruct.ap.internal.model.common.SourceRHS;
+import org.mapstruct.ap.internal.model.common.SupportingConstants;
+import org.mapstruct.ap.internal.model.common.Type;
+import org.mapstruct.ap.internal.model.source.Method;
+import org.mapstruct.ap.internal.model.source.SelectionParameters;
+
+/**
+ * A {@link MappingResolver} recording the resolution attempts of the decorated resolver with the {@link Profiler},
+ * per mapping method for which they are made.
+ */
+class ProfilingMappingResolver implements MappingResolver {
+
+    private static final String TARGET_ASSIGNMENT_PHASE = "MappingResolver#getTargetAssignment";
+    private static final String FACTORY_METHOD_PHASE = "MappingResolver#getFactoryMethod";
+
+    private final MappingResolver delegate;
+    private final Profiler profiler;
+    private final String mapperName;
+
+    ProfilingMappingResolver(MappingResolver delegate, Profiler profiler, String mapperName) {
+        this.delegate = delegate;
+        this.profiler = profiler;
+        this.mapperName = mapperName;
+    }
+
+    @Override
+    public Assignment getTargetAssignment(Method mappingMethod, Type targetType, String targetPropertyName,
+                                          FormattingParameters formattingParameters,
+                                          SelectionParameters selectionParameters, SourceRHS sourceRHS,
+                                          boolean preferUpdateMethods) {
+        Profiler.Measurement measurement = profiler.start();
+        try {
+            return delegate.getTargetAssignment(
+                mappingMethod,
+                targetType,
+                targetPropertyName,
+                formattingParameters,
+                selectionParameters,
+                sourceRHS,
+                preferUpdateMethods
+            );
+        }
+        finally {
+            profiler.record( mapperName, TARGET_ASSIGNMENT_PHASE, mappingMethod.getName(), measurement );
+        }
+    }
+
+    @Override
+    public MethodReference getFactoryMethod(Method mappingMethod, Type target,
+                                            SelectionParameters selectionParameters) {
+        Profiler.Measurement measurement = profiler.start();
+        try {
+            return delegate.getFactoryMethod( mappingMethod, target, selectionParameters );
+        }
+        finally {
+            profiler.record( mapperName, FACTORY_METHOD_PHASE, mappingMethod.getName(), measurement );
+        }
+    }
+
+    @Override
+    public Set<VirtualMappingMethod> getUsedVirtualMappings() {
+        return delegate.getUsedVirtualMappings();
+    }
+
+    @Override
+    public SupportingConstants getSupportingConstants() {
+        return delegate.getSupportingConstants();
+    }
+
+    @Override
+    public int getMapperMemberRequestCount() {
+        return delegate.getMapperMemberRequestCount();
+    }
+}
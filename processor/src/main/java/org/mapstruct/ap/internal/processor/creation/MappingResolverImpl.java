@@ -21,6 +21,10 @@
 import static java.util.Collections.singletonList;
 import static org.mapstruct.ap.internal.util.Collections.first;
 
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
 import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.element.TypeElement;
 import javax.lang.model.type.DeclaredType;
@@ -32,8 +36,10 @@
 import javax.lang.model.util.Types;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.mapstruct.ap.internal.conversion.ConversionProvider;
@@ -51,6 +57,7 @@
 import org.mapstruct.ap.internal.model.common.Parameter;
 import org.mapstruct.ap.internal.model.common.ParameterBinding;
 import org.mapstruct.ap.internal.model.common.SourceRHS;
+import org.mapstruct.ap.internal.model.common.SupportingConstants;
 import org.mapstruct.ap.internal.model.common.Type;
 import org.mapstruct.ap.internal.model.common.TypeFactory;
 import org.mapstruct.ap.internal.model.common.TypeInitializer;
@@ -62,6 +69,9 @@
 import org.mapstruct.ap.internal.model.source.selector.MethodSelectors;
 import org.mapstruct.ap.internal.model.source.selector.SelectedMethod;
 import org.mapstruct.ap.internal.model.source.selector.SelectionCriteria;
+import org.mapstruct.ap.internal.model.source.selector.TargetTypeIndex;
+import org.mapstruct.ap.internal.prism.UnknownEnumStringStrategyPrism;
+import org.mapstruct.ap.internal.prism.XmlElementDeclPrism;
 import org.mapstruct.ap.internal.util.Collections;
 import org.mapstruct.ap.internal.util.FormattingMessager;
 import org.mapstruct.ap.internal.util.Message;
@@ -76,13 +86,31 @@
  */
 public class MappingResolverImpl implements MappingResolver {
 
-    private final FormattingMessager messager;
+    private final CountingMessager messager;
     private final Types typeUtils;
     private final TypeFactory typeFactory;
 
     private final List<Method> sourceModel;
     private final List<MapperReference> mapperReferences;
 
+    /**
+     * The methods from the source model which are candidates for mapping a property, indexed by their target types.
+     */
+    private final List<Method> mappingMethods;
+    private final TargetTypeIndex<Method> mappingMethodsByTargetType;
+
+    /**
+     * Whether the selection of methods depends on the name of the target property, which is the case when there are
+     * JAXB object factory methods annotated with {@code @XmlElementDecl}.
+     */
+    private final boolean hasXmlElementDeclMethods;
+
+    /**
+     * The outcomes of previous resolutions, both successful and failed ones. A resolution with the same key is replayed
+     * by only running the step which succeeded before, so that a new assignment is created for the given source.
+     */
+    private final Map<ResolutionKey, Resolution> resolutions = new HashMap<ResolutionKey, Resolution>();
+
     private final Conversions conversions;
     private final BuiltInMappingMethods builtInMethods;
     private final MethodSelectors methodSelectors;
@@ -93,10 +121,29 @@ public class MappingResolverImpl implements MappingResolver {
      */
     private final Set<VirtualMappingMethod> usedVirtualMappings = new HashSet<VirtualMappingMethod>();
 
+    /**
+     * Constants which are not present in the original mapper interface and are added for the conversions of certain
+     * property types.
+     */
+    private final SupportingConstants supportingConstants = new SupportingConstants();
+
+    /**
+     * The number of helper methods requested by the conversions created so far, including repeated requests.
+     */
+    private int helperMethodRequestCount;
+    private final UnknownEnumStringStrategyPrism unknownEnumStringStrategy;
+    private final String defaultEnumConstant;
+    private final SourceVersion sourceVersion;
+
     public MappingResolverImpl(FormattingMessager messager, Elements elementUtils, Types typeUtils,
                                TypeFactory typeFactory, List<Method> sourceModel,
-                               List<MapperReference> mapperReferences) {
-        this.messager = messager;
+                               List<MapperReference> mapperReferences,
+                               UnknownEnumStringStrategyPrism unknownEnumStringStrategy, String defaultEnumConstant,
+                               SourceVersion sourceVersion) {
+        this.messager = new CountingMessager( messager );
+        this.unknownEnumStringStrategy = unknownEnumStringStrategy;
+        this.defaultEnumConstant = defaultEnumConstant;
+        this.sourceVersion = sourceVersion;
         this.typeUtils = typeUtils;
         this.typeFactory = typeFactory;
 
@@ -106,6 +153,20 @@ public MappingResolverImpl(FormattingMessager messager, Elements elementUtils, T
         this.conversions = new Conversions( elementUtils, typeFactory );
         this.builtInMethods = new BuiltInMappingMethods( typeFactory );
         this.methodSelectors = new MethodSelectors( typeUtils, elementUtils, typeFactory );
+
+        this.mappingMethods = filterPossibleCandidateMethods( sourceModel );
+        this.mappingMethodsByTargetType = new TargetTypeIndex<Method>( typeUtils, mappingMethods );
+        this.hasXmlElementDeclMethods = hasXmlElementDeclMethods( sourceModel );
+    }
+
+    private static boolean hasXmlElementDeclMethods(List<Method> methods) {
+        for ( Method method : methods ) {
+            if ( method instanceof SourceMethod
+                && XmlElementDeclPrism.getInstanceOn( method.getExecutable() ) != null ) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
@@ -117,14 +178,39 @@ public Assignment getTargetAssignment(Method mappingMethod, Type targetType, Str
             SelectionCriteria.forMappingMethods( selectionParameters, targetPropertyName, preferUpdateMapping );
 
         ResolvingAttempt attempt = new ResolvingAttempt(
-            sourceModel,
             mappingMethod,
             formattingParameters,
             sourceRHS,
             criteria
         );
 
-        return attempt.getTargetAssignment( sourceRHS.getSourceTypeForMatching(), targetType );
+        Type sourceType = sourceRHS.getSourceTypeForMatching();
+        ResolutionKey key = new ResolutionKey(
+            sourceType,
+            targetType,
+            mappingMethod.getContextParameters(),
+            selectionParameters,
+            attempt.formattingParameters.getDate(),
+            attempt.formattingParameters.getNumber(),
+            preferUpdateMapping,
+            hasXmlElementDeclMethods ? targetPropertyName : null,
+            hasXmlElementDeclMethods ? mappingMethod.getResultType() : null
+        );
+
+        Resolution resolution = resolutions.get( key );
+        if ( resolution != null ) {
+            return attempt.replay( resolution, sourceType, targetType );
+        }
+
+        int messageCount = messager.getMessageCount();
+        Assignment assignment = attempt.getTargetAssignment( sourceType, targetType );
+
+        // attempts reporting messages are not cached, so the messages are reported for each of them
+        if ( messager.getMessageCount() == messageCount ) {
+            resolutions.put( key, attempt.resolution );
+        }
+
+        return assignment;
     }
 
     @Override
@@ -132,6 +218,16 @@ public Set<VirtualMappingMethod> getUsedVirtualMappings() {
         return usedVirtualMappings;
     }
 
+    @Override
+    public SupportingConstants getSupportingConstants() {
+        return supportingConstants;
+    }
+
+    @Override
+    public int getMapperMemberRequestCount() {
+        return supportingConstants.getRequestCount() + helperMethodRequestCount;
+    }
+
     @Override
     public MethodReference getFactoryMethod(final Method mappingMethod, Type targetType,
                                             SelectionParameters selectionParameters) {
@@ -193,6 +289,36 @@ private MapperReference findMapperReference(Method method) {
         return null;
     }
 
+    private <T extends Method> List<T> filterPossibleCandidateMethods(List<T> candidateMethods) {
+        List<T> result = new ArrayList<T>( candidateMethods.size() );
+        for ( T candidate : candidateMethods ) {
+            if ( isCandidateForMapping( candidate ) ) {
+                result.add( candidate );
+            }
+        }
+
+        return result;
+    }
+
+    private boolean isCandidateForMapping(Method methodCandidate) {
+        return isCreateMethodForMapping( methodCandidate ) || isUpdateMethodForMapping( methodCandidate );
+    }
+
+    private boolean isCreateMethodForMapping(Method methodCandidate) {
+        // a create method may not return void and has no target parameter
+        return methodCandidate.getSourceParameters().size() == 1
+            && !methodCandidate.getReturnType().isVoid()
+            && methodCandidate.getMappingTargetParameter() == null
+            && !methodCandidate.isLifecycleCallbackMethod();
+    }
+
+    private boolean isUpdateMethodForMapping(Method methodCandidate) {
+        // an update method may, or may not return void and has a target parameter
+        return methodCandidate.getSourceParameters().size() == 1
+            && methodCandidate.getMappingTargetParameter() != null
+            && !methodCandidate.isLifecycleCallbackMethod();
+    }
+
     private class ResolvingAttempt {
 
         private final Method mappingMethod;
@@ -207,11 +333,16 @@ private class ResolvingAttempt {
         // so this set must be cleared.
         private final Set<VirtualMappingMethod> virtualMethodCandidates;
 
-        private ResolvingAttempt(List<Method> sourceModel, Method mappingMethod,
+        /**
+         * The step by which the assignment has been resolved; set by {@link #getTargetAssignment(Type, Type)}.
+         */
+        private Resolution resolution = Resolution.NONE;
+
+        private ResolvingAttempt(Method mappingMethod,
             FormattingParameters formattingParameters, SourceRHS sourceRHS, SelectionCriteria criteria) {
 
             this.mappingMethod = mappingMethod;
-            this.methods = filterPossibleCandidateMethods( sourceModel );
+            this.methods = mappingMethods;
             this.formattingParameters =
                 formattingParameters == null ? FormattingParameters.EMPTY : formattingParameters;
             this.sourceRHS = sourceRHS;
@@ -220,45 +351,29 @@ private ResolvingAttempt(List<Method> sourceModel, Method mappingMethod,
             this.savedPreferUpdateMapping = criteria.isPreferUpdateMapping();
         }
 
-        private <T extends Method> List<T> filterPossibleCandidateMethods(List<T> candidateMethods) {
-            List<T> result = new ArrayList<T>( candidateMethods.size() );
-            for ( T candidate : candidateMethods ) {
-                if ( isCandidateForMapping( candidate ) ) {
-                    result.add( candidate );
-                }
-            }
-
-            return result;
-        }
-
         private Assignment getTargetAssignment(Type sourceType, Type targetType) {
 
             // first simple mapping method
-            Assignment referencedMethod = resolveViaMethod( sourceType, targetType, false );
+            Assignment referencedMethod = resolve( Resolution.METHOD, sourceType, targetType );
             if ( referencedMethod != null ) {
-                referencedMethod.setAssignment( sourceRHS );
                 return referencedMethod;
             }
 
             // then direct assignable
             if ( sourceType.isAssignableTo( targetType ) ||
                     isAssignableThroughCollectionCopyConstructor( sourceType, targetType ) ) {
-                Assignment simpleAssignment = sourceRHS;
-                return simpleAssignment;
+                return resolve( Resolution.DIRECT, sourceType, targetType );
             }
 
             // then type conversion
-            Assignment conversion = resolveViaConversion( sourceType, targetType );
+            Assignment conversion = resolve( Resolution.CONVERSION, sourceType, targetType );
             if ( conversion != null ) {
-                conversion.setAssignment( sourceRHS );
                 return conversion;
             }
 
             // check for a built-in method
-            Assignment builtInMethod = resolveViaBuiltInMethod( sourceType, targetType );
+            Assignment builtInMethod = resolve( Resolution.BUILT_IN_METHOD, sourceType, targetType );
             if ( builtInMethod != null ) {
-                builtInMethod.setAssignment( sourceRHS );
-                usedVirtualMappings.addAll( virtualMethodCandidates );
                 return builtInMethod;
             }
 
@@ -290,6 +405,70 @@ private Assignment getTargetAssignment(Type sourceType, Type targetType) {
             return null;
         }
 
+        /**
+         * Resolves the assignment by means of the given single-step resolution, recording it if successful.
+         */
+        private Assignment resolve(Resolution step, Type sourceType, Type targetType) {
+            Assignment assignment;
+
+            switch ( step.kind ) {
+                case METHOD:
+                    assignment = resolveViaMethod( sourceType, targetType, false );
+                    break;
+                case DIRECT:
+                    resolution = step;
+                    return sourceRHS;
+                case CONVERSION:
+                    assignment = resolveViaConversion( sourceType, targetType );
+                    break;
+                case BUILT_IN_METHOD:
+                    assignment = resolveViaBuiltInMethod( sourceType, targetType );
+                    if ( assignment != null ) {
+                        usedVirtualMappings.addAll( virtualMethodCandidates );
+                    }
+                    break;
+                default:
+                    throw new IllegalArgumentException( "Not a single-step resolution: " + step.kind );
+            }
+
+            if ( assignment != null ) {
+                assignment.setAssignment( sourceRHS );
+                resolution = step;
+            }
+
+            return assignment;
+        }
+
+        /**
+         * Runs the given, previously recorded resolution again for the given types, creating a new assignment.
+         */
+        private Assignment replay(Resolution previous, Type sourceType, Type targetType) {
+            Assignment assignment;
+
+            switch ( previous.kind ) {
+                case NONE:
+                    return null;
+                case METHOD_AND_METHOD:
+                    assignment = resolveViaMethodAndMethod( sourceType, previous.intermediateType, targetType );
+                    break;
+                case CONVERSION_AND_METHOD:
+                    assignment = resolveViaConversionAndMethod( sourceType, previous.intermediateType, targetType );
+                    break;
+                case METHOD_AND_CONVERSION:
+                    selectionCriteria.setPreferUpdateMapping( false );
+                    assignment = resolveViaMethodAndConversion( sourceType, previous.intermediateType, targetType );
+                    break;
+                default:
+                    return resolve( previous, sourceType, targetType );
+            }
+
+            if ( assignment != null ) {
+                usedVirtualMappings.addAll( virtualMethodCandidates );
+            }
+
+            return assignment;
+        }
+
         private Assignment resolveViaConversion(Type sourceType, Type targetType) {
             ConversionProvider conversionProvider = conversions.getConversion( sourceType, targetType );
 
@@ -301,12 +480,17 @@ private Assignment resolveViaConversion(Type sourceType, Type targetType) {
                 messager,
                 sourceType,
                 targetType,
-                formattingParameters
+                formattingParameters,
+                supportingConstants,
+                unknownEnumStringStrategy,
+                defaultEnumConstant,
+                sourceVersion
             );
 
             // add helper methods required in conversion
             for ( HelperMethod helperMethod : conversionProvider.getRequiredHelperMethods( ctx ) ) {
                 usedVirtualMappings.add( new VirtualMappingMethod( helperMethod ) );
+                helperMethodRequestCount++;
             }
             return conversionProvider.to( ctx );
         }
@@ -318,7 +502,11 @@ private Assignment resolveViaConversion(Type sourceType, Type targetType) {
         private Assignment resolveViaMethod(Type sourceType, Type targetType, boolean considerBuiltInMethods) {
 
             // first try to find a matching source method
-            SelectedMethod<Method> matchingSourceMethod = getBestMatch( methods, sourceType, targetType );
+            SelectedMethod<Method> matchingSourceMethod = getBestMatch(
+                mappingMethodsByTargetType.getCandidates( targetType ),
+                sourceType,
+                targetType
+            );
 
             if ( matchingSourceMethod != null ) {
                 return getMappingMethodReference( matchingSourceMethod, targetType );
@@ -337,12 +525,19 @@ private Assignment resolveViaBuiltInMethod(Type sourceType, Type targetType) {
 
             if ( matchingBuiltInMethod != null ) {
                 virtualMethodCandidates.add( new VirtualMappingMethod( matchingBuiltInMethod.getMethod() ) );
+                for ( BuiltInMethod requiredMethod : matchingBuiltInMethod.getMethod().getRequiredBuiltInMethods() ) {
+                    virtualMethodCandidates.add( new VirtualMappingMethod( requiredMethod ) );
+                }
                 ConversionContext ctx = new DefaultConversionContext(
                     typeFactory,
                     messager,
                     sourceType,
                     targetType,
-                    formattingParameters
+                    formattingParameters,
+                    supportingConstants,
+                    unknownEnumStringStrategy,
+                    defaultEnumConstant,
+                    sourceVersion
                 );
                 Assignment methodReference = MethodReference.forBuiltInMethod( matchingBuiltInMethod.getMethod(), ctx );
                 methodReference.setAssignment( sourceRHS );
@@ -367,8 +562,6 @@ private Assignment resolveViaMethodAndMethod(Type sourceType, Type targetType) {
             List<Method> methodYCandidates = new ArrayList<Method>( methods );
             methodYCandidates.addAll( builtInMethods.getBuiltInMethods() );
 
-            Assignment methodRefY = null;
-
             // Iterate over all source methods. Check if the return type matches with the parameter that we need.
             // so assume we need a method from A to C we look for a methodX from A to B (all methods in the
             // list form such a candidate).
@@ -376,27 +569,35 @@ private Assignment resolveViaMethodAndMethod(Type sourceType, Type targetType) {
             // sourceMethod or builtIn that fits the signature B to C. Only then there is a match. If we have a match
             // a nested method call can be called. so C = methodY( methodX (A) )
             for ( Method methodYCandidate : methodYCandidates ) {
-                methodRefY =
-                    resolveViaMethod( methodYCandidate.getSourceParameters().get( 0 ).getType(), targetType, true );
+                Type intermediateType = methodYCandidate.getSourceParameters().get( 0 ).getType();
+                Assignment methodRefY = resolveViaMethodAndMethod( sourceType, intermediateType, targetType );
 
                 if ( methodRefY != null ) {
-                    selectionCriteria.setPreferUpdateMapping( false );
-                    Assignment methodRefX =
-                        resolveViaMethod( sourceType, methodYCandidate.getSourceParameters().get( 0 ).getType(), true );
-                    selectionCriteria.setPreferUpdateMapping( savedPreferUpdateMapping );
-                    if ( methodRefX != null ) {
-                        methodRefY.setAssignment( methodRefX );
-                        methodRefX.setAssignment( sourceRHS );
-                        break;
-                    }
-                    else {
-                        // both should match;
-                        virtualMethodCandidates.clear();
-                        methodRefY = null;
-                    }
+                    resolution = new Resolution( ResolutionKind.METHOD_AND_METHOD, intermediateType );
+                    return methodRefY;
                 }
             }
-            return methodRefY;
+            return null;
+        }
+
+        private Assignment resolveViaMethodAndMethod(Type sourceType, Type intermediateType, Type targetType) {
+            Assignment methodRefY = resolveViaMethod( intermediateType, targetType, true );
+
+            if ( methodRefY != null ) {
+                selectionCriteria.setPreferUpdateMapping( false );
+                Assignment methodRefX = resolveViaMethod( sourceType, intermediateType, true );
+                selectionCriteria.setPreferUpdateMapping( savedPreferUpdateMapping );
+                if ( methodRefX != null ) {
+                    methodRefY.setAssignment( methodRefX );
+                    methodRefX.setAssignment( sourceRHS );
+                    return methodRefY;
+                }
+                else {
+                    // both should match;
+                    virtualMethodCandidates.clear();
+                }
+            }
+            return null;
         }
 
         /**
@@ -412,28 +613,34 @@ private Assignment resolveViaConversionAndMethod(Type sourceType, Type targetTyp
             List<Method> methodYCandidates = new ArrayList<Method>( methods );
             methodYCandidates.addAll( builtInMethods.getBuiltInMethods() );
 
-            Assignment methodRefY = null;
-
             for ( Method methodYCandidate : methodYCandidates ) {
-                methodRefY =
-                    resolveViaMethod( methodYCandidate.getSourceParameters().get( 0 ).getType(), targetType, true );
+                Type intermediateType = methodYCandidate.getSourceParameters().get( 0 ).getType();
+                Assignment methodRefY = resolveViaConversionAndMethod( sourceType, intermediateType, targetType );
 
                 if ( methodRefY != null ) {
-                    Assignment conversionXRef =
-                        resolveViaConversion( sourceType, methodYCandidate.getSourceParameters().get( 0 ).getType() );
-                    if ( conversionXRef != null ) {
-                        methodRefY.setAssignment( conversionXRef );
-                        conversionXRef.setAssignment( sourceRHS );
-                        break;
-                    }
-                    else {
-                        // both should match
-                        virtualMethodCandidates.clear();
-                        methodRefY = null;
-                    }
+                    resolution = new Resolution( ResolutionKind.CONVERSION_AND_METHOD, intermediateType );
+                    return methodRefY;
                 }
             }
-            return methodRefY;
+            return null;
+        }
+
+        private Assignment resolveViaConversionAndMethod(Type sourceType, Type intermediateType, Type targetType) {
+            Assignment methodRefY = resolveViaMethod( intermediateType, targetType, true );
+
+            if ( methodRefY != null ) {
+                Assignment conversionXRef = resolveViaConversion( sourceType, intermediateType );
+                if ( conversionXRef != null ) {
+                    methodRefY.setAssignment( conversionXRef );
+                    conversionXRef.setAssignment( sourceRHS );
+                    return methodRefY;
+                }
+                else {
+                    // both should match
+                    virtualMethodCandidates.clear();
+                }
+            }
+            return null;
         }
 
         /**
@@ -449,53 +656,39 @@ private Assignment resolveViaMethodAndConversion(Type sourceType, Type targetTyp
             List<Method> methodXCandidates = new ArrayList<Method>( methods );
             methodXCandidates.addAll( builtInMethods.getBuiltInMethods() );
 
-            Assignment conversionYRef = null;
-
             // search the other way around
             for ( Method methodXCandidate : methodXCandidates ) {
                 if ( methodXCandidate.getMappingTargetParameter() != null ) {
                     continue;
                 }
 
-                Assignment methodRefX = resolveViaMethod(
-                    sourceType,
-                    methodXCandidate.getReturnType(),
-                    true
-                );
-                if ( methodRefX != null ) {
-                    conversionYRef = resolveViaConversion( methodXCandidate.getReturnType(), targetType );
-                    if ( conversionYRef != null ) {
-                        conversionYRef.setAssignment( methodRefX );
-                        methodRefX.setAssignment( sourceRHS );
-                        break;
-                    }
-                    else {
-                        // both should match;
-                        virtualMethodCandidates.clear();
-                        conversionYRef = null;
-                    }
+                Type intermediateType = methodXCandidate.getReturnType();
+                Assignment conversionYRef = resolveViaMethodAndConversion( sourceType, intermediateType, targetType );
+
+                if ( conversionYRef != null ) {
+                    resolution = new Resolution( ResolutionKind.METHOD_AND_CONVERSION, intermediateType );
+                    return conversionYRef;
                 }
             }
-            return conversionYRef;
-        }
-
-        private boolean isCandidateForMapping(Method methodCandidate) {
-            return isCreateMethodForMapping( methodCandidate ) || isUpdateMethodForMapping( methodCandidate );
+            return null;
         }
 
-        private boolean isCreateMethodForMapping(Method methodCandidate) {
-            // a create method may not return void and has no target parameter
-            return methodCandidate.getSourceParameters().size() == 1
-                && !methodCandidate.getReturnType().isVoid()
-                && methodCandidate.getMappingTargetParameter() == null
-                && !methodCandidate.isLifecycleCallbackMethod();
-        }
+        private Assignment resolveViaMethodAndConversion(Type sourceType, Type intermediateType, Type targetType) {
+            Assignment methodRefX = resolveViaMethod( sourceType, intermediateType, true );
 
-        private boolean isUpdateMethodForMapping(Method methodCandidate) {
-            // an update method may, or may not return void and has a target parameter
-            return methodCandidate.getSourceParameters().size() == 1
-                && methodCandidate.getMappingTargetParameter() != null
-                && !methodCandidate.isLifecycleCallbackMethod();
+            if ( methodRefX != null ) {
+                Assignment conversionYRef = resolveViaConversion( intermediateType, targetType );
+                if ( conversionYRef != null ) {
+                    conversionYRef.setAssignment( methodRefX );
+                    methodRefX.setAssignment( sourceRHS );
+                    return conversionYRef;
+                }
+                else {
+                    // both should match;
+                    virtualMethodCandidates.clear();
+                }
+            }
+            return null;
         }
 
         private <T extends Method> SelectedMethod<T> getBestMatch(List<T> methods, Type sourceType, Type returnType) {
@@ -622,4 +815,80 @@ private boolean hasCompatibleCopyConstructor(Type sourceType, Type targetType) {
             return false;
         }
     }
+
+    /**
+     * The kinds of steps by which an assignment can be resolved, in the order in which they are tried.
+     */
+    private enum ResolutionKind {
+        NONE,
+        METHOD,
+        DIRECT,
+        CONVERSION,
+        BUILT_IN_METHOD,
+        METHOD_AND_METHOD,
+        CONVERSION_AND_METHOD,
+        METHOD_AND_CONVERSION
+    }
+
+    /**
+     * The step by which an assignment has been resolved, together with the intermediate type of two-step resolutions.
+     */
+    private static final class Resolution {
+
+        private static final Resolution NONE = new Resolution( ResolutionKind.NONE, null );
+        private static final Resolution METHOD = new Resolution( ResolutionKind.METHOD, null );
+        private static final Resolution DIRECT = new Resolution( ResolutionKind.DIRECT, null );
+        private static final Resolution CONVERSION = new Resolution( ResolutionKind.CONVERSION, null );
+        private static final Resolution BUILT_IN_METHOD = new Resolution( ResolutionKind.BUILT_IN_METHOD, null );
+
+        private final ResolutionKind kind;
+        private final Type intermediateType;
+
+        private Resolution(ResolutionKind kind, Type intermediateType) {
+            this.kind = kind;
+            this.intermediateType = intermediateType;
+        }
+    }
+
+    /**
+     * Counts the messages reported while resolving assignments, so that only resolutions without any messages are
+     * memoized.
+     */
+    private static final class CountingMessager implements FormattingMessager {
+
+        private final FormattingMessager delegate;
+        private int messageCount;
+
+        CountingMessager(FormattingMessager delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void printMessage(Message msg, Object... args) {
+            messageCount++;
+            delegate.printMessage( msg, args );
+        }
+
+        @Override
+        public void printMessage(Element e, Message msg, Object... args) {
+            messageCount++;
+            delegate.printMessage( e, msg, args );
+        }
+
+        @Override
+        public void printMessage(Element e, AnnotationMirror a, Message msg, Object... args) {
+            messageCount++;
+            delegate.printMessage( e, a, msg, args );
+        }
+
+        @Override
+        public void printMessage(Element e, AnnotationMirror a, AnnotationValue v, Message msg, Object... args) {
+            messageCount++;
+            delegate.printMessage( e, a, v, msg, args );
+        }
+
+        int getMessageCount() {
+            return messageCount;
+        }
+    }
 }
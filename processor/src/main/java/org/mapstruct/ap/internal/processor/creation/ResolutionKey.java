@@ -0,0 +1,111 @@
+/**
+ *  Copyright 2012-2017 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.ap.internal.processor.creation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.mapstruct.ap.internal.model.common.Parameter;
+import org.mapstruct.ap.internal.model.common.Type;
+import org.mapstruct.ap.internal.model.source.SelectionParameters;
+
+/**
+ * Identifies a resolution of an assignment by {@link MappingResolverImpl}: resolving the same source type to the same
+ * target type with the same selection and formatting parameters from a mapping method with the same context parameter
+ * types yields the same kind of assignment.
+ */
+final class ResolutionKey {
+
+    private final Type sourceType;
+    private final Type targetType;
+    private final List<Type> contextParameterTypes;
+    private final SelectionParameters selectionParameters;
+    private final String dateFormat;
+    private final String numberFormat;
+    private final boolean preferUpdateMapping;
+    private final String targetPropertyName;
+    private final Type resultType;
+    private final int hashCode;
+
+    /**
+     * @param targetPropertyName the name of the target property; only to be given if it affects the selection
+     * @param resultType the result type of the mapping method; only to be given if it affects the selection
+     */
+    ResolutionKey(Type sourceType, Type targetType, List<Parameter> contextParameters,
+        SelectionParameters selectionParameters, String dateFormat, String numberFormat, boolean preferUpdateMapping,
+        String targetPropertyName, Type resultType) {
+        this.sourceType = sourceType;
+        this.targetType = targetType;
+        this.contextParameterTypes = new ArrayList<Type>( contextParameters.size() );
+        for ( Parameter contextParameter : contextParameters ) {
+            contextParameterTypes.add( contextParameter.getType() );
+        }
+        this.selectionParameters = selectionParameters;
+        this.dateFormat = dateFormat;
+        this.numberFormat = numberFormat;
+        this.preferUpdateMapping = preferUpdateMapping;
+        this.targetPropertyName = targetPropertyName;
+        this.resultType = resultType;
+        this.hashCode = computeHashCode();
+    }
+
+    private int computeHashCode() {
+        int result = sourceType.hashCode();
+        result = 31 * result + targetType.hashCode();
+        result = 31 * result + contextParameterTypes.hashCode();
+        result = 31 * result + ( selectionParameters != null ? selectionParameters.hashCode() : 0 );
+        result = 31 * result + ( dateFormat != null ? dateFormat.hashCode() : 0 );
+        result = 31 * result + ( numberFormat != null ? numberFormat.hashCode() : 0 );
+        result = 31 * result + ( preferUpdateMapping ? 1 : 0 );
+        result = 31 * result + ( targetPropertyName != null ? targetPropertyName.hashCode() : 0 );
+        result = 31 * result + ( resultType != null ? resultType.hashCode() : 0 );
+        return result;
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if ( this == obj ) {
+            return true;
+        }
+        if ( obj == null || getClass() != obj.getClass() ) {
+            return false;
+        }
+        ResolutionKey other = (ResolutionKey) obj;
+
+        return hashCode == other.hashCode
+            && preferUpdateMapping == other.preferUpdateMapping
+            && sourceType.equals( other.sourceType )
+            && targetType.equals( other.targetType )
+            && contextParameterTypes.equals( other.contextParameterTypes )
+            && equals( selectionParameters, other.selectionParameters )
+            && equals( dateFormat, other.dateFormat )
+            && equals( numberFormat, other.numberFormat )
+            && equals( targetPropertyName, other.targetPropertyName )
+            && equals( resultType, other.resultType );
+    }
+
+    private static boolean equals(Object object1, Object object2) {
+        return object1 == null ? object2 == null : object1.equals( object2 );
+    }
+}
@@ -38,6 +38,8 @@ private JodaTimeConstants() {
 
     public static final String DATE_TIME_FORMAT_FQN = "org.joda.time.format.DateTimeFormat";
 
+    public static final String DATE_TIME_FORMATTER_FQN = "org.joda.time.format.DateTimeFormatter";
+
     public static final String DATE_TIME_ZONE_FQN = "org.joda.time.DateTimeZone";
 
     public static final String DATE_TIME_FORMAT = "LL";
@@ -35,6 +35,7 @@
 import org.mapstruct.ap.internal.prism.NullValueCheckStrategyPrism;
 import org.mapstruct.ap.internal.prism.NullValueMappingStrategyPrism;
 import org.mapstruct.ap.internal.prism.ReportingPolicyPrism;
+import org.mapstruct.ap.internal.prism.UnknownEnumStringStrategyPrism;
 
 /**
  * Provides an aggregated view to the settings given via {@link org.mapstruct.Mapper} and
@@ -206,6 +207,24 @@ public boolean isDisableSubMappingMethodsGeneration() {
         return mapperPrism.disableSubMappingMethodsGeneration(); // fall back to default defined in the annotation
     }
 
+    public UnknownEnumStringStrategyPrism getUnknownEnumStringStrategy() {
+        if ( mapperConfigPrism != null && mapperPrism.values.unknownEnumStringStrategy() == null ) {
+            return UnknownEnumStringStrategyPrism.valueOf( mapperConfigPrism.unknownEnumStringStrategy() );
+        }
+        else {
+            return UnknownEnumStringStrategyPrism.valueOf( mapperPrism.unknownEnumStringStrategy() );
+        }
+    }
+
+    public String getDefaultEnumConstant() {
+        if ( mapperConfigPrism != null && mapperPrism.values.defaultEnumConstant() == null ) {
+            return mapperConfigPrism.defaultEnumConstant();
+        }
+        else {
+            return mapperPrism.defaultEnumConstant();
+        }
+    }
+
     public DeclaredType config() {
         return config;
     }
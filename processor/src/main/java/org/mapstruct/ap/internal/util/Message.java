@@ -28,7 +28,7 @@
 public enum Message {
 
     // CHECKSTYLE:OFF
-    BEANMAPPING_NO_ELEMENTS( "'nullValueMappingStrategy', 'resultType' and 'qualifiedBy' are undefined in @BeanMapping, define at least one of them." ),
+    BEANMAPPING_NO_ELEMENTS( "'nullValueMappingStrategy', 'cycleStrategy', 'resultType' and 'qualifiedBy' are undefined in @BeanMapping, define at least one of them." ),
     BEANMAPPING_NOT_ASSIGNABLE( "%s not assignable to: %s." ),
     BEANMAPPING_ABSTRACT( "The result type %s may not be an abstract class nor interface." ),
     BEANMAPPING_UNKNOWN_PROPERTY_IN_RESULTTYPE( "Unknown property \"%s\" in result type %s. Did you mean \"%s\"?" ),
@@ -39,6 +39,7 @@ public enum Message {
     BEANMAPPING_UNMAPPED_TARGETS_ERROR( "Unmapped target %s." ),
     BEANMAPPING_UNMAPPED_FORGED_TARGETS_WARNING( "Unmapped target %s. Mapping from %s to %s.", Diagnostic.Kind.WARNING ),
     BEANMAPPING_UNMAPPED_FORGED_TARGETS_ERROR( "Unmapped target %s. Mapping from %s to %s." ),
+    BEANMAPPING_CYCLE_STRATEGY_NOT_APPLICABLE( "'cycleStrategy' is only applicable to methods with a single source parameter, a non-generic return type and no @MappingTarget parameter. Source objects will not be tracked by identity.", Diagnostic.Kind.WARNING ),
     BEANMAPPING_CYCLE_BETWEEN_PROPERTIES( "Cycle(s) between properties given via dependsOn(): %s." ),
     BEANMAPPING_UNKNOWN_PROPERTY_IN_DEPENDS_ON( "\"%s\" is no property of the method return type." ),
 
@@ -69,18 +70,25 @@ public enum Message {
     MAPMAPPING_NO_ELEMENTS( "'nullValueMappingStrategy', 'keyDateFormat', 'keyQualifiedBy', 'keyTargetType', 'valueDateFormat', 'valueQualfiedBy' and 'valueTargetType' are all undefined in @MapMapping, define at least one of them." ),
 
     ITERABLEMAPPING_MAPPING_NOT_FOUND( "No implementation can be generated for this method. Found no method nor implicit conversion for mapping source element type into target element type." ),
-    ITERABLEMAPPING_NO_ELEMENTS( "'nullValueMappingStrategy','dateformat', 'qualifiedBy' and 'elementTargetType' are undefined in @IterableMapping, define at least one of them." ),
+    ITERABLEMAPPING_INDEXED_ITERATION_NOT_APPLICABLE( "Iteration strategy INDEXED is only applicable to source parameters of type java.util.List, but is \"%s\". The source will be iterated using an iterator.", Diagnostic.Kind.WARNING ),
+    ITERABLEMAPPING_PARALLEL_THRESHOLD_NOT_APPLICABLE( "'parallelThreshold' is only applicable to methods mapping a java.util.Collection into a collection, using Java 8 or later. The elements will be mapped sequentially.", Diagnostic.Kind.WARNING ),
+    ITERABLEMAPPING_PARALLEL_THRESHOLD_CHECKED_EXCEPTIONS( "'parallelThreshold' is not applicable as mapping the elements may throw checked exceptions. The elements will be mapped sequentially.", Diagnostic.Kind.WARNING ),
+    ITERABLEMAPPING_NO_ELEMENTS( "'nullValueMappingStrategy','dateformat', 'qualifiedBy', 'elementTargetType', 'iterationStrategy' and 'parallelThreshold' are undefined in @IterableMapping, define at least one of them." ),
 
     ENUMMAPPING_MULTIPLE_SOURCES( "One enum constant must not be mapped to more than one target constant, but constant %s is mapped to %s." ),
     ENUMMAPPING_UNDEFINED_SOURCE( "A source constant must be specified for mappings of an enum mapping method." ),
     ENUMMAPPING_NON_EXISTING_CONSTANT( "Constant %s doesn't exist in enum type %s." ),
     ENUMMAPPING_UNDEFINED_TARGET( "A target constant must be specified for mappings of an enum mapping method." ),
     ENUMMAPPING_UNMAPPED_SOURCES( "The following constants from the source enum have no corresponding constant in the target enum and must be be mapped via adding additional mappings: %s." ),
+    ENUMSTRING_NO_DEFAULT_CONSTANT( "'defaultEnumConstant' must be given when using UnknownEnumStringStrategy.RETURN_DEFAULT_CONSTANT." ),
     ENUMMAPPING_DEPRECATED( "Mapping of Enums via @Mapping is going to be removed in future versions of MapStruct. Please use @ValueMapping instead!", Diagnostic.Kind.WARNING ),
 
     DECORATOR_NO_SUBTYPE( "Specified decorator type is no subtype of the annotated mapper type." ),
     DECORATOR_CONSTRUCTOR( "Specified decorator type has no default constructor nor a constructor with a single parameter accepting the decorated mapper type." ),
 
+    DATEFORMATCONSTANT_INVALID_FIELD( "A field annotated with @DateFormatConstant must be a public static final field of type java.time.format.DateTimeFormatter or org.joda.time.format.DateTimeFormatter." ),
+    DATEFORMATCONSTANT_DUPLICATE( "Another formatter has already been declared via @DateFormatConstant for date format \"%s\"." ),
+
     GENERAL_NO_IMPLEMENTATION( "No implementation type is registered for return type %s." ),
     GENERAL_ABSTRACT_RETURN_TYPE( "The return type %s is an abstract class or interface. Provide a non abstract / non interface result type or a factory method." ),
     GENERAL_AMBIGIOUS_MAPPING_METHOD( "Ambiguous mapping methods found for mapping %s to %s: %s." ),
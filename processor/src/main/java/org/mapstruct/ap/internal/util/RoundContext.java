@@ -18,11 +18,19 @@
  */
 package org.mapstruct.ap.internal.util;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
 import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
 
+import org.mapstruct.ap.internal.util.accessor.Accessor;
 import org.mapstruct.ap.spi.AstModifyingAnnotationProcessor;
 
 /**
@@ -35,9 +43,23 @@ public class RoundContext {
     private final AnnotationProcessorContext annotationProcessorContext;
     private final Set<TypeMirror> clearedTypes;
 
+    /**
+     * The accessors of the types inspected in this round.
+     */
+    private final Map<TypeElement, List<Accessor>> accessors;
+    private final Map<TypeElement, List<Accessor>> builderAccessors;
+
+    /**
+     * The methods of used mappers and context parameter types which may be referenced from the generated mappers.
+     */
+    private final Map<TypeElement, List<ExecutableElement>> referenceableMethods;
+
     public RoundContext(AnnotationProcessorContext annotationProcessorContext) {
         this.annotationProcessorContext = annotationProcessorContext;
         this.clearedTypes = new HashSet<TypeMirror>();
+        this.accessors = new HashMap<TypeElement, List<Accessor>>();
+        this.builderAccessors = new HashMap<TypeElement, List<Accessor>>();
+        this.referenceableMethods = new HashMap<TypeElement, List<ExecutableElement>>();
     }
 
     public AnnotationProcessorContext getAnnotationProcessorContext() {
@@ -65,4 +87,52 @@ public void addTypeReadyForProcessing(TypeMirror type) {
     public boolean isReadyForProcessing(TypeMirror type) {
         return clearedTypes.contains( type );
     }
+
+    /**
+     * Returns the accessors of the given type as per {@link Executables#getAllEnclosedAccessors(Elements, TypeElement,
+     * boolean)}. The hierarchy of each type is only traversed once per round, as the same types are typically
+     * used by several mappers.
+     *
+     * @param elementUtils element helper
+     * @param element the element to inspect
+     * @param builder Whether the retrieved accessors are for a builder type
+     *
+     * @return a new, modifiable list with the accessors of the given type
+     */
+    public List<Accessor> getAllEnclosedAccessors(Elements elementUtils, TypeElement element, boolean builder) {
+        Map<TypeElement, List<Accessor>> cache = builder ? builderAccessors : accessors;
+
+        List<Accessor> enclosedAccessors = cache.get( element );
+        if ( enclosedAccessors == null ) {
+            enclosedAccessors = Executables.getAllEnclosedAccessors( elementUtils, element, builder );
+            cache.put( element, enclosedAccessors );
+        }
+
+        return new ArrayList<Accessor>( enclosedAccessors );
+    }
+
+    /**
+     * Returns the methods of the given used mapper or context parameter type which may be referenced from a generated
+     * mapper, if they have been retrieved before in this round. These methods are the same for all mappers referencing
+     * the given type, so the type's hierarchy only needs to be inspected once per round; types which are generated or
+     * amended in a later round are inspected again then.
+     *
+     * @param type the used mapper or context parameter type
+     *
+     * @return the referenceable methods of the given type, or {@code null} if not retrieved yet in this round
+     */
+    public List<ExecutableElement> getReferenceableMethods(TypeElement type) {
+        return referenceableMethods.get( type );
+    }
+
+    /**
+     * Stores the methods of the given used mapper or context parameter type which may be referenced from a generated
+     * mapper, see {@link #getReferenceableMethods(TypeElement)}.
+     *
+     * @param type the used mapper or context parameter type
+     * @param methods the referenceable methods of the given type
+     */
+    public void addReferenceableMethods(TypeElement type, List<ExecutableElement> methods) {
+        referenceableMethods.put( type, java.util.Collections.unmodifiableList( methods ) );
+    }
 }
@@ -18,8 +18,12 @@
  */
 package org.mapstruct.ap.internal.writer;
 
+import java.io.IOException;
 import java.io.Writer;
+import java.util.Collections;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.mapstruct.ap.internal.writer.Writable.Context;
 
@@ -28,6 +32,7 @@
 import freemarker.ext.beans.SimpleMapModel;
 import freemarker.template.Configuration;
 import freemarker.template.Template;
+import freemarker.template.TemplateException;
 import freemarker.template.TemplateHashModel;
 import freemarker.template.TemplateModel;
 import freemarker.template.TemplateModelException;
@@ -37,29 +42,71 @@
  * FreeMarker templates. Any parameters passed to the
  * {@link ModelIncludeDirective} in addition to element itself can be accessed
  * from within the template using the {@code ext} pseudo-element.
+ * <p>
+ * One instance is used per FreeMarker {@link Configuration}. The templates are looked up only once per template name.
+ * Elements included via the {@link ModelIncludeDirective} are rendered with the model created by the including
+ * template, instead of wrapping them again.
  *
  * @author Gunnar Morling
  */
 public class FreeMarkerModelElementWriter {
 
+    private static final TemplateHashModel NO_EXT_PARAMS = new SimpleMapModel(
+        Collections.emptyMap(),
+        BeansWrapper.getDefaultInstance()
+    );
+
+    private final Configuration configuration;
+    private final ConcurrentMap<String, Template> templates = new ConcurrentHashMap<String, Template>();
+
+    public FreeMarkerModelElementWriter(Configuration configuration) {
+        this.configuration = configuration;
+    }
+
     public void write(FreeMarkerWritable writable, Context context, Writer writer) throws Exception {
-        Configuration configuration = context.get( Configuration.class );
-        Template template = configuration.getTemplate( writable.getTemplateName() );
-        template.process(
-            new ExternalParamsTemplateModel(
-                new BeanModel( writable, BeansWrapper.getDefaultInstance() ),
-                new SimpleMapModel( context.get( Map.class ), BeansWrapper.getDefaultInstance() )
-            ),
+        Map<?, ?> extParams = context.get( Map.class );
+
+        write(
+            writable,
+            new BeanModel( writable, BeansWrapper.getDefaultInstance() ),
+            extParams != null ? new SimpleMapModel( extParams, BeansWrapper.getDefaultInstance() ) : NO_EXT_PARAMS,
+            writer
+        );
+    }
+
+    /**
+     * Writes the given writable, using the given model of it.
+     *
+     * @param writable the element to write
+     * @param object the FreeMarker model wrapping the element
+     * @param extParams the parameters to expose via {@code ext}
+     * @param writer the writer to write to
+     */
+    void write(FreeMarkerWritable writable, BeanModel object, TemplateHashModel extParams, Writer writer)
+        throws IOException, TemplateException {
+        getTemplate( writable.getTemplateName() ).process(
+            new ExternalParamsTemplateModel( object, extParams ),
             writer
         );
     }
 
+    private Template getTemplate(String name) throws IOException {
+        Template template = templates.get( name );
+
+        if ( template == null ) {
+            template = configuration.getTemplate( name );
+            templates.putIfAbsent( name, template );
+        }
+
+        return template;
+    }
+
     private static class ExternalParamsTemplateModel implements TemplateHashModel {
 
         private final BeanModel object;
-        private final SimpleMapModel extParams;
+        private final TemplateHashModel extParams;
 
-        ExternalParamsTemplateModel(BeanModel object, SimpleMapModel extParams) {
+        ExternalParamsTemplateModel(BeanModel object, TemplateHashModel extParams) {
             this.object = object;
             this.extParams = extParams;
         }
@@ -29,7 +29,7 @@ public abstract class FreeMarkerWritable implements Writable {
 
     @Override
     public void write(Context context, Writer writer) throws Exception {
-        new FreeMarkerModelElementWriter().write( this, context, writer );
+        context.get( FreeMarkerModelElementWriter.class ).write( this, context, writer );
     }
 
     /**
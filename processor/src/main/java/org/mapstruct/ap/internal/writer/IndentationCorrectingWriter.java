@@ -52,6 +52,11 @@ class IndentationCorrectingWriter extends Writer {
     private static final boolean DEBUG = false;
     private static final String LINE_SEPARATOR = System.getProperty( "line.separator" );
     private static final boolean IS_WINDOWS = System.getProperty( "os.name" ).startsWith( "Windows" );
+    private static final char[] INDENTATION = new char[128];
+
+    static {
+        Arrays.fill( INDENTATION, ' ' );
+    }
 
     private State currentState = State.START_OF_LINE;
     private final StateContext context;
@@ -65,14 +70,17 @@ class IndentationCorrectingWriter extends Writer {
     public void write(char[] cbuf, int off, int len) throws IOException {
         context.reset( cbuf, off );
 
-        for ( int i = off; i < len; i++ ) {
+        for ( int i = off; i < off + len; i++ ) {
             char c = cbuf[i];
 
             State newState = currentState.handleCharacter( c, context );
 
             if ( newState != currentState ) {
-                currentState.onExit( context, newState );
-                newState.onEntry( context );
+                // characters of subsequent pass-through states are written out in one go
+                if ( !currentState.passesThrough() || !newState.passesThrough() ) {
+                    currentState.onExit( context, newState );
+                    newState.onEntry( context );
+                }
                 currentState = newState;
             }
 
@@ -97,10 +105,18 @@ private static boolean isWindows() {
         return IS_WINDOWS;
     }
 
-    private static char[] getIndentation(int indentationLevel) {
-        char[] indentation = new char[indentationLevel * 4];
-        Arrays.fill( indentation, ' ' );
-        return indentation;
+    /**
+     * Writes the whitespace for the given indentation level, taken from a shared array of whitespace characters.
+     */
+    private static void writeIndentation(Writer writer, int indentationLevel) throws IOException {
+        int length = indentationLevel * 4;
+
+        while ( length > INDENTATION.length ) {
+            writer.write( INDENTATION );
+            length -= INDENTATION.length;
+        }
+
+        writer.write( INDENTATION, 0, length );
     }
 
     /**
@@ -139,11 +155,12 @@ State doHandleCharacter(char c, StateContext context) {
              */
             @Override
             void doOnEntry(StateContext context) throws IOException {
-                context.writer.write( getIndentation( context.getIndentationLevel() ) );
+                writeIndentation( context.writer, context.getIndentationLevel() );
 
                 if ( DEBUG ) {
-                    System.out.print( new String( getIndentation( context.getIndentationLevel() ) )
-                            .replace( " ", "_" ) );
+                    for ( int i = 0; i < context.getIndentationLevel(); i++ ) {
+                        System.out.print( "____" );
+                    }
                 }
             }
 
@@ -348,6 +365,14 @@ final State handleCharacter(char c, StateContext context) throws IOException {
             return doHandleCharacter( c, context );
         }
 
+        /**
+         * Whether the characters handled in this state are written out unchanged. No flushing is required when
+         * switching between two such states.
+         */
+        boolean passesThrough() {
+            return this != IN_LINE_BREAK && this != AFTER_LINE_BREAK;
+        }
+
         abstract State doHandleCharacter(char c, StateContext context) throws IOException;
 
         final void onEntry(StateContext context) throws IOException {
@@ -422,7 +447,7 @@ private static class StateContext {
         void reset(char[] characters, int off) {
             this.characters = characters;
             this.lastStateChange = off;
-            this.currentIndex = 0;
+            this.currentIndex = off;
         }
 
         void incrementIndentationLevel() {
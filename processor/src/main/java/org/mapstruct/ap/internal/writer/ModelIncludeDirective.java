@@ -30,6 +30,7 @@
 import freemarker.template.TemplateDirectiveBody;
 import freemarker.template.TemplateDirectiveModel;
 import freemarker.template.TemplateException;
+import freemarker.template.TemplateHashModel;
 import freemarker.template.TemplateModel;
 
 /**
@@ -37,15 +38,20 @@
  * {@link Writable}s, with each element using its own template. Elements are
  * imported into the parent template by using this directive like so:
  * {@code <@includeModel object=myProperty/>}.
+ * <p>
+ * {@link FreeMarkerWritable}s are rendered directly with the model passed to this directive and a view of the other
+ * directive parameters, avoiding to wrap them again.
  *
  * @author Gunnar Morling
  */
 public class ModelIncludeDirective implements TemplateDirectiveModel {
 
     private final Configuration configuration;
+    private final FreeMarkerModelElementWriter modelElementWriter;
 
-    public ModelIncludeDirective(Configuration configuration) {
+    public ModelIncludeDirective(Configuration configuration, FreeMarkerModelElementWriter modelElementWriter) {
         this.configuration = configuration;
+        this.modelElementWriter = modelElementWriter;
     }
 
     @Override
@@ -53,12 +59,25 @@ public void execute(Environment env, @SuppressWarnings("rawtypes") Map params, T
                         TemplateDirectiveBody body)
         throws TemplateException, IOException {
 
-        Writable modelElement = getModelElement( params );
-        DefaultModelElementWriterContext context = createContext( params );
+        BeanModel objectModel = getModelElement( params );
+
+        if ( objectModel == null ) {
+            return;
+        }
+
+        Writable modelElement = (Writable) objectModel.getWrappedObject();
 
         try {
-            if ( modelElement != null ) {
-                modelElement.write( context, env.getOut() );
+            if ( modelElement instanceof FreeMarkerWritable ) {
+                modelElementWriter.write(
+                    (FreeMarkerWritable) modelElement,
+                    objectModel,
+                    new DirectiveParamsModel( params ),
+                    env.getOut()
+                );
+            }
+            else {
+                modelElement.write( createContext( params ), env.getOut() );
             }
         }
         catch ( TemplateException te ) {
@@ -76,7 +95,7 @@ public void execute(Environment env, @SuppressWarnings("rawtypes") Map params, T
     }
 
     @SuppressWarnings("rawtypes")
-    private Writable getModelElement(Map params) {
+    private BeanModel getModelElement(Map params) {
         if ( !params.containsKey( "object" ) ) {
             throw new IllegalArgumentException(
                 "Object to be included must be passed to this directive via the 'object' parameter"
@@ -93,7 +112,7 @@ private Writable getModelElement(Map params) {
             throw new IllegalArgumentException( "Given object isn't a Writable:" + objectModel.getWrappedObject() );
         }
 
-        return (Writable) objectModel.getWrappedObject();
+        return objectModel;
     }
 
     /**
@@ -112,8 +131,32 @@ private DefaultModelElementWriterContext createContext(Map params) {
 
         Map<Class<?>, Object> values = new HashMap<Class<?>, Object>();
         values.put( Configuration.class, configuration );
+        values.put( FreeMarkerModelElementWriter.class, modelElementWriter );
         values.put( Map.class, ext );
 
         return new DefaultModelElementWriterContext( values );
     }
+
+    /**
+     * Exposes the parameters passed to this directive, except the included object, as {@code ext} pseudo-element.
+     */
+    private static class DirectiveParamsModel implements TemplateHashModel {
+
+        @SuppressWarnings("rawtypes")
+        private final Map params;
+
+        DirectiveParamsModel(@SuppressWarnings("rawtypes") Map params) {
+            this.params = params;
+        }
+
+        @Override
+        public TemplateModel get(String key) {
+            return "object".equals( key ) ? null : (TemplateModel) params.get( key );
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return params.size() == ( params.containsKey( "object" ) ? 1 : 0 );
+        }
+    }
 }
@@ -23,6 +23,8 @@
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
+import java.io.StringWriter;
+import java.io.Writer;
 import java.net.URL;
 import java.net.URLConnection;
 import java.nio.charset.Charset;
@@ -53,6 +55,8 @@ public class ModelWriter {
      */
     private static final Configuration CONFIGURATION;
 
+    private static final FreeMarkerModelElementWriter MODEL_ELEMENT_WRITER;
+
     static {
         try {
             Logger.selectLoggerLibrary( Logger.LIBRARY_NONE );
@@ -64,9 +68,10 @@ public class ModelWriter {
         CONFIGURATION = new Configuration( Configuration.DEFAULT_INCOMPATIBLE_IMPROVEMENTS );
         CONFIGURATION.setTemplateLoader( new SimpleClasspathLoader() );
         CONFIGURATION.setObjectWrapper( new DefaultObjectWrapper( Configuration.DEFAULT_INCOMPATIBLE_IMPROVEMENTS ) );
+        MODEL_ELEMENT_WRITER = new FreeMarkerModelElementWriter( CONFIGURATION );
         CONFIGURATION.setSharedVariable(
             "includeModel",
-            new ModelIncludeDirective( CONFIGURATION )
+            new ModelIncludeDirective( CONFIGURATION, MODEL_ELEMENT_WRITER )
         );
         // do not refresh/gc the cached templates, as we never change them at runtime
         CONFIGURATION.setCacheStorage( new StrongCacheStorage() );
@@ -76,12 +81,39 @@ public class ModelWriter {
 
     public void writeModel(FileObject sourceFile, Writable model) {
         try {
-            BufferedWriter writer = new BufferedWriter( new IndentationCorrectingWriter( sourceFile.openWriter() ) );
+            writeModel( sourceFile.openWriter(), model );
+        }
+        catch ( IOException e ) {
+            throw new RuntimeException( e );
+        }
+    }
 
-            Map<Class<?>, Object> values = new HashMap<Class<?>, Object>();
-            values.put( Configuration.class, CONFIGURATION );
+    /**
+     * Renders the given model into a string, without correcting its indentation.
+     *
+     * @param model the model to render
+     *
+     * @return the rendered source code
+     */
+    public String renderModel(Writable model) {
+        StringWriter writer = new StringWriter();
+        try {
+            write( writer, model );
+        }
+        catch ( RuntimeException e ) {
+            throw e;
+        }
+        catch ( Exception e ) {
+            throw new RuntimeException( e );
+        }
+        return writer.toString();
+    }
 
-            model.write( new DefaultModelElementWriterContext( values ), writer );
+    private void writeModel(Writer targetWriter, Writable model) {
+        try {
+            BufferedWriter writer = new BufferedWriter( new IndentationCorrectingWriter( targetWriter ) );
+
+            write( writer, model );
 
             writer.flush();
             writer.close();
@@ -94,6 +126,14 @@ public void writeModel(FileObject sourceFile, Writable model) {
         }
     }
 
+    private void write(Writer writer, Writable model) throws Exception {
+        Map<Class<?>, Object> values = new HashMap<Class<?>, Object>();
+        values.put( Configuration.class, CONFIGURATION );
+        values.put( FreeMarkerModelElementWriter.class, MODEL_ELEMENT_WRITER );
+
+        model.write( new DefaultModelElementWriterContext( values ), writer );
+    }
+
     /**
      * Simplified template loader that avoids reading modification timestamps and disables the jar-file caching.
      *
@@ -20,7 +20,7 @@
 
 -->
 <#if overridden>@Override</#if>
-<#lt>${accessibility.keyword} <@includeModel object=returnType/> ${name}(<#list parameters as param><@includeModel object=param/><#if param_has_next>, </#if></#list>)<@throws/> {
+<#lt>${accessibility.keyword} <#if static>static </#if><@includeModel object=returnType/> ${name}(<#list parameters as param><@includeModel object=param/><#if param_has_next>, </#if></#list>)<@throws/> {
     <#list beforeMappingReferencesWithoutMappingTarget as callback>
     	<@includeModel object=callback targetBeanName=resultName targetType=resultType/>
     	<#if !callback_has_next>
@@ -33,11 +33,19 @@
     }
     </#if>
 
+    <#if identityTracking??>
+        <@trackIdentity/>
+
+    try {
+    </#if>
     <#if !existingInstanceMapping>
         <#t ><@includeModel object=resultType.mapToType /> ${resultName} =
         <#lt ><#if factoryMethod??> <@includeModel object=factoryMethod targetType=resultType />;
         <#t ><#else> new <@includeModel object=resultType />();
         </#if>
+        <#if identityTracking?? && !buildMethod??>
+        ${identityTracking.targetsName}.put( ${sourceParameters[0].name}, ${resultName} );
+        </#if>
 
     </#if>
     <#list beforeMappingReferencesWithMappingTarget as callback>
@@ -48,31 +56,39 @@
     </#list>
     <#if (sourceParameters?size > 1)>
         <#list sourceParametersExcludingPrimitives as sourceParam>
-            <#if (propertyMappingsByParameter(sourceParam)?size > 0)>
+            <#if mappingElementsByParameter(sourceParam)?has_content>
                 if ( ${sourceParam.name} != null ) {
-                    <#list propertyMappingsByParameter(sourceParam) as propertyMapping>
-                        <@includeModel object=propertyMapping targetBeanName=resultName existingInstanceMapping=existingInstanceMapping defaultValueAssignment=propertyMapping.defaultValueAssignment/>
-                    </#list>
+                    <#if partsByParameter(sourceParam)?has_content>
+                        <@invokeParts parts=partsByParameter(sourceParam)/>
+                    <#else>
+                        <@mappingElements elements=mappingElementsByParameter(sourceParam)/>
+                    </#if>
                 }
             </#if>
         </#list>
         <#list sourcePrimitiveParameters as sourceParam>
-            <#if (propertyMappingsByParameter(sourceParam)?size > 0)>
-                <#list propertyMappingsByParameter(sourceParam) as propertyMapping>
-                    <@includeModel object=propertyMapping targetBeanName=resultName existingInstanceMapping=existingInstanceMapping defaultValueAssignment=propertyMapping.defaultValueAssignment/>
-                </#list>
+            <#if partsByParameter(sourceParam)?has_content>
+                <@invokeParts parts=partsByParameter(sourceParam)/>
+            <#else>
+                <@mappingElements elements=mappingElementsByParameter(sourceParam)/>
             </#if>
         </#list>
     <#else>
         <#if mapNullToDefault>if ( ${sourceParameters[0].name} != null ) {</#if>
-        <#list propertyMappingsByParameter(sourceParameters[0]) as propertyMapping>
-            <@includeModel object=propertyMapping targetBeanName=resultName existingInstanceMapping=existingInstanceMapping defaultValueAssignment=propertyMapping.defaultValueAssignment/>
-        </#list>
+        <#if partsByParameter(sourceParameters[0])?has_content>
+            <@invokeParts parts=partsByParameter(sourceParameters[0])/>
+        <#else>
+            <@mappingElements elements=mappingElementsByParameter(sourceParameters[0])/>
+        </#if>
         <#if mapNullToDefault>}</#if>
     </#if>
-    <#list constantMappings as constantMapping>
-         <@includeModel object=constantMapping targetBeanName=resultName existingInstanceMapping=existingInstanceMapping/>
-    </#list>
+    <#if constantMappingParts?has_content>
+        <@invokeParts parts=constantMappingParts/>
+    <#else>
+        <#list constantMappings as constantMapping>
+             <@includeModel object=constantMapping targetBeanName=resultName existingInstanceMapping=existingInstanceMapping/>
+        </#list>
+    </#if>
     <#list afterMappingReferences as callback>
     	<#if callback_index = 0>
 
@@ -80,7 +96,12 @@
     	<@includeModel object=callback targetBeanName=resultName targetType=resultType/>
     </#list>
     <#if returnType.name != "void">
-        <#if buildMethod??>
+        <#if buildMethod?? && identityTracking??>
+
+            <@includeModel object=returnType/> ${identityTracking.mappedTargetName} = ${resultName}.<@includeModel object=buildMethod />;
+            ${identityTracking.targetsName}.put( ${sourceParameters[0].name}, ${identityTracking.mappedTargetName} );
+            return ${identityTracking.mappedTargetName};
+        <#elseif buildMethod??>
 
             return ${resultName}.<@includeModel object=buildMethod />;
         <#else>
@@ -88,7 +109,57 @@
             return ${resultName};
         </#if>
     </#if>
+    <#if identityTracking??>
+    }
+    finally {
+        if ( ${identityTracking.outermostMappingName} ) {
+            ${identityTracking.mappedTargetsField.variableName}.remove();
+        }
+    }
+    </#if>
 }
+<#list parts as part>
+
+<@includeModel object=part/>
+</#list>
+<#--
+    Applies property mappings and groups of nested property mappings in the given order; groups have no default value
+-->
+<#macro mappingElements elements>
+    <#list elements as element>
+        <@includeModel object=element targetBeanName=resultName existingInstanceMapping=existingInstanceMapping defaultValueAssignment=element.defaultValueAssignment/>
+    </#list>
+</#macro>
+<#macro invokeParts parts>
+    <#list parts as part>
+        ${part.name}( <#list part.parameters as param>${param.name}<#if param_has_next>, </#if></#list> );
+    </#list>
+</#macro>
+<#--
+    Looks up the target already mapped from the source object during the current outermost invocation of any
+    tracking method, initializing the tracking state if this is the outermost invocation.
+-->
+<#macro trackIdentity>
+    <#local tracking = identityTracking>
+    <#local source = sourceParameters[0].name>
+    <@includeModel object=tracking.targetsByTypeType/> ${tracking.targetsByTypeName} = ${tracking.mappedTargetsField.variableName}.get();
+    boolean ${tracking.outermostMappingName} = ${tracking.targetsByTypeName} == null;
+    if ( ${tracking.outermostMappingName} ) {
+        ${tracking.targetsByTypeName} = new <@includeModel object=tracking.targetsByTypeImplementationType/>();
+        ${tracking.mappedTargetsField.variableName}.set( ${tracking.targetsByTypeName} );
+    }
+    <@includeModel object=tracking.targetsType/> ${tracking.targetsName} = ${tracking.targetsByTypeName}.get( <@includeModel object=returnType/>.class );
+    if ( ${tracking.targetsName} == null ) {
+        ${tracking.targetsName} = new <@includeModel object=tracking.targetsImplementationType/>();
+        ${tracking.targetsByTypeName}.put( <@includeModel object=returnType/>.class, ${tracking.targetsName} );
+    }
+    else {
+        <@includeModel object=returnType/> ${tracking.mappedTargetName} = (<@includeModel object=returnType/>) ${tracking.targetsName}.get( ${source} );
+        if ( ${tracking.mappedTargetName} != null ) {
+            return ${tracking.mappedTargetName};
+        }
+    }
+</#macro>
 <#macro throws>
     <#if (thrownTypes?size > 0)><#lt> throws </#if><@compress single_line=true>
         <#list thrownTypes as exceptionType>
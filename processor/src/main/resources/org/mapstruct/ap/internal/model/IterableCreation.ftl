@@ -22,12 +22,18 @@
 <@compress single_line=true>
     <#if factoryMethod??>
         <@includeModel object=factoryMethod targetType=resultType/>
+    <#elseif enumImplementationType??>
+        <#if resultType.mapType>
+            new <@includeModel object=enumImplementationType/>( <@includeModel object=resultType.typeParameters[0]/>.class )
+        <#else>
+            <@includeModel object=enumImplementationType raw=true/>.noneOf( <@includeModel object=resultType.typeParameters[0]/>.class )
+        </#if>
     <#else>
     new
         <#if resultType.implementationType??>
             <@includeModel object=resultType.implementationType/><#if ext.useSizeIfPossible?? && ext.useSizeIfPossible && canUseSize>( <@sizeForCreation /> )<#else>()</#if>
         <#else>
-            <@includeModel object=resultType/>()</#if>
+            <@includeModel object=resultType/><#if ext.useSizeIfPossible?? && ext.useSizeIfPossible && canUseSize>( <@sizeForCreation /> )<#else>()</#if></#if>
         </#if>
 </@compress>
 <#macro sizeForCreation>
@@ -74,7 +74,7 @@
     </#list>
     <#if resultType.arrayType>
         int ${index1Name} = 0;
-        for ( <@includeModel object=sourceElementType/> ${loopVariableName} : ${sourceParameter.name} ) {
+        <@sourceLoop>
             <#if existingInstanceMapping>
             if ( ( ${index1Name} >= ${resultName}.length ) || ( ${index1Name} >= <@iterableSize/> ) ) {
                 break;
@@ -82,11 +82,20 @@
             </#if>
             <@includeModel object=elementAssignment targetWriteAccessorName=resultName+"[${index1Name}]" targetType=resultElementType isTargetDefined=true/>
             ${index1Name}++;
+        </@sourceLoop>
+    <#elseif parallelThreshold??>
+        if ( ${sourceParameter.name}.size() >= ${parallelThreshold?c} ) {
+            ${resultName}.addAll( ${sourceParameter.name}.parallelStream()<@parallelMapFunction />.collect( Collectors.toList() ) );
+        }
+        else {
+            <@sourceLoop>
+                <@includeModel object=elementAssignment targetBeanName=resultName targetWriteAccessorName="add" targetType=resultElementType/>
+            </@sourceLoop>
         }
     <#else>
-        for ( <@includeModel object=sourceElementType/> ${loopVariableName} : ${sourceParameter.name} ) {
+        <@sourceLoop>
             <@includeModel object=elementAssignment targetBeanName=resultName targetWriteAccessorName="add" targetType=resultElementType/>
-        }
+        </@sourceLoop>
     </#if>
     <#list afterMappingReferences as callback>
     	<#if callback_index = 0>
@@ -107,6 +116,38 @@
         </#list>
     </@compress>
 </#macro>
+<#--
+    iterates over the source, by index in case of a RandomAccess list if requested via IterationStrategy#INDEXED
+-->
+<#macro sourceLoop>
+    <#if randomAccessType??>
+        if ( ${sourceParameter.name} instanceof <@includeModel object=randomAccessType/> ) {
+            for ( int ${index2Name} = 0; ${index2Name} < ${sourceParameter.name}.size(); ${index2Name}++ ) {
+                <@includeModel object=sourceElementType/> ${loopVariableName} = ${sourceParameter.name}.get( ${index2Name} );
+                <#nested>
+            }
+        }
+        else {
+            for ( <@includeModel object=sourceElementType/> ${loopVariableName} : ${sourceParameter.name} ) {
+                <#nested>
+            }
+        }
+    <#else>
+        for ( <@includeModel object=sourceElementType/> ${loopVariableName} : ${sourceParameter.name} ) {
+            <#nested>
+        }
+    </#if>
+</#macro>
+<#--
+    maps the elements of a parallel stream via the element assignment, unless it is a direct assignment
+-->
+<#macro parallelMapFunction>
+    <@compress>
+        <#if !elementFunction.directAssignment>
+            .map( <@includeModel object=elementFunction targetBeanName=resultName targetType=resultElementType/> )
+        </#if>
+    </@compress>
+</#macro>
 <#macro iterableSize>
     <@compress single_line=true>
         <#if sourceParameter.type.arrayType>
@@ -0,0 +1,42 @@
+<#-- @ftlvariable name="" type="org.mapstruct.ap.internal.model.MapperIndex" -->
+<#--
+
+     Copyright 2012-2017 Gunnar Morling (http://www.gunnarmorling.de/)
+     and/or other contributors as indicated by the @authors tag. See the
+     copyright.txt file in the distribution for a full listing of all
+     contributors.
+
+     Licensed under the Apache License, Version 2.0 (the "License");
+     you may not use this file except in compliance with the License.
+     You may obtain a copy of the License at
+
+         http://www.apache.org/licenses/LICENSE-2.0
+
+     Unless required by applicable law or agreed to in writing, software
+     distributed under the License is distributed on an "AS IS" BASIS,
+     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+     See the License for the specific language governing permissions and
+     limitations under the License.
+
+-->
+<#if packageName?has_content>
+package ${packageName};
+</#if>
+
+<#if generatedTypeAvailable>
+@javax.annotation.Generated(
+    value = "org.mapstruct.ap.MappingProcessor"
+)
+</#if>
+public class ${name} implements org.mapstruct.factory.MapperIndex {
+
+    @Override
+    public <T> T getMapper(Class<T> mapperType) {
+        <#list entries as entry>
+        if ( mapperType == ${entry.mapperName}.class ) {
+            return mapperType.cast( new ${entry.implementationName}() );
+        }
+        </#list>
+        return null;
+    }
+}
@@ -20,8 +20,11 @@
 
 -->
 <@compress single_line=true>
+    <#-- method is shared by several mappers, declared by a class generated in the package of the mapper -->
+    <#if sharedTypeName??>
+        ${sharedTypeName}.<@methodCall/>
     <#-- method is either internal to the mapper class, or external (via uses) declaringMapper!=null -->
-    <#if declaringMapper??>
+    <#elseif declaringMapper??>
         <#if static><@includeModel object=declaringMapper.type/><#else>${mapperVariableName}</#if>.<@methodCall/>
     <#-- method is provided by a context parameter  -->
     <#elseif providingParameter??>
@@ -1,4 +1,4 @@
-<#-- @ftlvariable name="" type="org.mapstruct.ap.internal.model.VirtualMappingMethod" -->
+<#-- @ftlvariable name="" type="org.mapstruct.ap.internal.model.SupportingField" -->
 <#--
 
      Copyright 2012-2017 Gunnar Morling (http://www.gunnarmorling.de/)
@@ -19,9 +19,4 @@
      limitations under the License.
 
 -->
-private DecimalFormat ${name}( String numberFormat ) {
-
-    DecimalFormat df = new DecimalFormat( numberFormat );
-    df.setParseBigDecimal( true );
-    return df;
-}
\ No newline at end of file
+private <#if static>static </#if><#if final>final </#if><#if volatile>volatile </#if><@includeModel object=type/> ${variableName}<#if initializer??> = ${initializer}</#if>;
@@ -27,7 +27,7 @@ private XMLGregorianCalendar ${name}( Calendar cal ) {
     try {
         GregorianCalendar gcal = new GregorianCalendar();
         gcal.setTimeInMillis( cal.getTimeInMillis() );
-        return DatatypeFactory.newInstance().newXMLGregorianCalendar( gcal );
+        return getDatatypeFactory().newXMLGregorianCalendar( gcal );
     }
     catch ( DatatypeConfigurationException ex ) {
         throw new RuntimeException( ex );
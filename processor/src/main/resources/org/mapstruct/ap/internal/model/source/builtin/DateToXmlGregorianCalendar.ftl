@@ -27,7 +27,7 @@ private XMLGregorianCalendar ${name}( Date date ) {
     try {
         GregorianCalendar c = new GregorianCalendar();
         c.setTime( date );
-        return DatatypeFactory.newInstance().newXMLGregorianCalendar( c );
+        return getDatatypeFactory().newXMLGregorianCalendar( c );
     }
     catch ( DatatypeConfigurationException ex ) {
         throw new RuntimeException( ex );
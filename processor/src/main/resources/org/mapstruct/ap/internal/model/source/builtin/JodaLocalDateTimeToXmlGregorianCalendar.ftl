@@ -25,7 +25,7 @@ private XMLGregorianCalendar ${name}( LocalDateTime dt ) {
     }
 
     try {
-        return DatatypeFactory.newInstance().newXMLGregorianCalendar(
+        return getDatatypeFactory().newXMLGregorianCalendar(
             dt.getYear(),
             dt.getMonthOfYear(),
             dt.getDayOfMonth(),
@@ -25,7 +25,7 @@ private XMLGregorianCalendar ${name}( LocalDate dt ) {
     }
 
     try {
-        return DatatypeFactory.newInstance().newXMLGregorianCalendarDate(
+        return getDatatypeFactory().newXMLGregorianCalendarDate(
             dt.getYear(),
             dt.getMonthOfYear(),
             dt.getDayOfMonth(),
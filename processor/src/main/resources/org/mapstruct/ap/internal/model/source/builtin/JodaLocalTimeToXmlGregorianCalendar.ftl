@@ -25,7 +25,7 @@ private XMLGregorianCalendar ${name}( LocalTime dt ) {
     }
 
     try {
-        return DatatypeFactory.newInstance().newXMLGregorianCalendarTime(
+        return getDatatypeFactory().newXMLGregorianCalendarTime(
             dt.getHourOfDay(),
             dt.getMinuteOfHour(),
             dt.getSecondOfMinute(),
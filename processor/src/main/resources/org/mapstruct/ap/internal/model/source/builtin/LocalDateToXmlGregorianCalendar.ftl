@@ -19,13 +19,13 @@
      limitations under the License.
 
 -->
-private static XMLGregorianCalendar ${name}( java.time.LocalDate localDate ) {
+private XMLGregorianCalendar ${name}( java.time.LocalDate localDate ) {
     if ( localDate == null ) {
         return null;
     }
 
     try {
-        return DatatypeFactory.newInstance().newXMLGregorianCalendarDate(
+        return getDatatypeFactory().newXMLGregorianCalendarDate(
             localDate.getYear(),
             localDate.getMonthValue(),
             localDate.getDayOfMonth(),
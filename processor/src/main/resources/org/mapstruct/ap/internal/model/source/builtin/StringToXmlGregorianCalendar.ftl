@@ -29,10 +29,10 @@ private XMLGregorianCalendar ${name}( String date, String dateFormat ) {
             DateFormat df = new SimpleDateFormat( dateFormat );
             GregorianCalendar c = new GregorianCalendar();
             c.setTime( df.parse( date ) );
-            return DatatypeFactory.newInstance().newXMLGregorianCalendar( c );
+            return getDatatypeFactory().newXMLGregorianCalendar( c );
         }
         else {
-            return DatatypeFactory.newInstance().newXMLGregorianCalendar( date );
+            return getDatatypeFactory().newXMLGregorianCalendar( date );
         }
     }
     catch ( DatatypeConfigurationException ex ) {
@@ -0,0 +1,105 @@
+/**
+ *  Copyright 2012-2017 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.ap.internal.writer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import org.junit.Test;
+
+public class IndentationCorrectingWriterTest {
+
+    private static final String LINE_SEPARATOR = System.getProperty( "line.separator" );
+
+    @Test
+    public void shouldIndentBasedOnBraces() throws IOException {
+        assertThat( correct( "class Foo {\n   void bar() {\n  baz();\n}\n}\n" ) ).isEqualTo(
+            lines( "class Foo {", "    void bar() {", "        baz();", "    }", "}" )
+        );
+    }
+
+    @Test
+    public void shouldIgnoreBracesWithinStrings() throws IOException {
+        assertThat( correct( "String s = \"{(\\\"\";\n  foo();\n" ) ).isEqualTo(
+            lines( "String s = \"{(\\\"\";", "foo();" )
+        );
+    }
+
+    @Test
+    public void shouldCollapseBlankLines() throws IOException {
+        assertThat( correct( "a {\n\n\n\nb;\n\n}\n" ) ).isEqualTo(
+            lines( "a {", "", "    b;", "}" )
+        );
+    }
+
+    @Test
+    public void shouldHandleTextSplitAcrossWrites() throws IOException {
+        String text = "class Foo {\n   void bar(String s) {\n  baz( \"{\", s );\n\n\n  qux();\n}\n}\n";
+        String[] characters = new String[text.length()];
+        for ( int i = 0; i < text.length(); i++ ) {
+            characters[i] = text.substring( i, i + 1 );
+        }
+
+        assertThat( correct( characters ) ).isEqualTo( correct( text ) );
+        assertThat( correct( text.substring( 0, 17 ), text.substring( 17, 40 ), text.substring( 40 ) ) )
+            .isEqualTo( correct( text ) );
+    }
+
+    @Test
+    public void shouldIndentDeeplyNestedCode() throws IOException {
+        StringBuilder text = new StringBuilder();
+        StringBuilder expected = new StringBuilder();
+        String indentation = "";
+
+        for ( int i = 0; i < 40; i++ ) {
+            text.append( "if ( x ) {\n" );
+            expected.append( indentation ).append( "if ( x ) {" ).append( LINE_SEPARATOR );
+            indentation += "    ";
+        }
+        text.append( "x;\n" );
+        expected.append( indentation ).append( "x;" ).append( LINE_SEPARATOR );
+
+        assertThat( correct( text.toString() ) ).isEqualTo( expected.toString() );
+    }
+
+    /**
+     * Writes the given chunks one by one, each from a buffer containing further characters before and after it.
+     */
+    private static String correct(String... chunks) throws IOException {
+        StringWriter out = new StringWriter();
+        IndentationCorrectingWriter writer = new IndentationCorrectingWriter( out );
+
+        for ( String chunk : chunks ) {
+            writer.write( ( "##" + chunk + "##" ).toCharArray(), 2, chunk.length() );
+        }
+        writer.close();
+
+        return out.toString();
+    }
+
+    private static String lines(String... lines) {
+        StringBuilder text = new StringBuilder();
+        for ( String line : lines ) {
+            text.append( line ).append( LINE_SEPARATOR );
+        }
+        return text.toString();
+    }
+}
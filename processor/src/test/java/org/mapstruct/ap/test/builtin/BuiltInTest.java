@@ -42,6 +42,7 @@
 import org.junit.AfterClass;
 import org.junit.BeforeClass;
 import org.junit.FixMethodOrder;
+import org.junit.Rule;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.MethodSorters;
@@ -76,6 +77,7 @@
 import org.mapstruct.ap.testutil.IssueKey;
 import org.mapstruct.ap.testutil.WithClasses;
 import org.mapstruct.ap.testutil.runner.AnnotationProcessorTestRunner;
+import org.mapstruct.ap.testutil.runner.GeneratedSource;
 
 /**
  * Test for the generation of built-in mapping methods.
@@ -118,6 +120,9 @@ public class BuiltInTest {
 
     private static TimeZone originalTimeZone;
 
+    @Rule
+    public final GeneratedSource generatedSource = new GeneratedSource();
+
     @BeforeClass
     public static void setDefaultTimeZoneToCet() {
         originalTimeZone = TimeZone.getDefault();
@@ -221,6 +226,18 @@ public void shouldApplyBuiltInStringToXmlGregCal() throws ParseException, Dataty
 
     }
 
+    @Test
+    public void shouldObtainDatatypeFactoryOncePerMapper() {
+        generatedSource.forMapper( StringToXmlGregCalMapper.class ).content()
+            .containsOnlyOnce( "private volatile DatatypeFactory datatypeFactory;" )
+            .containsOnlyOnce( "DatatypeFactory.newInstance()" )
+            .contains( "return getDatatypeFactory().newXMLGregorianCalendar( date );" );
+
+        generatedSource.forMapper( DateToXmlGregCalMapper.class ).content()
+            .containsOnlyOnce( "private volatile DatatypeFactory datatypeFactory;" )
+            .containsOnlyOnce( "DatatypeFactory.newInstance()" );
+    }
+
     @Test
     public void shouldApplyBuiltInXmlGregCalToString() throws ParseException, DatatypeConfigurationException {
 
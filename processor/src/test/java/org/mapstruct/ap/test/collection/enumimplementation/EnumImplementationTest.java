@@ -0,0 +1,114 @@
+/**
+ *  Copyright 2012-2017 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.ap.test.collection.enumimplementation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mapstruct.ap.testutil.WithClasses;
+import org.mapstruct.ap.testutil.compilation.annotation.ProcessorOption;
+import org.mapstruct.ap.testutil.runner.AnnotationProcessorTestRunner;
+import org.mapstruct.ap.testutil.runner.GeneratedSource;
+
+/**
+ * Tests that sets of enums and maps with enum keys are created as {@link EnumSet} and {@link EnumMap} if the
+ * {@code mapstruct.useEnumSetAndEnumMap} option is given.
+ */
+@WithClasses({
+    Weekday.class,
+    Schedule.class,
+    ScheduleDto.class,
+    ScheduleMapper.class
+})
+@RunWith(AnnotationProcessorTestRunner.class)
+@ProcessorOption(name = "mapstruct.useEnumSetAndEnumMap", value = "true")
+public class EnumImplementationTest {
+
+    @Rule
+    public final GeneratedSource generatedSource = new GeneratedSource();
+
+    @Test
+    public void shouldCreateEnumSetAndEnumMapForProperties() {
+        Schedule schedule = new Schedule();
+        schedule.setWorkdays( Arrays.asList( "FRIDAY", "MONDAY" ) );
+        Map<String, Integer> hours = new LinkedHashMap<String, Integer>();
+        hours.put( "TUESDAY", 8 );
+        hours.put( "MONDAY", 6 );
+        schedule.setHours( hours );
+
+        ScheduleDto dto = ScheduleMapper.INSTANCE.scheduleToDto( schedule );
+
+        assertThat( dto.getWorkdays() ).isInstanceOf( EnumSet.class )
+            .containsExactly( Weekday.MONDAY, Weekday.FRIDAY );
+        assertThat( dto.getHours() ).isInstanceOf( EnumMap.class );
+        assertThat( dto.getHours().keySet() ).containsExactly( Weekday.MONDAY, Weekday.TUESDAY );
+        assertThat( dto.getHours() ).containsEntry( Weekday.TUESDAY, 8L );
+
+        generatedSource.forMapper( ScheduleMapper.class ).content()
+            .contains( "import java.util.EnumMap;" )
+            .contains( "import java.util.EnumSet;" )
+            .contains( "Set<Weekday> set = EnumSet.noneOf( Weekday.class );" )
+            .contains( "Map<Weekday, Long> map1 = new EnumMap<Weekday, Long>( Weekday.class );" )
+            .doesNotContain( "HashSet" );
+    }
+
+    @Test
+    public void shouldCreateEmptyEnumSetAndEnumMapForNullSource() {
+        Set<Weekday> weekdays = ScheduleMapper.INSTANCE.namesToWeekdays( null );
+        Map<Weekday, String> names = ScheduleMapper.INSTANCE.namesByWeekday( null );
+
+        assertThat( weekdays ).isInstanceOf( EnumSet.class ).isEmpty();
+        assertThat( names ).isInstanceOf( EnumMap.class ).isEmpty();
+    }
+
+    @Test
+    public void shouldKeepHashMapForNonEnumKeys() {
+        Map<String, String> weekdays = new HashMap<String, String>();
+        weekdays.put( "first", "MONDAY" );
+
+        Map<String, Weekday> result = ScheduleMapper.INSTANCE.weekdaysByName( weekdays );
+
+        assertThat( result ).isInstanceOf( HashMap.class ).containsEntry( "first", Weekday.MONDAY );
+    }
+
+    @Test
+    @ProcessorOption(name = "mapstruct.useEnumSetAndEnumMap", value = "false")
+    public void shouldCreateHashSetAndHashMapByDefault() {
+        Set<Weekday> weekdays = ScheduleMapper.INSTANCE.namesToWeekdays( null );
+        Map<Weekday, String> names = ScheduleMapper.INSTANCE.namesByWeekday( null );
+
+        assertThat( weekdays ).isInstanceOf( HashSet.class ).isEmpty();
+        assertThat( names ).isInstanceOf( HashMap.class ).isEmpty();
+
+        generatedSource.forMapper( ScheduleMapper.class ).content()
+            .doesNotContain( "EnumSet" )
+            .doesNotContain( "EnumMap" );
+    }
+}
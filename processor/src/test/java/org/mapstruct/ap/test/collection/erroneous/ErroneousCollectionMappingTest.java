@@ -84,8 +84,9 @@ public void shouldFailToGenerateImplementationBetweenCollectionAndPrimitive() {
             @Diagnostic(type = EmptyItererableMappingMapper.class,
                 kind = Kind.ERROR,
                 line = 35,
-                messageRegExp = "'nullValueMappingStrategy','dateformat', 'qualifiedBy' and 'elementTargetType' are "
-                    + "undefined in @IterableMapping, define at least one of them.")
+                messageRegExp = "'nullValueMappingStrategy','dateformat', 'qualifiedBy', 'elementTargetType', "
+                    + "'iterationStrategy' and 'parallelThreshold' are undefined in @IterableMapping, define at "
+                    + "least one of them.")
         }
     )
     public void shouldFailOnEmptyIterableAnnotation() {
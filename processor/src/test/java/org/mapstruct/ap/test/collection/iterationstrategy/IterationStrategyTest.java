@@ -0,0 +1,121 @@
+/**
+ *  Copyright 2012-2017 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.ap.test.collection.iterationstrategy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+
+import javax.tools.Diagnostic.Kind;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mapstruct.ap.testutil.WithClasses;
+import org.mapstruct.ap.testutil.compilation.annotation.CompilationResult;
+import org.mapstruct.ap.testutil.compilation.annotation.Diagnostic;
+import org.mapstruct.ap.testutil.compilation.annotation.ExpectedCompilationOutcome;
+import org.mapstruct.ap.testutil.runner.AnnotationProcessorTestRunner;
+import org.mapstruct.ap.testutil.runner.GeneratedSource;
+
+/**
+ * Tests for {@code IterableMapping#iterationStrategy()}.
+ */
+@WithClasses({
+    Row.class,
+    RowDto.class
+})
+@RunWith(AnnotationProcessorTestRunner.class)
+public class IterationStrategyTest {
+
+    @Rule
+    public final GeneratedSource generatedSource = new GeneratedSource();
+
+    @Test
+    @WithClasses(RowMapper.class)
+    public void shouldMapRandomAccessListByIndex() {
+        List<RowDto> dtos = RowMapper.INSTANCE.rowsToDtos( Arrays.asList( new Row( "a", 1 ), new Row( "b", 2 ) ) );
+
+        assertThat( dtos ).extracting( "name" ).containsExactly( "a", "b" );
+        assertThat( dtos ).extracting( "value" ).containsExactly( 1, 2 );
+
+        generatedSource.forMapper( RowMapper.class ).content()
+            .contains( "import java.util.RandomAccess;" )
+            .contains( "if ( rows instanceof RandomAccess ) {" )
+            .contains( "Row row = rows.get( j );" );
+    }
+
+    @Test
+    @WithClasses(RowMapper.class)
+    public void shouldMapOtherListsUsingIterator() {
+        List<Row> rows = new LinkedList<Row>( Arrays.asList( new Row( "a", 1 ), new Row( "b", 2 ) ) );
+
+        List<RowDto> dtos = RowMapper.INSTANCE.rowsToDtos( rows );
+
+        assertThat( dtos ).extracting( "name" ).containsExactly( "a", "b" );
+    }
+
+    @Test
+    @WithClasses(RowMapper.class)
+    public void shouldMapIntoGivenArray() {
+        RowDto[] target = new RowDto[3];
+
+        RowMapper.INSTANCE.mapInto( Arrays.asList( new Row( "a", 1 ), new Row( "b", 2 ) ), target );
+
+        assertThat( target ).hasSize( 3 );
+        assertThat( target[0].getName() ).isEqualTo( "a" );
+        assertThat( target[1].getName() ).isEqualTo( "b" );
+        assertThat( target[2] ).isNull();
+    }
+
+    @Test
+    @WithClasses(RowMapper.class)
+    public void shouldMapArraysAsBefore() {
+        assertThat( RowMapper.INSTANCE.namesToNames( new String[] { "a", "b" } ) ).containsExactly( "a", "b" );
+    }
+
+    @Test
+    @WithClasses(RowMapper.class)
+    public void shouldUseIteratorByDefault() {
+        List<RowDto> dtos = RowMapper.INSTANCE.rowsToDtosUsingIterator( Arrays.asList( new Row( "a", 1 ) ) );
+
+        assertThat( dtos ).extracting( "name" ).containsExactly( "a" );
+        generatedSource.forMapper( RowMapper.class ).content()
+            .contains( "for ( Row row : rowList ) {" )
+            .doesNotContain( "rowList instanceof RandomAccess" );
+    }
+
+    @Test
+    @WithClasses(RowSetMapper.class)
+    @ExpectedCompilationOutcome(
+        value = CompilationResult.SUCCEEDED,
+        diagnostics = {
+            @Diagnostic(type = RowSetMapper.class,
+                kind = Kind.WARNING,
+                line = 32,
+                messageRegExp = "Iteration strategy INDEXED is only applicable to source parameters of type "
+                    + "java.util.List, but is \"java.util.Set<.*Row>\"\\. The source will be iterated using an "
+                    + "iterator\\.")
+        }
+    )
+    public void shouldWarnAboutIndexedIterationOfNonListSource() {
+    }
+}
@@ -0,0 +1,46 @@
+/**
+ *  Copyright 2012-2017 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.ap.test.collection.iterationstrategy;
+
+import java.util.List;
+
+import org.mapstruct.IterableMapping;
+import org.mapstruct.IterationStrategy;
+import org.mapstruct.Mapper;
+import org.mapstruct.MappingTarget;
+import org.mapstruct.factory.Mappers;
+
+@Mapper
+public interface RowMapper {
+
+    RowMapper INSTANCE = Mappers.getMapper( RowMapper.class );
+
+    @IterableMapping(iterationStrategy = IterationStrategy.INDEXED)
+    List<RowDto> rowsToDtos(List<Row> rows);
+
+    @IterableMapping(iterationStrategy = IterationStrategy.INDEXED)
+    void mapInto(List<Row> rows, @MappingTarget RowDto[] target);
+
+    @IterableMapping(iterationStrategy = IterationStrategy.INDEXED)
+    List<String> namesToNames(String[] names);
+
+    List<RowDto> rowsToDtosUsingIterator(List<Row> rowList);
+
+    RowDto rowToDto(Row row);
+}
@@ -0,0 +1,84 @@
+/**
+ *  Copyright 2012-2017 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.ap.test.collection.presized;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mapstruct.ap.testutil.WithClasses;
+import org.mapstruct.ap.testutil.runner.AnnotationProcessorTestRunner;
+import org.mapstruct.ap.testutil.runner.GeneratedSource;
+
+/**
+ * Tests that concrete collection and map types are created with an initial capacity derived from the source.
+ */
+@WithClasses({
+    Order.class,
+    OrderDto.class,
+    OrderMapper.class
+})
+@RunWith(AnnotationProcessorTestRunner.class)
+public class PresizedCollectionTest {
+
+    @Rule
+    public final GeneratedSource generatedSource = new GeneratedSource();
+
+    @Test
+    public void shouldPresizeConcreteCollectionPropertyTypes() {
+        Order order = new Order();
+        order.setQuantities( Arrays.asList( 1, 2, 3 ) );
+        order.setItemIds( new LinkedHashSet<Long>( Arrays.asList( 7L, 8L ) ) );
+        Map<String, Integer> prices = new HashMap<String, Integer>();
+        prices.put( "a", 10 );
+        order.setPrices( prices );
+
+        OrderDto dto = OrderMapper.INSTANCE.orderToDto( order );
+
+        assertThat( dto.getQuantities() ).containsExactly( "1", "2", "3" );
+        assertThat( dto.getItemIds() ).containsExactly( "7", "8" );
+        assertThat( dto.getPrices() ).containsEntry( "a", "10" );
+
+        generatedSource.forMapper( OrderMapper.class ).content()
+            .contains( "ArrayList<String> arrayList = new ArrayList<String>( list.size() );" )
+            .contains( "LinkedHashSet<String> linkedHashSet = "
+                + "new LinkedHashSet<String>( Math.max( (int) ( set.size() / .75f ) + 1, 16 ) );" )
+            .contains( "LinkedHashMap<String, String> linkedHashMap = "
+                + "new LinkedHashMap<String, String>( Math.max( (int) ( map.size() / .75f ) + 1, 16 ) );" );
+    }
+
+    @Test
+    public void shouldPresizeConcreteResultTypes() {
+        Map<String, Integer> prices = new HashMap<String, Integer>();
+        prices.put( "a", 10 );
+
+        assertThat( OrderMapper.INSTANCE.pricesToStrings( prices ) ).containsEntry( "a", "10" );
+        assertThat( OrderMapper.INSTANCE.idsToStrings( new Long[] { 1L, 2L } ) ).containsExactly( "1", "2" );
+
+        generatedSource.forMapper( OrderMapper.class ).content()
+            .contains( "new HashMap<String, String>( Math.max( (int) ( prices.size() / .75f ) + 1, 16 ) );" )
+            .contains( "ArrayList<String> arrayList = new ArrayList<String>( ids.length );" );
+    }
+}
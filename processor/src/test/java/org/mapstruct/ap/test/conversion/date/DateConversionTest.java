@@ -30,11 +30,13 @@
 import java.util.Locale;
 
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mapstruct.ap.testutil.IssueKey;
 import org.mapstruct.ap.testutil.WithClasses;
 import org.mapstruct.ap.testutil.runner.AnnotationProcessorTestRunner;
+import org.mapstruct.ap.testutil.runner.GeneratedSource;
 
 /**
  * Tests application of format strings for conversions between strings and dates.
@@ -50,6 +52,9 @@
 @RunWith(AnnotationProcessorTestRunner.class)
 public class DateConversionTest {
 
+    @Rule
+    public final GeneratedSource generatedSource = new GeneratedSource();
+
     @Before
     public void setDefaultLocale() {
         Locale.setDefault( Locale.GERMAN );
@@ -68,6 +73,15 @@ public void shouldApplyDateFormatForConversions() {
         assertThat( target.getAnotherDate() ).isEqualTo( "14.02.13 00:00" );
     }
 
+    @Test
+    public void shouldShareDateFormatsPerThread() {
+        generatedSource.forMapper( SourceTargetMapper.class ).content()
+            .contains( "private static final ThreadLocal<SimpleDateFormat> DATE_FORMAT = " )
+            .contains( "DATE_FORMAT.get().format( source.getDate() )" )
+            .containsOnlyOnce( "return new SimpleDateFormat();" )
+            .doesNotContain( "new SimpleDateFormat().format(" );
+    }
+
     @Test
     public void shouldApplyDateFormatForConversionInReverseMapping() {
         Target target = new Target();
@@ -0,0 +1,151 @@
+/**
+ *  Copyright 2012-2017 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.ap.test.conversion.enumstring;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mapstruct.ap.testutil.WithClasses;
+import org.mapstruct.ap.testutil.compilation.annotation.CompilationResult;
+import org.mapstruct.ap.testutil.compilation.annotation.Diagnostic;
+import org.mapstruct.ap.testutil.compilation.annotation.ExpectedCompilationOutcome;
+import org.mapstruct.ap.testutil.compilation.annotation.SourceLevel;
+import org.mapstruct.ap.testutil.runner.AnnotationProcessorTestRunner;
+import org.mapstruct.ap.testutil.runner.GeneratedSource;
+
+/**
+ * Tests for the conversion of {@code String}s into enum constants and {@code Mapper#unknownEnumStringStrategy()}.
+ */
+@WithClasses({
+    Color.class,
+    Shirt.class,
+    ShirtDto.class
+})
+@RunWith(AnnotationProcessorTestRunner.class)
+public class EnumStringConversionTest {
+
+    @Rule
+    public final GeneratedSource generatedSource = new GeneratedSource();
+
+    @Test
+    @WithClasses(ShirtMapper.class)
+    public void shouldConvertStringToEnumViaSwitch() {
+        assertThat( ShirtMapper.INSTANCE.dtoToShirt( new ShirtDto( "GREEN" ) ).getColor() ).isEqualTo( Color.GREEN );
+        assertThat( ShirtMapper.INSTANCE.dtoToShirt( new ShirtDto( null ) ).getColor() ).isNull();
+        assertThat( ShirtMapper.INSTANCE.shirtToDto( ShirtMapper.INSTANCE.dtoToShirt( new ShirtDto( "BLUE" ) ) )
+            .getColor() ).isEqualTo( "BLUE" );
+
+        generatedSource.forMapper( ShirtMapper.class ).content()
+            .contains( "shirt.setColor( stringToColor( dto.getColor() ) );" )
+            .contains( "case \"RED\": return Color.RED;" )
+            .contains( "default: throw new IllegalArgumentException( \"No enum constant "
+                + "org.mapstruct.ap.test.conversion.enumstring.Color.\" + string );" )
+            .doesNotContain( "Enum.valueOf" );
+    }
+
+    @Test
+    @WithClasses(ShirtMapper.class)
+    @SourceLevel("1.6")
+    public void shouldConvertStringToEnumViaValueOfBelowJava7() {
+        assertThat( ShirtMapper.INSTANCE.dtoToShirt( new ShirtDto( "GREEN" ) ).getColor() ).isEqualTo( Color.GREEN );
+        assertThat( ShirtMapper.INSTANCE.dtoToShirt( new ShirtDto( null ) ).getColor() ).isNull();
+
+        generatedSource.forMapper( ShirtMapper.class ).content()
+            .contains( "shirt.setColor( Enum.valueOf( Color.class, dto.getColor() ) );" )
+            .doesNotContain( "switch" );
+    }
+
+    @Test
+    @WithClasses(ShirtMapper.class)
+    public void shouldThrowExceptionForUnknownConstantByDefault() {
+        try {
+            ShirtMapper.INSTANCE.dtoToShirt( new ShirtDto( "PURPLE" ) );
+            fail( "Expected IllegalArgumentException" );
+        }
+        catch ( IllegalArgumentException e ) {
+            assertThat( e ).hasMessage( "No enum constant org.mapstruct.ap.test.conversion.enumstring.Color.PURPLE" );
+        }
+    }
+
+    @Test
+    @WithClasses({
+        org.mapstruct.ap.test.conversion.enumstring.other.Color.class,
+        Palette.class,
+        PaletteDto.class,
+        PaletteMapper.class
+    })
+    public void shouldConvertStringsToEnumsWithSameSimpleName() {
+        PaletteDto dto = new PaletteDto();
+        dto.setColor( "RED" );
+        dto.setPrintColor( "CYAN" );
+
+        Palette palette = PaletteMapper.INSTANCE.dtoToPalette( dto );
+
+        assertThat( palette.getColor() ).isEqualTo( Color.RED );
+        assertThat( palette.getPrintColor() )
+            .isEqualTo( org.mapstruct.ap.test.conversion.enumstring.other.Color.CYAN );
+
+        generatedSource.forMapper( PaletteMapper.class ).content()
+            .containsPattern( "stringToColor\\( dto\\.get(Print)?Color\\(\\) \\)" )
+            .containsPattern(
+                "stringToOrgMapstructApTestConversionEnumstring(Other)?Color\\( dto\\.get(Print)?Color\\(\\) \\)"
+            );
+    }
+
+    @Test
+    @WithClasses(NullReturningShirtMapper.class)
+    public void shouldReturnNullForUnknownConstant() {
+        assertThat( NullReturningShirtMapper.INSTANCE.dtoToShirt( new ShirtDto( "PURPLE" ) ).getColor() ).isNull();
+        assertThat( NullReturningShirtMapper.INSTANCE.dtoToShirt( new ShirtDto( "RED" ) ).getColor() )
+            .isEqualTo( Color.RED );
+
+        generatedSource.forMapper( NullReturningShirtMapper.class ).content()
+            .contains( "default: return null;" );
+    }
+
+    @Test
+    @WithClasses({ DefaultConstantConfig.class, DefaultConstantShirtMapper.class })
+    public void shouldReturnDefaultConstantConfiguredViaMapperConfigForUnknownConstant() {
+        assertThat( DefaultConstantShirtMapper.INSTANCE.dtoToShirt( new ShirtDto( "PURPLE" ) ).getColor() )
+            .isEqualTo( Color.UNKNOWN );
+        assertThat( DefaultConstantShirtMapper.INSTANCE.dtoToShirt( new ShirtDto( "BLUE" ) ).getColor() )
+            .isEqualTo( Color.BLUE );
+
+        generatedSource.forMapper( DefaultConstantShirtMapper.class ).content()
+            .contains( "default: return Color.UNKNOWN;" );
+    }
+
+    @Test
+    @WithClasses(ErroneousShirtMapper.class)
+    @ExpectedCompilationOutcome(
+        value = CompilationResult.FAILED,
+        diagnostics = {
+            @Diagnostic(type = ErroneousShirtMapper.class,
+                kind = javax.tools.Diagnostic.Kind.ERROR,
+                line = 25,
+                messageRegExp = "'defaultEnumConstant' must be given when using "
+                    + "UnknownEnumStringStrategy\\.RETURN_DEFAULT_CONSTANT\\.")
+        }
+    )
+    public void shouldRaiseErrorForMissingDefaultConstant() {
+    }
+}
@@ -28,11 +28,13 @@
 import java.util.Calendar;
 import java.util.TimeZone;
 
+import org.junit.Rule;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mapstruct.ap.testutil.IssueKey;
 import org.mapstruct.ap.testutil.WithClasses;
 import org.mapstruct.ap.testutil.runner.AnnotationProcessorTestRunner;
+import org.mapstruct.ap.testutil.runner.GeneratedSource;
 
 /**
  * Tests for conversions to/from Java 8 date and time types.
@@ -42,6 +44,9 @@
 @IssueKey("121")
 public class Java8TimeConversionTest {
 
+    @Rule
+    public final GeneratedSource generatedSource = new GeneratedSource();
+
     @Test
     public void testDateTimeToString() {
         Source src = new Source();
@@ -291,4 +296,11 @@ public void testLocalDateToDateMapping() {
 
         assertThat( source.getForDateConversionWithLocalDate() ).isEqualTo( localDate );
     }
+
+    @Test
+    public void shouldDeclareOneFormatterPerDateFormat() {
+        generatedSource.forMapper( SourceTargetMapper.class ).content()
+            .containsOnlyOnce( "DateTimeFormatter.ofPattern( \"dd.MM.yyyy\" )" )
+            .contains( "DateTimeFormatter DATE_TIME_FORMATTER_2 = DateTimeFormatter.ofPattern( \"dd.MM.yyyy\" );" );
+    }
 }
@@ -0,0 +1,84 @@
+/**
+ *  Copyright 2012-2017 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.ap.test.conversion.java8time.sharedformatters;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mapstruct.ap.testutil.WithClasses;
+import org.mapstruct.ap.testutil.compilation.annotation.CompilationResult;
+import org.mapstruct.ap.testutil.compilation.annotation.Diagnostic;
+import org.mapstruct.ap.testutil.compilation.annotation.ExpectedCompilationOutcome;
+import org.mapstruct.ap.testutil.runner.AnnotationProcessorTestRunner;
+import org.mapstruct.ap.testutil.runner.GeneratedSource;
+
+/**
+ * Tests for formatters shared between mappers via {@code @DateFormatConstant}.
+ */
+@RunWith(AnnotationProcessorTestRunner.class)
+@WithClasses({ Order.class, OrderDto.class })
+public class SharedFormattersTest {
+
+    @Rule
+    public final GeneratedSource generatedSource = new GeneratedSource();
+
+    @Test
+    @WithClasses({ SharedFormatters.class, SharedFormattersConfig.class, OrderMapper.class })
+    public void shouldUseSharedFormatterForMatchingDateFormat() {
+        Order order = new Order();
+        order.setOrderDate( LocalDate.of( 2017, 3, 31 ) );
+        order.setDeliveryDate( LocalDate.of( 2017, 4, 2 ) );
+
+        OrderDto orderDto = OrderMapper.INSTANCE.orderToOrderDto( order );
+        assertThat( orderDto.getOrderDate() ).isEqualTo( "31.03.2017" );
+        assertThat( orderDto.getDeliveryDate() ).isEqualTo( "2017/04/02" );
+
+        order = OrderMapper.INSTANCE.orderDtoToOrder( orderDto );
+        assertThat( order.getOrderDate() ).isEqualTo( LocalDate.of( 2017, 3, 31 ) );
+        assertThat( order.getDeliveryDate() ).isEqualTo( LocalDate.of( 2017, 4, 2 ) );
+
+        generatedSource.forMapper( OrderMapper.class ).content()
+            .contains( "orderDto.setOrderDate( SharedFormatters.DAY.format( order.getOrderDate() ) );" )
+            .contains( "LocalDate.parse( orderDto.getOrderDate(), SharedFormatters.DAY )" )
+            .containsOnlyOnce( "DateTimeFormatter.ofPattern( \"yyyy/MM/dd\" )" )
+            .doesNotContain( "DateTimeFormatter.ofPattern( \"dd.MM.yyyy\" )" );
+    }
+
+    @Test
+    @WithClasses({ ErroneousFormatters.class, ErroneousOrderMapper.class })
+    @ExpectedCompilationOutcome(value = CompilationResult.FAILED,
+        diagnostics = {
+            @Diagnostic(type = ErroneousFormatters.class,
+                kind = javax.tools.Diagnostic.Kind.ERROR,
+                line = 28,
+                messageRegExp = "A field annotated with @DateFormatConstant must be a public static final field of "
+                    + "type java.time.format.DateTimeFormatter or org.joda.time.format.DateTimeFormatter."),
+            @Diagnostic(type = ErroneousFormatters.class,
+                kind = javax.tools.Diagnostic.Kind.ERROR,
+                line = 31,
+                messageRegExp = "A field annotated with @DateFormatConstant must be a public static final field of "
+                    + "type java.time.format.DateTimeFormatter or org.joda.time.format.DateTimeFormatter.")
+        })
+    public void shouldFailOnInvalidSharedFormatter() {
+    }
+}
@@ -30,11 +30,13 @@
 import org.joda.time.LocalDateTime;
 import org.joda.time.LocalTime;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mapstruct.ap.testutil.IssueKey;
 import org.mapstruct.ap.testutil.WithClasses;
 import org.mapstruct.ap.testutil.runner.AnnotationProcessorTestRunner;
+import org.mapstruct.ap.testutil.runner.GeneratedSource;
 
 /**
  * Tests the conversion between Joda-Time types and String/Date/Calendar.
@@ -46,6 +48,9 @@
 @IssueKey("75")
 public class JodaConversionTest {
 
+    @Rule
+    public final GeneratedSource generatedSource = new GeneratedSource();
+
     @Before
     public void setDefaultLocale() {
         Locale.setDefault( Locale.GERMAN );
@@ -221,4 +226,11 @@ public void testStringToLocalDateUsingDefaultFormat() {
 
         assertThat( target.getDate() ).isEqualTo( new LocalDate( 2014, 11, 19 ) );
     }
+
+    @Test
+    public void shouldDeclareOneFormatterPerDateFormat() {
+        generatedSource.forMapper( SourceTargetMapper.class ).content()
+            .containsOnlyOnce( "DateTimeFormat.forPattern( \"dd.MM.yyyy\" )" )
+            .contains( "DateTimeFormatter DATE_TIME_FORMATTER_2 = DateTimeFormat.forPattern( \"dd.MM.yyyy\" );" );
+    }
 }
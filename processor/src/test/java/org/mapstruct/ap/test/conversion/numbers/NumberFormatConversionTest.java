@@ -19,10 +19,12 @@
 package org.mapstruct.ap.test.conversion.numbers;
 
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mapstruct.ap.testutil.WithClasses;
 import org.mapstruct.ap.testutil.runner.AnnotationProcessorTestRunner;
+import org.mapstruct.ap.testutil.runner.GeneratedSource;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
@@ -43,6 +45,9 @@
 @RunWith(AnnotationProcessorTestRunner.class)
 public class NumberFormatConversionTest {
 
+    @Rule
+    public final GeneratedSource generatedSource = new GeneratedSource();
+
     @Before
     public void setDefaultLocale() {
         Locale.setDefault( Locale.ENGLISH );
@@ -158,4 +163,14 @@ public void shouldApplyStringConversionsToMaps() {
         assertThat( source2 ).contains( entry( 1.00f, 2f ) );
 
     }
+
+    @Test
+    public void shouldDeclareOneDecimalFormatPerNumberFormat() {
+        generatedSource.forMapper( SourceTargetMapper.class ).content()
+            .containsOnlyOnce( "new DecimalFormat( \"##.00\" )" )
+            .containsOnlyOnce( "new DecimalFormat( \"#0.#E0\" )" )
+            .contains( "private static final ThreadLocal<DecimalFormat> DECIMAL_FORMAT = " )
+            .contains( "target.setI( DECIMAL_FORMAT.get().format( source.getI() ) );" )
+            .contains( "format.setParseBigDecimal( true );" );
+    }
 }
@@ -0,0 +1,122 @@
+/**
+ *  Copyright 2012-2017 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.ap.test.cyclestrategy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import javax.tools.Diagnostic.Kind;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mapstruct.ap.testutil.WithClasses;
+import org.mapstruct.ap.testutil.compilation.annotation.CompilationResult;
+import org.mapstruct.ap.testutil.compilation.annotation.Diagnostic;
+import org.mapstruct.ap.testutil.compilation.annotation.ExpectedCompilationOutcome;
+import org.mapstruct.ap.testutil.runner.AnnotationProcessorTestRunner;
+import org.mapstruct.ap.testutil.runner.GeneratedSource;
+
+/**
+ * Tests for {@code BeanMapping#cycleStrategy()}.
+ */
+@WithClasses({
+    Department.class,
+    DepartmentDto.class,
+    Employee.class,
+    EmployeeDto.class
+})
+@RunWith(AnnotationProcessorTestRunner.class)
+public class CycleStrategyTest {
+
+    @Rule
+    public final GeneratedSource generatedSource = new GeneratedSource();
+
+    @Test
+    @WithClasses(DepartmentMapper.class)
+    public void shouldMapCyclicReferences() {
+        Department department = new Department( "Sales" );
+        Employee alice = new Employee( "Alice", department );
+        new Employee( "Bob", department );
+        department.setHead( alice );
+
+        DepartmentDto dto = DepartmentMapper.INSTANCE.departmentToDto( department );
+
+        assertThat( dto.getName() ).isEqualTo( "Sales" );
+        assertThat( dto.getEmployees() ).extracting( "name" ).containsExactly( "Alice", "Bob" );
+        assertThat( dto.getEmployees().get( 0 ).getDepartment() ).isSameAs( dto );
+        assertThat( dto.getEmployees().get( 1 ).getDepartment() ).isSameAs( dto );
+        assertThat( dto.getHead() ).isSameAs( dto.getEmployees().get( 0 ) );
+
+        generatedSource.forMapper( DepartmentMapper.class ).content()
+            .contains( "private final ThreadLocal<Map<Object, Map<Object, Object>>> mappedTargets = "
+                + "new ThreadLocal<Map<Object, Map<Object, Object>>>();" )
+            .contains( "targets.put( department, departmentDto );" )
+            .contains( "mappedTargets.remove();" );
+    }
+
+    @Test
+    @WithClasses(DepartmentMapper.class)
+    public void shouldMapSharedReferencesOnceWhenStartingWithNestedType() {
+        Department department = new Department( "Sales" );
+        Employee alice = new Employee( "Alice", department );
+        department.setHead( alice );
+
+        EmployeeDto dto = DepartmentMapper.INSTANCE.employeeToDto( alice );
+
+        assertThat( dto.getDepartment().getHead() ).isSameAs( dto );
+        assertThat( dto.getDepartment().getEmployees() ).containsExactly( dto );
+    }
+
+    @Test
+    @WithClasses(DepartmentMapper.class)
+    public void shouldCreateNewTargetsForEachOutermostInvocation() {
+        Department department = new Department( "Sales" );
+        new Employee( "Alice", department );
+
+        DepartmentDto first = DepartmentMapper.INSTANCE.departmentToDto( department );
+        DepartmentDto second = DepartmentMapper.INSTANCE.departmentToDto( department );
+
+        assertThat( second ).isNotSameAs( first );
+        assertThat( second.getEmployees().get( 0 ) ).isNotSameAs( first.getEmployees().get( 0 ) );
+        assertThat( second.getEmployees().get( 0 ).getDepartment() ).isSameAs( second );
+    }
+
+    @Test
+    @WithClasses(ErroneousDepartmentMapper.class)
+    @ExpectedCompilationOutcome(
+        value = CompilationResult.SUCCEEDED,
+        diagnostics = {
+            @Diagnostic(type = ErroneousDepartmentMapper.class,
+                kind = Kind.WARNING,
+                line = 30,
+                messageRegExp = "'cycleStrategy' is only applicable to methods with a single source parameter, a "
+                    + "non-generic return type and no @MappingTarget parameter\\. Source objects will not be tracked "
+                    + "by identity\\."),
+            @Diagnostic(type = ErroneousDepartmentMapper.class,
+                kind = Kind.WARNING,
+                line = 34,
+                messageRegExp = "'cycleStrategy' is only applicable to methods with a single source parameter, a "
+                    + "non-generic return type and no @MappingTarget parameter\\. Source objects will not be tracked "
+                    + "by identity\\.")
+        }
+    )
+    public void shouldWarnAboutInapplicableCycleStrategy() {
+        generatedSource.forMapper( ErroneousDepartmentMapper.class ).content().doesNotContain( "mappedTargets" );
+    }
+}
@@ -0,0 +1,40 @@
+/**
+ *  Copyright 2012-2017 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.ap.test.cyclestrategy;
+
+import java.util.List;
+
+import org.mapstruct.BeanMapping;
+import org.mapstruct.CycleStrategy;
+import org.mapstruct.Mapper;
+import org.mapstruct.factory.Mappers;
+
+@Mapper
+public interface DepartmentMapper {
+
+    DepartmentMapper INSTANCE = Mappers.getMapper( DepartmentMapper.class );
+
+    @BeanMapping(cycleStrategy = CycleStrategy.TRACK_IDENTITY)
+    DepartmentDto departmentToDto(Department department);
+
+    @BeanMapping(cycleStrategy = CycleStrategy.TRACK_IDENTITY)
+    EmployeeDto employeeToDto(Employee employee);
+
+    List<EmployeeDto> employeesToDtos(List<Employee> employees);
+}
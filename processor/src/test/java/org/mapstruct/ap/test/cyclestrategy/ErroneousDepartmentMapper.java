@@ -0,0 +1,38 @@
+/**
+ *  Copyright 2012-2017 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.ap.test.cyclestrategy;
+
+import org.mapstruct.BeanMapping;
+import org.mapstruct.CycleStrategy;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
+
+@Mapper
+public interface ErroneousDepartmentMapper {
+
+    @BeanMapping(cycleStrategy = CycleStrategy.TRACK_IDENTITY)
+    @Mapping(target = "department", ignore = true)
+    void updateEmployee(EmployeeDto dto, @MappingTarget Employee employee);
+
+    @BeanMapping(cycleStrategy = CycleStrategy.TRACK_IDENTITY)
+    EmployeeDto employeeToDto(Employee employee, String name);
+
+    DepartmentDto departmentToDto(Department department);
+}
@@ -0,0 +1,353 @@
+/**
+ *  Copyright 2012-2017 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.ap.test.incremental;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.Completion;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.Processor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.FileObject;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileManager.Location;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+
+import org.junit.Test;
+import org.mapstruct.ap.MappingProcessor;
+import org.mapstruct.ap.test.mapperindex.Car;
+import org.mapstruct.ap.test.mapperindex.CarDto;
+import org.mapstruct.ap.test.mapperindex.CarMapper;
+import org.mapstruct.ap.test.sharedsubmapping.Address;
+import org.mapstruct.ap.test.sharedsubmapping.AddressDto;
+import org.mapstruct.ap.test.sharedsubmapping.Customer;
+import org.mapstruct.ap.test.sharedsubmapping.CustomerDto;
+import org.mapstruct.ap.test.sharedsubmapping.CustomerMapper;
+import org.mapstruct.ap.test.sharedsubmapping.SharedSubMappingMethodsTest;
+import org.mapstruct.ap.test.sharedsubmapping.Supplier;
+import org.mapstruct.ap.test.sharedsubmapping.SupplierDto;
+import org.mapstruct.ap.test.sharedsubmapping.SupplierMapper;
+
+/**
+ * Tests for the support of incremental annotation processing in Gradle, i.e. the processor options declaring the
+ * processor as isolating or aggregating and the originating elements passed when creating the generated files.
+ * <p>
+ * The processor is run via the JDK compiler directly, as the originating elements are only visible to the
+ * {@link Filer}.
+ */
+public class IncrementalProcessingTest {
+
+    private static final String ISOLATING = "org.gradle.annotation.processing.isolating";
+    private static final String AGGREGATING = "org.gradle.annotation.processing.aggregating";
+
+    private static final String INDEX_NAME = "org.mapstruct.ap.test.mapperindex.index.GeneratedMapperIndex";
+    private static final String SUB_MAPPINGS_NAME = "org.mapstruct.ap.test.sharedsubmapping." +
+        SharedSubMappingMethodsTest.getSubMappingsClass( CustomerMapper.class, SupplierMapper.class );
+
+    private static final Class<?>[] SHARED_SUB_MAPPING_SOURCES = {
+        Address.class,
+        AddressDto.class,
+        Customer.class,
+        CustomerDto.class,
+        CustomerMapper.class,
+        Supplier.class,
+        SupplierDto.class,
+        SupplierMapper.class
+    };
+
+    @Test
+    public void shouldBeIsolatingByDefault() {
+        Processing processing = process( "isolating", SHARED_SUB_MAPPING_SOURCES );
+
+        assertThat( processing.supportedOptions ).contains( ISOLATING ).doesNotContain( AGGREGATING );
+        assertThat( processing.originatingElements.get( CustomerMapper.class.getName() + "Impl" ) )
+            .containsExactly( CustomerMapper.class.getName() );
+        assertThat( processing.originatingElements.get( SupplierMapper.class.getName() + "Impl" ) )
+            .containsExactly( SupplierMapper.class.getName() );
+    }
+
+    @Test
+    public void shouldBeAggregatingWithMapperIndex() {
+        Processing processing = process(
+            "mapperIndex",
+            new Class<?>[] { Car.class, CarDto.class, CarMapper.class },
+            "-Amapstruct.mapperIndex=" + INDEX_NAME
+        );
+
+        assertThat( processing.supportedOptions ).contains( AGGREGATING ).doesNotContain( ISOLATING );
+        assertThat( processing.originatingElements.get( CarMapper.class.getName() + "Impl" ) )
+            .containsExactly( CarMapper.class.getName() );
+        assertThat( processing.originatingElements.get( INDEX_NAME ) )
+            .containsExactly( CarMapper.class.getName() );
+        assertThat( processing.originatingElements.get( "META-INF/services/org.mapstruct.factory.MapperIndex" ) )
+            .containsExactly( CarMapper.class.getName() );
+    }
+
+    @Test
+    public void shouldBeAggregatingWithSharedSubMappingMethods() {
+        Processing processing = process(
+            "sharedSubMappingMethods",
+            SHARED_SUB_MAPPING_SOURCES,
+            "-Amapstruct.sharedSubMappingMethods=true"
+        );
+
+        assertThat( processing.supportedOptions ).contains( AGGREGATING ).doesNotContain( ISOLATING );
+        assertThat( processing.originatingElements.get( CustomerMapper.class.getName() + "Impl" ) )
+            .containsExactly( CustomerMapper.class.getName() );
+        assertThat( processing.originatingElements.get( SUB_MAPPINGS_NAME ) )
+            .containsOnly( CustomerMapper.class.getName(), SupplierMapper.class.getName() );
+    }
+
+    @Test
+    public void shouldNameSharedSubMappingsAfterProcessedMappers() {
+        Processing processing = process(
+            "sharedSubMappingMethodsPartial",
+            new Class<?>[] { Address.class, AddressDto.class, Customer.class, CustomerDto.class, CustomerMapper.class },
+            "-Amapstruct.sharedSubMappingMethods=true"
+        );
+
+        // recompiling a subset of the mappers must not replace the class used by the others
+        assertThat( processing.originatingElements ).doesNotContainKey( SUB_MAPPINGS_NAME );
+        assertThat( processing.originatingElements.get(
+            "org.mapstruct.ap.test.sharedsubmapping." +
+                SharedSubMappingMethodsTest.getSubMappingsClass( CustomerMapper.class ) ) )
+            .containsExactly( CustomerMapper.class.getName() );
+    }
+
+    private Processing process(String name, Class<?>[] sourceClasses, String... options) {
+        File outputDirectory = new File( "target/compilation-tests/" + getClass().getName() + "/" + name );
+        File classOutputDirectory = new File( outputDirectory, "classes" );
+        File sourceOutputDirectory = new File( outputDirectory, "generated-sources" );
+        classOutputDirectory.mkdirs();
+        sourceOutputDirectory.mkdirs();
+
+        List<File> sourceFiles = new ArrayList<File>();
+        for ( Class<?> sourceClass : sourceClasses ) {
+            sourceFiles.add( new File( "src/test/java/" + sourceClass.getName().replace( '.', '/' ) + ".java" ) );
+        }
+
+        List<File> classPath = new ArrayList<File>();
+        for ( String path : System.getProperty( "java.class.path" ).split( File.pathSeparator ) ) {
+            if ( !path.contains( "test-classes" ) ) {
+                classPath.add( new File( path ) );
+            }
+        }
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<JavaFileObject>();
+        StandardJavaFileManager fileManager = compiler.getStandardFileManager( null, null, null );
+        RecordingProcessor processor = new RecordingProcessor();
+
+        try {
+            fileManager.setLocation( StandardLocation.CLASS_PATH, classPath );
+            fileManager.setLocation( StandardLocation.CLASS_OUTPUT, Arrays.asList( classOutputDirectory ) );
+            fileManager.setLocation( StandardLocation.SOURCE_OUTPUT, Arrays.asList( sourceOutputDirectory ) );
+
+            JavaCompiler.CompilationTask task = compiler.getTask(
+                null,
+                fileManager,
+                diagnostics,
+                Arrays.asList( options ),
+                null,
+                fileManager.getJavaFileObjectsFromFiles( sourceFiles )
+            );
+            task.setProcessors( Arrays.<Processor>asList( processor ) );
+
+            assertThat( task.call() ).describedAs( diagnostics.getDiagnostics().toString() ).isTrue();
+
+            fileManager.close();
+        }
+        catch ( IOException e ) {
+            throw new RuntimeException( e );
+        }
+
+        for ( Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics() ) {
+            assertThat( diagnostic.getKind() ).describedAs( diagnostic.toString() )
+                .isNotEqualTo( Diagnostic.Kind.ERROR );
+        }
+
+        return new Processing( processor.getSupportedOptions(), processor.filer.originatingElements );
+    }
+
+    private static class Processing {
+
+        private final Set<String> supportedOptions;
+        private final Map<String, List<String>> originatingElements;
+
+        Processing(Set<String> supportedOptions, Map<String, List<String>> originatingElements) {
+            this.supportedOptions = supportedOptions;
+            this.originatingElements = originatingElements;
+        }
+    }
+
+    /**
+     * Runs the {@link MappingProcessor}, recording the originating elements of the files it creates.
+     */
+    private static class RecordingProcessor implements Processor {
+
+        private final MappingProcessor delegate = new MappingProcessor();
+        private RecordingFiler filer;
+
+        @Override
+        public Set<String> getSupportedOptions() {
+            return delegate.getSupportedOptions();
+        }
+
+        @Override
+        public Set<String> getSupportedAnnotationTypes() {
+            return delegate.getSupportedAnnotationTypes();
+        }
+
+        @Override
+        public SourceVersion getSupportedSourceVersion() {
+            return delegate.getSupportedSourceVersion();
+        }
+
+        @Override
+        public void init(ProcessingEnvironment processingEnv) {
+            filer = new RecordingFiler( processingEnv.getFiler() );
+            delegate.init( new RecordingProcessingEnvironment( processingEnv, filer ) );
+        }
+
+        @Override
+        public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+            return delegate.process( annotations, roundEnv );
+        }
+
+        @Override
+        public Iterable<? extends Completion> getCompletions(Element element,
+            AnnotationMirror annotation, ExecutableElement member, String userText) {
+            return delegate.getCompletions( element, annotation, member, userText );
+        }
+    }
+
+    private static class RecordingProcessingEnvironment implements ProcessingEnvironment {
+
+        private final ProcessingEnvironment delegate;
+        private final Filer filer;
+
+        RecordingProcessingEnvironment(ProcessingEnvironment delegate, Filer filer) {
+            this.delegate = delegate;
+            this.filer = filer;
+        }
+
+        @Override
+        public Map<String, String> getOptions() {
+            return delegate.getOptions();
+        }
+
+        @Override
+        public Messager getMessager() {
+            return delegate.getMessager();
+        }
+
+        @Override
+        public Filer getFiler() {
+            return filer;
+        }
+
+        @Override
+        public Elements getElementUtils() {
+            return delegate.getElementUtils();
+        }
+
+        @Override
+        public Types getTypeUtils() {
+            return delegate.getTypeUtils();
+        }
+
+        @Override
+        public SourceVersion getSourceVersion() {
+            return delegate.getSourceVersion();
+        }
+
+        @Override
+        public Locale getLocale() {
+            return delegate.getLocale();
+        }
+    }
+
+    private static class RecordingFiler implements Filer {
+
+        private final Filer delegate;
+        private final Map<String, List<String>> originatingElements = new HashMap<String, List<String>>();
+
+        RecordingFiler(Filer delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public JavaFileObject createSourceFile(CharSequence name, Element... originatingElements) throws IOException {
+            record( name, originatingElements );
+            return delegate.createSourceFile( name, originatingElements );
+        }
+
+        @Override
+        public JavaFileObject createClassFile(CharSequence name, Element... originatingElements) throws IOException {
+            record( name, originatingElements );
+            return delegate.createClassFile( name, originatingElements );
+        }
+
+        @Override
+        public FileObject createResource(Location location, CharSequence pkg, CharSequence relativeName,
+            Element... originatingElements) throws IOException {
+            record( pkg.length() == 0 ? relativeName : pkg.toString().replace( '.', '/' ) + "/" + relativeName,
+                originatingElements );
+            return delegate.createResource( location, pkg, relativeName, originatingElements );
+        }
+
+        @Override
+        public FileObject getResource(Location location, CharSequence pkg, CharSequence relativeName)
+            throws IOException {
+            return delegate.getResource( location, pkg, relativeName );
+        }
+
+        private void record(CharSequence name, Element... elements) {
+            List<String> names = new ArrayList<String>();
+            for ( Element element : elements ) {
+                names.add( ( (TypeElement) element ).getQualifiedName().toString() );
+            }
+            originatingElements.put( name.toString(), names );
+        }
+    }
+}
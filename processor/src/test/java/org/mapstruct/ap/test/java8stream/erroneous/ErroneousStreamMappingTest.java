@@ -92,18 +92,21 @@ public void shouldFailToGenerateImplementationBetweenCollectionAndPrimitive() {
             @Diagnostic(type = EmptyStreamMappingMapper.class,
                 kind = Kind.ERROR,
                 line = 36,
-                messageRegExp = "'nullValueMappingStrategy','dateformat', 'qualifiedBy' and 'elementTargetType' are "
-                    + "undefined in @IterableMapping, define at least one of them."),
+                messageRegExp = "'nullValueMappingStrategy','dateformat', 'qualifiedBy', 'elementTargetType', "
+                    + "'iterationStrategy' and 'parallelThreshold' are undefined in @IterableMapping, define at "
+                    + "least one of them."),
             @Diagnostic(type = EmptyStreamMappingMapper.class,
                 kind = Kind.ERROR,
                 line = 39,
-                messageRegExp = "'nullValueMappingStrategy','dateformat', 'qualifiedBy' and 'elementTargetType' are "
-                    + "undefined in @IterableMapping, define at least one of them."),
+                messageRegExp = "'nullValueMappingStrategy','dateformat', 'qualifiedBy', 'elementTargetType', "
+                    + "'iterationStrategy' and 'parallelThreshold' are undefined in @IterableMapping, define at "
+                    + "least one of them."),
             @Diagnostic(type = EmptyStreamMappingMapper.class,
                 kind = Kind.ERROR,
                 line = 42,
-                messageRegExp = "'nullValueMappingStrategy','dateformat', 'qualifiedBy' and 'elementTargetType' are "
-                    + "undefined in @IterableMapping, define at least one of them.")
+                messageRegExp = "'nullValueMappingStrategy','dateformat', 'qualifiedBy', 'elementTargetType', "
+                    + "'iterationStrategy' and 'parallelThreshold' are undefined in @IterableMapping, define at "
+                    + "least one of them.")
         }
     )
     public void shouldFailOnEmptyIterableAnnotationStreamMappings() {
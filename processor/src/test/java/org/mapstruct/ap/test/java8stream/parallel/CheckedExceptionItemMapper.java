@@ -0,0 +1,43 @@
+/**
+ *  Copyright 2012-2017 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.ap.test.java8stream.parallel;
+
+import java.util.List;
+
+import org.mapstruct.IterableMapping;
+import org.mapstruct.Mapper;
+
+@Mapper
+public abstract class CheckedExceptionItemMapper {
+
+    @IterableMapping(parallelThreshold = 100)
+    public abstract List<ItemDto> itemsToDtos(List<Item> items) throws ItemException;
+
+    public ItemDto itemToDto(Item item) throws ItemException {
+        if ( item.getName() == null ) {
+            throw new ItemException();
+        }
+        return new ItemDto( item.getName(), item.getValue() );
+    }
+
+    public static class ItemException extends Exception {
+
+        private static final long serialVersionUID = 1L;
+    }
+}
@@ -0,0 +1,144 @@
+/**
+ *  Copyright 2012-2017 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.ap.test.java8stream.parallel;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import javax.tools.Diagnostic.Kind;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mapstruct.ap.testutil.WithClasses;
+import org.mapstruct.ap.testutil.compilation.annotation.CompilationResult;
+import org.mapstruct.ap.testutil.compilation.annotation.Diagnostic;
+import org.mapstruct.ap.testutil.compilation.annotation.ExpectedCompilationOutcome;
+import org.mapstruct.ap.testutil.runner.AnnotationProcessorTestRunner;
+import org.mapstruct.ap.testutil.runner.GeneratedSource;
+
+/**
+ * Tests for {@code IterableMapping#parallelThreshold()}.
+ */
+@WithClasses({
+    Item.class,
+    ItemDto.class
+})
+@RunWith(AnnotationProcessorTestRunner.class)
+public class ParallelThresholdTest {
+
+    @Rule
+    public final GeneratedSource generatedSource = new GeneratedSource();
+
+    @Test
+    @WithClasses(ItemMapper.class)
+    public void shouldMapLargeCollectionInParallelRetainingOrder() {
+        List<Item> items = items( 1000 );
+
+        List<ItemDto> dtos = ItemMapper.INSTANCE.itemsToDtos( items );
+
+        assertThat( dtos ).hasSize( 1000 );
+        for ( int i = 0; i < 1000; i++ ) {
+            assertThat( dtos.get( i ).getName() ).isEqualTo( "item" + i );
+            assertThat( dtos.get( i ).getValue() ).isEqualTo( i );
+        }
+
+        generatedSource.forMapper( ItemMapper.class ).content()
+            .contains( "import java.util.stream.Collectors;" )
+            .contains( "if ( items.size() >= 100 ) {" )
+            .contains( "list.addAll( items.parallelStream().map( item -> itemToDto( item ) )" )
+            .contains( "for ( Item item : items ) {" );
+    }
+
+    @Test
+    @WithClasses(ItemMapper.class)
+    public void shouldMapSmallCollectionSequentially() {
+        List<ItemDto> dtos = ItemMapper.INSTANCE.itemsToDtos( items( 3 ) );
+
+        assertThat( dtos ).extracting( "name" ).containsExactly( "item0", "item1", "item2" );
+    }
+
+    @Test
+    @WithClasses(ItemMapper.class)
+    public void shouldCopyElementsInParallelWithoutMapping() {
+        Set<String> names = new LinkedHashSet<String>();
+        for ( int i = 0; i < 50; i++ ) {
+            names.add( "name" + i );
+        }
+
+        assertThat( ItemMapper.INSTANCE.namesToNames( names ) ).containsExactlyElementsOf( names );
+
+        generatedSource.forMapper( ItemMapper.class ).content()
+            .contains( "list.addAll( names.parallelStream().collect( Collectors.toList() ) );" );
+    }
+
+    @Test
+    @WithClasses(ErroneousItemMapper.class)
+    @ExpectedCompilationOutcome(
+        value = CompilationResult.SUCCEEDED,
+        diagnostics = {
+            @Diagnostic(type = ErroneousItemMapper.class,
+                kind = Kind.WARNING,
+                line = 32,
+                messageRegExp = "'parallelThreshold' is only applicable to methods mapping a java.util.Collection "
+                    + "into a collection, using Java 8 or later\\. The elements will be mapped sequentially\\."),
+            @Diagnostic(type = ErroneousItemMapper.class,
+                kind = Kind.WARNING,
+                line = 35,
+                messageRegExp = "'parallelThreshold' is only applicable to methods mapping a java.util.Collection "
+                    + "into a collection, using Java 8 or later\\. The elements will be mapped sequentially\\."),
+            @Diagnostic(type = ErroneousItemMapper.class,
+                kind = Kind.WARNING,
+                line = 38,
+                messageRegExp = "'parallelThreshold' is only applicable to methods mapping a java.util.Collection "
+                    + "into a collection, using Java 8 or later\\. The elements will be mapped sequentially\\.")
+        }
+    )
+    public void shouldWarnAboutParallelThresholdForNonCollectionSourceOrNonCollectionResult() {
+        generatedSource.forMapper( ErroneousItemMapper.class ).content().doesNotContain( "parallelStream()" );
+    }
+
+    @Test
+    @WithClasses(CheckedExceptionItemMapper.class)
+    @ExpectedCompilationOutcome(
+        value = CompilationResult.SUCCEEDED,
+        diagnostics = {
+            @Diagnostic(type = CheckedExceptionItemMapper.class,
+                kind = Kind.WARNING,
+                line = 30,
+                messageRegExp = "'parallelThreshold' is not applicable as mapping the elements may throw checked "
+                    + "exceptions\\. The elements will be mapped sequentially\\.")
+        }
+    )
+    public void shouldWarnAboutParallelThresholdForElementMappingThrowingCheckedExceptions() {
+        generatedSource.forMapper( CheckedExceptionItemMapper.class ).content().doesNotContain( "parallelStream()" );
+    }
+
+    private static List<Item> items(int count) {
+        List<Item> items = new ArrayList<Item>( count );
+        for ( int i = 0; i < count; i++ ) {
+            items.add( new Item( "item" + i, i ) );
+        }
+        return items;
+    }
+}
@@ -0,0 +1,64 @@
+/**
+ *  Copyright 2012-2017 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.ap.test.mapperindex;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mapstruct.ap.testutil.WithClasses;
+import org.mapstruct.ap.testutil.compilation.annotation.ProcessorOption;
+import org.mapstruct.ap.testutil.runner.AnnotationProcessorTestRunner;
+import org.mapstruct.ap.testutil.runner.GeneratedSource;
+import org.mapstruct.factory.MapperIndex;
+
+/**
+ * Tests for the mapper index generated if the {@code mapstruct.mapperIndex} option is given.
+ */
+@WithClasses({
+    Car.class,
+    CarDto.class,
+    CarMapper.class,
+    InternalCarMapper.class
+})
+@RunWith(AnnotationProcessorTestRunner.class)
+public class MapperIndexTest {
+
+    private static final String INDEX_NAME = "org.mapstruct.ap.test.mapperindex.index.GeneratedMapperIndex";
+
+    @Rule
+    public final GeneratedSource generatedSource = new GeneratedSource();
+
+    @Test
+    @ProcessorOption(name = "mapstruct.mapperIndex", value = INDEX_NAME)
+    public void shouldGenerateIndexOfPublicMappers() throws Exception {
+        MapperIndex index = (MapperIndex) Class.forName( INDEX_NAME ).newInstance();
+
+        assertThat( index.getMapper( CarMapper.class ) ).isInstanceOf( CarMapper.class );
+        assertThat( index.getMapper( InternalCarMapper.class ) ).isNull();
+        assertThat( CarMapper.INSTANCE ).isNotNull();
+
+        generatedSource.forJavaFile( "org/mapstruct/ap/test/mapperindex/index/GeneratedMapperIndex.java" ).content()
+            .contains( "public class GeneratedMapperIndex implements org.mapstruct.factory.MapperIndex {" )
+            .contains( "if ( mapperType == org.mapstruct.ap.test.mapperindex.CarMapper.class ) {" )
+            .contains( "return mapperType.cast( new org.mapstruct.ap.test.mapperindex.CarMapperImpl() );" )
+            .doesNotContain( "InternalCarMapper" );
+    }
+}
@@ -0,0 +1,225 @@
+/**
+ *  Copyright 2012-2017 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.ap.test.methodsplitting;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.tools.Diagnostic.Kind;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mapstruct.ap.testutil.WithClasses;
+import org.mapstruct.ap.testutil.compilation.annotation.CompilationResult;
+import org.mapstruct.ap.testutil.compilation.annotation.Diagnostic;
+import org.mapstruct.ap.testutil.compilation.annotation.ExpectedCompilationOutcome;
+import org.mapstruct.ap.testutil.compilation.annotation.ProcessorOption;
+import org.mapstruct.ap.testutil.runner.AnnotationProcessorTestRunner;
+
+/**
+ * Tests the splitting of bean mapping methods exceeding the size given via {@code mapstruct.maxMappingMethodSize}.
+ */
+@WithClasses({
+    WideMapper.class,
+    WideSource.class,
+    WideTarget.class
+})
+@RunWith(AnnotationProcessorTestRunner.class)
+public class MethodSplittingTest {
+
+    private static final int MAX_METHOD_SIZE = 300;
+
+    @Test
+    @ProcessorOption(name = "mapstruct.maxMappingMethodSize", value = "" + MAX_METHOD_SIZE)
+    public void shouldSplitMethodsExceedingMaxSize() throws IOException {
+        Map<String, Integer> codeLengths = getCodeLengths( WideMapper.INSTANCE.getClass() );
+
+        assertThat( getPartNames( "toTargetProperties" ).size() ).isGreaterThan( 1 );
+        assertThat( getPartNames( "updateTargetUpdateProperties" ).size() ).isGreaterThan( 1 );
+        for ( Map.Entry<String, Integer> codeLength : codeLengths.entrySet() ) {
+            assertThat( codeLength.getValue() )
+                .describedAs( codeLength.getKey() )
+                .isLessThanOrEqualTo( MAX_METHOD_SIZE );
+        }
+
+        WideTarget target = WideMapper.INSTANCE.toTarget( createSource() );
+        assertTarget( target );
+        assertThat( target.getOrigin() ).isEqualTo( "wide" );
+
+        target = new WideTarget();
+        WideMapper.INSTANCE.updateTarget( createSource(), target );
+        assertTarget( target );
+        assertThat( target.getOrigin() ).isNull();
+    }
+
+    @Test
+    public void shouldNotSplitMethodsBelowDefaultMaxSize() {
+        assertThat( getPartNames( "toTargetProperties" ) ).isEmpty();
+        assertThat( getPartNames( "updateTargetUpdateProperties" ) ).isEmpty();
+
+        assertTarget( WideMapper.INSTANCE.toTarget( createSource() ) );
+    }
+
+    @Test
+    @WithClasses({ ErroneousMapper.class, ErroneousSource.class, ErroneousTarget.class })
+    @ProcessorOption(name = "mapstruct.maxMappingMethodSize", value = "" + MAX_METHOD_SIZE)
+    @ExpectedCompilationOutcome(
+        value = CompilationResult.FAILED,
+        diagnostics = {
+            @Diagnostic(type = ErroneousMapper.class,
+                kind = Kind.ERROR,
+                line = 26,
+                messageRegExp = "Can't map property \"java.util.List<java.lang.String> values\" to \"int values\"\\..*")
+        }
+    )
+    public void shouldReportUnmappablePropertyOfMethodToBeSplit() {
+    }
+
+    private static WideSource createSource() {
+        WideSource source = new WideSource();
+        source.setText1( "text1" );
+        source.setText8( "text8" );
+        source.setCount1( 1 );
+        source.setCount8( 8 );
+        source.setAmount1( 100L );
+        source.setAmount8( 800L );
+        return source;
+    }
+
+    private static void assertTarget(WideTarget target) {
+        assertThat( target.getText1() ).isEqualTo( "text1" );
+        assertThat( target.getText8() ).isEqualTo( "text8" );
+        assertThat( target.getCount1() ).isEqualTo( "1" );
+        assertThat( target.getCount2() ).isNull();
+        assertThat( target.getCount8() ).isEqualTo( "8" );
+        assertThat( target.getAmount1() ).isEqualTo( 100L );
+        assertThat( target.getAmount2() ).isEqualTo( 0L );
+        assertThat( target.getAmount8() ).isEqualTo( 800L );
+    }
+
+    private static List<String> getPartNames(String prefix) {
+        List<String> names = new ArrayList<String>();
+        for ( Method method : WideMapper.INSTANCE.getClass().getDeclaredMethods() ) {
+            if ( method.getName().startsWith( prefix ) ) {
+                names.add( method.getName() );
+            }
+        }
+        return names;
+    }
+
+    /**
+     * Reads the length of the bytecode of each method from the class file of the given class.
+     */
+    private static Map<String, Integer> getCodeLengths(Class<?> clazz) throws IOException {
+        InputStream classFile = clazz.getResourceAsStream( clazz.getSimpleName() + ".class" );
+        DataInputStream in = new DataInputStream( classFile );
+        try {
+            in.readInt();
+            in.readUnsignedShort();
+            in.readUnsignedShort();
+
+            int constantPoolCount = in.readUnsignedShort();
+            String[] utf8Constants = new String[constantPoolCount];
+            for ( int i = 1; i < constantPoolCount; i++ ) {
+                int tag = in.readUnsignedByte();
+                switch ( tag ) {
+                    case 1:
+                        utf8Constants[i] = in.readUTF();
+                        break;
+                    case 5:
+                    case 6:
+                        in.readLong();
+                        i++;
+                        break;
+                    case 7:
+                    case 8:
+                    case 16:
+                    case 19:
+                    case 20:
+                        in.readUnsignedShort();
+                        break;
+                    case 15:
+                        in.readUnsignedByte();
+                        in.readUnsignedShort();
+                        break;
+                    default:
+                        in.readInt();
+                        break;
+                }
+            }
+
+            in.readUnsignedShort();
+            in.readUnsignedShort();
+            in.readUnsignedShort();
+            skip( in, 2 * in.readUnsignedShort() );
+
+            int fieldCount = in.readUnsignedShort();
+            for ( int i = 0; i < fieldCount; i++ ) {
+                skip( in, 6 );
+                skipAttributes( in );
+            }
+
+            Map<String, Integer> codeLengths = new HashMap<String, Integer>();
+            int methodCount = in.readUnsignedShort();
+            for ( int i = 0; i < methodCount; i++ ) {
+                in.readUnsignedShort();
+                String name = utf8Constants[in.readUnsignedShort()];
+                String descriptor = utf8Constants[in.readUnsignedShort()];
+                int attributeCount = in.readUnsignedShort();
+                for ( int j = 0; j < attributeCount; j++ ) {
+                    String attributeName = utf8Constants[in.readUnsignedShort()];
+                    int length = in.readInt();
+                    if ( "Code".equals( attributeName ) ) {
+                        in.readUnsignedShort();
+                        in.readUnsignedShort();
+                        codeLengths.put( name + descriptor, in.readInt() );
+                        skip( in, length - 8 );
+                    }
+                    else {
+                        skip( in, length );
+                    }
+                }
+            }
+            return codeLengths;
+        }
+        finally {
+            in.close();
+        }
+    }
+
+    private static void skipAttributes(DataInputStream in) throws IOException {
+        int attributeCount = in.readUnsignedShort();
+        for ( int i = 0; i < attributeCount; i++ ) {
+            in.readUnsignedShort();
+            skip( in, in.readInt() );
+        }
+    }
+
+    private static void skip(DataInputStream in, int length) throws IOException {
+        in.readFully( new byte[length] );
+    }
+}
@@ -0,0 +1,239 @@
+/**
+ *  Copyright 2012-2017 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.ap.test.methodsplitting;
+
+public class WideSource {
+
+    private String text1;
+    private String text2;
+    private String text3;
+    private String text4;
+    private String text5;
+    private String text6;
+    private String text7;
+    private String text8;
+    private Integer count1;
+    private Integer count2;
+    private Integer count3;
+    private Integer count4;
+    private Integer count5;
+    private Integer count6;
+    private Integer count7;
+    private Integer count8;
+    private long amount1;
+    private long amount2;
+    private long amount3;
+    private long amount4;
+    private long amount5;
+    private long amount6;
+    private long amount7;
+    private long amount8;
+
+    public String getText1() {
+        return text1;
+    }
+
+    public void setText1(String text1) {
+        this.text1 = text1;
+    }
+
+    public String getText2() {
+        return text2;
+    }
+
+    public void setText2(String text2) {
+        this.text2 = text2;
+    }
+
+    public String getText3() {
+        return text3;
+    }
+
+    public void setText3(String text3) {
+        this.text3 = text3;
+    }
+
+    public String getText4() {
+        return text4;
+    }
+
+    public void setText4(String text4) {
+        this.text4 = text4;
+    }
+
+    public String getText5() {
+        return text5;
+    }
+
+    public void setText5(String text5) {
+        this.text5 = text5;
+    }
+
+    public String getText6() {
+        return text6;
+    }
+
+    public void setText6(String text6) {
+        this.text6 = text6;
+    }
+
+    public String getText7() {
+        return text7;
+    }
+
+    public void setText7(String text7) {
+        this.text7 = text7;
+    }
+
+    public String getText8() {
+        return text8;
+    }
+
+    public void setText8(String text8) {
+        this.text8 = text8;
+    }
+
+    public Integer getCount1() {
+        return count1;
+    }
+
+    public void setCount1(Integer count1) {
+        this.count1 = count1;
+    }
+
+    public Integer getCount2() {
+        return count2;
+    }
+
+    public void setCount2(Integer count2) {
+        this.count2 = count2;
+    }
+
+    public Integer getCount3() {
+        return count3;
+    }
+
+    public void setCount3(Integer count3) {
+        this.count3 = count3;
+    }
+
+    public Integer getCount4() {
+        return count4;
+    }
+
+    public void setCount4(Integer count4) {
+        this.count4 = count4;
+    }
+
+    public Integer getCount5() {
+        return count5;
+    }
+
+    public void setCount5(Integer count5) {
+        this.count5 = count5;
+    }
+
+    public Integer getCount6() {
+        return count6;
+    }
+
+    public void setCount6(Integer count6) {
+        this.count6 = count6;
+    }
+
+    public Integer getCount7() {
+        return count7;
+    }
+
+    public void setCount7(Integer count7) {
+        this.count7 = count7;
+    }
+
+    public Integer getCount8() {
+        return count8;
+    }
+
+    public void setCount8(Integer count8) {
+        this.count8 = count8;
+    }
+
+    public long getAmount1() {
+        return amount1;
+    }
+
+    public void setAmount1(long amount1) {
+        this.amount1 = amount1;
+    }
+
+    public long getAmount2() {
+        return amount2;
+    }
+
+    public void setAmount2(long amount2) {
+        this.amount2 = amount2;
+    }
+
+    public long getAmount3() {
+        return amount3;
+    }
+
+    public void setAmount3(long amount3) {
+        this.amount3 = amount3;
+    }
+
+    public long getAmount4() {
+        return amount4;
+    }
+
+    public void setAmount4(long amount4) {
+        this.amount4 = amount4;
+    }
+
+    public long getAmount5() {
+        return amount5;
+    }
+
+    public void setAmount5(long amount5) {
+        this.amount5 = amount5;
+    }
+
+    public long getAmount6() {
+        return amount6;
+    }
+
+    public void setAmount6(long amount6) {
+        this.amount6 = amount6;
+    }
+
+    public long getAmount7() {
+        return amount7;
+    }
+
+    public void setAmount7(long amount7) {
+        this.amount7 = amount7;
+    }
+
+    public long getAmount8() {
+        return amount8;
+    }
+
+    public void setAmount8(long amount8) {
+        this.amount8 = amount8;
+    }
+}
@@ -0,0 +1,248 @@
+/**
+ *  Copyright 2012-2017 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.ap.test.methodsplitting;
+
+public class WideTarget {
+
+    private String text1;
+    private String text2;
+    private String text3;
+    private String text4;
+    private String text5;
+    private String text6;
+    private String text7;
+    private String text8;
+    private String count1;
+    private String count2;
+    private String count3;
+    private String count4;
+    private String count5;
+    private String count6;
+    private String count7;
+    private String count8;
+    private Long amount1;
+    private Long amount2;
+    private Long amount3;
+    private Long amount4;
+    private Long amount5;
+    private Long amount6;
+    private Long amount7;
+    private Long amount8;
+    private String origin;
+
+    public String getText1() {
+        return text1;
+    }
+
+    public void setText1(String text1) {
+        this.text1 = text1;
+    }
+
+    public String getText2() {
+        return text2;
+    }
+
+    public void setText2(String text2) {
+        this.text2 = text2;
+    }
+
+    public String getText3() {
+        return text3;
+    }
+
+    public void setText3(String text3) {
+        this.text3 = text3;
+    }
+
+    public String getText4() {
+        return text4;
+    }
+
+    public void setText4(String text4) {
+        this.text4 = text4;
+    }
+
+    public String getText5() {
+        return text5;
+    }
+
+    public void setText5(String text5) {
+        this.text5 = text5;
+    }
+
+    public String getText6() {
+        return text6;
+    }
+
+    public void setText6(String text6) {
+        this.text6 = text6;
+    }
+
+    public String getText7() {
+        return text7;
+    }
+
+    public void setText7(String text7) {
+        this.text7 = text7;
+    }
+
+    public String getText8() {
+        return text8;
+    }
+
+    public void setText8(String text8) {
+        this.text8 = text8;
+    }
+
+    public String getCount1() {
+        return count1;
+    }
+
+    public void setCount1(String count1) {
+        this.count1 = count1;
+    }
+
+    public String getCount2() {
+        return count2;
+    }
+
+    public void setCount2(String count2) {
+        this.count2 = count2;
+    }
+
+    public String getCount3() {
+        return count3;
+    }
+
+    public void setCount3(String count3) {
+        this.count3 = count3;
+    }
+
+    public String getCount4() {
+        return count4;
+    }
+
+    public void setCount4(String count4) {
+        this.count4 = count4;
+    }
+
+    public String getCount5() {
+        return count5;
+    }
+
+    public void setCount5(String count5) {
+        this.count5 = count5;
+    }
+
+    public String getCount6() {
+        return count6;
+    }
+
+    public void setCount6(String count6) {
+        this.count6 = count6;
+    }
+
+    public String getCount7() {
+        return count7;
+    }
+
+    public void setCount7(String count7) {
+        this.count7 = count7;
+    }
+
+    public String getCount8() {
+        return count8;
+    }
+
+    public void setCount8(String count8) {
+        this.count8 = count8;
+    }
+
+    public Long getAmount1() {
+        return amount1;
+    }
+
+    public void setAmount1(Long amount1) {
+        this.amount1 = amount1;
+    }
+
+    public Long getAmount2() {
+        return amount2;
+    }
+
+    public void setAmount2(Long amount2) {
+        this.amount2 = amount2;
+    }
+
+    public Long getAmount3() {
+        return amount3;
+    }
+
+    public void setAmount3(Long amount3) {
+        this.amount3 = amount3;
+    }
+
+    public Long getAmount4() {
+        return amount4;
+    }
+
+    public void setAmount4(Long amount4) {
+        this.amount4 = amount4;
+    }
+
+    public Long getAmount5() {
+        return amount5;
+    }
+
+    public void setAmount5(Long amount5) {
+        this.amount5 = amount5;
+    }
+
+    public Long getAmount6() {
+        return amount6;
+    }
+
+    public void setAmount6(Long amount6) {
+        this.amount6 = amount6;
+    }
+
+    public Long getAmount7() {
+        return amount7;
+    }
+
+    public void setAmount7(Long amount7) {
+        this.amount7 = amount7;
+    }
+
+    public Long getAmount8() {
+        return amount8;
+    }
+
+    public void setAmount8(Long amount8) {
+        this.amount8 = amount8;
+    }
+
+    public String getOrigin() {
+        return origin;
+    }
+
+    public void setOrigin(String origin) {
+        this.origin = origin;
+    }
+}
@@ -0,0 +1,127 @@
+/**
+ *  Copyright 2012-2017 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.ap.test.nestedsourcegroup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mapstruct.ap.testutil.WithClasses;
+import org.mapstruct.ap.testutil.runner.AnnotationProcessorTestRunner;
+import org.mapstruct.ap.testutil.runner.GeneratedSource;
+
+/**
+ * Tests that nested source properties sharing the same parent are read via a single traversal of the path to the
+ * parent.
+ */
+@WithClasses({
+    Address.class,
+    Customer.class,
+    Order.class,
+    OrderDto.class,
+    OrderMapper.class
+})
+@RunWith(AnnotationProcessorTestRunner.class)
+public class NestedSourceGroupTest {
+
+    @Rule
+    public final GeneratedSource generatedSource = new GeneratedSource();
+
+    @Test
+    public void shouldTraverseSharedParentOnce() {
+        Address address = new Address();
+        address.setCity( "Hamburg" );
+        address.setZip( "20095" );
+        Customer customer = new Customer();
+        customer.setName( "Bob" );
+        customer.setAddress( address );
+        Order order = new Order();
+        order.setNumber( "42" );
+        order.setCustomer( customer );
+
+        OrderDto dto = OrderMapper.INSTANCE.orderToDto( order );
+
+        assertThat( dto.getNumber() ).isEqualTo( "42" );
+        assertThat( dto.getCustomerName() ).isEqualTo( "Bob" );
+        assertThat( dto.getCity() ).isEqualTo( "Hamburg" );
+        assertThat( dto.getZip() ).isEqualTo( "20095" );
+
+        generatedSource.forMapper( OrderMapper.class ).content()
+            .contains( "Address customerAddress = orderCustomerAddress( order );" )
+            .contains( "if ( customerAddress != null ) {" )
+            .contains( "String city = customerAddress.getCity();" )
+            .contains( "String zip = customerAddress.getZip();" )
+            .doesNotContain( "orderCustomerAddressCity" )
+            .doesNotContain( "orderCustomerAddressZip" );
+    }
+
+    @Test
+    public void shouldNotGroupPrimitiveProperties() {
+        Address address = new Address();
+        address.setFloor( 3 );
+        Customer customer = new Customer();
+        customer.setAddress( address );
+        Order order = new Order();
+        order.setCustomer( customer );
+
+        assertThat( OrderMapper.INSTANCE.orderToDto( order ).getFloor() ).isEqualTo( 3 );
+
+        // the primitive target property is still set to its default value if any of its parents is null
+        assertThat( OrderMapper.INSTANCE.orderToDto( new Order() ).getFloor() ).isEqualTo( 0 );
+
+        generatedSource.forMapper( OrderMapper.class ).content()
+            .contains( "orderCustomerAddressFloor( order )" )
+            .doesNotContain( "customerAddress.getFloor()" );
+    }
+
+    @Test
+    public void shouldSkipGroupedPropertiesIfParentIsNull() {
+        Customer customer = new Customer();
+        customer.setName( "Bob" );
+        Order order = new Order();
+        order.setCustomer( customer );
+
+        OrderDto dto = OrderMapper.INSTANCE.orderToDto( order );
+
+        assertThat( dto.getCustomerName() ).isEqualTo( "Bob" );
+        assertThat( dto.getCity() ).isNull();
+        assertThat( dto.getZip() ).isNull();
+
+        dto = OrderMapper.INSTANCE.orderToDto( new Order() );
+
+        assertThat( dto.getCustomerName() ).isNull();
+        assertThat( dto.getCity() ).isNull();
+    }
+
+    @Test
+    public void shouldSkipNullLeafProperties() {
+        Address address = new Address();
+        address.setZip( "20095" );
+        Customer customer = new Customer();
+        customer.setAddress( address );
+        Order order = new Order();
+        order.setCustomer( customer );
+
+        OrderDto dto = OrderMapper.INSTANCE.orderToDto( order );
+
+        assertThat( dto.getCity() ).isNull();
+        assertThat( dto.getZip() ).isEqualTo( "20095" );
+    }
+}
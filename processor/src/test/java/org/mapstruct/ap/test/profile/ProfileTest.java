@@ -0,0 +1,91 @@
+/**
+ *  Copyright 2012-2017 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.ap.test.profile;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.BufferedReader;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.assertj.core.api.Condition;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mapstruct.ap.testutil.WithClasses;
+import org.mapstruct.ap.testutil.compilation.annotation.ProcessorOption;
+import org.mapstruct.ap.testutil.runner.AnnotationProcessorTestRunner;
+
+/**
+ * Tests for the profiling report written if the {@code mapstruct.profile} option is given.
+ */
+@WithClasses({
+    Source.class,
+    Target.class,
+    SourceTargetMapper.class
+})
+@RunWith(AnnotationProcessorTestRunner.class)
+public class ProfileTest {
+
+    private static final String PROFILE = "target/profile-test/mapstruct-profile.csv";
+
+    @Test
+    @ProcessorOption(name = "mapstruct.profile", value = PROFILE)
+    public void shouldWriteProfile() throws IOException {
+        assertThat( SourceTargetMapper.INSTANCE.sourceToTarget( new Source() ) ).isNotNull();
+
+        List<String> lines = readLines( PROFILE );
+
+        String mapper = SourceTargetMapper.class.getName();
+        assertThat( lines.get( 0 ) ).isEqualTo( "mapper,phase,method,invocations,wallTimeMillis,allocatedBytes" );
+        assertThat( lines ).areAtLeastOne( startingWith( mapper + ",MethodRetrievalProcessor,,1," ) );
+        assertThat( lines ).areAtLeastOne( startingWith( mapper + ",MapperCreationProcessor,,1," ) );
+        assertThat( lines ).areAtLeastOne( startingWith( mapper + ",MapperCreationProcessor,sourceToTarget,1," ) );
+        assertThat( lines ).areAtLeastOne(
+            startingWith( mapper + ",MappingResolver#getTargetAssignment,sourceToTarget," )
+        );
+        assertThat( lines ).areAtLeastOne( startingWith( mapper + ",MapperRenderingProcessor,,1," ) );
+    }
+
+    private static List<String> readLines(String file) throws IOException {
+        List<String> lines = new ArrayList<String>();
+        BufferedReader reader = new BufferedReader( new InputStreamReader( new FileInputStream( file ), "UTF-8" ) );
+        try {
+            String line;
+            while ( ( line = reader.readLine() ) != null ) {
+                lines.add( line );
+            }
+        }
+        finally {
+            reader.close();
+        }
+        return lines;
+    }
+
+    private static Condition<String> startingWith(final String prefix) {
+        return new Condition<String>( "starting with " + prefix ) {
+            @Override
+            public boolean matches(String value) {
+                return value.startsWith( prefix );
+            }
+        };
+    }
+}
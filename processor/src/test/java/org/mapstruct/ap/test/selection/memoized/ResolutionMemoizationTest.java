@@ -0,0 +1,99 @@
+/**
+ *  Copyright 2012-2017 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.ap.test.selection.memoized;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import javax.tools.Diagnostic.Kind;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mapstruct.ap.testutil.WithClasses;
+import org.mapstruct.ap.testutil.compilation.annotation.CompilationResult;
+import org.mapstruct.ap.testutil.compilation.annotation.Diagnostic;
+import org.mapstruct.ap.testutil.compilation.annotation.ExpectedCompilationOutcome;
+import org.mapstruct.ap.testutil.runner.AnnotationProcessorTestRunner;
+
+/**
+ * Tests that resolutions of the same source and target types are shared between properties and methods of a mapper
+ * only if they are equivalent, and that messages of failed resolutions are reported for each property.
+ */
+@WithClasses({
+    Money.class
+})
+@RunWith(AnnotationProcessorTestRunner.class)
+public class ResolutionMemoizationTest {
+
+    @Test
+    @WithClasses({
+        Invoice.class,
+        InvoiceDto.class,
+        InvoiceMapper.class,
+        MoneyConversions.class
+    })
+    public void shouldResolveRepeatedTypesPerFormatting() throws ParseException {
+        Invoice invoice = new Invoice();
+        invoice.setNet( "1000" );
+        invoice.setGross( "1190" );
+        invoice.setIssued( "17.10.2026" );
+        invoice.setDue( "2026-11-16" );
+
+        InvoiceDto dto = InvoiceMapper.INSTANCE.toDto( invoice );
+
+        assertThat( dto.getNet().getCents() ).isEqualTo( 1000L );
+        assertThat( dto.getGross().getCents() ).isEqualTo( 1190L );
+        assertThat( dto.getIssued() ).isEqualTo( new SimpleDateFormat( "dd.MM.yyyy" ).parse( "17.10.2026" ) );
+        assertThat( dto.getDue() ).isEqualTo( new SimpleDateFormat( "yyyy-MM-dd" ).parse( "2026-11-16" ) );
+
+        invoice.setIssued( "2026-10-17" );
+        invoice.setDue( "16.11.2026" );
+
+        dto = InvoiceMapper.INSTANCE.toGrossDto( invoice );
+
+        assertThat( dto.getNet().getCents() ).isEqualTo( 1190L );
+        assertThat( dto.getGross().getCents() ).isEqualTo( 1190L );
+        assertThat( dto.getIssued() ).isEqualTo( new SimpleDateFormat( "yyyy-MM-dd" ).parse( "2026-10-17" ) );
+        assertThat( dto.getDue() ).isEqualTo( new SimpleDateFormat( "dd.MM.yyyy" ).parse( "16.11.2026" ) );
+    }
+
+    @Test
+    @WithClasses({
+        AmbiguousMoneyConversions.class,
+        ErroneousPaymentMapper.class,
+        Payment.class,
+        PaymentDto.class
+    })
+    @ExpectedCompilationOutcome(
+        value = CompilationResult.FAILED,
+        diagnostics = {
+            @Diagnostic(type = ErroneousPaymentMapper.class,
+                kind = Kind.ERROR,
+                line = 26,
+                messageRegExp = "Ambiguous mapping methods found for mapping property \".*Long paid\" to .*Money: .*"),
+            @Diagnostic(type = ErroneousPaymentMapper.class,
+                kind = Kind.ERROR,
+                line = 26,
+                messageRegExp = "Ambiguous mapping methods found for mapping property \".*Long open\" to .*Money: .*")
+        }
+    )
+    public void shouldReportAmbiguousMethodsForEachProperty() {
+    }
+}
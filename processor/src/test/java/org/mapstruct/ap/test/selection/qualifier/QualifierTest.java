@@ -187,8 +187,8 @@ public void testFactorySelectionWithQualifier() {
             @Diagnostic(type = ErroneousMovieFactoryMapper.class,
                 kind = Kind.ERROR,
                 line = 37,
-                messageRegExp = "'nullValueMappingStrategy', 'resultType' and 'qualifiedBy' are undefined in " +
-                    "@BeanMapping, define at least one of them."),
+                messageRegExp = "'nullValueMappingStrategy', 'cycleStrategy', 'resultType' and 'qualifiedBy' are " +
+                    "undefined in @BeanMapping, define at least one of them."),
             @Diagnostic(type = ErroneousMovieFactoryMapper.class,
                 kind = Kind.ERROR,
                 line = 37,
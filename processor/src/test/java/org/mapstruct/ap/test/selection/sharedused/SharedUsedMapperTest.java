@@ -0,0 +1,55 @@
+/**
+ *  Copyright 2012-2017 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.ap.test.selection.sharedused;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mapstruct.ap.test.selection.sharedused.other.OtherItemMapper;
+import org.mapstruct.ap.test.selection.sharedused.same.Item;
+import org.mapstruct.ap.test.selection.sharedused.same.ItemDto;
+import org.mapstruct.ap.test.selection.sharedused.same.ItemMapper;
+import org.mapstruct.ap.test.selection.sharedused.same.SharedConversions;
+import org.mapstruct.ap.testutil.WithClasses;
+import org.mapstruct.ap.testutil.runner.AnnotationProcessorTestRunner;
+
+/**
+ * Tests that the methods of a used mapper, which are retrieved once per round, are only referenced from those mappers
+ * which may access them.
+ */
+@WithClasses({
+    Item.class,
+    ItemDto.class,
+    ItemMapper.class,
+    OtherItemMapper.class,
+    SharedConversions.class
+})
+@RunWith(AnnotationProcessorTestRunner.class)
+public class SharedUsedMapperTest {
+
+    @Test
+    public void shouldReferenceSharedMethodsOnlyIfAccessible() {
+        Item item = new Item();
+        item.setCode( 42L );
+
+        assertThat( ItemMapper.INSTANCE.toDto( item ).getCode() ).isEqualTo( "#42" );
+        assertThat( OtherItemMapper.INSTANCE.toDto( item ).getCode() ).isEqualTo( "42" );
+    }
+}
@@ -0,0 +1,63 @@
+/**
+ *  Copyright 2012-2017 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.ap.test.selection.targettype;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Provides methods returning subtypes, wrapper or primitive types and type variables, along with methods not matching
+ * the target types.
+ */
+public class CommonConversions {
+
+    public Integer countToInteger(Count count) {
+        return count.getValue();
+    }
+
+    public double countToDouble(Count count) {
+        return count.getValue();
+    }
+
+    public long amountToLong(Amount amount) {
+        return amount.getValue();
+    }
+
+    public BigDecimal amountToBigDecimal(Amount amount) {
+        return BigDecimal.valueOf( amount.getValue() );
+    }
+
+    public String amountToString(Amount amount) {
+        return String.valueOf( amount.getValue() );
+    }
+
+    public ArrayList<String> tagsToList(Tags tags) {
+        return new ArrayList<String>( tags.getValue() );
+    }
+
+    public Set<String> tagsToSet(Tags tags) {
+        return new LinkedHashSet<String>( tags.getValue() );
+    }
+
+    public <T> T unwrap(Wrapper<T> wrapper) {
+        return wrapper.getValue();
+    }
+}
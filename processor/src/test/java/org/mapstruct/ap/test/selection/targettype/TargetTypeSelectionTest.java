@@ -0,0 +1,65 @@
+/**
+ *  Copyright 2012-2017 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.ap.test.selection.targettype;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mapstruct.ap.testutil.WithClasses;
+import org.mapstruct.ap.testutil.runner.AnnotationProcessorTestRunner;
+
+/**
+ * Tests the selection of methods whose result type is not the same as the target type, but assignable to it.
+ */
+@WithClasses({
+    Amount.class,
+    CommonConversions.class,
+    Count.class,
+    Source.class,
+    Tags.class,
+    Target.class,
+    TargetTypeMapper.class,
+    Wrapper.class
+})
+@RunWith(AnnotationProcessorTestRunner.class)
+public class TargetTypeSelectionTest {
+
+    @Test
+    public void shouldSelectMethodsWithAssignableResultTypes() {
+        Source source = new Source();
+        source.setCount( new Count( 3 ) );
+        source.setAmount( new Amount( 42L ) );
+        source.setTags( new Tags( Arrays.asList( "a", "b" ) ) );
+        source.setName( new Wrapper<String>( "Bob" ) );
+
+        Target target = TargetTypeMapper.INSTANCE.toTarget( source );
+
+        // wrapper type result for a primitive target type
+        assertThat( target.getCount() ).isEqualTo( 3 );
+        // primitive result for a wrapper target type
+        assertThat( target.getAmount() ).isEqualTo( 42L );
+        // sub-type result
+        assertThat( target.getTags() ).containsExactly( "a", "b" );
+        // type variable result
+        assertThat( target.getName() ).isEqualTo( "Bob" );
+    }
+}
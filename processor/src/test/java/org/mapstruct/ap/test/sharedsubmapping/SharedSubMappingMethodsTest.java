@@ -0,0 +1,116 @@
+/**
+ *  Copyright 2012-2017 Gunnar Morling (http://www.gunnarmorling.de/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.ap.test.sharedsubmapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mapstruct.ap.testutil.WithClasses;
+import org.mapstruct.ap.testutil.compilation.annotation.ProcessorOption;
+import org.mapstruct.ap.testutil.runner.AnnotationProcessorTestRunner;
+import org.mapstruct.ap.testutil.runner.GeneratedSource;
+
+/**
+ * Tests for the sub-mapping methods shared by the mappers of a package if the
+ * {@code mapstruct.sharedSubMappingMethods} option is given.
+ */
+@WithClasses({
+    Address.class,
+    AddressDto.class,
+    Customer.class,
+    CustomerDto.class,
+    CustomerMapper.class,
+    Supplier.class,
+    SupplierDto.class,
+    SupplierMapper.class
+})
+@RunWith(AnnotationProcessorTestRunner.class)
+public class SharedSubMappingMethodsTest {
+
+    private static final String SUB_MAPPINGS_CLASS = getSubMappingsClass( CustomerMapper.class, SupplierMapper.class );
+
+    @Rule
+    public final GeneratedSource generatedSource = new GeneratedSource();
+
+    @Test
+    @ProcessorOption(name = "mapstruct.sharedSubMappingMethods", value = "true")
+    public void shouldShareSubMappingMethodBetweenMappers() throws Exception {
+        Customer customer = new Customer();
+        customer.setName( "Bob" );
+        customer.setAddress( createAddress() );
+
+        CustomerDto customerDto = CustomerMapper.INSTANCE.customerToCustomerDto( customer );
+        assertThat( customerDto.getName() ).isEqualTo( "Bob" );
+        assertThat( customerDto.getAddress().getStreet() ).isEqualTo( "Main Street" );
+        assertThat( customerDto.getAddress().getZipCode() ).isEqualTo( "12345" );
+
+        Supplier supplier = new Supplier();
+        supplier.setName( "Acme" );
+        supplier.setAddress( createAddress() );
+
+        SupplierDto supplierDto = SupplierMapper.INSTANCE.supplierToSupplierDto( supplier );
+        assertThat( supplierDto.getName() ).isEqualTo( "Acme" );
+        assertThat( supplierDto.getAddress().getStreet() ).isEqualTo( "Main Street" );
+        assertThat( supplierDto.getAddress().getZipCode() ).isEqualTo( "12345" );
+
+        generatedSource.forJavaFile( "org/mapstruct/ap/test/sharedsubmapping/" + SUB_MAPPINGS_CLASS + ".java" )
+            .content()
+            .contains( "class " + SUB_MAPPINGS_CLASS + " {" )
+            .contains( "static AddressDto addressToAddressDto(Address address) {" );
+        generatedSource.forMapper( CustomerMapper.class ).content()
+            .contains( SUB_MAPPINGS_CLASS + ".addressToAddressDto( customer.getAddress() )" )
+            .doesNotContain( "AddressDto addressToAddressDto(Address address)" );
+        generatedSource.forMapper( SupplierMapper.class ).content()
+            .contains( SUB_MAPPINGS_CLASS + ".addressToAddressDto( supplier.getAddress() )" )
+            .doesNotContain( "AddressDto addressToAddressDto(Address address)" );
+    }
+
+    @Test
+    public void shouldGenerateSubMappingMethodWithinEachMapperByDefault() {
+        generatedSource.forMapper( CustomerMapper.class ).content()
+            .contains( "protected AddressDto addressToAddressDto(Address address) {" )
+            .doesNotContain( "MapStructSubMappings" );
+        generatedSource.forMapper( SupplierMapper.class ).content()
+            .contains( "protected AddressDto addressToAddressDto(Address address) {" )
+            .doesNotContain( "MapStructSubMappings" );
+    }
+
+    /**
+     * @return the name of the class sharing methods between the given mappers, ordered by their names
+     */
+    public static String getSubMappingsClass(Class<?>... mappers) {
+        StringBuilder mapperNames = new StringBuilder();
+        for ( Class<?> mapper : mappers ) {
+            if ( mapperNames.length() > 0 ) {
+                mapperNames.append( ',' );
+            }
+            mapperNames.append( mapper.getName() );
+        }
+        return "MapStructSubMappings_" + Integer.toHexString( mapperNames.toString().hashCode() );
+    }
+
+    private Address createAddress() {
+        Address address = new Address();
+        address.setStreet( "Main Street" );
+        address.setZipCode( 12345 );
+        return address;
+    }
+}
@@ -29,11 +29,14 @@ public class CompilationRequest {
     private final Set<Class<?>> sourceClasses;
     private final Map<Class<?>, Class<?>> services;
     private final List<String> processorOptions;
+    private final String sourceLevel;
 
-    CompilationRequest(Set<Class<?>> sourceClasses, Map<Class<?>, Class<?>> services, List<String> processorOptions) {
+    CompilationRequest(Set<Class<?>> sourceClasses, Map<Class<?>, Class<?>> services, List<String> processorOptions,
+        String sourceLevel) {
         this.sourceClasses = sourceClasses;
         this.services = services;
         this.processorOptions = processorOptions;
+        this.sourceLevel = sourceLevel;
     }
 
     @Override
@@ -43,6 +46,7 @@ public int hashCode() {
         result = prime * result + ( ( processorOptions == null ) ? 0 : processorOptions.hashCode() );
         result = prime * result + ( ( services == null ) ? 0 : services.hashCode() );
         result = prime * result + ( ( sourceClasses == null ) ? 0 : sourceClasses.hashCode() );
+        result = prime * result + ( ( sourceLevel == null ) ? 0 : sourceLevel.hashCode() );
         return result;
     }
 
@@ -61,7 +65,8 @@ public boolean equals(Object obj) {
 
         return processorOptions.equals( other.processorOptions )
             && services.equals( other.services )
-            && sourceClasses.equals( other.sourceClasses );
+            && sourceClasses.equals( other.sourceClasses )
+            && ( sourceLevel == null ? other.sourceLevel == null : sourceLevel.equals( other.sourceLevel ) );
     }
 
     public Set<Class<?>> getSourceClasses() {
@@ -75,4 +80,11 @@ public List<String> getProcessorOptions() {
     public Map<Class<?>, Class<?>> getServices() {
         return services;
     }
+
+    /**
+     * @return the source level to compile with, or {@code null} if the compiler's default should be used
+     */
+    public String getSourceLevel() {
+        return sourceLevel;
+    }
 }
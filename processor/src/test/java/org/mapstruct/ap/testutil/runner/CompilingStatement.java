@@ -47,6 +47,7 @@
 import org.mapstruct.ap.testutil.compilation.annotation.ExpectedCompilationOutcome;
 import org.mapstruct.ap.testutil.compilation.annotation.ProcessorOption;
 import org.mapstruct.ap.testutil.compilation.annotation.ProcessorOptions;
+import org.mapstruct.ap.testutil.compilation.annotation.SourceLevel;
 import org.mapstruct.ap.testutil.compilation.model.CompilationOutcomeDescriptor;
 import org.mapstruct.ap.testutil.compilation.model.DiagnosticDescriptor;
 import org.xml.sax.InputSource;
@@ -92,7 +93,11 @@ abstract class CompilingStatement extends Statement {
         this.compilationCache = compilationCache;
         this.runCheckstyle = !method.getMethod().getDeclaringClass().isAnnotationPresent( DisableCheckstyle.class );
 
-        this.compilationRequest = new CompilationRequest( getTestClasses(), getServices(), getProcessorOptions() );
+        this.compilationRequest = new CompilationRequest(
+            getTestClasses(),
+            getServices(),
+            getProcessorOptions(),
+            getSourceLevel() );
     }
 
     void setNextStatement(Statement next) {
@@ -386,6 +391,16 @@ private void addService(Map<Class<?>, Class<?>> services, WithServiceImplementat
      *
      * @return A list containing the processor options to be used for this test
      */
+    private String getSourceLevel() {
+        SourceLevel sourceLevel = method.getAnnotation( SourceLevel.class );
+
+        if ( sourceLevel == null ) {
+            sourceLevel = method.getMethod().getDeclaringClass().getAnnotation( SourceLevel.class );
+        }
+
+        return sourceLevel != null ? sourceLevel.value() : null;
+    }
+
     private List<String> getProcessorOptions() {
         List<ProcessorOption> processorOptions =
             getProcessorOptions(
@@ -122,8 +122,10 @@ public CompilationOutcomeDescriptor compileInOtherClassloader(CompilationRequest
             config.setAnnotationProcessors( new String[] { MappingProcessor.class.getName() } );
             config.setSourceFiles( sourceFiles );
             config.setShowWarnings( false );
-            config.setSourceVersion( "1.8" );
-            config.setTargetVersion( "1.8" );
+            String sourceLevel =
+                compilationRequest.getSourceLevel() != null ? compilationRequest.getSourceLevel() : "1.8";
+            config.setSourceVersion( sourceLevel );
+            config.setTargetVersion( sourceLevel );
 
             for ( String option : compilationRequest.getProcessorOptions() ) {
                 config.addCompilerCustomArgument( option, null );
@@ -89,12 +89,18 @@ protected CompilationOutcomeDescriptor compileWithSpecificCompiler(CompilationRe
                     .withOriginsOf( compilationRequest.getServices().values() );
         }
 
+        List<String> options = new ArrayList<String>( compilationRequest.getProcessorOptions() );
+        if ( compilationRequest.getSourceLevel() != null ) {
+            // no bootstrap classpath matching the source level is given, so suppress the according warning
+            options.addAll( Arrays.asList( "-source", compilationRequest.getSourceLevel(), "-Xlint:-options" ) );
+        }
+
         CompilationTask task =
             compiler.getTask(
                 null,
                 fileManager,
                 diagnostics,
-                compilationRequest.getProcessorOptions(),
+                options,
                 null,
                 compilationUnits );
 
@@ -33,6 +33,13 @@
 )
 public class ScienceMapperImpl implements ScienceMapper {
 
+    private static final ThreadLocal<DecimalFormat> DECIMAL_FORMAT = new ThreadLocal<DecimalFormat>() {
+        @Override
+        protected DecimalFormat initialValue() {
+            return new DecimalFormat( "" );
+        }
+    };
+
     @Override
     public ScientistDto scientistToDto(Scientist scientist) {
         if ( scientist == null ) {
@@ -297,7 +304,7 @@ public String[] nvmMapping(int[] source, String[] target) {
             if ( ( i >= target.length ) || ( i >= source.length ) ) {
                 break;
             }
-            target[i] = new DecimalFormat( "" ).format( int1 );
+            target[i] = DECIMAL_FORMAT.get().format( int1 );
             i++;
         }
 
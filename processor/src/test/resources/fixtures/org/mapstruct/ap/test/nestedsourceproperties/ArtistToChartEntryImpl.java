@@ -46,13 +46,16 @@ public ChartEntry map(Chart chart, Song song, Integer position) {
         }
         if ( song != null ) {
             chartEntry.setSongTitle( song.getTitle() );
-            String city = songArtistLabelStudioCity( song );
-            if ( city != null ) {
-                chartEntry.setCity( city );
-            }
-            String name = songArtistLabelStudioName( song );
-            if ( name != null ) {
-                chartEntry.setRecordedAt( name );
+            Studio artistLabelStudio = songArtistLabelStudio( song );
+            if ( artistLabelStudio != null ) {
+                String city = artistLabelStudio.getCity();
+                if ( city != null ) {
+                    chartEntry.setCity( city );
+                }
+                String name = artistLabelStudio.getName();
+                if ( name != null ) {
+                    chartEntry.setRecordedAt( name );
+                }
             }
             String name1 = songArtistName( song );
             if ( name1 != null ) {
@@ -75,13 +78,16 @@ public ChartEntry map(Song song) {
         ChartEntry chartEntry = new ChartEntry();
 
         chartEntry.setSongTitle( song.getTitle() );
-        String city = songArtistLabelStudioCity( song );
-        if ( city != null ) {
-            chartEntry.setCity( city );
-        }
-        String name = songArtistLabelStudioName( song );
-        if ( name != null ) {
-            chartEntry.setRecordedAt( name );
+        Studio artistLabelStudio = songArtistLabelStudio( song );
+        if ( artistLabelStudio != null ) {
+            String city = artistLabelStudio.getCity();
+            if ( city != null ) {
+                chartEntry.setCity( city );
+            }
+            String name = artistLabelStudio.getName();
+            if ( name != null ) {
+                chartEntry.setRecordedAt( name );
+            }
         }
         String name1 = songArtistName( song );
         if ( name1 != null ) {
@@ -104,7 +110,7 @@ public ChartEntry map(Chart name) {
         return chartEntry;
     }
 
-    private String songArtistLabelStudioCity(Song song) {
+    private Studio songArtistLabelStudio(Song song) {
         if ( song == null ) {
             return null;
         }
@@ -120,34 +126,7 @@ private String songArtistLabelStudioCity(Song song) {
         if ( studio == null ) {
             return null;
         }
-        String city = studio.getCity();
-        if ( city == null ) {
-            return null;
-        }
-        return city;
-    }
-
-    private String songArtistLabelStudioName(Song song) {
-        if ( song == null ) {
-            return null;
-        }
-        Artist artist = song.getArtist();
-        if ( artist == null ) {
-            return null;
-        }
-        Label label = artist.getLabel();
-        if ( label == null ) {
-            return null;
-        }
-        Studio studio = label.getStudio();
-        if ( studio == null ) {
-            return null;
-        }
-        String name = studio.getName();
-        if ( name == null ) {
-            return null;
-        }
-        return name;
+        return studio;
     }
 
     private String songArtistName(Song song) {
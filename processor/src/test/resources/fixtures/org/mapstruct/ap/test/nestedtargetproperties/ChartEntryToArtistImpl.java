@@ -81,27 +81,33 @@ public ChartEntry map(Chart chart) {
 
         ChartEntry chartEntry = new ChartEntry();
 
-        String title = chartSongTitle( chart );
-        if ( title != null ) {
-            chartEntry.setSongTitle( title );
+        Song song = chartSong( chart );
+        if ( song != null ) {
+            String title = song.getTitle();
+            if ( title != null ) {
+                chartEntry.setSongTitle( title );
+            }
+            List<Integer> positions = song.getPositions();
+            if ( positions != null ) {
+                chartEntry.setPosition( mapPosition( positions ) );
+            }
         }
         chartEntry.setChartName( chart.getName() );
-        String city = chartSongArtistLabelStudioCity( chart );
-        if ( city != null ) {
-            chartEntry.setCity( city );
-        }
-        String name = chartSongArtistLabelStudioName( chart );
-        if ( name != null ) {
-            chartEntry.setRecordedAt( name );
+        Studio songArtistLabelStudio = chartSongArtistLabelStudio( chart );
+        if ( songArtistLabelStudio != null ) {
+            String city = songArtistLabelStudio.getCity();
+            if ( city != null ) {
+                chartEntry.setCity( city );
+            }
+            String name = songArtistLabelStudio.getName();
+            if ( name != null ) {
+                chartEntry.setRecordedAt( name );
+            }
         }
         String name1 = chartSongArtistName( chart );
         if ( name1 != null ) {
             chartEntry.setArtistName( name1 );
         }
-        List<Integer> positions = chartSongPositions( chart );
-        if ( positions != null ) {
-            chartEntry.setPosition( mapPosition( positions ) );
-        }
 
         return chartEntry;
     }
@@ -225,22 +231,7 @@ protected void chartEntryToSong2(ChartEntry chartEntry, Song mappingTarget) {
         }
     }
 
-    private String chartSongTitle(Chart chart) {
-        if ( chart == null ) {
-            return null;
-        }
-        Song song = chart.getSong();
-        if ( song == null ) {
-            return null;
-        }
-        String title = song.getTitle();
-        if ( title == null ) {
-            return null;
-        }
-        return title;
-    }
-
-    private String chartSongArtistLabelStudioCity(Chart chart) {
+    private Song chartSong(Chart chart) {
         if ( chart == null ) {
             return null;
         }
@@ -248,26 +239,10 @@ private String chartSongArtistLabelStudioCity(Chart chart) {
         if ( song == null ) {
             return null;
         }
-        Artist artist = song.getArtist();
-        if ( artist == null ) {
-            return null;
-        }
-        Label label = artist.getLabel();
-        if ( label == null ) {
-            return null;
-        }
-        Studio studio = label.getStudio();
-        if ( studio == null ) {
-            return null;
-        }
-        String city = studio.getCity();
-        if ( city == null ) {
-            return null;
-        }
-        return city;
+        return song;
     }
 
-    private String chartSongArtistLabelStudioName(Chart chart) {
+    private Studio chartSongArtistLabelStudio(Chart chart) {
         if ( chart == null ) {
             return null;
         }
@@ -287,11 +262,7 @@ private String chartSongArtistLabelStudioName(Chart chart) {
         if ( studio == null ) {
             return null;
         }
-        String name = studio.getName();
-        if ( name == null ) {
-            return null;
-        }
-        return name;
+        return studio;
     }
 
     private String chartSongArtistName(Chart chart) {
@@ -312,19 +283,4 @@ private String chartSongArtistName(Chart chart) {
         }
         return name;
     }
-
-    private List<Integer> chartSongPositions(Chart chart) {
-        if ( chart == null ) {
-            return null;
-        }
-        Song song = chart.getSong();
-        if ( song == null ) {
-            return null;
-        }
-        List<Integer> positions = song.getPositions();
-        if ( positions == null ) {
-            return null;
-        }
-        return positions;
-    }
 }